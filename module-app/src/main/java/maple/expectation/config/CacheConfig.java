@@ -8,6 +8,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import maple.expectation.infrastructure.cache.PresetDictionaryRedisSerializer;
+import maple.expectation.infrastructure.cache.RawBytesRedisSerializer;
 import maple.expectation.infrastructure.cache.RestrictedCacheManager;
 import maple.expectation.infrastructure.cache.TieredCacheManager;
 import maple.expectation.infrastructure.config.CacheProperties;
@@ -43,6 +45,9 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
+  /** bytes 직렬화 캐시의 L2 키 접두사 구분자 (이전 jdk 포맷 키와 분리) */
+  private static final String RAW_KEY_SEGMENT = ":raw::";
+
   /**
    * TieredCacheManager 생성 및 의존성 주입
    *
@@ -67,7 +72,8 @@ public class CacheConfig {
         executor,
         redissonClient,
         meterRegistry,
-        cacheProperties.getSingleflight().getLockWaitSeconds());
+        cacheProperties.getSingleflight().getLockWaitSeconds(),
+        cacheProperties.getInvalidation().isVersionedPut());
   }
 
   /**
@@ -150,6 +156,9 @@ public class CacheConfig {
                               new StringRedisSerializer()))
                       .serializeValuesWith(
                           RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+              if ("bytes".equalsIgnoreCase(spec.getL2Serializer())) {
+                config = config.computePrefixWith(cacheName -> cacheName + RAW_KEY_SEGMENT);
+              }
               configurations.put(name, config);
             });
 
@@ -165,12 +174,25 @@ public class CacheConfig {
    * <ul>
    *   <li>json: GenericJackson2JsonRedisSerializer (기본)
    *   <li>jdk: JdkSerializationRedisSerializer (Double 타입 보존 등)
+   *   <li>json-dict: json + 프리셋 사전 DEFLATE 압축 (장비 JSON 등 반복 키가 많은 대형 값)
+   *   <li>bytes: byte[] 원본 저장 (GZIP 응답 본문 등, 그 외 값은 JDK 직렬화로 호환)
    * </ul>
+   *
+   * <p>bytes 캐시는 키 접두사를 {@code <cacheName>:raw::}로 분리합니다. 롤링 배포 중 아직 jdk 설정인 이전 버전 인스턴스는 원본
+   * 바이트를 역직렬화하지 못하므로, 같은 키를 공유하면 서로의 값을 덮어쓰며 재계산과 무효화 전파가 반복됩니다. 접두사가 다르면 두 버전이
+   * 각자의 키만 읽고 쓰며, 이전 키는 TTL로 만료됩니다.
    */
   private RedisSerializer<?> resolveSerializer(String type) {
-    return "jdk".equalsIgnoreCase(type)
-        ? RedisSerializer.java()
-        : new GenericJackson2JsonRedisSerializer();
+    if ("jdk".equalsIgnoreCase(type)) {
+      return RedisSerializer.java();
+    }
+    if ("json-dict".equalsIgnoreCase(type)) {
+      return new PresetDictionaryRedisSerializer<>(new GenericJackson2JsonRedisSerializer());
+    }
+    if ("bytes".equalsIgnoreCase(type)) {
+      return new RawBytesRedisSerializer();
+    }
+    return new GenericJackson2JsonRedisSerializer();
   }
 
   // ==================== Issue #158: Expectation 전용 캐시 인프라 ====================
@@ -10,6 +10,7 @@ import maple.expectation.error.exception.InsufficientResourceException;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
+import maple.expectation.service.v2.cube.component.SlotPmfCatalog;
 import maple.expectation.service.v2.starforce.StarforceLookupTable;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -36,6 +37,17 @@ import org.springframework.stereotype.Component;
  *   <li>초기화 실패: 로그 기록 후 Graceful Degradation (fallback to on-the-fly 계산)
  * </ul>
  *
+ * <h3>Starforce 밀집 테이블</h3>
+ *
+ * <p>스냅샷이 있으면 메모리 매핑만 하고, 없으면 생성을 백그라운드로 넘기므로 readiness를 지연시키지 않는다. 생성 중 조회는 동일한
+ * 식의 on-the-fly 계산으로 응답한다.
+ *
+ * <h3>큐브 슬롯 분포 카탈로그</h3>
+ *
+ * <p>현재 확률 테이블 버전의 모든 슬롯 분포를 백그라운드에서 ForkJoinPool로 병렬 생성한 뒤 원자적으로 교체한다. Starforce와 같이
+ * readiness를 지연시키지 않으며, 생성 전 조회는 기존처럼 {@link
+ * maple.expectation.service.v2.cube.component.SlotDistributionBuilder}가 직접 계산한다.
+ *
  * @see StarforceLookupTable Starforce 기대값 Lookup Table
  */
 @Slf4j
@@ -44,10 +56,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class LookupTableInitializer implements ApplicationRunner {
 
-  private static final long REQUIRED_HEAP_BYTES = 2 * 1024 * 1024; // 2MB for lookup tables
+  // 16MB: starforce 밀집 테이블 힙 생성 (~10.4MB) + 큐브 슬롯 분포 카탈로그
+  private static final long REQUIRED_HEAP_BYTES = 16 * 1024 * 1024;
   private static final double SAFETY_MARGIN = 1.5;
 
   private final StarforceLookupTable starforceLookupTable;
+  private final SlotPmfCatalog slotPmfCatalog;
   private final LogicExecutor executor;
   private final MeterRegistry meterRegistry;
 
@@ -120,6 +134,9 @@ public class LookupTableInitializer implements ApplicationRunner {
     log.info("[LookupTableInitializer] Initializing Starforce Lookup Table...");
     starforceLookupTable.initialize();
     log.info("[LookupTableInitializer] Starforce Lookup Table initialized successfully");
+
+    slotPmfCatalog.materializeInBackground();
+    log.info("[LookupTableInitializer] Cube slot distribution build scheduled in background");
   }
 
   /**
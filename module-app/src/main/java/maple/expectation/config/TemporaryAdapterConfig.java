@@ -1,6 +1,9 @@
 package maple.expectation.config;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +15,7 @@ import maple.expectation.core.domain.model.CharacterId;
 import maple.expectation.core.domain.model.CubeRate;
 import maple.expectation.core.domain.model.CubeType;
 import maple.expectation.core.domain.model.PotentialStat;
+import maple.expectation.core.domain.stat.OptionDictionary;
 import maple.expectation.core.port.out.AlertPort;
 import maple.expectation.core.port.out.CubeRatePort;
 import maple.expectation.core.port.out.EquipmentDataPort;
@@ -20,11 +24,14 @@ import maple.expectation.core.port.out.PotentialStatPort;
 import maple.expectation.core.probability.FlameDpCalculator;
 import maple.expectation.core.probability.FlameScoreCalculator;
 import maple.expectation.core.probability.TailProbabilityCalculator;
+import maple.expectation.core.probability.kernel.RowKernel;
+import maple.expectation.core.probability.kernel.RowKernels;
 import maple.expectation.domain.model.equipment.CharacterEquipment;
 import maple.expectation.domain.model.equipment.EquipmentData;
 import maple.expectation.domain.repository.CharacterEquipmentRepository;
 import maple.expectation.domain.repository.CubeProbabilityRepository;
 import maple.expectation.domain.v2.CubeProbability;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -82,10 +89,31 @@ public class TemporaryAdapterConfig {
     return new maple.expectation.core.domain.stat.StatParser();
   }
 
+  /**
+   * 확률 DP 행 커널
+   *
+   * <p>probability.kernel.simd-enabled=true이고 JVM에 jdk.incubator.vector 모듈이 로드된 경우에만 SIMD 커널을 사용하며, 그
+   * 외에는 스칼라 커널로 폴백합니다.
+   */
   @Bean
-  public maple.expectation.core.probability.ProbabilityConvolver probabilityConvolver() {
+  public RowKernel probabilityRowKernel(
+      @Value("${probability.kernel.simd-enabled:false}") boolean simdEnabled) {
+    RowKernel kernel = RowKernels.select(simdEnabled);
+    if (simdEnabled && !RowKernels.isVectorApiAvailable()) {
+      log.warn(
+          "[TemporaryAdapter] SIMD kernel requested but jdk.incubator.vector is not loaded "
+              + "(add --add-modules jdk.incubator.vector). Falling back to {}",
+          kernel.name());
+    }
+    log.info("[TemporaryAdapter] Initializing RowKernel bean: {}", kernel.name());
+    return kernel;
+  }
+
+  @Bean
+  public maple.expectation.core.probability.ProbabilityConvolver probabilityConvolver(
+      RowKernel probabilityRowKernel) {
     log.info("[TemporaryAdapter] Initializing ProbabilityConvolver bean");
-    return new maple.expectation.core.probability.ProbabilityConvolver();
+    return new maple.expectation.core.probability.ProbabilityConvolver(probabilityRowKernel);
   }
 
   /**
@@ -115,9 +143,9 @@ public class TemporaryAdapterConfig {
   }
 
   @Bean
-  public FlameDpCalculator flameDpCalculator() {
+  public FlameDpCalculator flameDpCalculator(RowKernel probabilityRowKernel) {
     log.info("[TemporaryAdapter] Initializing FlameDpCalculator bean");
-    return new FlameDpCalculator();
+    return new FlameDpCalculator(probabilityRowKernel);
   }
 
   @Bean
@@ -126,10 +154,25 @@ public class TemporaryAdapterConfig {
     return new TailProbabilityCalculator();
   }
 
+  /**
+   * 컴파일된 큐브 옵션 사전
+   *
+   * <p>확률 테이블 로딩 시 생성된 사전을 장비 파서 등 문자열 옵션을 다루는 컴포넌트에 공유합니다.
+   */
+  @Bean
+  public OptionDictionary cubeOptionDictionary() {
+    OptionDictionary dictionary = cubeProbabilityRepository.getOptionDictionary();
+    log.info(
+        "[TemporaryAdapter] Initializing OptionDictionary bean (options={})", dictionary.size());
+    return dictionary;
+  }
+
   /**
    * CubeRate Port Adapter
    *
-   * <p>Maps legacy {@link CubeProbability} entities to core {@link CubeRate} domain models.
+   * <p>Maps legacy {@link CubeProbability} entities to core {@link CubeRate} domain models. The
+   * mapped rates are cached per table version (see {@link CachedCubeRatePort}), so requests do not
+   * rescan and remap the whole table.
    *
    * <p><b>Phase 3:</b> Replace with {@code
    * maple.expectation.infrastructure.adapter.CubeRateRepositoryAdapter}
@@ -138,40 +181,70 @@ public class TemporaryAdapterConfig {
   public CubeRatePort cubeRatePort() {
     log.info("[TemporaryAdapter] Initializing CubeRatePort -> CubeProbabilityRepository bridge");
 
-    return new CubeRatePort() {
-      @Override
-      public List<CubeRate> findByCubeType(CubeType type) {
-        return cubeProbabilityRepository.findAll().stream()
-            .filter(p -> p.getCubeType().name().equals(type.name()))
-            .map(
-                p ->
-                    new CubeRate(
-                        mapToCoreCubeType(p.getCubeType()),
-                        p.getOptionName(),
-                        p.getRate(),
-                        p.getSlot(),
-                        p.getGrade(),
-                        p.getLevel(),
-                        p.getPart()))
-            .toList();
+    return new CachedCubeRatePort(cubeProbabilityRepository);
+  }
+
+  /**
+   * {@link CubeRatePort} bridge that maps the legacy table once per table version.
+   *
+   * <p>The view is rebuilt only when {@link CubeProbabilityRepository#getCurrentTableVersion()}
+   * changes. Concurrent first calls may build it twice; both results are identical.
+   */
+  static final class CachedCubeRatePort implements CubeRatePort {
+
+    private final CubeProbabilityRepository repository;
+    private volatile CubeRateView view;
+
+    CachedCubeRatePort(CubeProbabilityRepository repository) {
+      this.repository = repository;
+    }
+
+    @Override
+    public List<CubeRate> findByCubeType(CubeType type) {
+      return view().byType().getOrDefault(type, List.of());
+    }
+
+    @Override
+    public List<CubeRate> findAll() {
+      return view().all();
+    }
+
+    private CubeRateView view() {
+      String tableVersion = repository.getCurrentTableVersion();
+      CubeRateView current = view;
+      if (current == null || !current.tableVersion().equals(tableVersion)) {
+        current = CubeRateView.of(tableVersion, repository.findAll());
+        view = current;
       }
+      return current;
+    }
+  }
 
-      @Override
-      public List<CubeRate> findAll() {
-        return cubeProbabilityRepository.findAll().stream()
-            .map(
-                p ->
-                    new CubeRate(
-                        mapToCoreCubeType(p.getCubeType()),
-                        p.getOptionName(),
-                        p.getRate(),
-                        p.getSlot(),
-                        p.getGrade(),
-                        p.getLevel(),
-                        p.getPart()))
-            .toList();
+  /** Immutable mapped rates of one table version, grouped by cube type. */
+  private record CubeRateView(
+      String tableVersion, List<CubeRate> all, Map<CubeType, List<CubeRate>> byType) {
+
+    static CubeRateView of(String tableVersion, List<CubeProbability> rows) {
+      List<CubeRate> all =
+          rows.stream()
+              .map(
+                  p ->
+                      new CubeRate(
+                          mapToCoreCubeType(p.getCubeType()),
+                          p.getOptionName(),
+                          p.getRate(),
+                          p.getSlot(),
+                          p.getGrade(),
+                          p.getLevel(),
+                          p.getPart()))
+              .toList();
+      Map<CubeType, List<CubeRate>> byType = new EnumMap<>(CubeType.class);
+      for (CubeRate rate : all) {
+        byType.computeIfAbsent(rate.cubeType(), type -> new ArrayList<>()).add(rate);
       }
-    };
+      byType.replaceAll((type, rates) -> List.copyOf(rates));
+      return new CubeRateView(tableVersion, all, byType);
+    }
   }
 
   /**
@@ -129,7 +129,11 @@ public class GameCharacterControllerV4 {
         .thenApply(ResponseEntity::ok);
   }
 
-  /** GZIP 바이트를 ResponseEntity로 변환 */
+  /**
+   * GZIP 바이트를 ResponseEntity로 변환
+   *
+   * <p>캐시에 저장된 배열을 그대로 본문으로 사용합니다 (ByteArrayHttpMessageConverter가 복사 없이 기록).
+   */
   private ResponseEntity<byte[]> buildGzipResponse(byte[] gzipBytes) {
     return ResponseEntity.ok()
         .header(HttpHeaders.CONTENT_ENCODING, "gzip")
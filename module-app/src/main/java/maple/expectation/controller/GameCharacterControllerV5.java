@@ -3,7 +3,8 @@ package maple.expectation.controller;
 import jakarta.validation.constraints.NotBlank;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.dto.v5.EquipmentExpectationResponseV5;
 import maple.expectation.infrastructure.executor.LogicExecutor;
@@ -12,6 +13,7 @@ import maple.expectation.infrastructure.mongodb.CharacterViewQueryService;
 import maple.expectation.service.v5.mapper.CharacterViewMapper;
 import maple.expectation.service.v5.queue.ExpectationCalculationTask;
 import maple.expectation.service.v5.queue.PriorityCalculationQueue;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -51,7 +53,6 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 @RestController
 @RequestMapping("/api/v5/characters")
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "v5.enabled", havingValue = "true", matchIfMissing = false)
 public class GameCharacterControllerV5 {
 
@@ -59,6 +60,20 @@ public class GameCharacterControllerV5 {
   private final PriorityCalculationQueue queue;
   private final LogicExecutor executor;
 
+  /** MongoDB 조회 / 캐시 무효화용 Virtual Thread Executor (commonPool 블로킹 방지) */
+  private final Executor queryExecutor;
+
+  public GameCharacterControllerV5(
+      CharacterViewQueryService queryService,
+      PriorityCalculationQueue queue,
+      LogicExecutor executor,
+      @Qualifier("v5QueryExecutor") Executor queryExecutor) {
+    this.queryService = queryService;
+    this.queue = queue;
+    this.executor = executor;
+    this.queryExecutor = queryExecutor;
+  }
+
   /**
    * V5: 캐릭터 기대값 조회 (CQRS - MongoDB Read First)
    *
@@ -88,7 +103,9 @@ public class GameCharacterControllerV5 {
     log.debug("[V5] Query expectation for: {}", maskIgn(userIgn));
 
     // Use CompletableFuture for async response
-    return CompletableFuture.supplyAsync(() -> processMongoDBCacheFirstLookup(userIgn));
+    return submitQuery(
+        () -> processMongoDBCacheFirstLookup(userIgn),
+        TaskContext.of("V5Query", "SubmitLookup", userIgn));
   }
 
   private ResponseEntity<?> processMongoDBCacheFirstLookup(String userIgn) {
@@ -132,7 +149,9 @@ public class GameCharacterControllerV5 {
 
     log.info("[V5] Force recalculation requested: {}", maskIgn(userIgn));
 
-    return CompletableFuture.supplyAsync(() -> processCacheInvalidation(userIgn));
+    return submitQuery(
+        () -> processCacheInvalidation(userIgn),
+        TaskContext.of("V5Query", "SubmitRecalculate", userIgn));
   }
 
   private ResponseEntity<?> processCacheInvalidation(String userIgn) {
@@ -147,6 +166,20 @@ public class GameCharacterControllerV5 {
 
   // ==================== Private Helper Methods ====================
 
+  /**
+   * v5QueryExecutor에 작업 제출
+   *
+   * <p>Executor가 상한 초과로 거부하면 supplyAsync가 RejectedExecutionException을 그대로 던지므로 실패한 Future로
+   * 바꿔 반환합니다 (GlobalExceptionHandler에서 503 + Retry-After 응답).
+   */
+  private CompletableFuture<ResponseEntity<?>> submitQuery(
+      Supplier<ResponseEntity<?>> query, TaskContext context) {
+    return executor.executeWithFallback(
+        () -> CompletableFuture.supplyAsync(query, queryExecutor),
+        e -> CompletableFuture.failedFuture(e),
+        context);
+  }
+
   /**
    * Queue calculation task with proper error handling
    *
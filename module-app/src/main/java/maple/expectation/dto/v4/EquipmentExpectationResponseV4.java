@@ -1,5 +1,6 @@
 package maple.expectation.dto.v4;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +25,12 @@ import lombok.extern.jackson.Jacksonized;
  *
  * <p>{@code @Jacksonized}를 사용하여 {@code @Builder}와 Jackson 역직렬화를 호환시킵니다. PER 캐시에서 Redis JSON을 역직렬화할
  * 때 필수입니다.
+ *
+ * <p>아이템 단위 DTO는 아이템 기대값 캐시(itemExpectation, JDK 직렬화)에 그대로 저장되므로 {@link Serializable}을 구현합니다.
+ *
+ * <p><b>주의:</b> serialVersionUID를 1L로 고정했으므로 필드를 추가·삭제·변경해도 이전 L2 값이 실패 없이 역직렬화되고, 새 필드는
+ * 기본값(null/0)으로 채워집니다. 아이템 단위 DTO의 필드를 바꾸면 반드시 {@code calculation.logic-version}을 올려 캐시 키 공간을
+ * 바꿔야 합니다 ({@link maple.expectation.service.v4.cache.ItemExpectationCache}).
  */
 @Getter
 @Builder
@@ -63,7 +70,10 @@ public class EquipmentExpectationResponseV4 {
   @Getter
   @Builder
   @Jacksonized
-  public static class ItemExpectationV4 {
+  public static class ItemExpectationV4 implements Serializable {
+    // 필드 변경 시 calculation.logic-version 증가 필수 (클래스 Javadoc 참고)
+    private static final long serialVersionUID = 1L;
+
     private final String itemName;
     private final String itemIcon; // 아이콘 URL (#240 V4)
     private final String itemPart;
@@ -104,7 +114,10 @@ public class EquipmentExpectationResponseV4 {
   @Getter
   @Builder
   @Jacksonized
-  public static class CubeExpectationDto {
+  public static class CubeExpectationDto implements Serializable {
+    // 필드 변경 시 calculation.logic-version 증가 필수 (클래스 Javadoc 참고)
+    private static final long serialVersionUID = 1L;
+
     private final BigDecimal expectedCost;
     private final String expectedCostText; // "5000억"
     private final BigDecimal expectedTrials; // 기대 시도 횟수
@@ -130,7 +143,9 @@ public class EquipmentExpectationResponseV4 {
   @Getter
   @Builder
   @Jacksonized
-  public static class StarforceExpectationDto {
+  public static class StarforceExpectationDto implements Serializable {
+    // 필드 변경 시 calculation.logic-version 증가 필수 (클래스 Javadoc 참고)
+    private static final long serialVersionUID = 1L;
 
     // 현재/목표 스타 (#240 V4)
     private final int currentStar;
@@ -170,7 +185,10 @@ public class EquipmentExpectationResponseV4 {
   @Getter
   @Builder
   @Jacksonized
-  public static class FlameExpectationDto {
+  public static class FlameExpectationDto implements Serializable {
+    // 필드 변경 시 calculation.logic-version 증가 필수 (클래스 Javadoc 참고)
+    private static final long serialVersionUID = 1L;
+
     private final BigDecimal powerfulFlameTrials; // 강력한 환생의 불꽃 기대 시도 횟수
     private final BigDecimal eternalFlameTrials; // 영원한 환생의 불꽃 기대 시도 횟수
     private final BigDecimal abyssFlameTrials; // 심연의 환생의 불꽃 기대 시도 횟수
@@ -187,7 +205,10 @@ public class EquipmentExpectationResponseV4 {
   @Getter
   @Builder
   @Jacksonized
-  public static class CostBreakdownDto {
+  public static class CostBreakdownDto implements Serializable {
+    // 필드 변경 시 calculation.logic-version 증가 필수 (클래스 Javadoc 참고)
+    private static final long serialVersionUID = 1L;
+
     private final BigDecimal blackCubeCost;
     private final BigDecimal redCubeCost;
     private final BigDecimal additionalCubeCost;
@@ -202,14 +223,25 @@ public class EquipmentExpectationResponseV4 {
           .build();
     }
 
+    /** 계산 체인의 메소 단위 비용 → 응답 DTO (BigDecimal 변환 경계) */
     public static CostBreakdownDto from(
         maple.expectation.service.v2.calculator.v4.EquipmentExpectationCalculator.CostBreakdown
             breakdown) {
+      return of(
+          breakdown.blackCubeCost(),
+          breakdown.redCubeCost(),
+          breakdown.additionalCubeCost(),
+          breakdown.starforceCost());
+    }
+
+    /** 메소 단위 비용 → 응답 DTO */
+    public static CostBreakdownDto of(
+        long blackCubeCost, long redCubeCost, long additionalCubeCost, long starforceCost) {
       return CostBreakdownDto.builder()
-          .blackCubeCost(breakdown.blackCubeCost())
-          .redCubeCost(breakdown.redCubeCost())
-          .additionalCubeCost(breakdown.additionalCubeCost())
-          .starforceCost(breakdown.starforceCost())
+          .blackCubeCost(BigDecimal.valueOf(blackCubeCost))
+          .redCubeCost(BigDecimal.valueOf(redCubeCost))
+          .additionalCubeCost(BigDecimal.valueOf(additionalCubeCost))
+          .starforceCost(BigDecimal.valueOf(starforceCost))
           .build();
     }
 
@@ -0,0 +1,60 @@
+package maple.expectation.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import maple.expectation.dto.CubeCalculationInput;
+
+/**
+ * 한 번의 스트리밍 파싱으로 얻은 현재 장착 + 프리셋 1~3 장비 목록
+ *
+ * <p>{@link EquipmentStreamingParser#parseAllPresets(byte[])}의 결과입니다. 프리셋 번호 규칙은 {@link
+ * EquipmentStreamingParser#parseCubeInputsForPreset(byte[], int)}와 같습니다 (0=현재 장착).
+ */
+public final class EquipmentPresetSet {
+
+  /** 현재 장착 (item_equipment) */
+  public static final int CURRENT = 0;
+
+  /** 프리셋 수 (item_equipment_preset_1..3) */
+  public static final int PRESET_COUNT = 3;
+
+  private static final EquipmentPresetSet EMPTY = new EquipmentPresetSet();
+
+  private final List<List<CubeCalculationInput>> byPresetNo;
+
+  EquipmentPresetSet() {
+    this.byPresetNo = new ArrayList<>(PRESET_COUNT + 1);
+    for (int presetNo = CURRENT; presetNo <= PRESET_COUNT; presetNo++) {
+      byPresetNo.add(new ArrayList<>());
+    }
+  }
+
+  /** 장비가 없는 빈 결과 */
+  public static EquipmentPresetSet empty() {
+    return EMPTY;
+  }
+
+  /** 현재 장착 장비 */
+  public List<CubeCalculationInput> current() {
+    return preset(CURRENT);
+  }
+
+  /**
+   * 프리셋별 장비
+   *
+   * @param presetNo 프리셋 번호 (0=현재장착, 1=프리셋1, 2=프리셋2, 3=프리셋3)
+   * @return 파싱된 큐브 계산 입력 목록 (불변, 없으면 빈 리스트)
+   */
+  public List<CubeCalculationInput> preset(int presetNo) {
+    if (presetNo < CURRENT || presetNo > PRESET_COUNT) {
+      return List.of();
+    }
+    return Collections.unmodifiableList(byPresetNo.get(presetNo));
+  }
+
+  /** 파서가 채우는 가변 목록 (같은 패키지 전용) */
+  List<CubeCalculationInput> target(int presetNo) {
+    return byPresetNo.get(presetNo);
+  }
+}
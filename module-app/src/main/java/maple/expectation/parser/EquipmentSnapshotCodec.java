@@ -0,0 +1,359 @@
+package maple.expectation.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.domain.v2.PotentialGrade;
+import maple.expectation.dto.CubeCalculationInput;
+import maple.expectation.util.GzipCodec;
+import maple.expectation.util.PresetDictionaryCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파싱 완료된 프리셋 장비 목록의 바이너리 스냅샷 코덱
+ *
+ * <p>재계산마다 장비 JSON을 다시 해제·토큰화하지 않도록 {@link EquipmentPresetSet}을 압축된 바이너리로 보관합니다. 스냅샷은
+ * 원본 JSON과 함께 저장되며, 원본·옵션 사전·파서 로직이 바뀌었으면 사용하지 않고 JSON 파싱으로 돌아갑니다.
+ *
+ * <h3>포맷 (v2, big-endian)</h3>
+ *
+ * <pre>
+ * 'E' 'S' | version(1B) | parserVersion(1B) | sourceFingerprint(8B) | dictionaryFingerprint(4B)
+ * preset 0..3: itemCount(varint) | item...
+ * item: level, starforce, specialRingLevel(varint)
+ *       part, itemEquipmentPart, itemName, itemIcon, starforceScrollFlag(문자열 참조)
+ *       grade, additionalGrade(등급 태그) | options, additionalOptions(옵션 목록)
+ *       추옵 10종 + 기본 공/마(zigzag varint)
+ * </pre>
+ *
+ * <ul>
+ *   <li>등급: {@link PotentialGrade} ordinal + 1 (0=null, 0xFF=사전 밖 문자열)
+ *   <li>옵션: {@link OptionDictionary} ID + 1 (0=사전 밖 문자열이 뒤따름)
+ *   <li>문자열: 0=null, 1=새 문자열(길이 varint + UTF-8), n≥2=앞서 나온 (n-2)번째 문자열. 같은 아이템이 여러 프리셋에
+ *       반복되므로 이름·아이콘 URL은 한 번만 기록
+ *   <li>sourceFingerprint: 원본 JSON 평문의 CRC32/길이. GZIP과 사전 프레임은 트레일러에 같은 값이 있으므로 해제 없이 읽음
+ *   <li>parserVersion: {@link EquipmentStreamingParser#LOGIC_VERSION} (포맷이 같아도 파싱 결과가 달라지면 무효화)
+ *   <li>dictionaryFingerprint: 옵션 사전 내용 해시 (확률 테이블 갱신 시 ID 재배정 감지)
+ * </ul>
+ */
+@Component
+public class EquipmentSnapshotCodec {
+
+  /** 포맷 버전 (필드 추가 시 증가 → 이전 스냅샷은 자동 무효화) */
+  static final int VERSION = 2;
+
+  /** 파서 로직 버전 (파싱 의미 변경은 파서 쪽 상수로 관리) */
+  static final int PARSER_VERSION = EquipmentStreamingParser.LOGIC_VERSION;
+
+  private static final int MAGIC_0 = 'E';
+  private static final int MAGIC_1 = 'S';
+  private static final int HEADER_SIZE = 16;
+  private static final int TRAILER_SIZE = 8;
+
+  private static final int GRADE_NULL = 0;
+  private static final int GRADE_INLINE = 0xFF;
+  private static final PotentialGrade[] GRADES = PotentialGrade.values();
+
+  private static final int OPTION_INLINE = 0;
+
+  private static final int STRING_NULL = 0;
+  private static final int STRING_NEW = 1;
+  private static final int STRING_REF_BASE = 2;
+
+  private final OptionDictionary optionDictionary;
+  private final int dictionaryFingerprint;
+
+  public EquipmentSnapshotCodec(OptionDictionary optionDictionary) {
+    this.optionDictionary = optionDictionary;
+    this.dictionaryFingerprint = fingerprintOf(optionDictionary);
+  }
+
+  /**
+   * 원본 JSON 지문 (압축 형식과 무관)
+   *
+   * @param source 장비 JSON (사전 프레임, GZIP 또는 평문)
+   * @return 평문 CRC32(상위 32비트)와 길이(하위 32비트)
+   */
+  public static long sourceFingerprint(byte[] source) {
+    if (source.length >= TRAILER_SIZE
+        && (GzipCodec.isGzipped(source) || PresetDictionaryCodec.isDictionaryFramed(source))) {
+      int pos = source.length - TRAILER_SIZE;
+      long crc = readIntLE(source, pos) & 0xffffffffL;
+      return crc << 32 | (readIntLE(source, pos + 4) & 0xffffffffL);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(source);
+    return crc.getValue() << 32 | (source.length & 0xffffffffL);
+  }
+
+  /**
+   * 파싱 결과를 스냅샷으로 인코딩
+   *
+   * @param presets 파싱된 프리셋 장비 목록
+   * @param source 파싱한 원본 JSON (지문용)
+   * @return 스냅샷 바이트
+   */
+  public byte[] encode(EquipmentPresetSet presets, byte[] source) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    DataOutputStream out = new DataOutputStream(buffer);
+    out.writeByte(MAGIC_0);
+    out.writeByte(MAGIC_1);
+    out.writeByte(VERSION);
+    out.writeByte(PARSER_VERSION);
+    out.writeLong(sourceFingerprint(source));
+    out.writeInt(dictionaryFingerprint);
+
+    Map<String, Integer> strings = new HashMap<>();
+    for (int presetNo = EquipmentPresetSet.CURRENT;
+        presetNo <= EquipmentPresetSet.PRESET_COUNT;
+        presetNo++) {
+      List<CubeCalculationInput> items = presets.preset(presetNo);
+      writeVarInt(out, items.size());
+      for (CubeCalculationInput item : items) {
+        writeItem(out, strings, item);
+      }
+    }
+    out.flush();
+    return buffer.toByteArray();
+  }
+
+  /**
+   * 스냅샷 디코딩
+   *
+   * @param snapshot 스냅샷 바이트 (null 허용)
+   * @param source 현재 원본 JSON (스냅샷과 같은 문서인지 검증)
+   * @return 프리셋 장비 목록 (스냅샷이 없거나 포맷·파서 버전, 원본, 옵션 사전이 다르면 empty)
+   * @throws IOException 스냅샷 손상 시
+   */
+  public Optional<EquipmentPresetSet> decode(byte[] snapshot, byte[] source) throws IOException {
+    if (snapshot == null || snapshot.length < HEADER_SIZE || source == null) {
+      return Optional.empty();
+    }
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+    if (in.readUnsignedByte() != MAGIC_0
+        || in.readUnsignedByte() != MAGIC_1
+        || in.readUnsignedByte() != VERSION
+        || in.readUnsignedByte() != PARSER_VERSION
+        || in.readLong() != sourceFingerprint(source)
+        || in.readInt() != dictionaryFingerprint) {
+      return Optional.empty();
+    }
+
+    EquipmentPresetSet presets = new EquipmentPresetSet();
+    List<String> strings = new ArrayList<>();
+    for (int presetNo = EquipmentPresetSet.CURRENT;
+        presetNo <= EquipmentPresetSet.PRESET_COUNT;
+        presetNo++) {
+      List<CubeCalculationInput> target = presets.target(presetNo);
+      int count = readVarInt(in);
+      for (int i = 0; i < count; i++) {
+        target.add(readItem(in, strings));
+      }
+    }
+    return Optional.of(presets);
+  }
+
+  // ==================== Item ====================
+
+  private void writeItem(
+      DataOutputStream out, Map<String, Integer> strings, CubeCalculationInput item)
+      throws IOException {
+    writeVarInt(out, item.getLevel());
+    writeVarInt(out, item.getStarforce());
+    writeVarInt(out, item.getSpecialRingLevel());
+
+    writeString(out, strings, item.getPart());
+    writeString(out, strings, item.getItemEquipmentPart());
+    writeString(out, strings, item.getItemName());
+    writeString(out, strings, item.getItemIcon());
+    writeString(out, strings, item.getStarforceScrollFlag());
+
+    writeGrade(out, strings, item.getGrade());
+    writeGrade(out, strings, item.getAdditionalGrade());
+    writeOptions(out, strings, item.getOptions());
+    writeOptions(out, strings, item.getAdditionalOptions());
+
+    writeSignedVarInt(out, item.getAddOptionStr());
+    writeSignedVarInt(out, item.getAddOptionDex());
+    writeSignedVarInt(out, item.getAddOptionInt());
+    writeSignedVarInt(out, item.getAddOptionLuk());
+    writeSignedVarInt(out, item.getAddOptionMaxHp());
+    writeSignedVarInt(out, item.getAddOptionAllStat());
+    writeSignedVarInt(out, item.getAddOptionAtt());
+    writeSignedVarInt(out, item.getAddOptionMag());
+    writeSignedVarInt(out, item.getAddOptionBossDmg());
+    writeSignedVarInt(out, item.getAddOptionDmg());
+    writeSignedVarInt(out, item.getBaseAttackPower());
+    writeSignedVarInt(out, item.getBaseMagicPower());
+  }
+
+  private CubeCalculationInput readItem(DataInputStream in, List<String> strings)
+      throws IOException {
+    CubeCalculationInput item = new CubeCalculationInput();
+    item.setLevel(readVarInt(in));
+    item.setStarforce(readVarInt(in));
+    item.setSpecialRingLevel(readVarInt(in));
+
+    item.setPart(readString(in, strings));
+    item.setItemEquipmentPart(readString(in, strings));
+    item.setItemName(readString(in, strings));
+    item.setItemIcon(readString(in, strings));
+    item.setStarforceScrollFlag(readString(in, strings));
+
+    item.setGrade(readGrade(in, strings));
+    item.setAdditionalGrade(readGrade(in, strings));
+    readOptions(in, strings, item.getOptions());
+    readOptions(in, strings, item.getAdditionalOptions());
+
+    item.setAddOptionStr(readSignedVarInt(in));
+    item.setAddOptionDex(readSignedVarInt(in));
+    item.setAddOptionInt(readSignedVarInt(in));
+    item.setAddOptionLuk(readSignedVarInt(in));
+    item.setAddOptionMaxHp(readSignedVarInt(in));
+    item.setAddOptionAllStat(readSignedVarInt(in));
+    item.setAddOptionAtt(readSignedVarInt(in));
+    item.setAddOptionMag(readSignedVarInt(in));
+    item.setAddOptionBossDmg(readSignedVarInt(in));
+    item.setAddOptionDmg(readSignedVarInt(in));
+    item.setBaseAttackPower(readSignedVarInt(in));
+    item.setBaseMagicPower(readSignedVarInt(in));
+    return item;
+  }
+
+  // ==================== Grade / Option ====================
+
+  private void writeGrade(DataOutputStream out, Map<String, Integer> strings, String grade)
+      throws IOException {
+    if (grade == null) {
+      out.writeByte(GRADE_NULL);
+      return;
+    }
+    for (PotentialGrade candidate : GRADES) {
+      if (candidate.getKoreanName().equals(grade)) {
+        out.writeByte(candidate.ordinal() + 1);
+        return;
+      }
+    }
+    out.writeByte(GRADE_INLINE);
+    writeString(out, strings, grade);
+  }
+
+  private String readGrade(DataInputStream in, List<String> strings) throws IOException {
+    int tag = in.readUnsignedByte();
+    if (tag == GRADE_NULL) return null;
+    if (tag == GRADE_INLINE) return readString(in, strings);
+    return GRADES[tag - 1].getKoreanName();
+  }
+
+  private void writeOptions(
+      DataOutputStream out, Map<String, Integer> strings, List<String> options)
+      throws IOException {
+    writeVarInt(out, options.size());
+    for (String option : options) {
+      int id = optionDictionary.idOf(option);
+      writeVarInt(out, id == OptionDictionary.UNKNOWN_ID ? OPTION_INLINE : id + 1);
+      if (id == OptionDictionary.UNKNOWN_ID) {
+        writeString(out, strings, option);
+      }
+    }
+  }
+
+  /** 사전 옵션은 파서와 같은 정규화 인스턴스로 복원 */
+  private void readOptions(DataInputStream in, List<String> strings, List<String> target)
+      throws IOException {
+    int count = readVarInt(in);
+    for (int i = 0; i < count; i++) {
+      int tag = readVarInt(in);
+      target.add(tag == OPTION_INLINE ? readString(in, strings) : optionDictionary.option(tag - 1));
+    }
+  }
+
+  // ==================== Primitive ====================
+
+  /** 문자열 참조 (처음 나온 문자열만 본문 기록, 이후에는 순번으로 참조) */
+  private static void writeString(DataOutputStream out, Map<String, Integer> strings, String value)
+      throws IOException {
+    if (value == null) {
+      writeVarInt(out, STRING_NULL);
+      return;
+    }
+    Integer index = strings.get(value);
+    if (index != null) {
+      writeVarInt(out, index + STRING_REF_BASE);
+      return;
+    }
+    strings.put(value, strings.size());
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(out, STRING_NEW);
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in, List<String> strings) throws IOException {
+    int tag = readVarInt(in);
+    if (tag == STRING_NULL) return null;
+    if (tag != STRING_NEW) {
+      if (tag - STRING_REF_BASE >= strings.size()) {
+        throw new IOException("Dangling string reference in equipment snapshot");
+      }
+      return strings.get(tag - STRING_REF_BASE);
+    }
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    String value = new String(bytes, StandardCharsets.UTF_8);
+    strings.add(value);
+    return value;
+  }
+
+  private static void writeSignedVarInt(DataOutputStream out, int value) throws IOException {
+    writeVarInt(out, (value << 1) ^ (value >> 31));
+  }
+
+  private static int readSignedVarInt(DataInputStream in) throws IOException {
+    int raw = readVarInt(in);
+    return (raw >>> 1) ^ -(raw & 1);
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed varint in equipment snapshot");
+  }
+
+  private static int readIntLE(byte[] data, int pos) {
+    return (data[pos] & 0xff)
+        | (data[pos + 1] & 0xff) << 8
+        | (data[pos + 2] & 0xff) << 16
+        | (data[pos + 3] & 0xff) << 24;
+  }
+
+  private static int fingerprintOf(OptionDictionary dictionary) {
+    int hash = dictionary.size();
+    for (int id = 0; id < dictionary.size(); id++) {
+      hash = 31 * hash + dictionary.option(id).hashCode();
+    }
+    return hash;
+  }
+}
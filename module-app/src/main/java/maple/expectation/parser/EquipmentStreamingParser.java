@@ -2,9 +2,9 @@ package maple.expectation.parser;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import jakarta.annotation.PostConstruct;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -13,14 +13,16 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.stat.OptionDictionary;
 import maple.expectation.core.domain.stat.StatParser;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
+import maple.expectation.util.GzipCodec;
+import maple.expectation.util.PresetDictionaryCodec;
 import org.springframework.stereotype.Component;
 
 /** 장비 스트리밍 파서 (Resource-Try까지 박멸한 100% 평탄화 버전) */
@@ -29,9 +31,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class EquipmentStreamingParser {
 
+  /**
+   * 파싱 로직 버전 (필드 매핑·정규화·프리셋 선택 등 결과가 달라지는 변경 시 반드시 증가)
+   *
+   * <p>{@link EquipmentSnapshotCodec} 헤더에 기록되어 이전 로직으로 만든 스냅샷을 무효화합니다.
+   */
+  public static final int LOGIC_VERSION = 1;
+
   private final JsonFactory factory = new JsonFactory();
   private final LogicExecutor executor;
   private final StatParser statParser;
+  private final OptionDictionary optionDictionary;
   private final Map<JsonField, FieldMapper> fieldMappers = new EnumMap<>(JsonField.class);
 
   @FunctionalInterface
@@ -199,7 +209,63 @@ public class EquipmentStreamingParser {
 
     // [패턴 6] 예외 세탁 및 실행
     return executor.executeWithTranslation(
-        () -> this.executeParsingProcessForField(rawJsonData, targetField, context),
+        () -> this.executeParsingProcessForField(openStream(rawJsonData), targetField, context),
+        ExceptionTranslator.forMaple(),
+        context);
+  }
+
+  /**
+   * 프리셋별 장비 데이터 스트림 파싱
+   *
+   * <p>평문 JSON 스트림을 받아 JsonParser에 증분 공급합니다. 스트림은 파싱 후 닫힙니다.
+   *
+   * @param jsonStream 평문 JSON 스트림 (GZIP이면 {@link GzipCodec#openStream}으로 연 스트림)
+   * @param presetNo 프리셋 번호 (0=현재장착, 1=프리셋1, 2=프리셋2, 3=프리셋3)
+   * @return 파싱된 큐브 계산 입력 목록
+   */
+  public List<CubeCalculationInput> parseCubeInputsForPreset(InputStream jsonStream, int presetNo) {
+    String targetField = resolvePresetFieldName(presetNo);
+    TaskContext context = TaskContext.of("Parser", "StreamingParse", "preset" + presetNo);
+
+    return executor.executeWithTranslation(
+        () -> this.executeParsingProcessForField(jsonStream, targetField, context),
+        ExceptionTranslator.forMaple(),
+        context);
+  }
+
+  /**
+   * 현재 장착 + 프리셋 1~3 단일 패스 파싱
+   *
+   * <p>{@link #parseCubeInputsForPreset}를 프리셋마다 호출하면 같은 문서를 처음부터 반복 스캔합니다. 이 메서드는 토큰 스트림을 한 번만
+   * 순회하며 최상위 item_equipment, item_equipment_preset_1..3 배열을 각 프리셋 목록으로 분배합니다. 그 외 최상위 값은 {@link
+   * JsonParser#skipChildren()}로 건너뛰고, 네 배열을 모두 읽으면 나머지 문서는 읽지 않습니다.
+   *
+   * @param rawJsonData 장비 JSON 데이터 (GZIP 또는 plain)
+   * @return 프리셋별 파싱 결과
+   */
+  public EquipmentPresetSet parseAllPresets(byte[] rawJsonData) {
+    if (rawJsonData == null || rawJsonData.length == 0) return EquipmentPresetSet.empty();
+
+    TaskContext context = TaskContext.of("Parser", "StreamingParseAll");
+    return executor.executeWithTranslation(
+        () -> this.executeAllPresetsProcess(openStream(rawJsonData), context),
+        ExceptionTranslator.forMaple(),
+        context);
+  }
+
+  /**
+   * 현재 장착 + 프리셋 1~3 단일 패스 스트림 파싱
+   *
+   * <p>평문 JSON 스트림을 받아 JsonParser에 증분 공급합니다. GZIP 원문은 {@link GzipCodec#openStream}으로 열면 풀링된
+   * Inflater가 파서가 요청하는 만큼만 해제하므로 문서 전체가 메모리에 펼쳐지지 않습니다. 스트림은 파싱 후 닫힙니다.
+   *
+   * @param jsonStream 평문 JSON 스트림
+   * @return 프리셋별 파싱 결과
+   */
+  public EquipmentPresetSet parseAllPresets(InputStream jsonStream) {
+    TaskContext context = TaskContext.of("Parser", "StreamingParseAll");
+    return executor.executeWithTranslation(
+        () -> this.executeAllPresetsProcess(jsonStream, context),
         ExceptionTranslator.forMaple(),
         context);
   }
@@ -214,16 +280,26 @@ public class EquipmentStreamingParser {
     };
   }
 
+  /** 최상위 필드명 → 프리셋 번호 (프리셋 배열이 아니면 -1) */
+  private int resolvePresetNo(String fieldName) {
+    return switch (fieldName) {
+      case "item_equipment" -> EquipmentPresetSet.CURRENT;
+      case "item_equipment_preset_1" -> 1;
+      case "item_equipment_preset_2" -> 2;
+      case "item_equipment_preset_3" -> 3;
+      default -> -1;
+    };
+  }
+
   /** ✅ P0: 자원 생명주기 관리 (try-with-resources 대체) */
   private List<CubeCalculationInput> executeParsingProcess(byte[] rawJsonData, TaskContext context)
       throws IOException {
-    return executeParsingProcessForField(rawJsonData, "item_equipment", context);
+    return executeParsingProcessForField(openStream(rawJsonData), "item_equipment", context);
   }
 
   /** 특정 필드명으로 파싱 (프리셋 지원) */
   private List<CubeCalculationInput> executeParsingProcessForField(
-      byte[] rawJsonData, String fieldName, TaskContext context) throws IOException {
-    InputStream inputStream = createInputStream(rawJsonData);
+      InputStream inputStream, String fieldName, TaskContext context) throws IOException {
     JsonParser parser = factory.createParser(inputStream);
 
     // [패턴 1] executeWithFinally를 통한 자원 해제 보장
@@ -233,6 +309,46 @@ public class EquipmentStreamingParser {
         context);
   }
 
+  /** 단일 패스 파싱 (프리셋 전체) */
+  private EquipmentPresetSet executeAllPresetsProcess(InputStream inputStream, TaskContext context)
+      throws IOException {
+    JsonParser parser = factory.createParser(inputStream);
+
+    return executor.executeWithFinally(
+        () -> this.doStreamParseAllPresets(parser),
+        () -> this.closeResources(inputStream, parser),
+        context);
+  }
+
+  /**
+   * 최상위 필드만 보고 프리셋 배열을 분배
+   *
+   * <p>최상위 여부는 파서 컨텍스트로 판정하므로, 장비 객체 내부에 같은 이름의 필드가 있어도 프리셋으로 오인하지 않습니다.
+   */
+  private EquipmentPresetSet doStreamParseAllPresets(JsonParser parser) throws IOException {
+    EquipmentPresetSet result = new EquipmentPresetSet();
+    int remaining = EquipmentPresetSet.PRESET_COUNT + 1;
+
+    JsonToken token;
+    while (remaining > 0 && (token = parser.nextToken()) != null) {
+      if (token != JsonToken.FIELD_NAME || !isTopLevelField(parser)) continue;
+
+      int presetNo = resolvePresetNo(parser.currentName());
+      if (parser.nextToken() == JsonToken.START_ARRAY && presetNo >= 0) {
+        parseItemArray(parser, result.target(presetNo));
+        remaining--;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  private boolean isTopLevelField(JsonParser parser) {
+    JsonStreamContext objectContext = parser.getParsingContext();
+    return objectContext.getParent() != null && objectContext.getParent().inRoot();
+  }
+
   /** 실제 스트리밍 파싱 로직 */
   private List<CubeCalculationInput> doStreamParse(JsonParser parser) throws IOException {
     return doStreamParseForField(parser, "item_equipment");
@@ -303,8 +419,8 @@ public class EquipmentStreamingParser {
   }
 
   private void parsePotential(JsonParser parser, CubeCalculationInput item) throws IOException {
-    String val = parser.getText();
-    if (val != null && !val.trim().isEmpty()) {
+    String val = canonicalOption(parser.getText());
+    if (val != null) {
       item.getOptions().add(val);
     }
   }
@@ -312,12 +428,30 @@ public class EquipmentStreamingParser {
   /** 에디셔널 잠재능력 파싱 (#240 V4) */
   private void parseAdditionalPotential(JsonParser parser, CubeCalculationInput item)
       throws IOException {
-    String val = parser.getText();
-    if (val != null && !val.trim().isEmpty()) {
+    String val = canonicalOption(parser.getText());
+    if (val != null) {
       item.getAdditionalOptions().add(val);
     }
   }
 
+  /**
+   * 옵션 문자열 정규화
+   *
+   * <p>옵션 사전에 있으면 사전의 문자열 인스턴스를 반환하여 이후 계산 단계의 사전 조회가 참조 비교로 끝나게 합니다. 사전에 없는 옵션만 공백
+   * 여부를 검사합니다.
+   *
+   * @return 정규화된 옵션 (비어있으면 null)
+   */
+  private String canonicalOption(String val) {
+    if (val == null) {
+      return null;
+    }
+    if (optionDictionary.idOf(val) != OptionDictionary.UNKNOWN_ID) {
+      return optionDictionary.canonical(val);
+    }
+    return val.trim().isEmpty() ? null : val;
+  }
+
   /**
    * 스타포스 파싱 (#240 V4)
    *
@@ -437,34 +571,27 @@ public class EquipmentStreamingParser {
   /**
    * GZIP 압축 여부를 확인하고 필요 시 해제 (P1-6: 3중 해제 방지)
    *
-   * <p>GZIP 매직 넘버(0x1F 0x8B)를 확인하여 압축된 경우 해제합니다. 이미 해제된 데이터는 그대로 반환합니다.
+   * <p>사전 프레임(0xD1 0xC7) 또는 GZIP 매직 넘버(0x1F 0x8B)를 확인하여 압축된 경우 해제합니다. 이미 해제된 데이터는 그대로
+   * 반환합니다.
    *
-   * @param data 원본 바이트 배열 (GZIP 또는 plain)
+   * @param data 원본 바이트 배열 (사전 프레임, GZIP 또는 plain)
    * @return 해제된 바이트 배열
    */
   public byte[] decompressIfNeeded(byte[] data) {
     if (data == null || data.length < 2) {
       return data;
     }
-    if (data[0] != (byte) 0x1F || data[1] != (byte) 0x8B) {
+    if (!GzipCodec.isGzipped(data) && !PresetDictionaryCodec.isDictionaryFramed(data)) {
       return data; // plain data
     }
     TaskContext context = TaskContext.of("Parser", "DecompressIfNeeded");
     return executor.executeWithTranslation(
-        () -> {
-          InputStream is = new GZIPInputStream(new ByteArrayInputStream(data));
-          return is.readAllBytes();
-        },
-        ExceptionTranslator.forMaple(),
-        context);
+        () -> PresetDictionaryCodec.decode(data), ExceptionTranslator.forMaple(), context);
   }
 
-  private InputStream createInputStream(byte[] data) throws IOException {
-    InputStream is = new ByteArrayInputStream(data);
-    if (data.length > 2 && data[0] == (byte) 0x1F && data[1] == (byte) 0x8B) {
-      return new GZIPInputStream(is);
-    }
-    return is;
+  /** 사전 프레임(DB)·GZIP(캐시)이면 풀링된 Inflater로 증분 해제, 평문이면 그대로 읽는 스트림 */
+  private InputStream openStream(byte[] data) throws IOException {
+    return PresetDictionaryCodec.openStream(data);
   }
 
   /** ✅ 박멸: close() 시 발생하는 IOException 노이즈 제거 */
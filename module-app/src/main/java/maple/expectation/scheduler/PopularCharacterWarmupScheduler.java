@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.infrastructure.cache.BulkGetResult;
+import maple.expectation.infrastructure.cache.TieredCache;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.lock.LockStrategy;
@@ -14,6 +16,7 @@ import maple.expectation.service.v4.EquipmentExpectationServiceV4;
 import maple.expectation.service.v4.warmup.PopularCharacterTracker;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -67,6 +70,7 @@ public class PopularCharacterWarmupScheduler {
   private final LockStrategy lockStrategy;
   private final LogicExecutor executor;
   private final MeterRegistry meterRegistry;
+  private final CacheManager cacheManager;
 
   @Value("${scheduler.warmup.top-count:50}")
   private int topCount;
@@ -174,6 +178,8 @@ public class PopularCharacterWarmupScheduler {
     successCount.set(0);
     failCount.set(0);
 
+    prefetchOcids(topCharacters);
+
     for (String userIgn : topCharacters) {
       warmupCharacter(userIgn);
 
@@ -194,6 +200,30 @@ public class PopularCharacterWarmupScheduler {
         topCharacters.size());
   }
 
+  /**
+   * OCID 캐시 일괄 선조회
+   *
+   * <p>캐릭터별 계산이 OCID를 L1에서 바로 찾도록 L2 파이프라인 1회로 L1을 채웁니다. 실패해도 캐릭터별 조회로 진행합니다.
+   *
+   * @param userIgns 웜업 대상 닉네임
+   */
+  private void prefetchOcids(List<String> userIgns) {
+    if (!(cacheManager.getCache("ocidCache") instanceof TieredCache ocidCache)) {
+      return;
+    }
+    executor.executeOrDefault(
+        () -> {
+          BulkGetResult<String, String> result = ocidCache.getAll(userIgns, String.class);
+          log.debug(
+              "[Warmup] OCID prefetch - hit: {}, miss: {}",
+              result.hits().size(),
+              result.misses().size());
+          return null;
+        },
+        null,
+        TaskContext.of("Warmup", "PrefetchOcid"));
+  }
+
   /**
    * 단일 캐릭터 웜업
    *
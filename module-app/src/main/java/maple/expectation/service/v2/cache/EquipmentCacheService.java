@@ -10,6 +10,7 @@ import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.external.dto.v2.EquipmentResponse;
 import maple.expectation.service.v2.worker.EquipmentDbWorker;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Service;
  * <ul>
  *   <li>비동기 DB 저장 (EquipmentDbWorker)
  *   <li>Negative 캐시 체크
+ *   <li>Raw 모드 원문 캐시 (equipmentRaw: GZIP 바이트 그대로 캐싱 + 압축 컬럼 저장)
  * </ul>
  */
 @Slf4j
@@ -33,6 +35,7 @@ public class EquipmentCacheService extends AbstractTieredCacheService<EquipmentR
     implements EquipmentCache {
 
   private static final String CACHE_NAME = "equipment";
+  private static final String RAW_CACHE_NAME = "equipmentRaw";
   private static final EquipmentResponse NULL_MARKER = new EquipmentResponse();
 
   static {
@@ -41,6 +44,9 @@ public class EquipmentCacheService extends AbstractTieredCacheService<EquipmentR
 
   private final EquipmentDbWorker dbWorker;
 
+  /** Raw 모드 원문 캐시 (GZIP byte[]) */
+  private final Cache rawCache;
+
   public EquipmentCacheService(
       CacheManager cacheManager,
       @Qualifier("expectationL1CacheManager") CacheManager l1CacheManager,
@@ -48,6 +54,7 @@ public class EquipmentCacheService extends AbstractTieredCacheService<EquipmentR
       LogicExecutor executor) {
     super(CACHE_NAME, cacheManager, l1CacheManager, executor);
     this.dbWorker = dbWorker;
+    this.rawCache = cacheManager.getCache(RAW_CACHE_NAME);
   }
 
   // ==================== AbstractTieredCacheService Implementation ====================
@@ -91,6 +98,28 @@ public class EquipmentCacheService extends AbstractTieredCacheService<EquipmentR
         context);
   }
 
+  /** Raw 모드 원문 캐시 조회 (L1 → L2) */
+  public Optional<byte[]> getValidRawCache(String ocid) {
+    return executor.executeOrDefault(
+        () -> Optional.ofNullable(rawCache.get(ocid, byte[].class)),
+        Optional.empty(),
+        TaskContext.of("EquipmentCache", "GetRaw", ocid));
+  }
+
+  /** Raw 모드 원문 캐시 저장 및 압축 컬럼 비동기 persist (재압축 없음) */
+  public void saveRawCache(String ocid, byte[] compressed) {
+    executor.executeOrCatch(
+        () -> {
+          rawCache.put(ocid, compressed);
+          dbWorker
+              .persistCompressed(ocid, compressed)
+              .exceptionally(ex -> observeAsyncError(ocid, ex));
+          return null;
+        },
+        e -> handleSaveFailure(ocid, e),
+        TaskContext.of("EquipmentCache", "SaveRaw", ocid));
+  }
+
   /** L1-only 캐시 조회 (Expectation 경로 전용 - L2 우회) */
   public Optional<EquipmentResponse> getValidCacheL1Only(String ocid) {
     return getFromL1Only(ocid, EquipmentResponse.class);
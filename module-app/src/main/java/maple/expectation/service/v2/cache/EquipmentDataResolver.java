@@ -2,7 +2,6 @@ package maple.expectation.service.v2.cache;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -13,7 +12,6 @@ import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.provider.EquipmentDataProvider;
 import maple.expectation.infrastructure.util.AsyncUtils;
 import maple.expectation.service.v2.worker.EquipmentDbWorker;
-import maple.expectation.util.GzipUtils;
 import maple.expectation.util.StringMaskingUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -24,7 +22,7 @@ import org.springframework.stereotype.Component;
  * <h4>데이터 소스 우선순위</h4>
  *
  * <ol>
- *   <li>DB JSON (15분 TTL) - 우선
+ *   <li>DB 압축 JSON (15분 TTL) - 우선
  *   <li>Nexon API - DB 없거나 만료 시 (비동기)
  * </ol>
  *
@@ -86,7 +84,7 @@ public class EquipmentDataResolver {
    * <h4>우선순위 흐름</h4>
    *
    * <ol>
-   *   <li>DB JSON (15분 TTL 유효) → 직접 반환
+   *   <li>DB 압축 JSON (15분 TTL 유효) → 직접 반환
    *   <li>DB 없거나 만료 → Nexon API 호출 → DB 저장
    * </ol>
    *
@@ -111,11 +109,11 @@ public class EquipmentDataResolver {
   private CompletableFuture<byte[]> resolveAsyncInternal(String ocid, String userIgn) {
     // 1) DB 조회 (15분 TTL 체크 포함)
     return dbWorker
-        .findValidJson(ocid)
+        .findValidCompressed(ocid)
         .map(
-            json -> {
+            compressed -> {
               log.debug("[DataResolver] DB HIT for userIgn={}", userIgn);
-              return CompletableFuture.completedFuture(json.getBytes(StandardCharsets.UTF_8));
+              return CompletableFuture.completedFuture(compressed);
             })
         .orElseGet(
             () -> {
@@ -147,14 +145,10 @@ public class EquipmentDataResolver {
    *
    * <h4>DB 저장</h4>
    *
-   * <p>GzipStringConverter가 저장 시 다시 압축하므로 decompress 필요
+   * <p>압축 바이트를 컬럼에 그대로 저장 (문자열 변환·재압축 없음)
    *
    * <p>fire-and-forget 비동기 처리
    *
-   * <h4>CLAUDE.md Section 12 준수</h4>
-   *
-   * <p>Raw try-catch 금지 → LogicExecutor.executeWithTranslation() 사용
-   *
    * @see ApiTimeoutException 서킷브레이커 기록되는 타임아웃 예외
    */
   private CompletableFuture<byte[]> fetchFromNexonApiAndSave(String ocid) {
@@ -169,11 +163,10 @@ public class EquipmentDataResolver {
             compressedData ->
                 executor.executeWithFallback(
                     () -> {
-                      // DB 저장용 decompress (GzipStringConverter가 저장 시 다시 compress)
-                      String json = GzipUtils.decompress(compressedData);
+                      // 압축 상태 그대로 저장 (해제·재압축 없음)
                       // fire-and-forget: 비동기 + non-blocking
                       dbWorker
-                          .persistRawJson(ocid, json)
+                          .persistCompressed(ocid, compressedData)
                           .exceptionally(
                               ex -> {
                                 log.warn(
@@ -188,12 +181,14 @@ public class EquipmentDataResolver {
                       return compressedData;
                     },
                     ex -> {
-                      // IOException 발생 시 로그만 남기고 compressedData 반환
+                      // 저장 요청 자체가 실패해도 응답 데이터는 그대로 반환
                       log.warn(
-                          "[DataResolver] Decompress failed (non-blocking): {}", ex.getMessage());
+                          "[DataResolver] DB save dispatch failed (non-blocking): {}",
+                          ex.getMessage());
+                      dbSaveFailCounter.increment();
                       return compressedData;
                     },
-                    TaskContext.of("DataResolver", "DecompressAndSave", ocid)),
+                    TaskContext.of("DataResolver", "PersistCompressed", ocid)),
             expectationExecutor);
   }
 }
@@ -1,7 +1,6 @@
 package maple.expectation.service.v2.calculator.v4;
 
-import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.OptionalDouble;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -23,7 +22,7 @@ public abstract class EquipmentEnhanceDecorator implements EquipmentExpectationC
   protected final EquipmentExpectationCalculator target;
 
   @Override
-  public BigDecimal calculateCost() {
+  public long calculateCost() {
     return target.calculateCost();
   }
 
@@ -33,7 +32,7 @@ public abstract class EquipmentEnhanceDecorator implements EquipmentExpectationC
   }
 
   @Override
-  public Optional<BigDecimal> getTrials() {
+  public OptionalDouble getTrials() {
     return target.getTrials();
   }
 
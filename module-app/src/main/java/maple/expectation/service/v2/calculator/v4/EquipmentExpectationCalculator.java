@@ -1,7 +1,7 @@
 package maple.expectation.service.v2.calculator.v4;
 
-import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.OptionalDouble;
+import maple.expectation.domain.cost.CostRounding;
 
 /**
  * V4 장비 기대값 계산기 인터페이스 (#240)
@@ -9,15 +9,16 @@ import java.util.Optional;
  * <h3>5-Agent Council 합의사항</h3>
  *
  * <ul>
- *   <li>🟣 Purple (Auditor): BigDecimal 필수 - 정밀 계산
+ *   <li>🟣 Purple (Auditor): 반올림 정책 명시 - {@link CostRounding} 단일 지점
  *   <li>🔵 Blue (Architect): OCP 준수 - 기존 ExpectationCalculator 유지
+ *   <li>🟢 Green (Performance): 체인 내부는 long/double 누적, BigDecimal은 응답 DTO 경계에서만 생성
  * </ul>
  *
  * <h3>기존 ExpectationCalculator와의 차이</h3>
  *
  * <ul>
- *   <li>calculateCost() → BigDecimal (long에서 변경)
- *   <li>getTrials() → BigDecimal (정밀 기대값 계산)
+ *   <li>calculateCost() → 반올림된 시도 횟수 기준 누적 비용 (long)
+ *   <li>getTrials() → 반올림 전 기대 시도 횟수 (double)
  *   <li>새로운 메서드: getDetailedCosts() - 비용 상세 분류
  * </ul>
  *
@@ -26,13 +27,13 @@ import java.util.Optional;
 public interface EquipmentExpectationCalculator {
 
   /**
-   * 최종 소모 비용 합산 (BigDecimal)
+   * 최종 소모 비용 합산
    *
-   * <p>Purple Agent 요구사항: 정밀 계산을 위해 BigDecimal 사용
+   * <p>단계별 비용은 {@link CostRounding} 정책으로 메소 단위 정수가 된 뒤 더해집니다.
    *
    * @return 기대 비용 (메소 단위)
    */
-  BigDecimal calculateCost();
+  long calculateCost();
 
   /**
    * 적용된 강화 경로 문자열 반환
@@ -44,9 +45,9 @@ public interface EquipmentExpectationCalculator {
   /**
    * 기대 시도 횟수 (기하분포 기반)
    *
-   * @return 기대 시도 횟수 (없으면 Optional.empty())
+   * @return 기대 시도 횟수 (없으면 OptionalDouble.empty())
    */
-  Optional<BigDecimal> getTrials();
+  OptionalDouble getTrials();
 
   /**
    * 비용 상세 분류
@@ -60,33 +61,31 @@ public interface EquipmentExpectationCalculator {
   /**
    * 비용 상세 분류 Record (#240 V4: trials 추가)
    *
-   * <p>trials는 기대 시도 횟수로, 정수로 변환하여 사용합니다.
+   * <p>비용은 메소 단위 정수, trials는 HALF_UP 반올림된 기대 시도 횟수입니다 ({@link
+   * maple.expectation.domain.cost.CostRounding}).
    */
   record CostBreakdown(
-      BigDecimal blackCubeCost,
-      BigDecimal redCubeCost,
-      BigDecimal additionalCubeCost,
-      BigDecimal starforceCost,
-      BigDecimal blackCubeTrials, // #240 V4: 블랙큐브 기대 시도 횟수
-      BigDecimal redCubeTrials, // #240 V4: 레드큐브 기대 시도 횟수
-      BigDecimal additionalCubeTrials // #240 V4: 에디셔널큐브 기대 시도 횟수
+      long blackCubeCost,
+      long redCubeCost,
+      long additionalCubeCost,
+      long starforceCost,
+      long blackCubeTrials, // #240 V4: 블랙큐브 기대 시도 횟수
+      long redCubeTrials, // #240 V4: 레드큐브 기대 시도 횟수
+      long additionalCubeTrials // #240 V4: 에디셔널큐브 기대 시도 횟수
       ) {
+    private static final CostBreakdown EMPTY = new CostBreakdown(0L, 0L, 0L, 0L, 0L, 0L, 0L);
+
     public static CostBreakdown empty() {
-      return new CostBreakdown(
-          BigDecimal.ZERO,
-          BigDecimal.ZERO,
-          BigDecimal.ZERO,
-          BigDecimal.ZERO,
-          BigDecimal.ZERO,
-          BigDecimal.ZERO,
-          BigDecimal.ZERO);
+      return EMPTY;
     }
 
-    public BigDecimal total() {
-      return blackCubeCost.add(redCubeCost).add(additionalCubeCost).add(starforceCost);
+    public long total() {
+      return CostRounding.saturatedAdd(
+          CostRounding.saturatedAdd(blackCubeCost, redCubeCost),
+          CostRounding.saturatedAdd(additionalCubeCost, starforceCost));
     }
 
-    public CostBreakdown withBlackCube(BigDecimal cost) {
+    public CostBreakdown withBlackCube(long cost) {
       return new CostBreakdown(
           cost,
           redCubeCost,
@@ -97,7 +96,7 @@ public interface EquipmentExpectationCalculator {
           additionalCubeTrials);
     }
 
-    public CostBreakdown withBlackCube(BigDecimal cost, BigDecimal trials) {
+    public CostBreakdown withBlackCube(long cost, long trials) {
       return new CostBreakdown(
           cost,
           redCubeCost,
@@ -108,7 +107,7 @@ public interface EquipmentExpectationCalculator {
           additionalCubeTrials);
     }
 
-    public CostBreakdown withRedCube(BigDecimal cost) {
+    public CostBreakdown withRedCube(long cost) {
       return new CostBreakdown(
           blackCubeCost,
           cost,
@@ -119,7 +118,7 @@ public interface EquipmentExpectationCalculator {
           additionalCubeTrials);
     }
 
-    public CostBreakdown withRedCube(BigDecimal cost, BigDecimal trials) {
+    public CostBreakdown withRedCube(long cost, long trials) {
       return new CostBreakdown(
           blackCubeCost,
           cost,
@@ -130,7 +129,7 @@ public interface EquipmentExpectationCalculator {
           additionalCubeTrials);
     }
 
-    public CostBreakdown withAdditionalCube(BigDecimal cost) {
+    public CostBreakdown withAdditionalCube(long cost) {
       return new CostBreakdown(
           blackCubeCost,
           redCubeCost,
@@ -141,12 +140,12 @@ public interface EquipmentExpectationCalculator {
           additionalCubeTrials);
     }
 
-    public CostBreakdown withAdditionalCube(BigDecimal cost, BigDecimal trials) {
+    public CostBreakdown withAdditionalCube(long cost, long trials) {
       return new CostBreakdown(
           blackCubeCost, redCubeCost, cost, starforceCost, blackCubeTrials, redCubeTrials, trials);
     }
 
-    public CostBreakdown withStarforce(BigDecimal cost) {
+    public CostBreakdown withStarforce(long cost) {
       return new CostBreakdown(
           blackCubeCost,
           redCubeCost,
@@ -1,6 +1,6 @@
 package maple.expectation.service.v2.calculator.v4.impl;
 
-import java.math.BigDecimal;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.service.v2.CubeTrialsProvider;
@@ -52,7 +52,8 @@ public class AdditionalCubeDecoratorV4 extends AbstractCubeDecoratorV4 {
 
   @Override
   protected CostBreakdown updateCostBreakdown(
-      CostBreakdown base, BigDecimal cubeCost, BigDecimal trials) {
-    return base.withAdditionalCube(base.additionalCubeCost().add(cubeCost), trials);
+      CostBreakdown base, long cubeCost, long trials) {
+    return base.withAdditionalCube(
+        CostRounding.saturatedAdd(base.additionalCubeCost(), cubeCost), trials);
   }
 }
@@ -1,7 +1,6 @@
 package maple.expectation.service.v2.calculator.v4.impl;
 
-import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.OptionalDouble;
 import lombok.RequiredArgsConstructor;
 import maple.expectation.service.v2.calculator.v4.EquipmentExpectationCalculator;
 
@@ -22,8 +21,8 @@ public class BaseEquipmentItem implements EquipmentExpectationCalculator {
   private final int currentStar;
 
   @Override
-  public BigDecimal calculateCost() {
-    return BigDecimal.ZERO; // 기본 아이템 자체의 비용은 0
+  public long calculateCost() {
+    return 0L; // 기본 아이템 자체의 비용은 0
   }
 
   @Override
@@ -32,8 +31,8 @@ public class BaseEquipmentItem implements EquipmentExpectationCalculator {
   }
 
   @Override
-  public Optional<BigDecimal> getTrials() {
-    return Optional.of(BigDecimal.ZERO);
+  public OptionalDouble getTrials() {
+    return OptionalDouble.of(0.0);
   }
 
   @Override
@@ -1,6 +1,6 @@
 package maple.expectation.service.v2.calculator.v4.impl;
 
-import java.math.BigDecimal;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.service.v2.CubeTrialsProvider;
@@ -23,8 +23,8 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  * <h3>5-Agent Council 합의사항</h3>
  *
  * <ul>
- *   <li>🟣 Purple (Auditor): BigDecimal 필수 - truncation 방지
- *   <li>RoundingMode.HALF_UP 명시적 사용 (템플릿에서 처리)
+ *   <li>🟣 Purple (Auditor): 시도 횟수 HALF_UP 반올림 후 비용 계산 - truncation 방지
+ *   <li>반올림 정책은 CostRounding 단일 지점 (템플릿에서 처리)
  * </ul>
  *
  * <h3>블랙큐브 특성</h3>
@@ -59,7 +59,7 @@ public class BlackCubeDecoratorV4 extends AbstractCubeDecoratorV4 {
 
   @Override
   protected CostBreakdown updateCostBreakdown(
-      CostBreakdown base, BigDecimal cubeCost, BigDecimal trials) {
-    return base.withBlackCube(base.blackCubeCost().add(cubeCost), trials);
+      CostBreakdown base, long cubeCost, long trials) {
+    return base.withBlackCube(CostRounding.saturatedAdd(base.blackCubeCost(), cubeCost), trials);
   }
 }
@@ -1,8 +1,7 @@
 package maple.expectation.service.v2.calculator.v4.impl;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Optional;
+import java.util.OptionalDouble;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.service.v2.calculator.v4.EquipmentEnhanceDecorator;
 import maple.expectation.service.v2.calculator.v4.EquipmentExpectationCalculator;
 import maple.expectation.service.v2.starforce.StarforceLookupTable;
@@ -27,13 +26,14 @@ import maple.expectation.service.v2.starforce.StarforceLookupTable;
  */
 public class StarforceDecoratorV4 extends EquipmentEnhanceDecorator {
 
-  private static final int PRECISION_SCALE = 2;
+  /** 아직 조회하지 않음 (비용은 0 이상) */
+  private static final long NOT_COMPUTED = -1L;
 
   private final StarforceLookupTable lookupTable;
   private final int currentStar;
   private final int targetStar;
   private final int itemLevel;
-  private BigDecimal starforceCost;
+  private long starforceCost = NOT_COMPUTED;
 
   /**
    * 스타포스 데코레이터 생성
@@ -67,47 +67,40 @@ public class StarforceDecoratorV4 extends EquipmentEnhanceDecorator {
   }
 
   @Override
-  public BigDecimal calculateCost() {
-    BigDecimal previousCost = super.calculateCost();
-    BigDecimal sfCost = calculateStarforceCost();
-    return previousCost.add(sfCost);
+  public long calculateCost() {
+    return CostRounding.saturatedAdd(super.calculateCost(), calculateStarforceCost());
   }
 
   /**
    * 스타포스 기대 비용 계산
    *
-   * <p>Lookup Table에서 pre-computed 값을 조회합니다.
+   * <p>Lookup Table에서 pre-computed 값을 조회합니다 (메소 단위 정수, HALF_UP).
    *
    * @return 스타포스 기대 비용
    */
-  public BigDecimal calculateStarforceCost() {
-    if (starforceCost == null) {
-      // 이미 목표 스타에 도달한 경우
-      if (currentStar >= targetStar) {
-        starforceCost = BigDecimal.ZERO;
-      } else {
-        // Lookup Table에서 기대값 조회
-        starforceCost =
-            lookupTable
-                .getExpectedCost(currentStar, targetStar, itemLevel)
-                .setScale(PRECISION_SCALE, RoundingMode.HALF_UP);
-      }
+  public long calculateStarforceCost() {
+    if (starforceCost == NOT_COMPUTED) {
+      // 이미 목표 스타에 도달한 경우 0, 아니면 Lookup Table에서 기대값 조회
+      starforceCost =
+          currentStar >= targetStar
+              ? 0L
+              : lookupTable.getExpectedCostMeso(currentStar, targetStar, itemLevel);
     }
     return starforceCost;
   }
 
   @Override
-  public Optional<BigDecimal> getTrials() {
+  public OptionalDouble getTrials() {
     // 스타포스는 단순 시도 횟수로 표현하기 어려움 (성공/실패/파괴 복합 확률)
     // 대신 calculateStarforceCost()를 사용하여 기대 비용 제공
-    return Optional.empty();
+    return OptionalDouble.empty();
   }
 
   @Override
   public CostBreakdown getDetailedCosts() {
     CostBreakdown base = super.getDetailedCosts();
-    BigDecimal sfCost = calculateStarforceCost();
-    return base.withStarforce(base.starforceCost().add(sfCost));
+    return base.withStarforce(
+        CostRounding.saturatedAdd(base.starforceCost(), calculateStarforceCost()));
   }
 
   @Override
@@ -9,7 +9,7 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
 
 /**
  * Abstract template for Cube decorators that eliminates duplication between V2 (long) and V4
- * (BigDecimal).
+ * (double).
  *
  * <h3>Generic Number Type Parameter</h3>
  *
@@ -17,7 +17,7 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  *
  * <ul>
  *   <li>V2: Long (primitive long wrapper)
- *   <li>V4: BigDecimal (precise decimal calculations)
+ *   <li>V4: Double (raw expected trials; costs are rounded via CostRounding)
  * </ul>
  *
  * <h3>Template Method Pattern</h3>
@@ -26,7 +26,7 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  *
  * <ul>
  *   <li>Specify the cube type (BLACK, RED, ADDITIONAL)
- *   <li>Provide number conversion utilities (long ↔ BigDecimal)
+ *   <li>Provide number conversion utilities (long ↔ N)
  *   <li>Customize enhance path description
  * </ul>
  *
@@ -39,7 +39,7 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  *   <li>Easy to add new cube types in the future
  * </ul>
  *
- * @param <N> Number type (Long for V2, BigDecimal for V4)
+ * @param <N> Number type (Long for V2, Double for V4)
  * @param <T> Target calculator type (ExpectationCalculator for V2, EquipmentExpectationCalculator
  *     for V4)
  */
@@ -98,7 +98,7 @@ public abstract class AbstractCubeDecorator<N extends Number, T> {
     if (trials == null) {
       Double rawTrials = trialsProvider.calculateExpectedTrials(input, getCubeType());
 
-      // P0 Fix (#262): Infinity values cannot convert to BigDecimal → ZERO handling
+      // P0 Fix (#262): Infinity values cannot be rounded to a cost → ZERO handling
       // Infinity = impossible combination = cost calculation meaningless
       if (rawTrials != null && Double.isFinite(rawTrials)) {
         trials = convertFromDouble(rawTrials);
@@ -227,7 +227,7 @@ public abstract class AbstractCubeDecorator<N extends Number, T> {
   /**
    * Check if rounding should be applied (V4 specific).
    *
-   * @return true if this is a V4 BigDecimal decorator
+   * @return true if this is a V4 decorator
    */
   protected boolean shouldRoundTrials() {
     return false; // Default: V2 doesn't round
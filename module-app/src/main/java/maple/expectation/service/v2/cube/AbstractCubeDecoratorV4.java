@@ -1,8 +1,8 @@
 package maple.expectation.service.v2.cube;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.service.v2.CubeTrialsProvider;
@@ -12,12 +12,12 @@ import maple.expectation.service.v2.calculator.v4.EquipmentExpectationCalculator
 import maple.expectation.service.v2.policy.CubeCostPolicy;
 
 /**
- * V4-specific abstract cube decorator using BigDecimal type.
+ * V4-specific abstract cube decorator using primitive cost accumulation.
  *
  * <p>Extends AbstractCubeDecorator with V4-specific implementations:
  *
  * <ul>
- *   <li>Type parameter: BigDecimal (precise decimal arithmetic)
+ *   <li>Type parameter: Double (raw expected trials, cached once per decorator)
  *   <li>Rounds trials to integer (HALF_UP) before cost calculation
  *   <li>Extends EquipmentEnhanceDecorator for V4 calculator chain
  *   <li>Supports CostBreakdown for detailed cost tracking
@@ -26,11 +26,14 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  * <h3>V4 Improvements over V2</h3>
  *
  * <ul>
- *   <li>Precision: BigDecimal prevents floating-point truncation
- *   <li>Rounding: Trials rounded to integer before multiplication
+ *   <li>Rounding: Trials rounded to integer (HALF_UP) before multiplication, not truncated
+ *   <li>Single policy: all rounding goes through {@link CostRounding}
  *   <li>Detailed breakdown: Separate tracking of cube costs and trials
  * </ul>
  *
+ * <p>Costs are accumulated as whole meso in {@code long}; BigDecimal is only created when the
+ * response DTO is built.
+ *
  * <h3>Usage Example</h3>
  *
  * <pre>{@code
@@ -57,9 +60,7 @@ import maple.expectation.service.v2.policy.CubeCostPolicy;
  */
 public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator {
 
-  private static final int PRECISION_SCALE = 2;
-
-  private final AbstractCubeDecorator<BigDecimal, EquipmentExpectationCalculator> delegate;
+  private final AbstractCubeDecorator<Double, EquipmentExpectationCalculator> delegate;
 
   /**
    * Constructor that initializes both the decorator chain and the generic delegate.
@@ -78,7 +79,7 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
 
     // Create delegate with V4-specific implementations
     this.delegate =
-        new AbstractCubeDecorator<BigDecimal, EquipmentExpectationCalculator>(
+        new AbstractCubeDecorator<Double, EquipmentExpectationCalculator>(
             target, trialsProvider, costPolicy, input) {
 
           @Override
@@ -87,19 +88,18 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
           }
 
           @Override
-          protected Optional<BigDecimal> getTrialsOptional() {
-            return AbstractCubeDecoratorV4.this.getTrials();
+          protected Optional<Double> getTrialsOptional() {
+            return Optional.of(calculateTrials());
           }
 
           @Override
-          protected BigDecimal getCostPerTrial() {
-            return BigDecimal.valueOf(
-                costPolicy.getCubeCost(getCubeType(), input.getLevel(), input.getGrade()));
+          protected Double getCostPerTrial() {
+            return (double) getLongCostPerTrial();
           }
 
           @Override
-          protected BigDecimal calculateTotalCost() {
-            return AbstractCubeDecoratorV4.this.calculateCost();
+          protected Double calculateTotalCost() {
+            return (double) AbstractCubeDecoratorV4.this.calculateCost();
           }
 
           @Override
@@ -113,28 +113,28 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
           }
 
           @Override
-          protected BigDecimal convertFromDouble(Double value) {
-            return BigDecimal.valueOf(value);
+          protected Double convertFromDouble(Double value) {
+            return value;
           }
 
           @Override
-          protected BigDecimal convertFromLong(long value) {
-            return BigDecimal.valueOf(value);
+          protected Double convertFromLong(long value) {
+            return (double) value;
           }
 
           @Override
-          protected BigDecimal getZero() {
-            return BigDecimal.ZERO;
+          protected Double getZero() {
+            return 0.0;
           }
 
           @Override
-          protected BigDecimal add(BigDecimal a, BigDecimal b) {
-            return a.add(b);
+          protected Double add(Double a, Double b) {
+            return a + b;
           }
 
           @Override
-          protected BigDecimal multiply(BigDecimal a, BigDecimal b) {
-            return a.multiply(b);
+          protected Double multiply(Double a, Double b) {
+            return a * b;
           }
 
           @Override
@@ -161,20 +161,20 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
   /**
    * Calculate expected trials using delegate.
    *
-   * @return Expected number of trials (BigDecimal)
+   * @return Expected number of trials before rounding (0 for impossible combinations)
    */
-  public BigDecimal calculateTrials() {
+  public double calculateTrials() {
     return delegate.calculateTrials();
   }
 
   /**
-   * Get trials as Optional.
+   * Get trials as OptionalDouble.
    *
-   * @return Optional containing trials
+   * @return OptionalDouble containing trials
    */
   @Override
-  public Optional<BigDecimal> getTrials() {
-    return Optional.of(delegate.calculateTrials());
+  public OptionalDouble getTrials() {
+    return OptionalDouble.of(calculateTrials());
   }
 
   /**
@@ -182,26 +182,11 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
    *
    * <p>V4 improvement: Trials are rounded to integer before cost calculation.
    *
-   * @return Total cost (BigDecimal)
+   * @return Total cost in meso
    */
   @Override
-  public BigDecimal calculateCost() {
-    // 1. Previous stage cumulative cost
-    BigDecimal previousCost = super.calculateCost();
-
-    // 2. Expected trials for cube
-    BigDecimal expectedTrials = delegate.calculateTrials();
-
-    // 3. Round trials to integer (V4 improvement)
-    BigDecimal roundedTrials = expectedTrials.setScale(0, RoundingMode.HALF_UP);
-
-    // 4. Cost per trial from policy
-    BigDecimal costPerTrial = BigDecimal.valueOf(delegate.getLongCostPerTrial());
-
-    // 5. Total cost = previous + (roundedTrials × costPerTrial)
-    BigDecimal cubeCost = roundedTrials.multiply(costPerTrial);
-
-    return previousCost.add(cubeCost);
+  public long calculateCost() {
+    return CostRounding.saturatedAdd(super.calculateCost(), calculateCubeCost());
   }
 
   /**
@@ -214,15 +199,15 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
   @Override
   public CostBreakdown getDetailedCosts() {
     CostBreakdown base = super.getDetailedCosts();
-
-    // Calculate trials and cost
-    BigDecimal expectedTrials = delegate.calculateTrials();
-    BigDecimal roundedTrials = expectedTrials.setScale(0, RoundingMode.HALF_UP);
-    BigDecimal costPerTrial = BigDecimal.valueOf(delegate.getLongCostPerTrial());
-    BigDecimal cubeCost = roundedTrials.multiply(costPerTrial);
+    long roundedTrials = CostRounding.roundHalfUp(calculateTrials());
 
     // Delegate to subclass for specific CostBreakdown method
-    return updateCostBreakdown(base, cubeCost, roundedTrials);
+    return updateCostBreakdown(base, calculateCubeCost(), roundedTrials);
+  }
+
+  /** Cube cost for this stage: roundHalfUp(trials) × cost per trial. */
+  private long calculateCubeCost() {
+    return CostRounding.cubeCost(calculateTrials(), delegate.getLongCostPerTrial());
   }
 
   /**
@@ -242,7 +227,7 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
    * @return Updated CostBreakdown
    */
   protected abstract CostBreakdown updateCostBreakdown(
-      CostBreakdown base, BigDecimal cubeCost, BigDecimal trials);
+      CostBreakdown base, long cubeCost, long trials);
 
   /**
    * Get base enhance path from target.
@@ -262,13 +247,4 @@ public abstract class AbstractCubeDecoratorV4 extends EquipmentEnhanceDecorator
   public String getEnhancePath() {
     return delegate.getEnhancePath();
   }
-
-  /**
-   * Get precision scale for BigDecimal operations.
-   *
-   * @return Scale value (2)
-   */
-  protected int getPrecisionScale() {
-    return PRECISION_SCALE;
-  }
 }
@@ -6,8 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.core.probability.ProbabilityConvolver;
 import maple.expectation.core.probability.TailProbabilityCalculator;
-import maple.expectation.domain.model.calculator.DensePmf;
 import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.model.calculator.SurvivalCurve;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.dto.CubeCalculationInput;
 import org.springframework.cache.annotation.Cacheable;
@@ -40,10 +40,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CubeDpCalculator {
 
-  private final SlotDistributionBuilder distributionBuilder;
+  private final SlotPmfCatalog slotPmfCatalog;
   private final ProbabilityConvolver convolver;
   private final TailProbabilityCalculator tailCalculator;
   private final CubeSlotCountResolver slotCountResolver;
+  private final CubeSurvivalCurveProvider survivalCurveProvider;
 
   /**
    * DP 기반 기대 시도 횟수 계산 (캐시 적용)
@@ -67,14 +68,43 @@ public class CubeDpCalculator {
     return doCalculate(input, type, tableVersion);
   }
 
+  /**
+   * 생존 함수 캐시 기반 기대 시도 횟수 계산
+   *
+   * <p>target 독립 생존 함수를 {@link CubeSurvivalCurveProvider}에서 조회하고, minTotal은 O(1) 배열 조회로 응답합니다.
+   * enableTailClamp와 무관하게 Clamp 결과와 수학적으로 동일합니다.
+   *
+   * @param input 계산 입력 (DP 모드 필드 필수)
+   * @param type 큐브 타입
+   * @param tableVersion 테이블 버전 (TOCTOU 방지)
+   * @return 기대 시도 횟수
+   * @throws IllegalArgumentException DP 필수 필드 누락 시
+   */
+  public Double calculateWithSurvivalCache(
+      CubeCalculationInput input, CubeType type, String tableVersion) {
+    input.validateForDpMode();
+
+    SurvivalCurve curve =
+        survivalCurveProvider.getSurvivalCurve(
+            type,
+            input.getLevel(),
+            input.getPart(),
+            input.getGrade(),
+            input.getTargetStatType(),
+            tableVersion);
+    double tailProb = curve.tailAtLeast(input.getMinTotal());
+
+    return tailCalculator.calculateExpectedTrials(tailProb);
+  }
+
   private Double doCalculate(CubeCalculationInput input, CubeType type, String tableVersion) {
     boolean enableClamp = input.isEnableTailClamp();
     int target = input.getMinTotal();
     int slotCount = slotCountResolver.resolve(type);
 
     List<SparsePmf> slotPmfs = buildSlotDistributions(input, type, tableVersion, slotCount);
-    DensePmf totalPmf = convolver.convolveAll(slotPmfs, target, enableClamp);
-    double tailProb = tailCalculator.calculateTailProbability(totalPmf, target, enableClamp);
+    // 작업 공간 커널로 직접 꼬리 확률 산출 (중간 DensePmf 미생성)
+    double tailProb = convolver.tailProbability(slotPmfs, target, enableClamp);
 
     return tailCalculator.calculateExpectedTrials(tailProb);
   }
@@ -84,7 +114,7 @@ public class CubeDpCalculator {
     return IntStream.rangeClosed(1, slotCount)
         .mapToObj(
             slot ->
-                distributionBuilder.buildDistributionByVersion(
+                slotPmfCatalog.distribution(
                     type,
                     input.getLevel(),
                     input.getPart(),
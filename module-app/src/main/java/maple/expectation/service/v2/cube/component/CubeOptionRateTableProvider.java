@@ -0,0 +1,95 @@
+package maple.expectation.service.v2.cube.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import maple.expectation.core.calculator.CubeOptionRateTable;
+import maple.expectation.core.domain.model.CubeRate;
+import maple.expectation.domain.repository.CubeProbabilityRepository;
+import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeType;
+import org.springframework.stereotype.Component;
+
+/**
+ * v1 엔진용 옵션 → 슬롯별 확률 테이블 제공 컴포넌트
+ *
+ * <h3>캐싱</h3>
+ *
+ * <ul>
+ *   <li>키: (큐브 종류, 레벨, 부위, 등급) - 현재 테이블 버전 하나의 테이블만 보관
+ *   <li>요청 버전이 바뀌면 이전 버전 테이블을 통째로 버리고 새로 생성 (리로드마다 누적되지 않음)
+ *   <li>확률 테이블은 로딩 후 고정이므로 버전당 조합 수만큼만 생성 (인스턴스 로컬)
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class CubeOptionRateTableProvider {
+
+  private final CubeProbabilityRepository repository;
+  private final CubeSlotCountResolver slotCountResolver;
+
+  private final AtomicReference<VersionedTables> current =
+      new AtomicReference<>(VersionedTables.of(""));
+
+  /**
+   * 옵션 확률 테이블 조회 (없으면 생성)
+   *
+   * @param type 큐브 종류
+   * @param level 장비 레벨
+   * @param part 장비 부위
+   * @param grade 잠재능력 등급
+   * @param tableVersion 테이블 버전 (TOCTOU 방지)
+   * @return 슬롯 1..N 색인 테이블
+   */
+  public CubeOptionRateTable getTable(
+      CubeType type, int level, String part, String grade, String tableVersion) {
+    return tablesOf(tableVersion)
+        .computeIfAbsent(
+            new TableKey(type, level, part, grade), key -> buildTable(key, tableVersion));
+  }
+
+  /** 버전의 테이블 맵 (현재 버전과 다르면 새 맵으로 교체) */
+  private ConcurrentHashMap<TableKey, CubeOptionRateTable> tablesOf(String tableVersion) {
+    return current
+        .updateAndGet(
+            tables ->
+                tables.version().equals(tableVersion) ? tables : VersionedTables.of(tableVersion))
+        .tables();
+  }
+
+  private CubeOptionRateTable buildTable(TableKey key, String tableVersion) {
+    var coreType = key.type().toCore();
+    int slotCount = slotCountResolver.resolve(key.type());
+
+    List<CubeRate> rates = new ArrayList<>();
+    for (int slot = 1; slot <= slotCount; slot++) {
+      List<CubeProbability> probs =
+          repository.findProbabilitiesByVersion(
+              key.type(), key.level(), key.part(), key.grade(), slot, tableVersion);
+      for (CubeProbability p : probs) {
+        rates.add(
+            new CubeRate(
+                coreType,
+                p.getOptionName(),
+                p.getRate(),
+                p.getSlot(),
+                p.getGrade(),
+                p.getLevel(),
+                p.getPart()));
+      }
+    }
+    return CubeOptionRateTable.from(rates, slotCount);
+  }
+
+  private record TableKey(CubeType type, int level, String part, String grade) {}
+
+  private record VersionedTables(
+      String version, ConcurrentHashMap<TableKey, CubeOptionRateTable> tables) {
+
+    static VersionedTables of(String version) {
+      return new VersionedTables(version, new ConcurrentHashMap<>());
+    }
+  }
+}
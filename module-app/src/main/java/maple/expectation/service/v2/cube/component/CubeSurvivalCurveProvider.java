@@ -0,0 +1,87 @@
+package maple.expectation.service.v2.cube.component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.stat.StatType;
+import maple.expectation.core.probability.ProbabilityConvolver;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.model.calculator.SurvivalCurve;
+import maple.expectation.domain.v2.CubeType;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * target 독립 생존 함수(Complementary CDF) 캐시 컴포넌트
+ *
+ * <h3>핵심 역할</h3>
+ *
+ * <p>Clamp 없이 한 번 합성한 분포의 P(X >= t)를 캐싱하여, minTotal(21%, 24%, 27%, ...)이 달라도 DP를 재실행하지 않고 배열
+ * 조회로 응답합니다.
+ *
+ * <h3>캐시 키 구성</h3>
+ *
+ * <ul>
+ *   <li>type + level + part + grade + targetStatType + tableVersion
+ *   <li>minTotal / enableTailClamp 미포함 → 엔트리 수가 (장비 조합 × 스탯) 규모로 축소
+ * </ul>
+ *
+ * <p>@Cacheable self-invocation 방지를 위해 {@link CubeDpCalculator}와 별도 Bean으로 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CubeSurvivalCurveProvider {
+
+  private final SlotPmfCatalog slotPmfCatalog;
+  private final ProbabilityConvolver convolver;
+  private final CubeSlotCountResolver slotCountResolver;
+
+  /**
+   * 생존 함수 조회 (캐시 적용)
+   *
+   * @param type 큐브 타입
+   * @param level 장비 레벨
+   * @param part 장비 부위
+   * @param grade 잠재능력 등급
+   * @param targetStat 목표 스탯 타입
+   * @param tableVersion 테이블 버전 (TOCTOU 방지)
+   * @return 생존 함수
+   */
+  @Cacheable(
+      value = "cubeSurvival",
+      key =
+          "#type.name() + ':' + #level + ':' + #part + ':' + #grade + ':' + "
+              + "#targetStat + ':' + #tableVersion")
+  public SurvivalCurve getSurvivalCurve(
+      CubeType type,
+      int level,
+      String part,
+      String grade,
+      StatType targetStat,
+      String tableVersion) {
+    int slotCount = slotCountResolver.resolve(type);
+
+    List<SparsePmf> slotPmfs =
+        IntStream.rangeClosed(1, slotCount)
+            .mapToObj(
+                slot ->
+                    slotPmfCatalog.distribution(
+                        type, level, part, grade, slot, targetStat, tableVersion))
+            .toList();
+
+    // Clamp 미적용: 전체 상태공간 합성 (target 독립)
+    SurvivalCurve curve = convolver.survivalCurve(slotPmfs);
+
+    log.debug(
+        "[SurvivalCurve] 생성: type={}, level={}, part={}, grade={}, stat={}, maxValue={}",
+        type,
+        level,
+        part,
+        grade,
+        targetStat,
+        curve.maxValue());
+    return curve;
+  }
+}
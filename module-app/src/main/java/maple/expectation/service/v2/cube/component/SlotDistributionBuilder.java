@@ -1,14 +1,14 @@
 package maple.expectation.service.v2.cube.component;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.stat.OptionDictionary;
 import maple.expectation.core.domain.stat.StatType;
 import maple.expectation.domain.model.calculator.SparsePmf;
 import maple.expectation.domain.repository.CubeProbabilityRepository;
-import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilitySlice;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.error.exception.ProbabilityInvariantException;
 import maple.expectation.infrastructure.executor.LogicExecutor;
@@ -89,11 +89,12 @@ public class SlotDistributionBuilder {
       StatType targetStat,
       String tableVersion) {
     // P0-2: 버전 고정 조회 (TOCTOU 방지)
-    List<CubeProbability> probs =
-        repository.findProbabilitiesByVersion(cubeType, level, part, grade, slot, tableVersion);
+    //       열 슬라이스: 행 객체 없이 옵션 ID/확률 배열을 순차로 읽음
+    CubeProbabilitySlice slice =
+        repository.findSliceByVersion(cubeType, level, part, grade, slot, tableVersion);
 
     // P0-3: 빈 테이블 = 해당 부위에서 해당 스탯 미지원 → 기여도 0 확률 100% 분포 반환
-    if (probs.isEmpty()) {
+    if (slice.isEmpty()) {
       log.warn(
           "[DistBuilder] 데이터 없음: cubeType={}, level={}, part={}, grade={}, slot={}, stat={} → 기여도 0 분포 반환",
           cubeType,
@@ -105,13 +106,13 @@ public class SlotDistributionBuilder {
       return SparsePmf.fromMap(Map.of(0, 1.0));
     }
 
-    // 1. 전체 질량 계산 + 정책에 따른 정규화 계수
-    double allTotal = calculateTotalMass(probs);
+    // 1. 전체 질량 (로딩 시 Kahan summation으로 미리 계산) + 정책에 따른 정규화 계수
+    double allTotal = slice.totalMass();
     double normFactor = validateAndGetNormalizationFactor(allTotal);
 
     // 2. 모든 옵션 집계 (contribution=0 포함, LENIENT면 정규화)
     //    안 A 채택: 루프에서 0 포함 전체 merge → 추가 0버킷 보정 불필요
-    Map<Integer, Double> dist = buildDistributionMap(probs, targetStat, normFactor);
+    Map<Integer, Double> dist = buildDistributionMap(slice, targetStat, normFactor);
 
     // 주의: 추가 0버킷 보정 없음 (이중 계상 방지)
     // dist는 이미 전체 질량(allTotal)을 포함
@@ -122,26 +123,17 @@ public class SlotDistributionBuilder {
     return pmf;
   }
 
-  private double calculateTotalMass(List<CubeProbability> probs) {
-    double sum = 0.0;
-    double c = 0.0; // Kahan summation 보정
-    for (CubeProbability p : probs) {
-      double y = p.getRate() - c;
-      double t = sum + y;
-      c = (t - sum) - y;
-      sum = t;
-    }
-    return sum;
-  }
-
   private Map<Integer, Double> buildDistributionMap(
-      List<CubeProbability> probs, StatType targetStat, double normFactor) {
+      CubeProbabilitySlice slice, StatType targetStat, double normFactor) {
     Map<Integer, Double> dist = new HashMap<>();
 
-    for (CubeProbability p : probs) {
-      int contribution = extractor.extractContributionFor(p.getOptionName(), targetStat);
+    // 로딩 시 컴파일된 옵션 사전: 행마다 옵션 문자열을 다시 파싱하지 않음
+    OptionDictionary dictionary = repository.getOptionDictionary();
+    for (int i = 0; i < slice.length(); i++) {
+      int contribution =
+          extractor.extractContributionFor(dictionary, slice.optionId(i), targetStat);
       // P0: LENIENT 시 rate / normFactor로 정규화
-      double normalizedRate = p.getRate() / normFactor;
+      double normalizedRate = slice.rate(i) / normFactor;
       dist.merge(contribution, normalizedRate, Double::sum);
     }
 
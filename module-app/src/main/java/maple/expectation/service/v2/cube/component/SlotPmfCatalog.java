@@ -0,0 +1,279 @@
+package maple.expectation.service.v2.cube.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.stat.StatType;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.repository.CubeProbabilityRepository;
+import maple.expectation.domain.v2.CubeProbabilityCellIndex;
+import maple.expectation.domain.v2.CubeType;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.TaskContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 슬롯별 SparsePmf 사전 생성 카탈로그
+ *
+ * <h3>핵심 역할</h3>
+ *
+ * <p>(큐브 종류, 레벨 구간, 부위, 등급, 슬롯, 타깃 스탯) 조합은 테이블 버전마다 유한하므로, 테이블 로딩 시 전체 조합의 분포를
+ * ForkJoinPool에서 병렬로 한 번 생성해 두고 계산 시에는 배열 조회만 합니다. 런타임 계산은 원본 확률 테이블을 읽지 않습니다.
+ *
+ * <h3>인덱스</h3>
+ *
+ * <pre>
+ * index = cell × T + statOrdinal   (cell: {@link CubeProbabilityCellIndex}, 저장소와 공유)
+ * </pre>
+ *
+ * <ul>
+ *   <li>데이터가 없는 조합은 {@link SlotDistributionBuilder}와 같은 기여도 0 분포(공유 인스턴스)
+ *   <li>생성 중 불변식 위반으로 실패한 조합은 null → 조회 시 빌더로 위임하여 동일한 예외 전파
+ *   <li>스냅샷은 테이블 버전 단위로 통째 교체 (volatile 참조 원자적 교체)
+ *   <li>버전이 다르거나 생성 전이면 빌더로 위임 (기존 동작)
+ *   <li>시작 시에는 {@link #materializeInBackground()}로 생성하여 readiness를 지연시키지 않음
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ *
+ * <ul>
+ *   <li>cube.slot.pmf.build: 전체 생성 시간
+ *   <li>cube.slot.pmf.resident.bytes: 인덱스 배열 + 고유 분포의 추정 힙 사용량
+ *   <li>cube.slot.pmf.entries: 인덱스 엔트리 수
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotPmfCatalog {
+
+  private static final StatType[] STAT_TYPES = StatType.values();
+
+  /** 데이터 없음/비타깃 옵션만 있는 슬롯 분포 (빌더의 빈 테이블 응답과 동일) */
+  private static final SparsePmf ZERO_CONTRIBUTION = SparsePmf.fromMap(Map.of(0, 1.0));
+
+  private final CubeProbabilityRepository repository;
+  private final SlotDistributionBuilder distributionBuilder;
+  private final LogicExecutor executor;
+  private final MeterRegistry meterRegistry;
+
+  /** 현재 테이블 버전의 스냅샷 (생성 전 null) */
+  private volatile Snapshot current;
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("cube.slot.pmf.resident.bytes", this, SlotPmfCatalog::residentBytes)
+        .description("슬롯 분포 카탈로그 추정 힙 사용량")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("cube.slot.pmf.entries", this, SlotPmfCatalog::entryCount)
+        .description("슬롯 분포 카탈로그 엔트리 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 슬롯 분포 조회 (사전 생성 분포 우선)
+   *
+   * @param cubeType 큐브 종류
+   * @param level 장비 레벨
+   * @param part 장비 부위
+   * @param grade 잠재능력 등급
+   * @param slot 슬롯 번호 (1, 2, 3)
+   * @param targetStat 목표 스탯 타입
+   * @param tableVersion 테이블 버전 (TOCTOU 방지)
+   * @return 검증된 SparsePmf
+   */
+  public SparsePmf distribution(
+      CubeType cubeType,
+      int level,
+      String part,
+      String grade,
+      int slot,
+      StatType targetStat,
+      String tableVersion) {
+    Snapshot snapshot = current;
+    if (snapshot != null && snapshot.tableVersion.equals(tableVersion)) {
+      int cell = snapshot.index.cellOf(cubeType, level, part, grade, slot);
+      if (cell < 0) {
+        return ZERO_CONTRIBUTION;
+      }
+      SparsePmf pmf = snapshot.pmfs[cell * STAT_TYPES.length + targetStat.ordinal()];
+      if (pmf != null) {
+        return pmf;
+      }
+    }
+    return distributionBuilder.buildDistributionByVersion(
+        cubeType, level, part, grade, slot, targetStat, tableVersion);
+  }
+
+  /**
+   * 현재 테이블 버전의 전체 슬롯 분포 생성 후 교체
+   *
+   * <p>생성이 끝날 때까지 기존 스냅샷(또는 빌더 위임)으로 응답하고, 완료 시 참조 한 번으로 교체합니다.
+   */
+  public synchronized void materializeCurrentVersion() {
+    String tableVersion = repository.getCurrentTableVersion();
+    if (current != null && current.tableVersion.equals(tableVersion)) {
+      return;
+    }
+
+    long startNanos = System.nanoTime();
+    Snapshot next = buildSnapshot(tableVersion);
+    current = next;
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    Timer.builder("cube.slot.pmf.build")
+        .description("슬롯 분포 카탈로그 생성 시간")
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+    log.info(
+        "[SlotPmfCatalog] 생성 완료: version={}, entries={}, materialized={}, failed={}, "
+            + "resident={}KB, {}ms",
+        tableVersion,
+        next.pmfs.length,
+        next.materializedCount,
+        next.failedCount,
+        next.residentBytes / 1024,
+        elapsedNanos / 1_000_000);
+  }
+
+  /**
+   * 백그라운드 생성 (readiness 비차단)
+   *
+   * <p>가상 스레드에서 {@link #materializeCurrentVersion()}을 실행하고 즉시 반환합니다. 완료 전 조회는 빌더가 요청마다 직접
+   * 계산하며(on-demand 합성곱), 생성 실패 시에도 같은 경로로 계속 응답합니다.
+   */
+  public void materializeInBackground() {
+    Thread.ofVirtual()
+        .name("cube-slot-pmf-build")
+        .start(
+            () ->
+                executor.executeOrDefault(
+                    () -> {
+                      materializeCurrentVersion();
+                      return null;
+                    },
+                    null,
+                    TaskContext.of("SlotPmfCatalog", "BackgroundMaterialize")));
+  }
+
+  /** 현재 버전 스냅샷 생성 여부 */
+  public boolean isMaterialized() {
+    return current != null;
+  }
+
+  private double residentBytes() {
+    Snapshot snapshot = current;
+    return snapshot != null ? snapshot.residentBytes : 0;
+  }
+
+  private double entryCount() {
+    Snapshot snapshot = current;
+    return snapshot != null ? snapshot.pmfs.length : 0;
+  }
+
+  private Snapshot buildSnapshot(String tableVersion) {
+    Snapshot snapshot = new Snapshot(tableVersion, repository.getCellIndex());
+    int[] populated = snapshot.index.populatedCells();
+    int tasks = populated.length * STAT_TYPES.length;
+
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    executor.executeWithFinally(
+        () ->
+            pool.submit(
+                    () ->
+                        IntStream.range(0, tasks)
+                            .parallel()
+                            .forEach(
+                                task ->
+                                    snapshot.materialize(
+                                        populated[task / STAT_TYPES.length],
+                                        STAT_TYPES[task % STAT_TYPES.length])))
+                .join(),
+        pool::shutdown,
+        TaskContext.of("SlotPmfCatalog", "Materialize", tableVersion));
+
+    snapshot.seal();
+    return snapshot;
+  }
+
+  /** 테이블 버전 단위 불변 스냅샷 (생성 스레드에서만 채우고, 교체 후에는 읽기 전용) */
+  private final class Snapshot {
+
+    private final String tableVersion;
+    private final CubeProbabilityCellIndex index;
+    private final SparsePmf[] pmfs;
+
+    private int materializedCount;
+    private int failedCount;
+    private long residentBytes;
+
+    private Snapshot(String tableVersion, CubeProbabilityCellIndex index) {
+      this.tableVersion = tableVersion;
+      this.index = index;
+      this.pmfs = new SparsePmf[index.cellCount() * STAT_TYPES.length];
+    }
+
+    /** 셀 하나의 타깃 스탯 분포 생성 (실패 시 null 유지 → 조회 시 빌더 위임) */
+    private void materialize(int cell, StatType targetStat) {
+      CubeType type = index.typeAt(cell);
+      int level = index.levelAt(cell);
+      String part = index.partAt(cell);
+      String grade = index.gradeAt(cell);
+      int slot = index.slotAt(cell);
+
+      SparsePmf pmf =
+          executor.executeOrDefault(
+              () ->
+                  distributionBuilder.buildDistributionByVersion(
+                      type, level, part, grade, slot, targetStat, tableVersion),
+              null,
+              TaskContext.of("SlotPmfCatalog", "MaterializeCell", targetStat.name()));
+      pmfs[cell * STAT_TYPES.length + targetStat.ordinal()] =
+          pmf != null && isZeroContribution(pmf) ? ZERO_CONTRIBUTION : pmf;
+    }
+
+    /** 빈 조합을 공유 0 분포로 채우고 집계 (병렬 생성 join 이후 호출) */
+    private void seal() {
+      long bytes = 16L + 4L * pmfs.length; // 인덱스 배열 (compressed oops 기준)
+      for (int cell = 0; cell < index.cellCount(); cell++) {
+        for (int stat = 0; stat < STAT_TYPES.length; stat++) {
+          int slotIndex = cell * STAT_TYPES.length + stat;
+          if (!index.isPopulated(cell)) {
+            pmfs[slotIndex] = ZERO_CONTRIBUTION;
+          } else if (pmfs[slotIndex] == null) {
+            failedCount++;
+          } else {
+            materializedCount++;
+            if (pmfs[slotIndex] != ZERO_CONTRIBUTION) {
+              bytes += estimateBytes(pmfs[slotIndex]);
+            }
+          }
+        }
+      }
+      this.residentBytes = bytes;
+    }
+  }
+
+  private static boolean isZeroContribution(SparsePmf pmf) {
+    return pmf.size() == 1 && pmf.valueAt(0) == 0 && pmf.probAt(0) == 1.0;
+  }
+
+  /** record 헤더 + int[]/double[] 배열 (헤더 16B, 8B 정렬) */
+  private static long estimateBytes(SparsePmf pmf) {
+    int size = pmf.size();
+    return 24L + align(16L + 4L * size) + align(16L + 8L * size);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
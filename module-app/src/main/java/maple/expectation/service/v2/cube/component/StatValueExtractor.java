@@ -2,6 +2,7 @@ package maple.expectation.service.v2.cube.component;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import maple.expectation.core.domain.stat.OptionDictionary;
 import maple.expectation.core.domain.stat.StatParser;
 import maple.expectation.core.domain.stat.StatType;
 import maple.expectation.error.exception.OptionParseException;
@@ -97,8 +98,56 @@ public class StatValueExtractor {
    * @return 기여값 (기여 없으면 0)
    */
   public int extractContributionFor(String optionName, StatType targetType) {
-    List<StatContribution> contributions = extractAll(optionName);
+    return contributionOf(extractAll(optionName), targetType);
+  }
+
+  /**
+   * 컴파일된 옵션 사전 기반 기여값 조회 (분포 생성 Hot Path)
+   *
+   * <p>사전에 있는 옵션은 문자열 파싱 없이 미리 계산된 기여값을 반환하고, 없는 옵션만 기존 파싱 경로로 처리합니다. 결과와
+   * Primary stat drift Fail-Fast는 파싱 경로와 동일합니다.
+   *
+   * @param dictionary 확률 테이블 로딩 시 컴파일된 옵션 사전
+   * @param optionName 옵션 문자열
+   * @param targetType 목표 스탯 타입
+   * @return 기여값 (기여 없으면 0)
+   * @throws OptionParseException Primary stat drift 감지 시
+   */
+  public int extractContributionFor(
+      OptionDictionary dictionary, String optionName, StatType targetType) {
+    int id = dictionary != null ? dictionary.idOf(optionName) : OptionDictionary.UNKNOWN_ID;
+    if (id == OptionDictionary.UNKNOWN_ID) {
+      return extractContributionFor(optionName, targetType);
+    }
+    if (dictionary.isPrimaryStatDrift(id)) {
+      throw new OptionParseException("Primary stat drift 감지: " + optionName);
+    }
+    return dictionary.contribution(id, targetType);
+  }
+
+  /**
+   * 옵션 ID 기반 기여값 조회 (열 슬라이스 Hot Path)
+   *
+   * <p>열 저장소의 옵션 ID는 같은 사전으로 부여되므로 해시 조회 없이 배열 인덱스만 사용합니다.
+   *
+   * @param dictionary 확률 테이블 로딩 시 컴파일된 옵션 사전
+   * @param optionId 옵션 ID ({@link OptionDictionary#UNKNOWN_ID}면 빈 옵션 → 기여 0)
+   * @param targetType 목표 스탯 타입
+   * @return 기여값 (기여 없으면 0)
+   * @throws OptionParseException Primary stat drift 감지 시
+   */
+  public int extractContributionFor(
+      OptionDictionary dictionary, int optionId, StatType targetType) {
+    if (optionId == OptionDictionary.UNKNOWN_ID) {
+      return 0;
+    }
+    if (dictionary.isPrimaryStatDrift(optionId)) {
+      throw new OptionParseException("Primary stat drift 감지: " + dictionary.option(optionId));
+    }
+    return dictionary.contribution(optionId, targetType);
+  }
 
+  private int contributionOf(List<StatContribution> contributions, StatType targetType) {
     // 1. 직접 매칭
     for (StatContribution c : contributions) {
       if (c.type() == targetType) {
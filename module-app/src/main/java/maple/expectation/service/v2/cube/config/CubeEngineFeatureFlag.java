@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
  *   engine:
  *     dp-enabled: false      # true: v2(DP) 활성, false: v1(순열) 활성
  *     shadow-enabled: false  # true: 비활성 엔진도 병렬 계산하여 비교 로깅
+ *     survival-cache-enabled: false  # true: target 독립 생존 함수 캐시로 DP 응답
  * </pre>
  *
  * <h3>전환 시나리오</h3>
@@ -52,4 +53,14 @@ public class CubeEngineFeatureFlag {
    * </ul>
    */
   private boolean shadowEnabled = false;
+
+  /**
+   * 생존 함수 캐시 모드
+   *
+   * <ul>
+   *   <li>true: (type, level, part, grade, stat, tableVersion)별 생존 함수를 캐싱하고 minTotal은 배열 조회로 응답
+   *   <li>false: minTotal별 Clamp 합성 결과를 캐싱 (cubeTrials)
+   * </ul>
+   */
+  private boolean survivalCacheEnabled = false;
 }
@@ -0,0 +1,77 @@
+package maple.expectation.service.v2.flame;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.flame.FlameEquipCategory;
+import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.core.probability.FlameDpCalculator;
+import maple.expectation.core.probability.FlameScoreCalculator;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환생의 불꽃 결과 분포 모델 캐시 컴포넌트
+ *
+ * <h3>핵심 역할</h3>
+ *
+ * <p>옵션 PMF와 생존 함수를 장비/직업 조합 단위로 메모이즈하여, 프리셋의 모든 아이템 × 불꽃 3종 계산에서 PMF 재생성과 DP 재실행을
+ * 피합니다.
+ *
+ * <h3>캐시 키 구성</h3>
+ *
+ * <ul>
+ *   <li>category + flameType + level + weights + baseAtt + baseMag
+ *   <li>target 미포함 → 캐릭터마다 다른 목표 환산치도 같은 엔트리 재사용
+ * </ul>
+ *
+ * <p>@Cacheable self-invocation 방지를 위해 {@link FlameTrialsService}와 별도 Bean으로 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlameOutcomeModelProvider {
+
+  private final FlameScoreCalculator scoreCalculator;
+  private final FlameDpCalculator dpCalculator;
+
+  /**
+   * 결과 분포 모델 조회 (캐시 적용)
+   *
+   * @param category 장비 분류
+   * @param flameType 불꽃 종류
+   * @param level 장비 레벨
+   * @param weights 직업 가중치 (record toString이 키에 포함)
+   * @param baseAtt 무기 기본 공격력 (무기 아닐 경우 0)
+   * @param baseMag 무기 기본 마력 (무기 아닐 경우 0)
+   * @return 결과 분포 모델
+   */
+  @Cacheable(
+      value = "flameModel",
+      key =
+          "#category.name() + ':' + #flameType.name() + ':' + #level + ':' + #weights + ':' + "
+              + "#baseAtt + ':' + #baseMag")
+  public FlameOutcomeModel getModel(
+      FlameEquipCategory category,
+      FlameType flameType,
+      int level,
+      FlameScoreCalculator.JobWeights weights,
+      int baseAtt,
+      int baseMag) {
+    List<SparsePmf> optionPmfs =
+        scoreCalculator.buildOptionSparsePmfs(
+            category, flameType, level, weights, baseAtt, baseMag);
+    FlameOutcomeModel model = dpCalculator.buildModel(optionPmfs, category.isBossDrop());
+
+    log.debug(
+        "[FlameModel] 생성: category={}, flameType={}, level={}, options={}, survival={}",
+        category,
+        flameType,
+        level,
+        optionPmfs.size(),
+        model.hasSurvival());
+    return model;
+  }
+}
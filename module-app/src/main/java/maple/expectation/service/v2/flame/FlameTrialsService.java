@@ -5,6 +5,7 @@ import maple.expectation.core.domain.flame.FlameEquipCategory;
 import maple.expectation.core.domain.flame.FlameType;
 import maple.expectation.core.probability.FlameDpCalculator;
 import maple.expectation.core.probability.FlameScoreCalculator;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,6 +20,8 @@ import org.springframework.stereotype.Service;
  * <p>DIP 준수를 위해 {@link FlameTrialsProvider} 인터페이스를 구현합니다. V4 PresetCalculationHelper는 구체 클래스가 아닌
  * 인터페이스에 의존합니다.
  *
+ * <p>옵션 PMF와 생존 함수는 {@link FlameOutcomeModelProvider}에서 target 독립으로 캐싱되며, 여기서는 목표 환산치만 조회합니다.
+ *
  * @see FlameTrialsProvider 인터페이스
  * @see FlameDpCalculator DP 기반 계산 컴포넌트
  */
@@ -27,7 +30,7 @@ import org.springframework.stereotype.Service;
 public class FlameTrialsService implements FlameTrialsProvider {
 
   private final FlameDpCalculator dpCalculator;
-  private final FlameScoreCalculator scoreCalculator;
+  private final FlameOutcomeModelProvider modelProvider;
 
   @Override
   public Double calculateExpectedTrials(
@@ -38,10 +41,8 @@ public class FlameTrialsService implements FlameTrialsProvider {
       int target,
       int baseAtt,
       int baseMag) {
-    // Build option PMFs first using scoreCalculator
-    var optionPmfs =
-        scoreCalculator.buildOptionPmfs(category, flameType, level, weights, baseAtt, baseMag);
-    return dpCalculator.calculateExpectedTrials(
-        category, flameType, level, weights, target, baseAtt, baseMag, optionPmfs);
+    FlameOutcomeModel model =
+        modelProvider.getModel(category, flameType, level, weights, baseAtt, baseMag);
+    return dpCalculator.calculateExpectedTrials(model, target);
   }
 }
@@ -1,22 +1,18 @@
 package maple.expectation.service.v2.impl;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.calculator.CubeOptionRateTable;
 import maple.expectation.core.calculator.CubeRateCalculator;
-import maple.expectation.core.domain.model.CubeRate;
 import maple.expectation.domain.repository.CubeProbabilityRepository;
-import maple.expectation.domain.v2.CubeProbability;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.error.exception.UnsupportedCalculationEngineException;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
-import maple.expectation.infrastructure.util.PermutationUtil;
 import maple.expectation.service.v2.CubeTrialsProvider;
 import maple.expectation.service.v2.cube.component.CubeDpCalculator;
+import maple.expectation.service.v2.cube.component.CubeOptionRateTableProvider;
 import maple.expectation.service.v2.cube.component.DpModeInferrer;
 import maple.expectation.service.v2.cube.config.CubeEngineFeatureFlag;
 import org.springframework.stereotype.Service;
@@ -27,7 +23,7 @@ import org.springframework.stereotype.Service;
  * <h3>두 가지 엔진 지원</h3>
  *
  * <ul>
- *   <li><b>v1 (순열)</b>: 기존 PermutationUtil 기반 O(N!) 방식
+ *   <li><b>v1 (조합)</b>: 옵션 → 슬롯별 확률 테이블 기반 다중집합 배치 합산
  *   <li><b>v2 (DP)</b>: 새로운 Convolution 기반 O(slots × target × K) 방식
  * </ul>
  *
@@ -49,6 +45,7 @@ public class CubeServiceImpl implements CubeTrialsProvider {
   private final CubeEngineFeatureFlag featureFlag;
   private final LogicExecutor executor;
   private final DpModeInferrer dpModeInferrer;
+  private final CubeOptionRateTableProvider rateTableProvider;
 
   @Override
   public Double calculateExpectedTrials(CubeCalculationInput input, CubeType type) {
@@ -85,7 +82,7 @@ public class CubeServiceImpl implements CubeTrialsProvider {
 
     Double v2Result =
         executor.execute(
-            () -> dpCalculator.calculateWithCache(input, type, tableVersion),
+            () -> calculateDp(input, type, tableVersion),
             TaskContext.of("CubeService", "CalculateDP", input.getTargetStatType().name()));
 
     if (featureFlag.isShadowEnabled()) {
@@ -96,6 +93,14 @@ public class CubeServiceImpl implements CubeTrialsProvider {
     return v2Result;
   }
 
+  /** DP 계산 모드 선택: 생존 함수 캐시(target 독립) 또는 minTotal별 스칼라 캐시 */
+  private Double calculateDp(CubeCalculationInput input, CubeType type, String tableVersion) {
+    if (featureFlag.isSurvivalCacheEnabled()) {
+      return dpCalculator.calculateWithSurvivalCache(input, type, tableVersion);
+    }
+    return dpCalculator.calculateWithCache(input, type, tableVersion);
+  }
+
   /** v1 엔진 활성 (flag OFF) - v1 결과 반환 - shadow=true면 v2도 계산하여 비교 로깅 */
   private Double calculateWithV1AndShadow(CubeCalculationInput input, CubeType type) {
     Double v1Result = calculateWithV1Engine(input, type);
@@ -104,7 +109,7 @@ public class CubeServiceImpl implements CubeTrialsProvider {
       String tableVersion = repository.getCurrentTableVersion();
       Double v2Result =
           executor.executeOrDefault(
-              () -> dpCalculator.calculateWithCache(input, type, tableVersion),
+              () -> calculateDp(input, type, tableVersion),
               null,
               TaskContext.of("CubeService", "ShadowDP", input.getTargetStatType().name()));
       if (v2Result != null) {
@@ -115,7 +120,7 @@ public class CubeServiceImpl implements CubeTrialsProvider {
     return v1Result;
   }
 
-  /** v1 엔진: 순열 기반 계산 (기존 로직) */
+  /** v1 엔진: 다중집합 조합 기반 계산 */
   private Double calculateWithV1Engine(CubeCalculationInput input, CubeType type) {
     if (!input.isReady()) {
       return 0.0;
@@ -127,7 +132,9 @@ public class CubeServiceImpl implements CubeTrialsProvider {
   }
 
   /**
-   * v1 기대 시도 횟수 계산 (순열 기반)
+   * v1 기대 시도 횟수 계산 (다중집합 조합 기반)
+   *
+   * <p>목표 옵션의 서로 다른 슬롯 배치 확률을 합산 (순열 Set 생성 없음)
    *
    * <p>반환값: raw 1/p (v2와 동일한 의미)
    *
@@ -136,57 +143,21 @@ public class CubeServiceImpl implements CubeTrialsProvider {
    * <p>UI 반올림은 Controller/View 레이어에서 처리
    */
   private Double doCalculateV1(CubeCalculationInput input, CubeType type) {
-    List<String> targetOptions = new ArrayList<>(input.getOptions());
-    Set<List<String>> permutations = PermutationUtil.generateUniquePermutations(targetOptions);
-    double totalProbability = 0.0;
-
-    for (List<String> caseOptions : permutations) {
-      double caseProb = calculateCaseProbability(input, type, caseOptions);
-      totalProbability += caseProb;
-    }
+    CubeOptionRateTable table =
+        rateTableProvider.getTable(
+            type,
+            input.getLevel(),
+            input.getPart(),
+            input.getGrade(),
+            repository.getCurrentTableVersion());
+    double totalProbability =
+        rateCalculator.calculateMultisetProbability(input.getOptions(), table);
 
     // P0: raw 1/p 반환 (v2와 의미 통일)
     // p=0 → +∞ (불가능한 조합 = 무한대 시도 필요)
     return (totalProbability > 0) ? (1.0 / totalProbability) : Double.POSITIVE_INFINITY;
   }
 
-  private double calculateCaseProbability(
-      CubeCalculationInput input, CubeType type, List<String> caseOptions) {
-    // Fetch probabilities for this cube type and level
-    var coreType = type.toCore();
-    List<CubeProbability> v2Probabilities =
-        repository.findProbabilities(type, input.getLevel(), input.getPart(), input.getGrade(), 0);
-
-    // Convert v2.CubeProbability to core.CubeRate
-    List<CubeRate> coreRates =
-        v2Probabilities.stream()
-            .map(
-                p ->
-                    new CubeRate(
-                        coreType,
-                        p.getOptionName(),
-                        p.getRate(),
-                        p.getSlot(),
-                        p.getGrade(),
-                        p.getLevel(),
-                        p.getPart()))
-            .toList();
-
-    double caseProb = 1.0;
-    for (int i = 0; i < 3; i++) {
-      caseProb *=
-          rateCalculator.getOptionRate(
-              coreType,
-              input.getLevel(),
-              input.getPart(),
-              input.getGrade(),
-              i + 1,
-              caseOptions.get(i),
-              coreRates);
-    }
-    return caseProb;
-  }
-
   private void logDrift(
       String mode, Double v1, Double v2, CubeCalculationInput input, String tableVersion) {
     if (v1 == null || v2 == null) {
@@ -0,0 +1,238 @@
+package maple.expectation.service.v2.starforce;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Starforce 기대 비용 밀집 테이블 (primitive double[] 레이아웃)
+ *
+ * <h3>인덱스 구성</h3>
+ *
+ * <pre>
+ * index = flags * perFlagSize + levelOffset[level] + target*(target-1)/2 + current
+ *
+ * flags  : starCatch(bit0) | sundayMaple(bit1) | discount(bit2) | destroyPrevention(bit3)
+ * level  : 0..MAX_LEVEL (비용이 L³에 비례하므로 레벨 구간이 아닌 정확한 레벨)
+ * pair   : 0 <= current < target <= maxStar(level) 삼각 배치
+ * </pre>
+ *
+ * <h3>저장 형식 (스냅샷)</h3>
+ *
+ * <pre>
+ * [magic:int][formatVersion:int][fingerprint:long][entryCount:int][padding:int]
+ * [double × entryCount]
+ * </pre>
+ *
+ * <p>스냅샷은 읽기 전용으로 메모리 매핑하므로 힙을 사용하지 않고, 조회는 문자열/해시 없이 배열 인덱스 한 번이다. 절대 위치 get만 사용하므로
+ * 동시 조회에 안전하다.
+ */
+public final class StarforceDenseTable {
+
+  /** 테이블에 포함되는 최대 아이템 레벨 (초과 레벨은 on-the-fly 계산) */
+  public static final int MAX_LEVEL = 300;
+
+  /** 옵션 플래그 조합 수 (2^4) */
+  public static final int FLAG_COMBINATIONS = 16;
+
+  private static final int MAGIC = 0x53464C54; // "SFLT"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_BYTES = 24;
+
+  private final int[] levelOffsets;
+  private final int perFlagSize;
+  private final long fingerprint;
+  private final ByteBuffer storage;
+  private final DoubleBuffer values;
+
+  /** 목표 스타 하나에 대해 current = 0..target-1 기대 비용을 채우는 계산기 */
+  @FunctionalInterface
+  public interface ExpectedCostFiller {
+
+    /**
+     * @param level 아이템 레벨
+     * @param flags 옵션 플래그 ({@link #flags})
+     * @param targetStar 목표 스타 (1 이상)
+     * @param out out[current] = 기대 비용 (current &lt; targetStar)
+     */
+    void fill(int level, int flags, int targetStar, double[] out);
+  }
+
+  private StarforceDenseTable(int[] maxStarByLevel, long fingerprint, ByteBuffer storage) {
+    this.levelOffsets = computeLevelOffsets(maxStarByLevel);
+    this.perFlagSize = levelOffsets[MAX_LEVEL + 1];
+    this.fingerprint = fingerprint;
+    this.storage = storage;
+    this.values = storage.slice(HEADER_BYTES, storage.capacity() - HEADER_BYTES).asDoubleBuffer();
+  }
+
+  /**
+   * 옵션 플래그 인코딩
+   *
+   * @return 0..15
+   */
+  public static int flags(
+      boolean starCatch, boolean sundayMaple, boolean discount, boolean destroyPrevention) {
+    return (starCatch ? 1 : 0)
+        | (sundayMaple ? 2 : 0)
+        | (discount ? 4 : 0)
+        | (destroyPrevention ? 8 : 0);
+  }
+
+  /**
+   * 전체 테이블 생성 (힙 버퍼)
+   *
+   * @param maxStarByLevel 레벨별 최대 스타 (길이 MAX_LEVEL + 1)
+   * @param fingerprint 확률/비용 테이블 지문 (스냅샷 무효화 판단용)
+   * @param filler 마르코프 체인 기대 비용 계산기
+   * @return 생성된 테이블
+   */
+  public static StarforceDenseTable build(
+      int[] maxStarByLevel, long fingerprint, ExpectedCostFiller filler) {
+    int[] offsets = computeLevelOffsets(maxStarByLevel);
+    int entries = offsets[MAX_LEVEL + 1] * FLAG_COMBINATIONS;
+    ByteBuffer storage = ByteBuffer.allocate(HEADER_BYTES + entries * Double.BYTES);
+    writeHeader(storage, fingerprint, entries);
+
+    StarforceDenseTable table = new StarforceDenseTable(maxStarByLevel, fingerprint, storage);
+    double[] row = new double[maxStar(maxStarByLevel) + 1];
+    for (int flags = 0; flags < FLAG_COMBINATIONS; flags++) {
+      for (int level = 0; level <= MAX_LEVEL; level++) {
+        for (int target = 1; target <= maxStarByLevel[level]; target++) {
+          filler.fill(level, flags, target, row);
+          int base = table.indexOf(flags, level, 0, target);
+          for (int current = 0; current < target; current++) {
+            table.values.put(base + current, row[current]);
+          }
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * 스냅샷 메모리 매핑
+   *
+   * @param path 스냅샷 경로
+   * @param maxStarByLevel 레벨별 최대 스타
+   * @param expectedFingerprint 현재 테이블 지문
+   * @return 매핑된 테이블, 파일이 없거나 형식/지문/크기가 다르면 null
+   * @throws IOException 파일 읽기 실패 시
+   */
+  public static StarforceDenseTable map(
+      Path path, int[] maxStarByLevel, long expectedFingerprint) throws IOException {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    int entries = computeLevelOffsets(maxStarByLevel)[MAX_LEVEL + 1] * FLAG_COMBINATIONS;
+    long expectedBytes = HEADER_BYTES + (long) entries * Double.BYTES;
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() != expectedBytes) {
+        return null;
+      }
+      ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedBytes);
+      if (mapped.getInt(0) != MAGIC
+          || mapped.getInt(4) != FORMAT_VERSION
+          || mapped.getLong(8) != expectedFingerprint
+          || mapped.getInt(16) != entries) {
+        return null;
+      }
+      return new StarforceDenseTable(maxStarByLevel, expectedFingerprint, mapped);
+    }
+  }
+
+  /**
+   * 스냅샷 기록 (임시 파일 → 원자적 이동)
+   *
+   * @param path 스냅샷 경로
+   * @throws IOException 파일 쓰기 실패 시
+   */
+  public void writeSnapshot(Path path) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      ByteBuffer source = storage.duplicate().clear();
+      while (source.hasRemaining()) {
+        channel.write(source);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * 기대 비용 조회 (배열 인덱스 1회)
+   *
+   * <p>호출자가 0 &lt;= current &lt; target &lt;= maxStar(level), 0 &lt;= level &lt;= MAX_LEVEL을
+   * 보장해야 한다.
+   */
+  public double get(int flags, int level, int currentStar, int targetStar) {
+    return values.get(indexOf(flags, level, currentStar, targetStar));
+  }
+
+  /** 테이블 조회 가능 레벨 여부 */
+  public static boolean covers(int level) {
+    return level >= 0 && level <= MAX_LEVEL;
+  }
+
+  /** 엔트리 수 */
+  public int entryCount() {
+    return perFlagSize * FLAG_COMBINATIONS;
+  }
+
+  /** 메모리 매핑 여부 (false면 힙 버퍼) */
+  public boolean isMapped() {
+    return storage.isDirect();
+  }
+
+  /** 테이블 지문 */
+  public long fingerprint() {
+    return fingerprint;
+  }
+
+  private int indexOf(int flags, int level, int currentStar, int targetStar) {
+    return flags * perFlagSize
+        + levelOffsets[level]
+        + targetStar * (targetStar - 1) / 2
+        + currentStar;
+  }
+
+  private static int[] computeLevelOffsets(int[] maxStarByLevel) {
+    int[] offsets = new int[MAX_LEVEL + 2];
+    for (int level = 0; level <= MAX_LEVEL; level++) {
+      int maxStar = maxStarByLevel[level];
+      offsets[level + 1] = offsets[level] + maxStar * (maxStar + 1) / 2;
+    }
+    return offsets;
+  }
+
+  private static int maxStar(int[] maxStarByLevel) {
+    int max = 0;
+    for (int level = 0; level <= MAX_LEVEL; level++) {
+      max = Math.max(max, maxStarByLevel[level]);
+    }
+    return max;
+  }
+
+  private static void writeHeader(ByteBuffer storage, long fingerprint, int entries) {
+    storage.putInt(0, MAGIC);
+    storage.putInt(4, FORMAT_VERSION);
+    storage.putLong(8, fingerprint);
+    storage.putInt(16, entries);
+    storage.putInt(20, 0);
+  }
+}
@@ -102,6 +102,34 @@ public interface StarforceLookupTable {
       boolean useDiscount,
       boolean useDestroyPrevention);
 
+  /**
+   * 옵션별 기대 비용 (메소 단위 정수)
+   *
+   * <p>{@link #getExpectedCost(int, int, int, boolean, boolean, boolean, boolean)}와 같은 값(HALF_UP
+   * 반올림)을 BigDecimal 없이 반환합니다. V4 계산 체인처럼 비용을 primitive로 누적하는 경로용입니다.
+   *
+   * @return 기대 비용 (메소)
+   */
+  long getExpectedCostMeso(
+      int currentStar,
+      int targetStar,
+      int itemLevel,
+      boolean useStarCatch,
+      boolean useSundayMaple,
+      boolean useDiscount,
+      boolean useDestroyPrevention);
+
+  /**
+   * 기본 옵션 기대 비용 (메소 단위 정수)
+   *
+   * <p>{@link #getExpectedCost(int, int, int)}의 primitive 버전입니다.
+   *
+   * @return 기대 비용 (메소)
+   */
+  default long getExpectedCostMeso(int currentStar, int targetStar, int itemLevel) {
+    return getExpectedCostMeso(currentStar, targetStar, itemLevel, true, true, true, false);
+  }
+
   /**
    * 기대 파괴 횟수 계산
    *
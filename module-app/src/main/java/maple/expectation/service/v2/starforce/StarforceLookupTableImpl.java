@@ -2,12 +2,15 @@ package maple.expectation.service.v2.starforce;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -38,10 +41,18 @@ import org.springframework.stereotype.Component;
  *   <li>30% 할인: 강화비용 30% 할인
  *   <li>파괴방지 (15-17성): 비용 3배, 파괴율 0%
  * </ul>
+ *
+ * <h3>밀집 테이블 ({@link StarforceDenseTable})</h3>
+ *
+ * <ul>
+ *   <li>레벨(0~300) × 옵션 16조합 × (현재, 목표) 전 구간을 double[]로 물리화 - 조회는 배열 인덱스 1회
+ *   <li>스냅샷 파일이 있으면 시작 시 메모리 매핑만 수행 (수 ms)
+ *   <li>없으면 백그라운드에서 생성 후 스냅샷 기록, 완료 전 조회는 동일 식으로 on-the-fly 계산
+ *   <li>확률/비용 테이블 또는 계산 로직 버전 변경 시 지문(fingerprint) 불일치로 스냅샷 자동 재생성
+ * </ul>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class StarforceLookupTableImpl implements StarforceLookupTable {
 
   private static final int MAX_STAR = 30;
@@ -82,31 +93,117 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
     {94, 5}, {107, 8}, {117, 10}, {127, 15}, {137, 20}, {Integer.MAX_VALUE, 30}
   };
 
+  /**
+   * 기대 비용 계산 로직 버전
+   *
+   * <p>테이블 값이 같아도 계산식(마르코프 체인 전이, 스타캐치/파괴방지/할인 적용, 단일 강화 비용식)을 바꾸면 반드시 올릴 것. 지문에 포함되어
+   * 이전 로직으로 만든 스냅샷을 무효화합니다. ({@code StarforceDenseTable.FORMAT_VERSION}은 파일 레이아웃만 추적)
+   */
+  private static final int ALGORITHM_VERSION = 1;
+
+  /** 계산 로직 버전 + 확률/비용 테이블 지문 - 하나라도 바뀌면 기존 스냅샷은 무효 */
+  private static final long TABLE_FINGERPRINT = computeFingerprint();
+
   private final LogicExecutor executor;
+  private final Path snapshotPath;
 
-  private final ConcurrentHashMap<String, BigDecimal> expectedCostCache = new ConcurrentHashMap<>();
   private final AtomicBoolean initialized = new AtomicBoolean(false);
+  private volatile StarforceDenseTable denseTable;
 
+  /**
+   * @param executor LogicExecutor
+   * @param snapshotPath 밀집 테이블 스냅샷 경로 (빈 값이면 스냅샷 없이 메모리에만 생성)
+   */
+  @Autowired
+  public StarforceLookupTableImpl(
+      LogicExecutor executor, @Value("${starforce.lookup.snapshot-path:}") String snapshotPath) {
+    this.executor = executor;
+    this.snapshotPath =
+        snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+  }
+
+  /** 스냅샷 미사용 (벤치마크/테스트용) */
+  public StarforceLookupTableImpl(LogicExecutor executor) {
+    this(executor, null);
+  }
+
+  /**
+   * 초기화 (readiness 비차단)
+   *
+   * <p>유효한 스냅샷이 있으면 메모리 매핑 후 즉시 반환합니다. 없으면 밀집 테이블 생성을 백그라운드 가상 스레드로 넘기고 즉시 반환하며, 생성
+   * 완료 전까지의 조회는 on-the-fly 계산으로 동일한 값을 응답합니다.
+   */
   @Override
   public void initialize() {
-    if (initialized.compareAndSet(false, true)) {
-      executor.executeVoid(this::precomputeTables, TaskContext.of("Starforce", "Initialize"));
+    if (!initialized.compareAndSet(false, true)) {
+      return;
+    }
+    TaskContext context = TaskContext.of("Starforce", "Initialize");
+    StarforceDenseTable mapped = executor.executeOrDefault(this::mapSnapshot, null, context);
+    if (mapped != null) {
+      denseTable = mapped;
       log.info(
-          "[Starforce] Lookup table initialized (Markov Chain). Cache size: {}",
-          expectedCostCache.size());
+          "[Starforce] Dense table mapped from snapshot: path={}, entries={}",
+          snapshotPath,
+          mapped.entryCount());
+      return;
     }
+
+    Thread.ofVirtual()
+        .name("starforce-dense-table-build")
+        .start(
+            () ->
+                executor.executeOrDefault(
+                    this::buildAndPublish, null, TaskContext.of("Starforce", "BuildDenseTable")));
+    log.info("[Starforce] Dense table build scheduled in background (snapshot={})", snapshotPath);
   }
 
-  private void precomputeTables() {
-    // Pre-compute expected costs for common combinations
-    int[] levels = {100, 110, 120, 130, 140, 150, 160, 200, 250};
-    for (int level : levels) {
-      int maxStar = getMaxStarForLevel(level);
-      // 기본 옵션 (스타캐치 O, 썬데이 O, 할인 O, 파괴방지 X)
-      computeAndCache(0, maxStar, level, true, true, true, false);
-      // 파괴방지 O
-      computeAndCache(0, maxStar, level, true, true, true, true);
+  /** 밀집 테이블 준비 여부 (false면 on-the-fly 계산 중) */
+  public boolean isDenseTableReady() {
+    return denseTable != null;
+  }
+
+  private StarforceDenseTable mapSnapshot() throws Exception {
+    if (snapshotPath == null) {
+      return null;
+    }
+    return StarforceDenseTable.map(snapshotPath, maxStarByLevel(), TABLE_FINGERPRINT);
+  }
+
+  private StarforceDenseTable buildAndPublish() throws Exception {
+    long start = System.nanoTime();
+    StarforceDenseTable built =
+        StarforceDenseTable.build(maxStarByLevel(), TABLE_FINGERPRINT, this::fillExpectedCosts);
+    denseTable = built;
+    log.info(
+        "[Starforce] Dense table built: entries={}, elapsedMs={}",
+        built.entryCount(),
+        (System.nanoTime() - start) / 1_000_000);
+
+    if (snapshotPath != null) {
+      built.writeSnapshot(snapshotPath);
+      log.info("[Starforce] Dense table snapshot written: {}", snapshotPath);
     }
+    return built;
+  }
+
+  private int[] maxStarByLevel() {
+    int[] maxStars = new int[StarforceDenseTable.MAX_LEVEL + 1];
+    for (int level = 0; level <= StarforceDenseTable.MAX_LEVEL; level++) {
+      maxStars[level] = getMaxStarForLevel(level);
+    }
+    return maxStars;
+  }
+
+  private static long computeFingerprint() {
+    long h = 17;
+    h = 31 * h + ALGORITHM_VERSION;
+    h = 31 * h + Arrays.hashCode(BASE_SUCCESS_RATES);
+    h = 31 * h + Arrays.hashCode(BASE_DESTROY_RATES);
+    h = 31 * h + Arrays.hashCode(COST_DIVISORS);
+    h = 31 * h + Arrays.deepHashCode(LEVEL_STAR_LIMITS);
+    h = 31 * h + DESTROY_RESET_STAR;
+    return h;
   }
 
   @Override
@@ -124,19 +221,7 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
     return getExpectedCost(currentStar, targetStar, itemLevel, true, true, true, false);
   }
 
-  /**
-   * 마르코프 체인 기대값 계산 (#240 V4: 2025년 3월 개편 기준)
-   *
-   * <h3>핵심 로직</h3>
-   *
-   * <pre>
-   * E[s] = (C[s] + p*E[s+1] + d*E[12]) / (p+d)
-   *
-   * 순환참조 해결:
-   * E[s] = a[s]*E[12] + b[s]
-   * E[12] = b[12] / (1 - a[12])
-   * </pre>
-   */
+  /** {@link #getExpectedCostMeso}의 BigDecimal 래퍼 */
   @Override
   public BigDecimal getExpectedCost(
       int currentStar,
@@ -146,6 +231,27 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
       boolean useSundayMaple,
       boolean useDiscount,
       boolean useDestroyPrevention) {
+    return BigDecimal.valueOf(
+        getExpectedCostMeso(
+            currentStar,
+            targetStar,
+            itemLevel,
+            useStarCatch,
+            useSundayMaple,
+            useDiscount,
+            useDestroyPrevention));
+  }
+
+  /** 기대 비용 본체: 밀집 테이블 또는 마르코프 체인 값을 메소 단위로 HALF_UP 반올림 */
+  @Override
+  public long getExpectedCostMeso(
+      int currentStar,
+      int targetStar,
+      int itemLevel,
+      boolean useStarCatch,
+      boolean useSundayMaple,
+      boolean useDiscount,
+      boolean useDestroyPrevention) {
     int maxStar = getMaxStarForLevel(itemLevel);
     if (targetStar > maxStar) {
       targetStar = maxStar;
@@ -153,52 +259,54 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
     validateStarRange(currentStar, targetStar, maxStar);
 
     if (currentStar >= targetStar) {
-      return BigDecimal.ZERO;
+      return 0L;
     }
 
-    // 캐시 키
-    String key =
-        cacheKey(
-            currentStar,
-            targetStar,
-            itemLevel,
-            useStarCatch,
-            useSundayMaple,
-            useDiscount,
-            useDestroyPrevention);
-    BigDecimal cached = expectedCostCache.get(key);
-    if (cached != null) {
-      return cached;
-    }
+    int flags =
+        StarforceDenseTable.flags(useStarCatch, useSundayMaple, useDiscount, useDestroyPrevention);
 
-    // 마르코프 체인 기대값 계산
-    BigDecimal result =
-        computeMarkovExpectedCost(
-            currentStar,
-            targetStar,
-            itemLevel,
-            useStarCatch,
-            useSundayMaple,
-            useDiscount,
-            useDestroyPrevention);
+    // 밀집 테이블: 배열 인덱스 1회 (문자열 키/해시 없음)
+    StarforceDenseTable table = denseTable;
+    double expectedCost =
+        table != null && StarforceDenseTable.covers(itemLevel)
+            ? table.get(flags, itemLevel, currentStar, targetStar)
+            : computeMarkovExpectedCost(currentStar, targetStar, itemLevel, flags);
 
-    expectedCostCache.put(key, result);
-    return result;
+    return CostRounding.roundHalfUp(expectedCost);
   }
 
   /**
-   * 마르코프 체인 기대값 계산 (순환참조 해결)
+   * 마르코프 체인 기대값 계산 (#240 V4: 2025년 3월 개편 기준)
    *
-   * <p>E[s] = a[s]*E[12] + b[s] 형태로 표현 후, E[12] = b[12] / (1 - a[12])로 닫아서 해결
+   * <h3>핵심 로직</h3>
+   *
+   * <pre>
+   * E[s] = (C[s] + p*E[s+1] + d*E[12]) / (p+d)
+   *
+   * 순환참조 해결:
+   * E[s] = a[s]*E[12] + b[s]
+   * E[12] = b[12] / (1 - a[12])
+   * </pre>
    */
-  private BigDecimal computeMarkovExpectedCost(
-      int currentStar,
-      int targetStar,
-      int itemLevel,
-      boolean useStarCatch,
-      boolean useSundayMaple,
-      boolean useDiscount,
-      boolean useDestroyPrevention) {
+  private double computeMarkovExpectedCost(
+      int currentStar, int targetStar, int itemLevel, int flags) {
+    double[] expected = new double[targetStar];
+    fillExpectedCosts(itemLevel, flags, targetStar, expected);
+    return expected[currentStar];
+  }
+
+  /**
+   * 목표 스타 T에 대해 모든 현재 스타(0..T-1)의 기대 비용 계산
+   *
+   * <p>a[s], b[s]는 T에만 의존하므로 한 번의 역순 루프로 T개의 기대값을 모두 얻는다 (밀집 테이블 생성 시 사용).
+   *
+   * @param out out[s] = E[s] (s &lt; T)
+   */
+  private void fillExpectedCosts(int itemLevel, int flags, int targetStar, double[] out) {
+    boolean useStarCatch = (flags & 1) != 0;
+    boolean useSundayMaple = (flags & 2) != 0;
+    boolean useDiscount = (flags & 4) != 0;
+    boolean useDestroyPrevention = (flags & 8) != 0;
     int T = targetStar;
 
     // a[s], b[s] 배열: E[s] = a[s]*E[12] + b[s]
@@ -212,7 +320,6 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
           getStageParams(
               s, itemLevel, useStarCatch, useSundayMaple, useDiscount, useDestroyPrevention);
       double p = params[0]; // 성공확률
-      double m = params[1]; // 유지확률 (사용 안함, p+d로 계산)
       double d = params[2]; // 파괴확률
       double c = params[3]; // 비용
 
@@ -249,10 +356,10 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
       }
     }
 
-    // E[currentStar] = a[currentStar]*E[12] + b[currentStar]
-    double result = a[currentStar] * E12 + b[currentStar];
-
-    return BigDecimal.valueOf(result).setScale(0, RoundingMode.HALF_UP);
+    // E[s] = a[s]*E[12] + b[s]
+    for (int s = 0; s < T; s++) {
+      out[s] = a[s] * E12 + b[s];
+    }
   }
 
   /**
@@ -434,21 +541,6 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
     return BigDecimal.valueOf(result).setScale(2, RoundingMode.HALF_UP);
   }
 
-  private void computeAndCache(
-      int currentStar,
-      int targetStar,
-      int level,
-      boolean starCatch,
-      boolean sunday,
-      boolean discount,
-      boolean destroyPrev) {
-    String key = cacheKey(currentStar, targetStar, level, starCatch, sunday, discount, destroyPrev);
-    BigDecimal cost =
-        computeMarkovExpectedCost(
-            currentStar, targetStar, level, starCatch, sunday, discount, destroyPrev);
-    expectedCostCache.put(key, cost);
-  }
-
   private void validateStarRange(int currentStar, int targetStar, int maxStar) {
     if (currentStar < 0 || currentStar > maxStar) {
       throw new IllegalArgumentException("Invalid current star: " + currentStar);
@@ -458,19 +550,6 @@ public class StarforceLookupTableImpl implements StarforceLookupTable {
     }
   }
 
-  private String cacheKey(
-      int currentStar,
-      int targetStar,
-      int level,
-      boolean starCatch,
-      boolean sunday,
-      boolean discount,
-      boolean destroyPrev) {
-    return String.format(
-        "%d-%d-%d-%b-%b-%b-%b",
-        currentStar, targetStar, level, starCatch, sunday, discount, destroyPrev);
-  }
-
   /** 10 단위로 반올림 (메이플스토리 스타포스 비용 표시 기준) */
   private double roundToNearest10(double value) {
     return Math.floor((value + 5) / 10.0) * 10;
@@ -2,6 +2,7 @@ package maple.expectation.service.v2.worker;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
 import maple.expectation.infrastructure.external.dto.v2.EquipmentResponse;
 import maple.expectation.service.v2.shutdown.PersistenceTrackerStrategy;
+import maple.expectation.util.PresetDictionaryCodec;
 import maple.expectation.util.StringMaskingUtils;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -95,21 +97,22 @@ public class EquipmentDbWorker {
   // ==================== DB 조회 API (SRP: DB 계층 전담) ====================
 
   /**
-   * 유효한 DB 데이터 조회 (Rich Domain Model)
+   * 유효한 DB 데이터 조회 (압축 바이트 그대로)
    *
-   * <p>Issue #120: CharacterEquipment.isFresh(Duration)를 사용하여 TTL 체크
+   * <p>압축 컬럼만 projection으로 읽어 엔티티 로드·String 변환 없이 반환합니다. 스트리밍 파서가 사전 프레임/GZIP을 직접 해제합니다.
    *
    * @param ocid 캐릭터 OCID
-   * @return 유효한 JSON 데이터 (없거나 만료되면 empty)
+   * @return 15분 TTL 내 압축 JSON (사전 프레임 또는 기존 GZIP, 없거나 만료되면 empty)
    */
   @Transactional(readOnly = true)
-  public Optional<String> findValidJson(String ocid) {
+  public Optional<byte[]> findValidCompressed(String ocid) {
     return executor.execute(
         () -> {
-          Optional<CharacterEquipment> result =
+          Optional<byte[]> result =
               repository
-                  .findById(CharacterId.of(ocid))
-                  .filter(equipment -> equipment.isFresh(DB_TTL)); // Rich Domain
+                  .findCompressedContentUpdatedAfter(
+                      CharacterId.of(ocid), LocalDateTime.now().minus(DB_TTL))
+                  .filter(compressed -> compressed.length > 0);
 
           if (result.isPresent()) {
             log.debug(
@@ -118,39 +121,37 @@ public class EquipmentDbWorker {
             log.debug(
                 "[EquipmentDb] DB MISS or TTL expired: ocid={}", StringMaskingUtils.maskOcid(ocid));
           }
-
-          return result
-              .filter(CharacterEquipment::hasData) // Rich Domain
-              .map(CharacterEquipment::jsonContent);
+          return result;
         },
         TaskContext.of("EquipmentDb", "FindValid", ocid));
   }
 
-  // ==================== Raw JSON 저장 API (Expectation 경로용) ====================
+  // ==================== 압축 원문 저장 API (Expectation 경로용) ====================
 
   /**
-   * Raw JSON 비동기 저장 (Expectation 경로 전용)
-   *
-   * <p>EquipmentResponse 직렬화 없이 이미 직렬화된 JSON을 저장
+   * 압축 원문 비동기 저장 (Expectation 경로 전용)
    *
-   * <p>Nexon API 호출 후 DB에 저장하여 다음 요청에서 API 호출 최소화
+   * <p>캐시 경로의 GZIP(또는 압축 비활성화 환경의 평문) 바이트를 저장 전에 프리셋 사전 프레임으로 변환합니다. 이미 현재 버전
+   * 사전 프레임이면 그대로 저장합니다. 비동기 저장이므로 변환 비용은 응답 경로에 포함되지 않습니다.
    *
    * @param ocid 캐릭터 OCID
-   * @param json 저장할 JSON 문자열
+   * @param data GZIP 압축 JSON (또는 평문 JSON 바이트)
    * @return 완료 Future
    */
   @Async
   @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public CompletableFuture<Void> persistRawJson(String ocid, String json) {
+  public CompletableFuture<Void> persistCompressed(String ocid, byte[] data) {
     CompletableFuture<Void> future = new CompletableFuture<>();
-    TaskContext context = TaskContext.of("EquipmentDb", "PersistRaw", ocid);
+    TaskContext context = TaskContext.of("EquipmentDb", "PersistCompressed", ocid);
 
     persistenceTracker.trackOperation(ocid, future);
 
     return executor.executeOrCatch(
         () -> {
-          performRawSave(ocid, json);
-          log.debug("💾 [DB Save] Raw JSON saved: ocid={}", StringMaskingUtils.maskOcid(ocid));
+          byte[] compressed = PresetDictionaryCodec.transcode(data);
+          repository.saveCompressed(CharacterId.of(ocid), compressed);
+          log.debug(
+              "💾 [DB Save] Compressed JSON saved: ocid={}", StringMaskingUtils.maskOcid(ocid));
           future.complete(null);
           return future;
         },
@@ -165,14 +166,36 @@ public class EquipmentDbWorker {
         context);
   }
 
-  /** 헬퍼: Raw JSON 저장 로직 */
-  private void performRawSave(String ocid, String json) {
-    CharacterEquipment entity =
-        repository
-            .findById(CharacterId.of(ocid))
-            .orElseGet(() -> CharacterEquipment.createEmpty(CharacterId.of(ocid)));
+  /**
+   * 파싱 스냅샷 비동기 저장 (Expectation 경로 전용)
+   *
+   * <p>장비 JSON 행에 파싱 결과 스냅샷을 덧붙입니다. 실패해도 다음 계산이 JSON을 다시 파싱할 뿐이므로 경고만 남깁니다.
+   *
+   * @param ocid 캐릭터 OCID
+   * @param snapshot 바이너리 파싱 스냅샷
+   * @return 완료 Future
+   */
+  @Async
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public CompletableFuture<Void> persistSnapshot(String ocid, byte[] snapshot) {
+    TaskContext context = TaskContext.of("EquipmentDb", "PersistSnapshot", ocid);
 
-    CharacterEquipment updated = entity.withUpdatedData(json);
-    repository.save(updated);
+    return executor.executeOrCatch(
+        () -> {
+          repository.saveSnapshot(CharacterId.of(ocid), snapshot);
+          log.debug(
+              "💾 [DB Save] Equipment snapshot saved: ocid={} ({}B)",
+              StringMaskingUtils.maskOcid(ocid),
+              snapshot.length);
+          return CompletableFuture.<Void>completedFuture(null);
+        },
+        (e) -> {
+          log.warn(
+              "[DB Save] Equipment snapshot save failed: ocid={} | err={}",
+              StringMaskingUtils.maskOcid(ocid),
+              e.getMessage());
+          return CompletableFuture.<Void>completedFuture(null);
+        },
+        context);
   }
 }
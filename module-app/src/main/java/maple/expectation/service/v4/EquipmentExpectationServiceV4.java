@@ -7,7 +7,6 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.domain.cost.CostFormatter;
 import maple.expectation.domain.v2.GameCharacter;
@@ -19,10 +18,11 @@ import maple.expectation.infrastructure.aop.annotation.TraceLog;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.provider.EquipmentDataProvider;
-import maple.expectation.parser.EquipmentStreamingParser;
+import maple.expectation.parser.EquipmentPresetSet;
 import maple.expectation.service.v2.GameCharacterService;
 import maple.expectation.service.v2.facade.GameCharacterFacade;
 import maple.expectation.service.v2.starforce.StarforceLookupTable;
+import maple.expectation.service.v4.cache.EquipmentSnapshotResolver;
 import maple.expectation.service.v4.cache.ExpectationCacheCoordinator;
 import maple.expectation.service.v4.persistence.ExpectationPersistenceService;
 import org.springframework.beans.factory.ObjectProvider;
@@ -43,7 +43,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <h3>위임된 책임</h3>
  *
  * <ul>
- *   <li>프리셋 계산: {@link PresetCalculationHelper}
+ *   <li>프리셋 계산: {@link PresetCalculationPlanner} → {@link PresetCalculationHelper}
  *   <li>캐시 관리: {@link ExpectationCacheCoordinator}
  *   <li>영속성: {@link ExpectationPersistenceService}
  * </ul>
@@ -58,12 +58,11 @@ public class EquipmentExpectationServiceV4 {
   private final GameCharacterFacade gameCharacterFacade;
   private final GameCharacterService gameCharacterService;
   private final EquipmentDataProvider equipmentProvider;
-  private final EquipmentStreamingParser streamingParser;
-  private final PresetCalculationHelper presetHelper;
+  private final EquipmentSnapshotResolver snapshotResolver;
+  private final PresetCalculationPlanner calculationPlanner;
   private final StarforceLookupTable starforceLookupTable;
   private final LogicExecutor executor;
   private final Executor equipmentExecutor;
-  private final Executor presetExecutor;
   private final ExpectationCacheCoordinator cacheCoordinator;
   private final ExpectationPersistenceService persistenceService;
   private final ObjectProvider<EquipmentExpectationServiceV4> selfProvider;
@@ -72,24 +71,22 @@ public class EquipmentExpectationServiceV4 {
       GameCharacterFacade gameCharacterFacade,
       GameCharacterService gameCharacterService,
       EquipmentDataProvider equipmentProvider,
-      EquipmentStreamingParser streamingParser,
-      PresetCalculationHelper presetHelper,
+      EquipmentSnapshotResolver snapshotResolver,
+      PresetCalculationPlanner calculationPlanner,
       StarforceLookupTable starforceLookupTable,
       LogicExecutor executor,
       @Qualifier("equipmentProcessingExecutor") Executor equipmentExecutor,
-      @Qualifier("presetCalculationExecutor") Executor presetExecutor,
       ExpectationCacheCoordinator cacheCoordinator,
       ExpectationPersistenceService persistenceService,
       ObjectProvider<EquipmentExpectationServiceV4> selfProvider) {
     this.gameCharacterFacade = gameCharacterFacade;
     this.gameCharacterService = gameCharacterService;
     this.equipmentProvider = equipmentProvider;
-    this.streamingParser = streamingParser;
-    this.presetHelper = presetHelper;
+    this.snapshotResolver = snapshotResolver;
+    this.calculationPlanner = calculationPlanner;
     this.starforceLookupTable = starforceLookupTable;
     this.executor = executor;
     this.equipmentExecutor = equipmentExecutor;
-    this.presetExecutor = presetExecutor;
     this.cacheCoordinator = cacheCoordinator;
     this.persistenceService = persistenceService;
     this.selfProvider = selfProvider;
@@ -164,8 +161,11 @@ public class EquipmentExpectationServiceV4 {
           GameCharacter character = findCharacterBypassingWorker(userIgn);
           byte[] equipmentData =
               loadEquipmentDataAsync(character).join(); // TieredCache Callable 내부 → 동기 필요
+          EquipmentPresetSet presets =
+              snapshotResolver.resolve(
+                  character.getOcid(), equipmentData, storedSnapshot(character));
           List<PresetExpectation> presetResults =
-              calculateAllPresets(equipmentData, character.getCharacterClass());
+              calculateAllPresets(presets, character.getCharacterClass());
           PresetExpectation maxPreset = findMaxPreset(presetResults);
           persistenceService.saveResults(character.getId(), presetResults);
           return buildResponse(userIgn, maxPreset, presetResults, false);
@@ -231,45 +231,30 @@ public class EquipmentExpectationServiceV4 {
   /**
    * 장비 데이터 비동기 로드 (P0-2: .join() 블로킹 분리)
    *
-   * <p>DB에 캐시된 데이터가 있으면 즉시 반환, 없으면 API 비동기 호출
+   * <p>DB에 캐시된 데이터가 있으면 압축 바이트 그대로 즉시 반환 (String 변환 없음, 파서가 GZIP 스트림 직접 해제), 없으면 API 비동기
+   * 호출
    */
   private CompletableFuture<byte[]> loadEquipmentDataAsync(GameCharacter character) {
-    if (character.getEquipment() != null && character.getEquipment().getJsonContent() != null) {
-      return CompletableFuture.completedFuture(
-          character.getEquipment().getJsonContent().getBytes());
+    byte[] stored =
+        character.getEquipment() != null ? character.getEquipment().getCompressedContent() : null;
+    if (stored != null && stored.length > 0) {
+      return CompletableFuture.completedFuture(stored);
     }
     return equipmentProvider
         .getRawEquipmentData(character.getOcid())
         .orTimeout(DATA_LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
   }
 
-  // ==================== Preset Calculation ====================
-
-  private List<PresetExpectation> calculateAllPresets(byte[] equipmentData, String characterClass) {
-    byte[] decompressedData = streamingParser.decompressIfNeeded(equipmentData);
-
-    List<CompletableFuture<PresetExpectation>> futures =
-        IntStream.rangeClosed(1, 3)
-            .mapToObj(
-                presetNo ->
-                    CompletableFuture.supplyAsync(
-                        () -> {
-                          var cubeInputs =
-                              streamingParser.parseCubeInputsForPreset(decompressedData, presetNo);
-                          return presetHelper.calculatePreset(cubeInputs, presetNo, characterClass);
-                        },
-                        presetExecutor))
-            .toList();
-
-    return futures.stream()
-        .map(this::joinPresetFuture)
-        .filter(preset -> !preset.getItems().isEmpty())
-        .toList();
+  /** DB 행에 함께 저장된 파싱 스냅샷 (없으면 null) */
+  private byte[] storedSnapshot(GameCharacter character) {
+    return character.getEquipment() != null ? character.getEquipment().getSnapshot() : null;
   }
 
-  private PresetExpectation joinPresetFuture(CompletableFuture<PresetExpectation> future) {
-    return executor.execute(
-        () -> future.get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS),
-        TaskContext.of("V4", "PresetJoin"));
+  // ==================== Preset Calculation ====================
+
+  /** 스냅샷(또는 단일 패스 파싱)으로 얻은 프리셋별 목록 계산 (아이템 중복 제거 + 병렬) */
+  private List<PresetExpectation> calculateAllPresets(
+      EquipmentPresetSet presets, String characterClass) {
+    return calculationPlanner.calculateAll(presets, characterClass);
   }
 }
@@ -4,11 +4,13 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import maple.expectation.core.domain.flame.FlameEquipCategory;
 import maple.expectation.core.domain.flame.FlameType;
 import maple.expectation.core.probability.FlameScoreCalculator;
 import maple.expectation.domain.cost.CostFormatter;
+import maple.expectation.domain.cost.CostRounding;
 import maple.expectation.domain.equipment.SecondaryWeaponCategory;
 import maple.expectation.dto.CubeCalculationInput;
 import maple.expectation.dto.v4.EquipmentCalculationInput;
@@ -25,6 +27,7 @@ import maple.expectation.service.v2.flame.FlameInputResolver.FlameInput;
 import maple.expectation.service.v2.flame.FlameTrialsProvider;
 import maple.expectation.service.v2.starforce.StarforceLookupTable;
 import maple.expectation.service.v2.starforce.config.NoljangProbabilityTable;
+import maple.expectation.service.v4.cache.ItemExpectationCache;
 import org.springframework.stereotype.Component;
 
 /**
@@ -33,11 +36,14 @@ import org.springframework.stereotype.Component;
  * <h3>책임: 개별 프리셋 + 아이템 기대값 계산</h3>
  *
  * <ul>
- *   <li>프리셋 기대값 계산 (calculatePreset)
+ *   <li>아이템 기대값 계산 (calculateItem) / 프리셋 조립 (assemblePreset)
  *   <li>개별 아이템 빌드 (buildInput, buildItemResult)
  *   <li>스타포스/큐브 기대값 계산 (calculateStarforceExpectation, buildCubeExpectation)
  * </ul>
  *
+ * <p>잠재능력이 있는 아이템은 {@link ItemExpectationCache}를 거쳐, 같은 구성의 아이템(다른 프리셋·다른 캐릭터 포함)은 다시 계산하지
+ * 않습니다.
+ *
  * <h3>분해 근거</h3>
  *
  * <p>EquipmentExpectationServiceV4의 calculatePreset() 87줄을 각 20줄 이내의 6개 메서드로 분해하여 SRP 준수 (CLAUDE.md
@@ -51,41 +57,64 @@ public class PresetCalculationHelper {
   private final StarforceLookupTable starforceLookupTable;
   private final FlameTrialsProvider flameTrialsProvider;
   private final FlameInputResolver flameInputResolver;
+  private final ItemExpectationCache itemExpectationCache;
 
   /**
-   * 프리셋 기대값 계산
+   * 단일 아이템 기대값 계산
    *
-   * @param cubeInputs 프리셋의 큐브 입력 목록
-   * @param presetNo 프리셋 번호 (1~3)
+   * <p>결과는 프리셋과 무관하므로 여러 프리셋에 같은 아이템이 있어도 한 번만 계산하면 됩니다 ({@link PresetCalculationPlanner}).
+   *
+   * @param cubeInput 아이템 큐브 입력
+   * @param presetNo 아이템이 처음 등장한 프리셋 번호
    * @param characterClass 직업명 (환생의 불꽃 동적 계산용)
-   * @return 프리셋 기대값 결과
+   * @return 아이템 기대값 (잠재능력이 없으면 불꽃 기대값만 포함)
    */
-  public PresetExpectation calculatePreset(
-      List<CubeCalculationInput> cubeInputs, int presetNo, String characterClass) {
-    List<ItemExpectationV4> itemResults = new ArrayList<>();
-    BigDecimal totalCost = BigDecimal.ZERO;
-    CostBreakdownDto totalBreakdown = CostBreakdownDto.empty();
+  public ItemExpectationV4 calculateItem(
+      CubeCalculationInput cubeInput, int presetNo, String characterClass) {
+    if (!cubeInput.isReady()) {
+      return buildNoPotentialItem(cubeInput, presetNo, characterClass);
+    }
 
-    for (var cubeInput : cubeInputs) {
-      if (!cubeInput.isReady()) {
-        itemResults.add(buildNoPotentialItem(cubeInput, presetNo, characterClass));
-        continue;
-      }
+    EquipmentCalculationInput input = buildInput(cubeInput, presetNo);
+    FlameInput flameInput = flameInputResolver.resolve(cubeInput, characterClass);
+    return itemExpectationCache.getOrCompute(
+        input,
+        cubeInput.getSpecialRingLevel(),
+        flameInput,
+        () -> calculateSingleItem(input, cubeInput, flameInput));
+  }
 
-      EquipmentCalculationInput input = buildInput(cubeInput, presetNo);
-      ItemExpectationV4 itemResult = calculateSingleItem(input, cubeInput, characterClass);
+  /**
+   * 아이템 결과로 프리셋 기대값 조립
+   *
+   * @param presetNo 프리셋 번호 (1~3)
+   * @param cubeInputs 프리셋의 큐브 입력 목록
+   * @param itemResults 아이템별 계산 결과 (cubeInputs의 모든 아이템 포함)
+   * @return 프리셋 기대값 결과 (잠재능력 없는 아이템은 합계에서 제외)
+   */
+  public PresetExpectation assemblePreset(
+      int presetNo,
+      List<CubeCalculationInput> cubeInputs,
+      Map<CubeCalculationInput, ItemExpectationV4> itemResults) {
+    List<ItemExpectationV4> items = new ArrayList<>(cubeInputs.size());
+    PresetTotals totals = new PresetTotals();
 
-      itemResults.add(itemResult);
-      totalCost = totalCost.add(itemResult.getExpectedCost());
-      totalBreakdown = totalBreakdown.add(itemResult.getCostBreakdown());
+    for (var cubeInput : cubeInputs) {
+      ItemExpectationV4 itemResult = itemResults.get(cubeInput);
+      items.add(itemResult);
+      if (cubeInput.isReady()) {
+        totals.add(itemResult);
+      }
     }
 
     return PresetExpectation.builder()
         .presetNo(presetNo)
-        .totalExpectedCost(totalCost)
-        .totalCostText(CostFormatter.format(totalCost))
-        .costBreakdown(totalBreakdown)
-        .items(itemResults)
+        .totalExpectedCost(BigDecimal.valueOf(totals.cost))
+        .totalCostText(CostFormatter.format(totals.cost))
+        .costBreakdown(
+            CostBreakdownDto.of(
+                totals.blackCube, totals.redCube, totals.additionalCube, totals.starforce))
+        .items(items)
         .build();
   }
 
@@ -121,29 +150,28 @@ public class PresetCalculationHelper {
 
   /** 단일 아이템 기대값 계산 */
   private ItemExpectationV4 calculateSingleItem(
-      EquipmentCalculationInput input, CubeCalculationInput cubeInput, String characterClass) {
+      EquipmentCalculationInput input, CubeCalculationInput cubeInput, FlameInput flameInput) {
     EquipmentExpectationCalculator calculator = calculatorFactory.createFullCalculator(input);
-    BigDecimal itemCost = calculator.calculateCost();
+    long itemCost = calculator.calculateCost();
     var costBreakdown = calculator.getDetailedCosts();
 
     return buildItemResult(
-        input, cubeInput, itemCost, costBreakdown, calculator.getEnhancePath(), characterClass);
+        input, cubeInput, itemCost, costBreakdown, calculator.getEnhancePath(), flameInput);
   }
 
-  /** 아이템 기대값 결과 빌드 */
+  /** 아이템 기대값 결과 빌드 (메소 단위 비용 → BigDecimal 변환 경계) */
   private ItemExpectationV4 buildItemResult(
       EquipmentCalculationInput input,
       CubeCalculationInput cubeInput,
-      BigDecimal itemCost,
+      long itemCost,
       EquipmentExpectationCalculator.CostBreakdown costBreakdown,
       String enhancePath,
-      String characterClass) {
+      FlameInput flameInput) {
     StarforceExpectationDto starforceExpectation =
         calculateStarforceExpectation(
             input.getCurrentStar(), input.getTargetStar(), input.getItemLevel(), input.isNoljang());
 
-    FlameExpectationDto flameExpectation =
-        resolveFlameExpectation(cubeInput, characterClass, input.getItemLevel());
+    FlameExpectationDto flameExpectation = toFlameExpectation(flameInput, input.getItemLevel());
 
     String potentialText = formatPotentialOptions(input.getPotentialOptions());
     String additionalPotentialText = formatPotentialOptions(input.getAdditionalPotentialOptions());
@@ -168,7 +196,7 @@ public class PresetCalculationHelper {
         .itemIcon(input.getItemIcon())
         .itemPart(input.getItemPart())
         .itemLevel(input.getItemLevel())
-        .expectedCost(itemCost)
+        .expectedCost(BigDecimal.valueOf(itemCost))
         .expectedCostText(CostFormatter.format(itemCost))
         .costBreakdown(CostBreakdownDto.from(costBreakdown))
         .enhancePath(enhancePath)
@@ -215,19 +243,15 @@ public class PresetCalculationHelper {
 
   /** 큐브 기대값 DTO 빌드 */
   CubeExpectationDto buildCubeExpectation(
-      BigDecimal cost,
-      BigDecimal trials,
-      String currentGrade,
-      String targetGrade,
-      String potentialText) {
-    if (cost == null || cost.compareTo(BigDecimal.ZERO) == 0) {
+      long cost, long trials, String currentGrade, String targetGrade, String potentialText) {
+    if (cost == 0L) {
       return CubeExpectationDto.empty();
     }
 
     return CubeExpectationDto.builder()
-        .expectedCost(cost)
+        .expectedCost(BigDecimal.valueOf(cost))
         .expectedCostText(CostFormatter.format(cost))
-        .expectedTrials(trials != null ? trials : BigDecimal.ZERO)
+        .expectedTrials(BigDecimal.valueOf(trials))
         .currentGrade(currentGrade)
         .targetGrade(targetGrade)
         .potential(potentialText)
@@ -264,29 +288,29 @@ public class PresetCalculationHelper {
 
   private StarforceExpectationDto calculateRegularStarforce(
       int currentStar, int targetStar, int itemLevel) {
-    BigDecimal costWithout =
-        starforceLookupTable.getExpectedCost(
+    long costWithout =
+        starforceLookupTable.getExpectedCostMeso(
             currentStar, targetStar, itemLevel, true, true, true, false);
     BigDecimal destroyCountWithout =
         starforceLookupTable.getExpectedDestroyCount(currentStar, targetStar, true, true, false);
 
-    BigDecimal costWith =
-        starforceLookupTable.getExpectedCost(
+    long costWith =
+        starforceLookupTable.getExpectedCostMeso(
             currentStar, targetStar, itemLevel, true, true, true, true);
     BigDecimal destroyCountWith =
         starforceLookupTable.getExpectedDestroyCount(currentStar, targetStar, true, true, true);
 
-    BigDecimal roundedCostWithout = roundToNearest100(costWithout);
-    BigDecimal roundedCostWith = roundToNearest100(costWith);
+    long roundedCostWithout = CostRounding.roundToNearest100(costWithout);
+    long roundedCostWith = CostRounding.roundToNearest100(costWith);
 
     return StarforceExpectationDto.builder()
         .currentStar(currentStar)
         .targetStar(targetStar)
         .isNoljang(false)
-        .costWithoutDestroyPrevention(roundedCostWithout)
+        .costWithoutDestroyPrevention(BigDecimal.valueOf(roundedCostWithout))
         .costWithoutDestroyPreventionText(CostFormatter.format(roundedCostWithout))
         .expectedDestroyCountWithout(destroyCountWithout)
-        .costWithDestroyPrevention(roundedCostWith)
+        .costWithDestroyPrevention(BigDecimal.valueOf(roundedCostWith))
         .costWithDestroyPreventionText(CostFormatter.format(roundedCostWith))
         .expectedDestroyCountWith(destroyCountWith)
         .build();
@@ -307,7 +331,11 @@ public class PresetCalculationHelper {
    */
   private FlameExpectationDto resolveFlameExpectation(
       CubeCalculationInput cubeInput, String characterClass, int level) {
-    FlameInput flameInput = flameInputResolver.resolve(cubeInput, characterClass);
+    return toFlameExpectation(flameInputResolver.resolve(cubeInput, characterClass), level);
+  }
+
+  /** 해석된 불꽃 입력 → 기대값 (추옵이 없으면 empty) */
+  private FlameExpectationDto toFlameExpectation(FlameInput flameInput, int level) {
     if (flameInput == null) {
       return FlameExpectationDto.empty();
     }
@@ -360,7 +388,7 @@ public class PresetCalculationHelper {
     return BigDecimal.valueOf(trials).setScale(2, RoundingMode.HALF_UP);
   }
 
-  /** 100원 단위 반올림 */
+  /** 100원 단위 반올림 (놀장 테이블처럼 소수 기대값이 나오는 경로용) */
   BigDecimal roundToNearest100(BigDecimal value) {
     if (value == null) {
       return BigDecimal.ZERO;
@@ -369,4 +397,30 @@ public class PresetCalculationHelper {
         .divide(BigDecimal.valueOf(100), 0, RoundingMode.HALF_UP)
         .multiply(BigDecimal.valueOf(100));
   }
+
+  /**
+   * 프리셋 합계 누적 (메소 단위 long, BigDecimal 변환은 조립 마지막에 한 번)
+   *
+   * <p>아이템 비용은 계산 체인에서 이미 정수로 반올림되어 있어 소수부가 없습니다 (이전 버전 캐시의 {@code .00} 스케일 포함).
+   */
+  private static final class PresetTotals {
+    private long cost;
+    private long blackCube;
+    private long redCube;
+    private long additionalCube;
+    private long starforce;
+
+    void add(ItemExpectationV4 item) {
+      CostBreakdownDto breakdown = item.getCostBreakdown();
+      cost = plus(cost, item.getExpectedCost());
+      blackCube = plus(blackCube, breakdown.getBlackCubeCost());
+      redCube = plus(redCube, breakdown.getRedCubeCost());
+      additionalCube = plus(additionalCube, breakdown.getAdditionalCubeCost());
+      starforce = plus(starforce, breakdown.getStarforceCost());
+    }
+
+    private static long plus(long total, BigDecimal cost) {
+      return cost == null ? total : CostRounding.saturatedAdd(total, cost.longValue());
+    }
+  }
 }
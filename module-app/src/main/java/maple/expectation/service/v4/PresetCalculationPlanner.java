@@ -0,0 +1,156 @@
+package maple.expectation.service.v4;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import maple.expectation.dto.CubeCalculationInput;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.ItemExpectationV4;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.PresetExpectation;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.TaskContext;
+import maple.expectation.parser.EquipmentPresetSet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * V4 프리셋 계산 플래너 (아이템 단위 중복 제거 + 병렬 계산)
+ *
+ * <h3>처리 순서</h3>
+ *
+ * <ol>
+ *   <li>프리셋 1~3의 아이템을 모아 같은 구성({@link CubeCalculationInput#equals})은 하나로 합침
+ *   <li>고유 아이템을 작업자들이 공유 커서로 하나씩 가져가 계산 (느린 아이템이 프리셋 전체를 붙잡지 않음)
+ *   <li>아이템 결과를 프리셋별 목록·합계로 조립
+ * </ol>
+ *
+ * <h3>병렬도</h3>
+ *
+ * <p>요청 스레드 1 + presetCalculationExecutor 작업 {@value #POOL_WORKERS}개. 풀에 올리는 작업 수가 기존 프리셋 단위
+ * 분기(3개)보다 적으므로 풀 산정(core 12 = 요청당 3 × 동시 4)과 AbortPolicy 백프레셔는 그대로 유지됩니다.
+ *
+ * <p>풀 작업자는 보조 역할입니다. 제출이 거부되면 요청 스레드가 전부 계산하고, 요청 스레드가 커서를 소진한 뒤에는 아직 시작하지 못한
+ * 작업자를 취소하고 다른 작업자가 계산 중인 아이템만 기다립니다 (포화된 풀의 대기열 때문에 요청이 타임아웃되지 않음).
+ */
+@Component
+public class PresetCalculationPlanner {
+
+  /** 풀에 올리는 작업자 수 (요청 스레드는 별도로 함께 계산) */
+  static final int POOL_WORKERS = 2;
+
+  private static final long ITEM_TIMEOUT_SECONDS = 30L;
+
+  private final PresetCalculationHelper presetHelper;
+  private final LogicExecutor executor;
+  private final Executor presetExecutor;
+
+  public PresetCalculationPlanner(
+      PresetCalculationHelper presetHelper,
+      LogicExecutor executor,
+      @Qualifier("presetCalculationExecutor") Executor presetExecutor) {
+    this.presetHelper = presetHelper;
+    this.executor = executor;
+    this.presetExecutor = presetExecutor;
+  }
+
+  /**
+   * 전체 프리셋 기대값 계산
+   *
+   * @param presets 프리셋별 장비 목록
+   * @param characterClass 직업명 (환생의 불꽃 동적 계산용)
+   * @return 아이템이 있는 프리셋의 기대값 (프리셋 번호 순)
+   */
+  public List<PresetExpectation> calculateAll(EquipmentPresetSet presets, String characterClass) {
+    Map<CubeCalculationInput, Integer> firstPresetOf = collectDistinctItems(presets);
+    List<CubeCalculationInput> distinctItems = new ArrayList<>(firstPresetOf.keySet());
+    List<CompletableFuture<ItemExpectationV4>> slots =
+        Stream.generate(CompletableFuture<ItemExpectationV4>::new)
+            .limit(distinctItems.size())
+            .toList();
+    AtomicInteger cursor = new AtomicInteger();
+
+    // 아이템 예외는 해당 슬롯에 담기므로 작업자는 남은 아이템을 계속 가져감
+    Runnable worker =
+        () -> {
+          for (int i = cursor.getAndIncrement();
+              i < distinctItems.size();
+              i = cursor.getAndIncrement()) {
+            CubeCalculationInput item = distinctItems.get(i);
+            slots
+                .get(i)
+                .completeAsync(
+                    () -> presetHelper.calculateItem(item, firstPresetOf.get(item), characterClass),
+                    Runnable::run);
+          }
+        };
+
+    List<CompletableFuture<Void>> helpers =
+        submitHelpers(worker, Math.min(POOL_WORKERS, Math.max(0, distinctItems.size() - 1)));
+    worker.run();
+    // 커서가 소진되었으므로 아직 시작하지 못한 작업자는 할 일이 없음 (풀 대기열에서 꺼내져도 실행되지 않음)
+    helpers.forEach(helper -> helper.cancel(false));
+    awaitItems(slots);
+
+    Map<CubeCalculationInput, ItemExpectationV4> itemResults = new HashMap<>();
+    for (int i = 0; i < distinctItems.size(); i++) {
+      itemResults.put(distinctItems.get(i), slots.get(i).join());
+    }
+    return IntStream.rangeClosed(1, EquipmentPresetSet.PRESET_COUNT)
+        .mapToObj(
+            presetNo ->
+                presetHelper.assemblePreset(presetNo, presets.preset(presetNo), itemResults))
+        .filter(preset -> !preset.getItems().isEmpty())
+        .toList();
+  }
+
+  /**
+   * 풀 작업자 제출
+   *
+   * <p>풀이 포화되어 거부(AbortPolicy)되면 더 제출하지 않고, 남은 아이템은 요청 스레드가 모두 계산합니다.
+   */
+  private List<CompletableFuture<Void>> submitHelpers(Runnable worker, int count) {
+    List<CompletableFuture<Void>> helpers = new ArrayList<>(count);
+    for (int w = 0; w < count; w++) {
+      CompletableFuture<Void> helper =
+          executor.executeOrDefault(
+              () -> CompletableFuture.runAsync(worker, presetExecutor),
+              null,
+              TaskContext.of("V4", "ItemHelperSubmit"));
+      if (helper == null) {
+        break;
+      }
+      helpers.add(helper);
+    }
+    return helpers;
+  }
+
+  /** 고유 아이템 → 처음 등장한 프리셋 번호 (등장 순서 유지) */
+  private Map<CubeCalculationInput, Integer> collectDistinctItems(EquipmentPresetSet presets) {
+    Map<CubeCalculationInput, Integer> firstPresetOf = new LinkedHashMap<>();
+    for (int presetNo = 1; presetNo <= EquipmentPresetSet.PRESET_COUNT; presetNo++) {
+      for (CubeCalculationInput item : presets.preset(presetNo)) {
+        firstPresetOf.putIfAbsent(item, presetNo);
+      }
+    }
+    return firstPresetOf;
+  }
+
+  /** 다른 작업자가 계산 중인 아이템만 대기 (모든 아이템은 이미 누군가 가져간 상태) */
+  private void awaitItems(List<CompletableFuture<ItemExpectationV4>> slots) {
+    if (slots.stream().allMatch(CompletableFuture::isDone)) {
+      return;
+    }
+    executor.execute(
+        () ->
+            CompletableFuture.allOf(slots.toArray(CompletableFuture[]::new))
+                .get(ITEM_TIMEOUT_SECONDS, TimeUnit.SECONDS),
+        TaskContext.of("V4", "ItemJoin"));
+  }
+}
@@ -0,0 +1,119 @@
+package maple.expectation.service.v4.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import maple.expectation.infrastructure.cache.TieredCacheManager;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.TaskContext;
+import maple.expectation.parser.EquipmentPresetSet;
+import maple.expectation.parser.EquipmentSnapshotCodec;
+import maple.expectation.parser.EquipmentStreamingParser;
+import maple.expectation.service.v2.worker.EquipmentDbWorker;
+import maple.expectation.util.StringMaskingUtils;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장비 파싱 스냅샷 리졸버
+ *
+ * <p>장비 JSON을 처음 파싱할 때 {@link EquipmentSnapshotCodec} 스냅샷을 만들어 두고, 이후 계산(강제 재계산, 버퍼 복구 재계산
+ * 포함)은 스냅샷에서 바로 {@link EquipmentPresetSet}을 복원하여 JSON 해제·토큰화를 건너뜁니다.
+ *
+ * <h3>조회 순서</h3>
+ *
+ * <ol>
+ *   <li>DB 행에 함께 저장된 스냅샷 (character_equipment.parsed_snapshot)
+ *   <li>{@code equipmentSnapshot} 캐시 (DB 행이 아직 없는 API 직행 경로)
+ *   <li>JSON 스트리밍 파싱 → 스냅샷을 캐시에 저장하고 DB에 비동기 저장
+ * </ol>
+ *
+ * <p>스냅샷은 원본 JSON 지문이 일치할 때만 사용하므로, 장비가 갱신되면 자동으로 다시 파싱됩니다. 스냅샷 처리 실패는 계산을 막지 않고 JSON
+ * 파싱으로 폴백합니다.
+ */
+@Slf4j
+@Component
+public class EquipmentSnapshotResolver {
+
+  private static final String CACHE_NAME = "equipmentSnapshot";
+
+  private final EquipmentStreamingParser streamingParser;
+  private final EquipmentSnapshotCodec snapshotCodec;
+  private final EquipmentDbWorker dbWorker;
+  private final LogicExecutor executor;
+  private final Cache snapshotCache;
+  private final MeterRegistry meterRegistry;
+
+  public EquipmentSnapshotResolver(
+      EquipmentStreamingParser streamingParser,
+      EquipmentSnapshotCodec snapshotCodec,
+      EquipmentDbWorker dbWorker,
+      LogicExecutor executor,
+      TieredCacheManager tieredCacheManager) {
+    this.streamingParser = streamingParser;
+    this.snapshotCodec = snapshotCodec;
+    this.dbWorker = dbWorker;
+    this.executor = executor;
+    this.snapshotCache = tieredCacheManager.getCache(CACHE_NAME);
+    this.meterRegistry = tieredCacheManager.getMeterRegistry();
+  }
+
+  /**
+   * 프리셋별 장비 목록 조회 (스냅샷 우선)
+   *
+   * @param ocid 캐릭터 OCID
+   * @param equipmentData 장비 JSON (사전 프레임, GZIP 또는 평문)
+   * @param storedSnapshot DB 행에 저장된 스냅샷 (없으면 null)
+   * @return 프리셋별 장비 목록
+   */
+  public EquipmentPresetSet resolve(String ocid, byte[] equipmentData, byte[] storedSnapshot) {
+    Optional<EquipmentPresetSet> fromDb = decode(storedSnapshot, equipmentData, ocid);
+    if (fromDb.isPresent()) {
+      record("db_hit");
+      return fromDb.get();
+    }
+
+    Optional<EquipmentPresetSet> fromCache =
+        decode(snapshotCache.get(ocid, byte[].class), equipmentData, ocid);
+    if (fromCache.isPresent()) {
+      record("cache_hit");
+      return fromCache.get();
+    }
+
+    record("parsed");
+    EquipmentPresetSet presets = streamingParser.parseAllPresets(equipmentData);
+    store(ocid, presets, equipmentData);
+    return presets;
+  }
+
+  private Optional<EquipmentPresetSet> decode(byte[] snapshot, byte[] equipmentData, String ocid) {
+    if (snapshot == null) {
+      return Optional.empty();
+    }
+    return executor.executeOrDefault(
+        () -> snapshotCodec.decode(snapshot, equipmentData),
+        Optional.empty(),
+        TaskContext.of("EquipmentSnapshot", "Decode", ocid));
+  }
+
+  /** 스냅샷 저장 실패는 다음 계산의 재파싱으로 끝나므로 무시 */
+  private void store(String ocid, EquipmentPresetSet presets, byte[] equipmentData) {
+    executor.executeOrDefault(
+        () -> {
+          byte[] snapshot = snapshotCodec.encode(presets, equipmentData);
+          snapshotCache.put(ocid, snapshot);
+          dbWorker.persistSnapshot(ocid, snapshot);
+          log.debug(
+              "[EquipmentSnapshot] Stored: ocid={} ({}B)",
+              StringMaskingUtils.maskOcid(ocid),
+              snapshot.length);
+          return null;
+        },
+        null,
+        TaskContext.of("EquipmentSnapshot", "Store", ocid));
+  }
+
+  private void record(String result) {
+    meterRegistry.counter("equipment.snapshot", "result", result).increment();
+  }
+}
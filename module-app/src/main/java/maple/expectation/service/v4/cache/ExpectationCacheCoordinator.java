@@ -2,6 +2,7 @@ package maple.expectation.service.v4.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.io.InputStream;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,8 @@ import maple.expectation.error.exception.EquipmentDataProcessingException;
 import maple.expectation.infrastructure.cache.TieredCacheManager;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
-import maple.expectation.util.GzipUtils;
+import maple.expectation.util.GzipCodec;
+import maple.expectation.util.PresetDictionaryCodec;
 import org.springframework.cache.Cache;
 import org.springframework.stereotype.Component;
 
@@ -22,10 +24,20 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Singleflight 패턴: TieredCache.get(key, Callable) 캐시 조회/저장
- *   <li>GZIP+Base64 압축/해제
+ *   <li>GZIP 압축/해제
  *   <li>L1 Fast Path 직접 조회
  *   <li>fromCache 플래그 관리
  * </ul>
+ *
+ * <p>저장 포맷은 GZIP을 유지합니다. 캐시 값이 {@code Content-Encoding: gzip} 응답 본문으로 그대로 나가므로(L1 Fast Path),
+ * 프리셋 사전 프레임으로 바꾸면 히트마다 재압축이 필요해집니다. 역직렬화 경로는 {@link PresetDictionaryCodec}으로 읽어 두 포맷을 모두
+ * 허용합니다.
+ *
+ * <h3>저장 타입: GZIP byte[] 원본</h3>
+ *
+ * <p>L1/L2 모두 GZIP byte[]를 그대로 저장합니다 (L2: {@code l2-serializer: bytes}). Base64 인코딩(+33% 메모리·네트워크)과
+ * 히트마다의 디코딩이 없습니다. L2 키는 {@code expectationV4:raw::}로 이전 포맷(Base64 String) 키와 분리되어 있어, 롤링 배포 중
+ * 이전 버전 인스턴스와 값을 덮어쓰지 않습니다. Base64 String을 만나면 디코딩 후 byte[]로 다시 저장합니다 (방어 경로).
  */
 @Slf4j
 @Component
@@ -69,37 +81,19 @@ public class ExpectationCacheCoordinator {
     if (force) {
       log.info("[V4] Force refresh - 캐시 무시 및 갱신: {}", userIgn);
       EquipmentExpectationResponseV4 response = executeCalculator(calculator);
-      String compressedBase64 =
-          executor.executeWithTranslation(
-              () -> compressAndSerialize(response, userIgn),
-              (e, ctx) ->
-                  new EquipmentDataProcessingException(
-                      String.format(
-                          "Cache serialization failed [%s]: %s", ctx.toTaskName(), userIgn),
-                      e),
-              TaskContext.of("CacheCoordinator", "SerializeForce", userIgn));
-      expectationCache.put(userIgn, compressedBase64);
+      expectationCache.put(userIgn, compressForCache(response, userIgn, "SerializeForce"));
       return response;
     }
 
     Object cachedValue = expectationCache.get(userIgn);
     if (cachedValue != null) {
-      String compressedBase64 = convertCachedValueToBase64(cachedValue, userIgn);
-      return decompressCachedResponse(compressedBase64, userIgn);
+      return decompressCachedResponse(toGzipBytes(cachedValue, userIgn), userIgn);
     }
 
     // Cache miss - calculate and store
     log.info("[V4] Cache MISS - 계산 시작: {}", userIgn);
     EquipmentExpectationResponseV4 response = executeCalculator(calculator);
-    String compressedBase64 =
-        executor.executeWithTranslation(
-            () -> compressAndSerialize(response, userIgn),
-            (e, ctx) ->
-                new EquipmentDataProcessingException(
-                    String.format("Cache serialization failed [%s]: %s", ctx.toTaskName(), userIgn),
-                    e),
-            TaskContext.of("CacheCoordinator", "Serialize", userIgn));
-    expectationCache.put(userIgn, compressedBase64);
+    expectationCache.put(userIgn, compressForCache(response, userIgn, "Serialize"));
 
     return response;
   }
@@ -107,6 +101,8 @@ public class ExpectationCacheCoordinator {
   /**
    * GZIP 압축된 기대값 응답 반환 (#262 성능 최적화)
    *
+   * <p>캐시 히트 시 저장된 배열을 복사 없이 반환하므로 호출자는 배열을 수정하지 않아야 합니다.
+   *
    * @param userIgn 캐릭터 IGN
    * @param force true: 캐시 무시, false: 캐시 사용
    * @param calculator 캐시 미스 시 실행될 계산 로직
@@ -117,50 +113,35 @@ public class ExpectationCacheCoordinator {
     if (force) {
       log.info("[V4] Force refresh (GZIP) - 캐시 무시 및 갱신: {}", userIgn);
       EquipmentExpectationResponseV4 response = executeCalculator(calculator);
-      String compressedBase64 =
-          executor.executeWithTranslation(
-              () -> compressAndSerialize(response, userIgn),
-              (e, ctx) ->
-                  new EquipmentDataProcessingException(
-                      String.format(
-                          "Cache serialization failed [%s]: %s", ctx.toTaskName(), userIgn),
-                      e),
-              TaskContext.of("CacheCoordinator", "SerializeGzipForce", userIgn));
-      expectationCache.put(userIgn, compressedBase64);
-      return java.util.Base64.getDecoder().decode(compressedBase64);
+      byte[] gzipBytes = compressForCache(response, userIgn, "SerializeGzipForce");
+      expectationCache.put(userIgn, gzipBytes);
+      return gzipBytes;
     }
 
     Object cachedValue = expectationCache.get(userIgn);
     if (cachedValue != null) {
-      String compressedBase64 = convertCachedValueToBase64(cachedValue, userIgn);
-      if (compressedBase64 == null || compressedBase64.isEmpty()) {
+      byte[] gzipBytes = toGzipBytes(cachedValue, userIgn);
+      if (gzipBytes.length == 0) {
         throw new CacheDataNotFoundException(userIgn);
       }
-      log.debug("[V4] GZIP Cache HIT: {} ({}KB)", userIgn, compressedBase64.length() / 1024);
-      return java.util.Base64.getDecoder().decode(compressedBase64);
+      log.debug("[V4] GZIP Cache HIT: {} ({}KB)", userIgn, gzipBytes.length / 1024);
+      return gzipBytes;
     }
 
     // Cache miss - calculate and store
     log.info("[V4] Cache MISS (GZIP) - 계산 시작: {}", userIgn);
     EquipmentExpectationResponseV4 response = executeCalculator(calculator);
-    String compressedBase64 =
-        executor.executeWithTranslation(
-            () -> compressAndSerialize(response, userIgn),
-            (e, ctx) ->
-                new EquipmentDataProcessingException(
-                    String.format("Cache serialization failed [%s]: %s", ctx.toTaskName(), userIgn),
-                    e),
-            TaskContext.of("CacheCoordinator", "SerializeGzip", userIgn));
-    expectationCache.put(userIgn, compressedBase64);
-
-    return java.util.Base64.getDecoder().decode(compressedBase64);
+    byte[] gzipBytes = compressForCache(response, userIgn, "SerializeGzip");
+    expectationCache.put(userIgn, gzipBytes);
+
+    return gzipBytes;
   }
 
   /**
    * L1 캐시 직접 조회 - Fast Path (#264 성능 최적화)
    *
    * @param userIgn 캐릭터 IGN
-   * @return GZIP 바이트 (L1 히트 시), Empty (L1 미스 시)
+   * @return GZIP 바이트 (L1 히트 시, 저장된 배열 그대로), Empty (L1 미스 시)
    */
   public Optional<byte[]> getGzipFromL1CacheDirect(String userIgn) {
     Cache l1Cache = tieredCacheManager.getL1CacheDirect(CACHE_NAME);
@@ -176,7 +157,7 @@ public class ExpectationCacheCoordinator {
     }
 
     Object cachedValue = wrapper.get();
-    byte[] gzipBytes = convertCachedValueToGzipBytes(cachedValue, userIgn);
+    byte[] gzipBytes = convertL1ValueToGzipBytes(cachedValue, userIgn);
 
     if (gzipBytes == null) {
       recordFastPathMiss();
@@ -189,23 +170,22 @@ public class ExpectationCacheCoordinator {
   }
 
   /**
-   * Legacy byte[] → GZIP bytes 변환 (L1 Fast Path용)
+   * L1 값 → GZIP bytes 변환 (L1 Fast Path용)
    *
-   * @param cachedValue 캐시에서 조회된 값 (byte[] 또는 String)
+   * @param cachedValue 캐시에서 조회된 값 (byte[] 또는 Legacy Base64 String)
    * @param userIgn 캐릭터 IGN
    * @return GZIP 압축 바이트 배열
    */
-  private byte[] convertCachedValueToGzipBytes(Object cachedValue, String userIgn) {
-    if (cachedValue instanceof String base64) {
-      return java.util.Base64.getDecoder().decode(base64);
-    }
-
+  private byte[] convertL1ValueToGzipBytes(Object cachedValue, String userIgn) {
     if (cachedValue instanceof byte[] gzipBytes) {
-      log.warn(
-          "[V4] L1 Legacy byte[] format detected: {} ({}KB)", userIgn, gzipBytes.length / 1024);
       return gzipBytes;
     }
 
+    if (cachedValue instanceof String base64) {
+      log.debug("[V4] L1 Legacy Base64 format detected: {}", userIgn);
+      return java.util.Base64.getDecoder().decode(base64);
+    }
+
     log.error(
         "[V4] L1 Unknown cache value type: {} for userIgn={}", cachedValue.getClass(), userIgn);
     return null;
@@ -214,38 +194,34 @@ public class ExpectationCacheCoordinator {
   // ==================== Internal Methods ====================
 
   /**
-   * Legacy byte[] → Base64 String 마이그레이션
+   * 캐시 값 → GZIP byte[] (Legacy Base64 String 마이그레이션)
    *
-   * <p>캐시에 저장된 값이 old format(byte[])인지 new format(Base64 String)인지 확인하고 변환. old format을 만나면 new
-   * format으로 변환하여 캐시에 갱신(migration).
+   * <p>캐시에 저장된 값이 new format(byte[])인지 old format(Base64 String)인지 확인하고 변환. old format을 만나면 디코딩한
+   * byte[]로 캐시에 갱신(migration).
    *
-   * @param cachedValue 캐시에서 조회된 값 (byte[] 또는 String)
+   * @param cachedValue 캐시에서 조회된 값 (ValueWrapper, byte[] 또는 String)
    * @param userIgn 캐릭터 IGN (로그용)
-   * @return Base64 String (압축된 데이터)
+   * @return GZIP 압축 바이트 배열
    */
-  private String convertCachedValueToBase64(Object cachedValue, String userIgn) {
-    // Unwrap SimpleValueWrapper (Spring Cache wrapper)
+  private byte[] toGzipBytes(Object cachedValue, String userIgn) {
+    // Unwrap ValueWrapper (Spring Cache wrapper)
     Object unwrappedValue = cachedValue;
-    if (cachedValue instanceof org.springframework.cache.support.SimpleValueWrapper wrapper) {
+    if (cachedValue instanceof Cache.ValueWrapper wrapper) {
       unwrappedValue = wrapper.get();
-      log.debug("[V4] Unwrapped SimpleValueWrapper for: {}", userIgn);
     }
 
-    if (unwrappedValue instanceof String base64) {
-      log.debug("[V4] Cache HIT (New Base64 format): {}", userIgn);
-      return base64;
+    if (unwrappedValue instanceof byte[] gzipBytes) {
+      return gzipBytes;
     }
 
-    if (unwrappedValue instanceof byte[] oldGzipBytes) {
-      log.warn(
-          "[V4] Legacy byte[] format detected - migrating to Base64: {} ({}KB)",
+    if (unwrappedValue instanceof String base64) {
+      byte[] migrated = java.util.Base64.getDecoder().decode(base64);
+      log.info(
+          "[V4] Legacy Base64 format detected - migrating to byte[]: {} ({}KB)",
           userIgn,
-          oldGzipBytes.length / 1024);
-      String migratedBase64 = java.util.Base64.getEncoder().encodeToString(oldGzipBytes);
-      // Migrate to new format
-      expectationCache.put(userIgn, migratedBase64);
-      log.info("[V4] Migration complete: {}", userIgn);
-      return migratedBase64;
+          migrated.length / 1024);
+      expectationCache.put(userIgn, migrated);
+      return migrated;
     }
 
     log.error(
@@ -262,63 +238,53 @@ public class ExpectationCacheCoordinator {
     return executor.execute(calculator::call, TaskContext.of("CacheCoordinator", "Calculate"));
   }
 
-  /** Response → JSON → GZIP → Base64 String 변환 (#262) */
-  private String compressAndSerialize(EquipmentExpectationResponseV4 response, String userIgn)
-      throws Exception {
-    String json = objectMapper.writeValueAsString(response);
-    byte[] compressed = GzipUtils.compress(json);
-    String base64 = java.util.Base64.getEncoder().encodeToString(compressed);
-    log.debug(
-        "[V4] GZIP+Base64 압축 완료: {} (원본: {}KB → 압축: {}KB → Base64: {}KB)",
-        userIgn,
-        json.length() / 1024,
-        compressed.length / 1024,
-        base64.length() / 1024);
-    return base64;
-  }
-
-  /** Response → JSON → GZIP byte[] 직접 변환 (force=true 용) */
-  private byte[] compressToGzipBytes(EquipmentExpectationResponseV4 response, String userIgn) {
-    TaskContext context = TaskContext.of("CacheCoordinator", "CompressForce", userIgn);
+  /** Response → JSON bytes → GZIP(풀링 Deflater) byte[] 변환 (#262) */
+  private byte[] compressForCache(
+      EquipmentExpectationResponseV4 response, String userIgn, String operation) {
     return executor.executeWithTranslation(
-        () -> {
-          String json = objectMapper.writeValueAsString(response);
-          return GzipUtils.compress(json);
-        },
+        () -> compressInternal(response, userIgn),
         (e, ctx) ->
             new EquipmentDataProcessingException(
-                String.format("GZIP 생성 실패 [%s]: %s", ctx.toTaskName(), userIgn), e),
-        context);
+                String.format("Cache serialization failed [%s]: %s", ctx.toTaskName(), userIgn),
+                e),
+        TaskContext.of("CacheCoordinator", operation, userIgn));
   }
 
-  /** Base64 → GZIP byte[] → JSON → Response 압축 해제 (#262 Fix) */
+  private byte[] compressInternal(EquipmentExpectationResponseV4 response, String userIgn)
+      throws Exception {
+    byte[] json = objectMapper.writeValueAsBytes(response);
+    byte[] compressed = GzipCodec.compress(json);
+    log.debug(
+        "[V4] GZIP 압축 완료: {} (원본: {}KB → 압축: {}KB)",
+        userIgn,
+        json.length / 1024,
+        compressed.length / 1024);
+    return compressed;
+  }
+
+  /** GZIP byte[] → JSON → Response 압축 해제 (#262 Fix) */
   private EquipmentExpectationResponseV4 decompressCachedResponse(
-      String compressedBase64, String userIgn) {
+      byte[] compressed, String userIgn) {
     return executor.executeWithTranslation(
-        () -> decompressInternal(compressedBase64, userIgn),
+        () -> decompressInternal(compressed, userIgn),
         (e, context) ->
             new EquipmentDataProcessingException(
                 String.format("GZIP 압축 해제 실패 [%s]: %s", context.toTaskName(), userIgn), e),
         TaskContext.of("CacheCoordinator", "Decompress", userIgn));
   }
 
-  private EquipmentExpectationResponseV4 decompressInternal(String compressedBase64, String userIgn)
+  private EquipmentExpectationResponseV4 decompressInternal(byte[] compressed, String userIgn)
       throws Exception {
-    if (compressedBase64 == null || compressedBase64.isEmpty()) {
+    if (compressed.length == 0) {
       throw new CacheDataNotFoundException(userIgn);
     }
 
-    byte[] compressed = java.util.Base64.getDecoder().decode(compressedBase64);
-    String json = GzipUtils.decompress(compressed);
-    EquipmentExpectationResponseV4 response =
-        objectMapper.readValue(json, EquipmentExpectationResponseV4.class);
+    EquipmentExpectationResponseV4 response;
+    try (InputStream json = PresetDictionaryCodec.openStream(compressed)) {
+      response = objectMapper.readValue(json, EquipmentExpectationResponseV4.class);
+    }
 
-    log.debug(
-        "[V4] Cache HIT (Base64+GZIP): {} (Base64: {}KB → 압축: {}KB → 원본: {}KB)",
-        userIgn,
-        compressedBase64.length() / 1024,
-        compressed.length / 1024,
-        json.length() / 1024);
+    log.debug("[V4] Cache HIT (GZIP): {} ({}KB)", userIgn, compressed.length / 1024);
 
     return rebuildWithCacheFlag(response);
   }
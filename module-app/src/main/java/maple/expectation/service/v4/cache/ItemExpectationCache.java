@@ -0,0 +1,168 @@
+package maple.expectation.service.v4.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+import maple.expectation.config.CalculationProperties;
+import maple.expectation.dto.v4.EquipmentCalculationInput;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.ItemExpectationV4;
+import maple.expectation.infrastructure.cache.TieredCacheManager;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.TaskContext;
+import maple.expectation.service.v2.cache.EquipmentFingerprintGenerator;
+import maple.expectation.service.v2.flame.FlameInputResolver.FlameInput;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아이템 단위 기대값 캐시 (내용 주소 기반)
+ *
+ * <p>같은 아이템 구성(이름, 부위, 레벨, 잠재/에디 등급·옵션, 목표 스타포스, 불꽃 목표치)은 프리셋·캐릭터가 달라도 결과가 같습니다. 계산에
+ * 쓰이는 필드만으로 만든 해시를 키로 {@link ItemExpectationV4}를 L1(Caffeine)/L2(Redis)에 보관하여, 인기 세팅은 처음 한 번만
+ * 계산합니다.
+ *
+ * <h3>키 구성</h3>
+ *
+ * <pre>
+ * lv{logicVersion}:{tableVersionHash}:{SHA-256(정규화 필드) 앞 16바이트, base64url}
+ * </pre>
+ *
+ * <ul>
+ *   <li>프리셋 번호, 캐릭터 OCID는 키에 넣지 않음 (결과에 영향 없음)
+ *   <li>직업은 해석된 불꽃 입력(가중치·목표치·보스 여부)으로 대신 반영 → 같은 주스탯 직업끼리 공유
+ *   <li>로직/확률 테이블 버전이 바뀌면 키 공간이 바뀌므로 별도 무효화 불필요
+ *   <li>값 DTO({@link ItemExpectationV4} 및 하위 DTO)는 serialVersionUID가 고정되어 있어 필드가 바뀌어도 이전 값이 기본값으로
+ *       조용히 역직렬화됨 → DTO 필드 변경 시 반드시 logicVersion을 올려야 함
+ * </ul>
+ *
+ * <p>캐시 조회·저장 실패는 계산을 막지 않습니다 (직접 계산으로 폴백).
+ */
+@Component
+public class ItemExpectationCache {
+
+  private static final String CACHE_NAME = "itemExpectation";
+  private static final int HASH_BYTES = 16;
+  private static final char FIELD_SEPARATOR = '\u001f';
+  private static final String NULL_MARKER = "\u0000";
+
+  private final Cache itemCache;
+  private final LogicExecutor executor;
+  private final MeterRegistry meterRegistry;
+  private final String versionPrefix;
+
+  public ItemExpectationCache(
+      TieredCacheManager tieredCacheManager,
+      LogicExecutor executor,
+      CalculationProperties calculationProperties,
+      EquipmentFingerprintGenerator fingerprintGenerator) {
+    this.itemCache = tieredCacheManager.getCache(CACHE_NAME);
+    this.meterRegistry = tieredCacheManager.getMeterRegistry();
+    this.executor = executor;
+    this.versionPrefix =
+        "lv"
+            + calculationProperties.getLogicVersion()
+            + ":"
+            + fingerprintGenerator.hashTableVersion(calculationProperties.getTableVersion());
+  }
+
+  /**
+   * 아이템 기대값 조회 또는 계산
+   *
+   * @param input 계산 입력 (프리셋 번호는 키에서 제외)
+   * @param specialRingLevel 특수 스킬 반지 레벨
+   * @param flameInput 해석된 불꽃 입력 (추옵 없으면 null)
+   * @param calculator 캐시 미스 시 실행할 계산
+   * @return 아이템 기대값
+   */
+  public ItemExpectationV4 getOrCompute(
+      EquipmentCalculationInput input,
+      int specialRingLevel,
+      FlameInput flameInput,
+      Supplier<ItemExpectationV4> calculator) {
+    String key = versionPrefix + ":" + contentHash(input, specialRingLevel, flameInput);
+    TaskContext context = TaskContext.of("ItemExpectationCache", "Lookup", input.getItemName());
+
+    ItemExpectationV4 cached =
+        executor.executeOrDefault(() -> itemCache.get(key, ItemExpectationV4.class), null, context);
+    if (cached != null) {
+      record("hit");
+      return cached;
+    }
+
+    record("miss");
+    ItemExpectationV4 computed = calculator.get();
+    executor.executeOrDefault(
+        () -> {
+          itemCache.put(key, computed);
+          return null;
+        },
+        null,
+        TaskContext.of("ItemExpectationCache", "Store", input.getItemName()));
+    return computed;
+  }
+
+  /**
+   * 계산 관련 필드의 정규화 해시
+   *
+   * <p>필드마다 구분자를 두고 null은 빈 문자열과 다른 표식으로 기록하여, 필드 경계가 달라도 같은 문자열이 되는 충돌을 막습니다.
+   */
+  static String contentHash(
+      EquipmentCalculationInput input, int specialRingLevel, FlameInput flameInput) {
+    StringBuilder canonical = new StringBuilder(256);
+    append(canonical, input.getItemName());
+    append(canonical, input.getItemIcon());
+    append(canonical, input.getItemPart());
+    append(canonical, input.getItemEquipmentPart());
+    append(canonical, input.getItemLevel());
+    append(canonical, input.isNoljang());
+    append(canonical, input.getCurrentStar());
+    append(canonical, input.getTargetStar());
+    append(canonical, specialRingLevel);
+    append(canonical, input.getPotentialGrade());
+    append(canonical, input.getPotentialOptions());
+    append(canonical, input.getAdditionalPotentialGrade());
+    append(canonical, input.getAdditionalPotentialOptions());
+    append(canonical, flameInput);
+
+    byte[] digest = sha256(canonical.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(Arrays.copyOf(digest, HASH_BYTES));
+  }
+
+  private static void append(StringBuilder canonical, Object value) {
+    canonical.append(value == null ? NULL_MARKER : value.toString()).append(FIELD_SEPARATOR);
+  }
+
+  private static void append(StringBuilder canonical, List<String> values) {
+    if (values == null) {
+      append(canonical, (Object) null);
+      return;
+    }
+    append(canonical, values.size());
+    values.forEach(value -> append(canonical, value));
+  }
+
+  /**
+   * SHA-256 해시
+   *
+   * <p>NoSuchAlgorithmException은 JVM이 SHA-256을 항상 지원하므로 발생하지 않지만 checked 예외이므로 try-catch로 처리합니다.
+   */
+  private static byte[] sha256(String input) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return digest.digest(input.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  private void record(String result) {
+    meterRegistry.counter("item.expectation.cache", "result", result).increment();
+  }
+}
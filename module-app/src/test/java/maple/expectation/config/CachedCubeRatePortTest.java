@@ -0,0 +1,80 @@
+package maple.expectation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import maple.expectation.core.domain.model.CubeRate;
+import maple.expectation.core.domain.model.CubeType;
+import maple.expectation.domain.repository.CubeProbabilityRepository;
+import maple.expectation.domain.v2.CubeProbability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TemporaryAdapterConfig.CachedCubeRatePort}
+ *
+ * <p>Verifies that the legacy table is mapped once per table version instead of on every call.
+ */
+@Tag("unit")
+@DisplayName("Unit: CachedCubeRatePort")
+class CachedCubeRatePortTest {
+
+  private CubeProbabilityRepository repository;
+  private TemporaryAdapterConfig.CachedCubeRatePort port;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(CubeProbabilityRepository.class);
+    when(repository.getCurrentTableVersion()).thenReturn("csv-v1.0");
+    when(repository.findAll())
+        .thenReturn(
+            List.of(
+                new CubeProbability(
+                    maple.expectation.domain.v2.CubeType.BLACK,
+                    "STR +12%",
+                    0.3,
+                    1,
+                    "레전드리",
+                    200,
+                    "모자"),
+                new CubeProbability(
+                    maple.expectation.domain.v2.CubeType.RED,
+                    "DEX +12%",
+                    0.7,
+                    1,
+                    "레전드리",
+                    200,
+                    "모자")));
+    port = new TemporaryAdapterConfig.CachedCubeRatePort(repository);
+  }
+
+  @Test
+  @DisplayName("같은 테이블 버전이면 원본 테이블을 한 번만 변환해야 함")
+  void maps_table_once_per_version() {
+    List<CubeRate> black = port.findByCubeType(CubeType.BLACK);
+    List<CubeRate> all = port.findAll();
+
+    assertThat(black).extracting(CubeRate::optionName).containsExactly("STR +12%");
+    assertThat(port.findByCubeType(CubeType.ADDITIONAL)).isEmpty();
+    assertThat(all).hasSize(2);
+    assertThat(port.findAll()).isSameAs(all);
+    verify(repository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("테이블 버전이 바뀌면 다시 변환해야 함")
+  void remaps_when_table_version_changes() {
+    port.findAll();
+    when(repository.getCurrentTableVersion()).thenReturn("csv-v2.0");
+
+    port.findAll();
+
+    verify(repository, times(2)).findAll();
+  }
+}
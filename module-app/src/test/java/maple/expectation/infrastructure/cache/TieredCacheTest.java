@@ -1,17 +1,25 @@
 package maple.expectation.infrastructure.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import maple.expectation.common.function.ThrowingSupplier;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
@@ -27,8 +35,13 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
 
 /**
  * TieredCache 단위 테스트 (Issue #194)
@@ -234,6 +247,83 @@ class TieredCacheTest {
       // then
       assertThat(publishedEvents).isEmpty();
     }
+
+    @Test
+    @DisplayName("Versioned Put: 원자적 비교 결과 내용이 같으면 L1 저장하되 무효화 미발행")
+    void shouldSkipInvalidationWhenContentUnchanged() {
+      // given
+      RScript script = stubPutIfChangedScript(0L);
+      TieredCache versioned = createVersioned(redisL2());
+
+      // when
+      versioned.put(KEY, VALUE);
+
+      // then: L2 쓰기는 비교 스크립트 1회로만 수행 (별도 GET/SET 없음)
+      verify(script).eval(any(), anyString(), any(), anyList(), any(Object[].class));
+      verify(l1).put(KEY, VALUE);
+      assertThat(publishedEvents).isEmpty();
+      Counter unchanged =
+          meterRegistry.get("cache.put.unchanged").tag("cache", CACHE_NAME).counter();
+      assertThat(unchanged.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Versioned Put: 원자적 비교 결과 내용이 바뀌었으면 무효화 발행")
+    void shouldPublishInvalidationWhenContentChanged() {
+      // given
+      stubPutIfChangedScript(1L);
+      TieredCache versioned = createVersioned(redisL2());
+
+      // when
+      versioned.put(KEY, VALUE);
+
+      // then
+      assertThat(publishedEvents).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Versioned Put: 원자적 비교가 불가능한 L2는 읽기 없이 항상 무효화 발행")
+    void shouldAlwaysPublishWhenL2CannotCompareAtomically() {
+      // given
+      TieredCache versioned = createVersioned(l2);
+
+      // when
+      versioned.put(KEY, VALUE);
+
+      // then
+      verify(l2, never()).get(any());
+      verify(l2).put(KEY, VALUE);
+      assertThat(publishedEvents).hasSize(1);
+    }
+
+    private RedisCache redisL2() {
+      RedisCache redisCache = mock(RedisCache.class);
+      given(redisCache.getName()).willReturn(CACHE_NAME);
+      given(redisCache.getCacheConfiguration())
+          .willReturn(RedisCacheConfiguration.defaultCacheConfig());
+      return redisCache;
+    }
+
+    private RScript stubPutIfChangedScript(long result) {
+      RScript script = mock(RScript.class);
+      given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+      given(script.eval(any(), anyString(), any(), anyList(), any(Object[].class)))
+          .willReturn(result);
+      return script;
+    }
+
+    private TieredCache createVersioned(Cache l2Cache) {
+      return new TieredCache(
+          l1,
+          l2Cache,
+          executor,
+          redissonClient,
+          meterRegistry,
+          LOCK_WAIT_SECONDS,
+          () -> "test-instance",
+          () -> publishedEvents::add,
+          true);
+    }
   }
 
   @Nested
@@ -423,6 +513,190 @@ class TieredCacheTest {
       assertThat(result).isEqualTo("doubleCheckValue");
       verify(loader, never()).call();
     }
+
+    @Test
+    @DisplayName("노드 로컬 Single-flight: 동시 미스 시 1개 스레드만 분산 락 시도, 나머지는 결과 공유")
+    void shouldCoalesceConcurrentMissesOnNode() throws Exception {
+      // given
+      int threads = 8;
+      given(l1.get(KEY)).willReturn(null);
+      given(l2.get(KEY)).willReturn(null);
+
+      RLock lock = createMockLock(true);
+      given(redissonClient.getLock(anyString())).willReturn(lock);
+
+      Counter followers =
+          meterRegistry
+              .find("cache.singleflight.local")
+              .tags("cache", CACHE_NAME, "role", "follower")
+              .counter();
+      AtomicInteger loaderCalls = new AtomicInteger();
+      Callable<String> loader =
+          () -> {
+            loaderCalls.incrementAndGet();
+            // 모든 Follower가 합류할 때까지 Leader 로드 지연
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LOCK_WAIT_SECONDS);
+            while (followers.count() < threads - 1 && System.nanoTime() < deadline) {
+              Thread.sleep(5);
+            }
+            return "loadedValue";
+          };
+
+      // when
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(pool.submit(() -> tieredCache.get(KEY, loader)));
+      }
+      for (Future<String> result : results) {
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("loadedValue");
+      }
+      pool.shutdown();
+
+      // then
+      assertThat(loaderCalls).hasValue(1);
+      verify(redissonClient, times(1)).getLock(anyString());
+      assertThat(followers.count()).isEqualTo(threads - 1);
+      assertThat(
+              meterRegistry
+                  .find("cache.singleflight.local")
+                  .tags("cache", CACHE_NAME, "role", "leader")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("L1 Fast Path")
+  class L1FastPathTest {
+
+    @Test
+    @DisplayName("get(Object) L1 히트 시 LogicExecutor·L2 미사용")
+    void shouldBypassExecutorOnL1Hit() {
+      // given
+      Cache.ValueWrapper wrapper = () -> VALUE;
+      given(l1.get(KEY)).willReturn(wrapper);
+
+      // when
+      Cache.ValueWrapper result = tieredCache.get(KEY);
+
+      // then
+      assertThat(result).isSameAs(wrapper);
+      verifyNoInteractions(executor);
+      verify(l2, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("get(Object, Callable) Caffeine native 히트 시 LogicExecutor·로더 미사용")
+    void shouldProbeCaffeineDirectlyOnLoaderGet() throws Exception {
+      // given
+      CaffeineCache caffeine = new CaffeineCache(CACHE_NAME, Caffeine.newBuilder().build());
+      caffeine.put(KEY, VALUE);
+      TieredCache cache = createWithL1(caffeine);
+      Callable<String> loader = mock(Callable.class);
+
+      // when
+      String result = cache.get(KEY, loader);
+
+      // then
+      assertThat(result).isEqualTo(VALUE);
+      verifyNoInteractions(executor);
+      verify(loader, never()).call();
+    }
+
+    @Test
+    @DisplayName("L1에 저장된 null(NullValue)은 미스로 취급하여 L2 조회")
+    void shouldTreatCachedNullAsMiss() {
+      // given
+      CaffeineCache caffeine = new CaffeineCache(CACHE_NAME, Caffeine.newBuilder().build());
+      caffeine.put(KEY, null);
+      given(l2.get(KEY)).willReturn(() -> VALUE);
+      TieredCache cache = createWithL1(caffeine);
+
+      // when
+      String result = cache.get(KEY, () -> "loadedValue");
+
+      // then
+      assertThat(result).isEqualTo(VALUE);
+      assertThat(caffeine.get(KEY, String.class)).isEqualTo(VALUE); // L2 Backfill
+    }
+
+    private TieredCache createWithL1(Cache caffeineL1) {
+      return new TieredCache(
+          caffeineL1,
+          l2,
+          executor,
+          redissonClient,
+          new SimpleMeterRegistry(),
+          LOCK_WAIT_SECONDS,
+          () -> "test-instance",
+          () -> publishedEvents::add);
+    }
+  }
+
+  @Nested
+  @DisplayName("다건 getAll/putAll")
+  class BulkTest {
+
+    @Test
+    @DisplayName("getAll: L1 히트 / L2 히트(L1 Backfill) / 미스로 분할")
+    void shouldPartitionHitsAndMisses() {
+      // given
+      given(l1.get("k1")).willReturn(() -> "v1");
+      given(l2.get("k2")).willReturn(() -> "v2");
+
+      // when
+      BulkGetResult<String, String> result =
+          tieredCache.getAll(List.of("k1", "k2", "k3", "k1"), String.class);
+
+      // then
+      assertThat(result.hits()).containsExactly(entry("k1", "v1"), entry("k2", "v2"));
+      assertThat(result.misses()).containsExactly("k3");
+      verify(l1).put("k2", "v2");
+      verify(l2, never()).get("k1");
+    }
+
+    @Test
+    @DisplayName("getAll with loader: 미스를 1회에 로드하고 L2 → L1 저장, 무효화 미발행")
+    void shouldLoadAllMissesAtOnce() {
+      // given
+      given(l1.get("k1")).willReturn(() -> "v1");
+      List<Set<String>> loaderCalls = new ArrayList<>();
+
+      // when
+      Map<String, String> result =
+          tieredCache.getAll(
+              List.of("k1", "k2", "k3"),
+              String.class,
+              misses -> {
+                loaderCalls.add(misses);
+                return Map.of("k2", "loaded2", "k3", "loaded3");
+              });
+
+      // then
+      assertThat(loaderCalls).containsExactly(Set.of("k2", "k3"));
+      assertThat(result)
+          .containsOnly(entry("k1", "v1"), entry("k2", "loaded2"), entry("k3", "loaded3"));
+      InOrder inOrder = inOrder(l2, l1);
+      inOrder.verify(l2).put("k2", "loaded2");
+      inOrder.verify(l1).put("k2", "loaded2");
+      assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("putAll: 양쪽 레이어 저장 후 키마다 무효화 발행")
+    void shouldPutAllAndPublishPerKey() {
+      // when
+      tieredCache.putAll(Map.of("k1", "v1", "k2", "v2"));
+
+      // then
+      verify(l2).put("k1", "v1");
+      verify(l1).put("k2", "v2");
+      assertThat(publishedEvents)
+          .extracting(CacheInvalidationEvent::key)
+          .containsExactlyInAnyOrder("k1", "k2");
+    }
   }
 
   @Nested
@@ -0,0 +1,51 @@
+package maple.expectation.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import maple.expectation.infrastructure.persistence.entity.CharacterEquipmentJpaEntity;
+import maple.expectation.util.GzipUtils;
+import maple.expectation.util.PresetDictionaryCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CharacterEquipmentJpaEntity 압축 컬럼 매핑 유닛 테스트
+ *
+ * <p>엔티티가 압축 바이트를 그대로 보관하고, String 접근은 요청 시에만 해제하는지 검증합니다. 신규 저장은 프리셋 사전 프레임,
+ * 기존 GZIP 행은 그대로 읽혀야 합니다.
+ */
+@Tag("unit")
+@DisplayName("Unit: CharacterEquipmentJpaEntity")
+class CharacterEquipmentJpaEntityTest {
+
+  private static final String OCID = "ocid-entity";
+  private static final String JSON = "{\"item_equipment\":[{\"item_name\":\"앱솔랩스 숄더\"}]}";
+
+  @Test
+  @DisplayName("JSON으로 생성하면 사전 프레임으로 보관하고 요청 시 원문으로 복원해야 함")
+  void json_constructor_stores_dictionary_frame() throws Exception {
+    CharacterEquipmentJpaEntity entity = new CharacterEquipmentJpaEntity(OCID, JSON);
+
+    assertThat(PresetDictionaryCodec.isDictionaryFramed(entity.getCompressedContent())).isTrue();
+    assertThat(PresetDictionaryCodec.decode(entity.getCompressedContent()))
+        .isEqualTo(JSON.getBytes(StandardCharsets.UTF_8));
+    assertThat(entity.getJsonContent()).isEqualTo(JSON);
+  }
+
+  @Test
+  @DisplayName("기존 GZIP 바이트로 생성/갱신하면 재압축 없이 그대로 보관하고 읽을 수 있어야 함")
+  void compressed_bytes_are_kept_as_is() throws Exception {
+    byte[] compressed = GzipUtils.compress(JSON.getBytes(StandardCharsets.UTF_8));
+
+    CharacterEquipmentJpaEntity entity = CharacterEquipmentJpaEntity.ofCompressed(OCID, compressed);
+    assertThat(entity.getCompressedContent()).isSameAs(compressed);
+    assertThat(entity.getJsonContent()).isEqualTo(JSON);
+
+    byte[] updated = GzipUtils.compress("{}".getBytes(StandardCharsets.UTF_8));
+    entity.updateCompressedData(updated);
+    assertThat(entity.getCompressedContent()).isSameAs(updated);
+    assertThat(entity.getUpdatedAt()).isNotNull();
+  }
+}
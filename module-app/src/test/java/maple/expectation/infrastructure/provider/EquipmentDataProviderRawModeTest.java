@@ -0,0 +1,117 @@
+package maple.expectation.infrastructure.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.external.NexonApiClient;
+import maple.expectation.infrastructure.external.dto.v2.EquipmentResponse;
+import maple.expectation.support.TestLogicExecutors;
+import maple.expectation.util.GzipUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * EquipmentDataProvider Raw 모드 유닛 테스트
+ *
+ * <p>Nexon 응답 원문이 DTO 바인딩 없이 1회 압축되어 전달되는지, DTO 소비자는 지연 바인딩으로 같은 내용을 얻는지 검증합니다.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit: EquipmentDataProvider Raw 모드")
+class EquipmentDataProviderRawModeTest {
+
+  private static final String OCID = "ocid-raw";
+  private static final String BODY =
+      "{\"date\":\"2026-01-01\",\"character_class\":\"아크메이지(불,독)\",\"preset_no\":2,"
+          + "\"item_equipment\":[{\"item_equipment_part\":\"모자\"}],\"unknown_field\":1}";
+
+  @Mock private NexonApiClient nexonApiClient;
+
+  private LogicExecutor executor;
+  private EquipmentFetchProvider fetchProvider;
+  private EquipmentDataProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    executor = TestLogicExecutors.passThrough();
+    fetchProvider = new EquipmentFetchProvider(nexonApiClient, executor);
+    provider =
+        new EquipmentDataProvider(
+            fetchProvider, new ObjectMapper(), executor, Runnable::run, true, true);
+
+    lenient()
+        .when(nexonApiClient.getRawItemDataByOcid(OCID))
+        .thenReturn(CompletableFuture.completedFuture(BODY.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  @DisplayName("원문 바이트를 DTO 없이 1회 GZIP 압축하여 반환해야 함")
+  void raw_body_is_gzipped_once_without_dto() throws Exception {
+    byte[] data = provider.getRawEquipmentData(OCID).join();
+
+    assertThat(GzipUtils.isGzipped(data)).isTrue();
+    assertThat(GzipUtils.decompress(data)).isEqualTo(BODY);
+    verify(nexonApiClient, times(1)).getRawItemDataByOcid(OCID);
+    verify(nexonApiClient, never()).getItemDataByOcid(anyString());
+  }
+
+  @Test
+  @DisplayName("DTO 소비자는 원문에서 지연 바인딩된 응답을 받아야 함")
+  void dto_consumer_binds_lazily_from_raw_bytes() {
+    EquipmentResponse response = provider.getEquipmentResponse(OCID).join();
+
+    assertThat(response.getCharacterClass()).isEqualTo("아크메이지(불,독)");
+    assertThat(response.getPresetNo()).isEqualTo(2);
+    assertThat(response.getItemEquipment()).hasSize(1);
+    assertThat(response.getItemEquipment().get(0).getItemEquipmentPart()).isEqualTo("모자");
+    verify(nexonApiClient, never()).getItemDataByOcid(anyString());
+  }
+
+  @Test
+  @DisplayName("평문 바이트도 그대로 바인딩해야 함")
+  void bind_accepts_plain_json() {
+    EquipmentResponse response =
+        provider.bindResponse(BODY.getBytes(StandardCharsets.UTF_8), OCID);
+
+    assertThat(response.getDate()).isEqualTo("2026-01-01");
+  }
+
+  @Test
+  @DisplayName("조회 Executor가 거부하면 예외를 던지지 않고 실패한 Future를 반환해야 함")
+  void rejected_fetch_returns_failed_future() {
+    EquipmentDataProvider rejecting =
+        new EquipmentDataProvider(
+            fetchProvider,
+            new ObjectMapper(),
+            executor,
+            task -> {
+              throw new RejectedExecutionException("equipment.fetch saturated");
+            },
+            true,
+            true);
+
+    CompletableFuture<byte[]> future = rejecting.getRawEquipmentData(OCID);
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    verify(nexonApiClient, never()).getRawItemDataByOcid(anyString());
+  }
+}
@@ -0,0 +1,97 @@
+package maple.expectation.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.util.List;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.core.domain.stat.StatParser;
+import maple.expectation.support.TestLogicExecutors;
+import maple.expectation.util.GzipCodec;
+import maple.expectation.util.PresetDictionaryCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EquipmentSnapshotCodec 유닛 테스트
+ *
+ * <p>실제 장비 JSON을 파싱한 결과가 스냅샷 왕복 후 그대로 복원되는지, 원본·옵션 사전·파서 버전이 바뀌면 스냅샷을 쓰지 않는지 검증합니다.
+ */
+@Tag("unit")
+@DisplayName("Unit: EquipmentSnapshotCodec")
+class EquipmentSnapshotCodecTest {
+
+  private OptionDictionary dictionary;
+  private EquipmentStreamingParser parser;
+  private byte[] json;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    StatParser statParser = new StatParser();
+    dictionary = OptionDictionary.compile(List.of("INT +12%", "올스탯 +9%"), statParser);
+    parser = new EquipmentStreamingParser(TestLogicExecutors.passThrough(), statParser, dictionary);
+    parser.initMappers();
+    try (InputStream in = getClass().getResourceAsStream("/evan_equip.json")) {
+      json = in.readAllBytes();
+    }
+  }
+
+  @Test
+  @DisplayName("스냅샷 왕복 시 모든 프리셋의 파싱 결과가 동일해야 함")
+  void snapshot_round_trip_matches_parser() throws Exception {
+    EquipmentSnapshotCodec codec = new EquipmentSnapshotCodec(dictionary);
+    EquipmentPresetSet parsed = parser.parseAllPresets(json);
+
+    byte[] snapshot = codec.encode(parsed, json);
+    EquipmentPresetSet restored = codec.decode(snapshot, json).orElseThrow();
+
+    assertThat(parsed.current()).isNotEmpty();
+    for (int presetNo = EquipmentPresetSet.CURRENT;
+        presetNo <= EquipmentPresetSet.PRESET_COUNT;
+        presetNo++) {
+      assertThat(restored.preset(presetNo)).isEqualTo(parsed.preset(presetNo));
+    }
+    assertThat(snapshot.length).isLessThan(GzipCodec.compress(json).length);
+  }
+
+  @Test
+  @DisplayName("같은 문서면 압축 형식과 무관하게 스냅샷을 사용해야 함")
+  void fingerprint_ignores_compression_format() throws Exception {
+    EquipmentSnapshotCodec codec = new EquipmentSnapshotCodec(dictionary);
+    byte[] snapshot = codec.encode(parser.parseAllPresets(json), GzipCodec.compress(json));
+
+    assertThat(codec.decode(snapshot, json)).isPresent();
+    assertThat(codec.decode(snapshot, PresetDictionaryCodec.encode(json))).isPresent();
+  }
+
+  @Test
+  @DisplayName("원본 문서나 옵션 사전이 바뀌면 스냅샷을 사용하지 않아야 함")
+  void stale_snapshot_is_ignored() throws Exception {
+    EquipmentSnapshotCodec codec = new EquipmentSnapshotCodec(dictionary);
+    byte[] snapshot = codec.encode(parser.parseAllPresets(json), json);
+
+    byte[] changed = json.clone();
+    changed[changed.length / 2] ^= 1;
+    EquipmentSnapshotCodec otherDictionary =
+        new EquipmentSnapshotCodec(OptionDictionary.compile(List.of("INT +12%"), new StatParser()));
+
+    assertThat(codec.decode(snapshot, changed)).isEmpty();
+    assertThat(otherDictionary.decode(snapshot, json)).isEmpty();
+    assertThat(codec.decode(null, json)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다른 파서 로직 버전으로 만든 스냅샷은 사용하지 않아야 함")
+  void snapshot_from_other_parser_version_is_ignored() throws Exception {
+    EquipmentSnapshotCodec codec = new EquipmentSnapshotCodec(dictionary);
+    byte[] snapshot = codec.encode(parser.parseAllPresets(json), json);
+
+    // 헤더: 'E' 'S' | version | parserVersion | ...
+    assertThat(snapshot[3]).isEqualTo((byte) EquipmentSnapshotCodec.PARSER_VERSION);
+    snapshot[3] = (byte) (EquipmentSnapshotCodec.PARSER_VERSION + 1);
+
+    assertThat(codec.decode(snapshot, json)).isEmpty();
+  }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -57,7 +58,12 @@ class PopularCharacterWarmupSchedulerTest {
 
     scheduler =
         new PopularCharacterWarmupScheduler(
-            popularCharacterTracker, expectationService, lockStrategy, executor, meterRegistry);
+            popularCharacterTracker,
+            expectationService,
+            lockStrategy,
+            executor,
+            meterRegistry,
+            mock(CacheManager.class));
 
     // Set @Value fields via reflection
     ReflectionTestUtils.setField(scheduler, "topCount", 50);
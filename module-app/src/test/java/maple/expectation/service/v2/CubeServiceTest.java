@@ -20,6 +20,7 @@ import maple.expectation.error.exception.UnsupportedCalculationEngineException;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.service.v2.cube.component.CubeDpCalculator;
+import maple.expectation.service.v2.cube.component.CubeOptionRateTableProvider;
 import maple.expectation.service.v2.cube.component.DpModeInferrer;
 import maple.expectation.service.v2.cube.config.CubeEngineFeatureFlag;
 import maple.expectation.service.v2.impl.CubeServiceImpl;
@@ -65,6 +66,8 @@ class CubeServiceTest {
 
   @Mock private DpModeInferrer dpModeInferrer;
 
+  @Mock private CubeOptionRateTableProvider rateTableProvider;
+
   private CubeTrialsProvider cubeService;
 
   private static final String TABLE_VERSION = "2024-12-01";
@@ -75,7 +78,13 @@ class CubeServiceTest {
 
     cubeService =
         new CubeServiceImpl(
-            rateCalculator, dpCalculator, repository, featureFlag, executor, dpModeInferrer);
+            rateCalculator,
+            dpCalculator,
+            repository,
+            featureFlag,
+            executor,
+            dpModeInferrer,
+            rateTableProvider);
 
     // Default mock behaviors
     lenient().when(repository.getCurrentTableVersion()).thenReturn(TABLE_VERSION);
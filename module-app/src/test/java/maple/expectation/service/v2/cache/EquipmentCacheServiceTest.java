@@ -48,6 +48,7 @@ class EquipmentCacheServiceTest {
   private LogicExecutor executor;
   private Cache tieredCache;
   private Cache l1Cache;
+  private Cache rawCache;
 
   private EquipmentCacheService cacheService;
 
@@ -59,10 +60,12 @@ class EquipmentCacheServiceTest {
     executor = TestLogicExecutors.passThrough();
     tieredCache = mock(Cache.class);
     l1Cache = mock(Cache.class);
+    rawCache = mock(Cache.class);
 
     // P1-4: 생성자에서 Cache 필드 캐싱하므로 getCache() stub 선행 필수
     given(cacheManager.getCache(CACHE_NAME)).willReturn(tieredCache);
     given(l1CacheManager.getCache(CACHE_NAME)).willReturn(l1Cache);
+    given(cacheManager.getCache("equipmentRaw")).willReturn(rawCache);
 
     cacheService = new EquipmentCacheService(cacheManager, l1CacheManager, dbWorker, executor);
   }
@@ -309,6 +312,39 @@ class EquipmentCacheServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("Raw 모드 원문 캐시")
+  class RawCacheTest {
+
+    @Test
+    @DisplayName("원문 저장 시 equipmentRaw 캐시 저장 + 압축 컬럼 비동기 DB 저장")
+    void shouldCacheAndPersistCompressed() {
+      // given
+      byte[] gzip = {0x1F, (byte) 0x8B, 1, 2};
+      given(dbWorker.persistCompressed(OCID, gzip))
+          .willReturn(CompletableFuture.completedFuture(null));
+
+      // when
+      cacheService.saveRawCache(OCID, gzip);
+
+      // then
+      verify(rawCache).put(OCID, gzip);
+      verify(dbWorker).persistCompressed(OCID, gzip);
+      verify(tieredCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("원문 캐시 히트 시 바이트 그대로 반환")
+    void shouldReturnCachedRawBytes() {
+      // given
+      byte[] gzip = {0x1F, (byte) 0x8B, 1, 2};
+      given(rawCache.get(OCID, byte[].class)).willReturn(gzip);
+
+      // when & then
+      assertThat(cacheService.getValidRawCache(OCID)).containsSame(gzip);
+    }
+  }
+
   // ==================== Helper Methods ====================
 
   private EquipmentResponse createEquipmentResponse(String characterClass) {
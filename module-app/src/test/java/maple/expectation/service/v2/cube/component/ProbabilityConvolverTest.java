@@ -1,14 +1,17 @@
 package maple.expectation.service.v2.cube.component;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 import java.util.List;
 import java.util.Map;
+import maple.expectation.core.probability.ConvolutionWorkspace;
 import maple.expectation.core.probability.ProbabilityConvolver;
 import maple.expectation.core.probability.TailProbabilityCalculator;
 import maple.expectation.domain.model.calculator.DensePmf;
 import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.model.calculator.SurvivalCurve;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +25,9 @@ import org.junit.jupiter.api.Test;
  * <ul>
  *   <li>브루트포스 교차검증 (2슬롯, 3슬롯)
  *   <li>Clamp ON/OFF 결과 일치
+ *   <li>생존 함수(target 독립)와 Clamp 결과 일치
+ *   <li>작업 공간 커널(버퍼 재사용)과 공개 API 결과 일치
+ *   <li>Virtual Thread 작업 공간 풀 재사용
  *   <li>불변식 (질량 보존, NaN/Inf 없음)
  *   <li>경계값 테스트
  * </ul>
@@ -244,6 +250,163 @@ class ProbabilityConvolverTest {
     }
   }
 
+  @Nested
+  @DisplayName("생존 함수(target 독립) 일치 테스트")
+  class SurvivalCurveConsistencyTest {
+
+    @Test
+    @DisplayName("모든 target에서 생존 함수 조회 결과는 Clamp 합성 결과와 동일해야 한다")
+    void survival_curve_matches_clamp_for_every_target() {
+      // Given
+      SparsePmf slot1 = SparsePmf.fromMap(Map.of(0, 0.9, 6, 0.08, 12, 0.02));
+      SparsePmf slot2 = SparsePmf.fromMap(Map.of(0, 0.85, 9, 0.1, 12, 0.05));
+      SparsePmf slot3 = SparsePmf.fromMap(Map.of(0, 0.7, 6, 0.2, 9, 0.1));
+      List<SparsePmf> slots = List.of(slot1, slot2, slot3);
+
+      // When: Clamp 없이 한 번만 합성
+      SurvivalCurve curve = SurvivalCurve.fromPmf(convolver.convolveAll(slots, 0, false));
+
+      // Then: target별 Clamp 합성과 일치
+      for (int target = 1; target <= 33; target++) {
+        DensePmf clampOn = convolver.convolveAll(slots, target, true);
+        double expected = tailCalculator.calculateTailProbability(clampOn, target, true);
+        assertThat(curve.tailAtLeast(target)).isCloseTo(expected, within(TOLERANCE));
+      }
+    }
+
+    @Test
+    @DisplayName("최대합 초과 target은 0, target 0 이하는 1을 반환해야 한다")
+    void survival_curve_boundaries() {
+      // Given
+      SparsePmf slot = SparsePmf.fromMap(Map.of(0, 0.5, 6, 0.3, 12, 0.2));
+
+      // When
+      SurvivalCurve curve = SurvivalCurve.fromPmf(convolver.convolveAll(List.of(slot), 0, false));
+
+      // Then
+      assertThat(curve.maxValue()).isEqualTo(12);
+      assertThat(curve.tailAtLeast(0)).isEqualTo(1.0);
+      assertThat(curve.tailAtLeast(13)).isEqualTo(0.0);
+      assertThat(curve.tailAtLeast(6)).isCloseTo(0.5, within(TOLERANCE));
+    }
+  }
+
+  @Nested
+  @DisplayName("작업 공간 커널 테스트")
+  class WorkspaceKernelTest {
+
+    @Test
+    @DisplayName("tailProbability는 convolveAll + 꼬리 확률 계산과 동일해야 한다 (Clamp ON/OFF)")
+    void tail_probability_matches_dense_path() {
+      // Given
+      SparsePmf slot1 = SparsePmf.fromMap(Map.of(0, 0.9, 6, 0.08, 12, 0.02));
+      SparsePmf slot2 = SparsePmf.fromMap(Map.of(0, 0.85, 9, 0.1, 12, 0.05));
+      SparsePmf slot3 = SparsePmf.fromMap(Map.of(0, 0.7, 6, 0.2, 9, 0.1));
+      List<SparsePmf> slots = List.of(slot1, slot2, slot3);
+
+      for (int target = 0; target <= 36; target++) {
+        for (boolean clamp : new boolean[] {true, false}) {
+          // When
+          DensePmf dense = convolver.convolveAll(slots, target, clamp);
+          double expected = tailCalculator.calculateTailProbability(dense, target, clamp);
+
+          // Then
+          assertThat(convolver.tailProbability(slots, target, clamp))
+              .isCloseTo(expected, within(TOLERANCE));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("큰 상태 이후 작은 상태로 재사용해도 이전 버퍼 잔여값이 섞이지 않아야 한다")
+    void reused_workspace_does_not_leak_previous_state() {
+      // Given
+      ConvolutionWorkspace workspace = new ConvolutionWorkspace();
+      SparsePmf wide = SparsePmf.fromMap(Map.of(0, 0.1, 100, 0.9));
+      SparsePmf narrow = SparsePmf.fromMap(Map.of(0, 0.5, 3, 0.5));
+
+      // When: 넓은 분포로 버퍼 확장 후 좁은 분포 합성
+      convolver.convolveInto(List.of(wide, wide, wide), 0, false, workspace);
+      convolver.convolveInto(List.of(narrow, narrow), 0, false, workspace);
+
+      // Then
+      assertThat(workspace.size()).isEqualTo(7);
+      assertThat(workspace.massAt(0)).isCloseTo(0.25, within(TOLERANCE));
+      assertThat(workspace.massAt(3)).isCloseTo(0.5, within(TOLERANCE));
+      assertThat(workspace.massAt(6)).isCloseTo(0.25, within(TOLERANCE));
+      assertThat(workspace.massAt(7)).isEqualTo(0.0);
+      assertThat(workspace.copyResult()).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("Virtual Thread에서는 반납된 작업 공간을 다음 대여에서 재사용해야 한다")
+    void virtual_threads_reuse_released_workspace() throws InterruptedException {
+      // Given
+      ConvolutionWorkspace[] borrowed = new ConvolutionWorkspace[2];
+      SparsePmf slot = SparsePmf.fromMap(Map.of(0, 0.5, 3, 0.5));
+
+      // When: 계산 후 반납하고 다시 대여
+      Thread.ofVirtual()
+          .start(
+              () -> {
+                borrowed[0] = ConvolutionWorkspace.acquire();
+                convolver.convolveInto(List.of(slot, slot), 0, false, borrowed[0]);
+                ConvolutionWorkspace.release(borrowed[0]);
+                borrowed[1] = ConvolutionWorkspace.acquire();
+                ConvolutionWorkspace.release(borrowed[1]);
+              })
+          .join();
+
+      // Then: 플랫폼 스레드(테스트 스레드)는 공유 풀이 아닌 스레드 로컬 작업 공간 사용
+      assertThat(borrowed[1]).isSameAs(borrowed[0]);
+      assertThat(ConvolutionWorkspace.acquire()).isNotSameAs(borrowed[0]);
+    }
+
+    @Test
+    @DisplayName("survivalCurve는 convolveAll 기반 생존 함수와 동일해야 한다")
+    void survival_curve_matches_dense_path() {
+      // Given
+      SparsePmf slot1 = SparsePmf.fromMap(Map.of(0, 0.7, 6, 0.2, 9, 0.1));
+      SparsePmf slot2 = SparsePmf.fromMap(Map.of(0, 0.6, 9, 0.4));
+      List<SparsePmf> slots = List.of(slot1, slot2);
+
+      // When
+      SurvivalCurve kernel = convolver.survivalCurve(slots);
+      SurvivalCurve dense = SurvivalCurve.fromPmf(convolver.convolveAll(slots, 0, false));
+
+      // Then
+      assertThat(kernel.maxValue()).isEqualTo(dense.maxValue());
+      for (int target = 0; target <= dense.maxValue() + 1; target++) {
+        assertThat(kernel.tailAtLeast(target))
+            .isCloseTo(dense.tailAtLeast(target), within(TOLERANCE));
+      }
+    }
+
+    @Test
+    @DisplayName("단일 패스 검증은 질량 보존 위반을 감지해야 한다")
+    void fused_validation_detects_mass_violation() {
+      // Given: Σp = 0.9
+      SparsePmf broken = new SparsePmf(new int[] {0, 6}, new double[] {0.5, 0.4});
+
+      // When & Then
+      assertThatThrownBy(() -> convolver.tailProbability(List.of(broken), 6, true))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("질량 보존 위반");
+    }
+
+    @Test
+    @DisplayName("음수 contribution은 즉시 거부해야 한다")
+    void negative_contribution_is_rejected() {
+      // Given
+      SparsePmf broken = new SparsePmf(new int[] {-3, 6}, new double[] {0.5, 0.5});
+
+      // When & Then
+      assertThatThrownBy(() -> convolver.convolveAll(List.of(broken), 6, true))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("음수 contribution");
+    }
+  }
+
   @Nested
   @DisplayName("불변식 테스트")
   class InvariantTest {
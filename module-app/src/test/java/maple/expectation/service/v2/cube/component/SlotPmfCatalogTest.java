@@ -0,0 +1,137 @@
+package maple.expectation.service.v2.cube.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import maple.expectation.core.domain.stat.StatType;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.repository.CubeProbabilityRepository;
+import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilityCellIndex;
+import maple.expectation.domain.v2.CubeType;
+import maple.expectation.support.TestLogicExecutors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * SlotPmfCatalog 유닛 테스트
+ *
+ * <p>사전 생성 후 조회가 빌더를 다시 호출하지 않는지, 버전 불일치·생성 전에는 빌더로 위임하는지 검증합니다.
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit: SlotPmfCatalog")
+class SlotPmfCatalogTest {
+
+  private static final String VERSION = "csv-v1.0";
+  private static final SparsePmf STR_PMF = SparsePmf.fromMap(Map.of(0, 0.7, 12, 0.3));
+
+  @Mock private CubeProbabilityRepository repository;
+  @Mock private SlotDistributionBuilder distributionBuilder;
+
+  private SimpleMeterRegistry meterRegistry;
+  private SlotPmfCatalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    catalog =
+        new SlotPmfCatalog(
+            repository, distributionBuilder, TestLogicExecutors.passThrough(), meterRegistry);
+    catalog.registerMetrics();
+
+    when(repository.getCurrentTableVersion()).thenReturn(VERSION);
+    when(repository.getCellIndex())
+        .thenReturn(
+            CubeProbabilityCellIndex.of(
+                List.of(
+                    new CubeProbability(CubeType.BLACK, "STR +12%", 0.3, 1, "레전드리", 200, "모자"),
+                    new CubeProbability(
+                        CubeType.BLACK, "DEX +12%", 0.7, 1, "레전드리", 200, "모자"))));
+    when(distributionBuilder.buildDistributionByVersion(
+            any(), anyInt(), anyString(), anyString(), anyInt(), any(), eq(VERSION)))
+        .thenReturn(SparsePmf.fromMap(Map.of(0, 1.0)));
+    when(distributionBuilder.buildDistributionByVersion(
+            CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, VERSION))
+        .thenReturn(STR_PMF);
+  }
+
+  @Test
+  @DisplayName("사전 생성 후 조회는 빌더를 다시 호출하지 않아야 함")
+  void materialized_lookup_does_not_rebuild() {
+    catalog.materializeCurrentVersion();
+    clearInvocations(distributionBuilder);
+
+    SparsePmf pmf =
+        catalog.distribution(
+            CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, VERSION);
+    SparsePmf missing =
+        catalog.distribution(
+            CubeType.RED, 250, "장갑", "레전드리", 1, StatType.STR_PERCENT, VERSION);
+
+    assertThat(pmf).isSameAs(STR_PMF);
+    assertThat(missing.size()).isEqualTo(1);
+    assertThat(missing.valueAt(0)).isZero();
+    assertThat(missing.probAt(0)).isEqualTo(1.0);
+    verify(distributionBuilder, never())
+        .buildDistributionByVersion(any(), anyInt(), any(), any(), anyInt(), any(), any());
+    assertThat(catalog.isMaterialized()).isTrue();
+    assertThat(meterRegistry.get("cube.slot.pmf.resident.bytes").gauge().value()).isPositive();
+    assertThat(meterRegistry.get("cube.slot.pmf.build").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("백그라운드 생성 완료 전에는 빌더로 계산하고, 완료 후에는 사전 생성 분포를 사용해야 함")
+  void background_materialization_falls_back_until_ready() {
+    assertThat(
+            catalog.distribution(
+                CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, VERSION))
+        .isSameAs(STR_PMF);
+    verify(distributionBuilder)
+        .buildDistributionByVersion(
+            CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, VERSION);
+
+    catalog.materializeInBackground();
+    await().atMost(Duration.ofSeconds(5)).until(catalog::isMaterialized);
+    clearInvocations(distributionBuilder);
+
+    assertThat(
+            catalog.distribution(
+                CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, VERSION))
+        .isSameAs(STR_PMF);
+    verify(distributionBuilder, never())
+        .buildDistributionByVersion(any(), anyInt(), any(), any(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("테이블 버전이 다르면 빌더로 위임해야 함")
+  void version_mismatch_delegates_to_builder() {
+    catalog.materializeCurrentVersion();
+    clearInvocations(distributionBuilder);
+
+    catalog.distribution(
+        CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, "csv-v2.0");
+
+    verify(distributionBuilder, times(1))
+        .buildDistributionByVersion(
+            CubeType.BLACK, 200, "모자", "레전드리", 1, StatType.STR_PERCENT, "csv-v2.0");
+  }
+}
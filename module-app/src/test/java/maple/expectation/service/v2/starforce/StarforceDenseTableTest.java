@@ -0,0 +1,135 @@
+package maple.expectation.service.v2.starforce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import maple.expectation.infrastructure.executor.DefaultLogicExecutor;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.policy.ExecutionPipeline;
+import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Starforce 밀집 테이블 테스트
+ *
+ * <h3>핵심 검증 항목</h3>
+ *
+ * <ul>
+ *   <li>밀집 테이블 조회 결과와 on-the-fly 마르코프 체인 계산 일치
+ *   <li>스냅샷 기록 → 메모리 매핑 왕복 시 값 보존
+ *   <li>지문 불일치 스냅샷은 무시
+ * </ul>
+ */
+class StarforceDenseTableTest {
+
+  private static final LogicExecutor EXECUTOR =
+      new DefaultLogicExecutor(
+          new ExecutionPipeline(List.of()), ExceptionTranslator.defaultTranslator());
+
+  private static final int[] LEVELS = {0, 95, 120, 140, 150, 160, 200, 250, 300};
+
+  @Nested
+  @DisplayName("조회 결과 동등성")
+  class EquivalenceTest {
+
+    @Test
+    @DisplayName("밀집 테이블 조회는 on-the-fly 계산과 동일한 값을 반환해야 한다")
+    void dense_lookup_matches_on_the_fly() {
+      // Given: 테이블 생성 전 인스턴스 / 생성 완료 인스턴스
+      StarforceLookupTableImpl onTheFly = new StarforceLookupTableImpl(EXECUTOR);
+      StarforceLookupTableImpl dense = readyTable(null);
+
+      // When & Then
+      for (int level : LEVELS) {
+        int maxStar = dense.getMaxStarForLevel(level);
+        for (int flags = 0; flags < StarforceDenseTable.FLAG_COMBINATIONS; flags++) {
+          boolean starCatch = (flags & 1) != 0;
+          boolean sunday = (flags & 2) != 0;
+          boolean discount = (flags & 4) != 0;
+          boolean destroyPrevention = (flags & 8) != 0;
+          for (int target = 1; target <= maxStar; target++) {
+            for (int current = 0; current < target; current++) {
+              assertThat(
+                      dense.getExpectedCost(
+                          current, target, level, starCatch, sunday, discount, destroyPrevention))
+                  .isEqualByComparingTo(
+                      onTheFly.getExpectedCost(
+                          current, target, level, starCatch, sunday, discount, destroyPrevention));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("스냅샷")
+  class SnapshotTest {
+
+    @Test
+    @DisplayName("기록한 스냅샷을 매핑하면 동일한 값을 반환해야 한다")
+    void snapshot_round_trip(@TempDir Path dir) throws IOException {
+      // Given: 첫 인스턴스가 생성 후 스냅샷 기록
+      Path snapshot = dir.resolve("starforce-lookup.bin");
+      StarforceLookupTableImpl builder = readyTable(snapshot);
+      awaitFile(snapshot);
+
+      // When: 두 번째 인스턴스는 스냅샷 매핑
+      StarforceLookupTableImpl mapped =
+          new StarforceLookupTableImpl(EXECUTOR, snapshot.toString());
+      mapped.initialize();
+
+      // Then
+      assertThat(mapped.isDenseTableReady()).isTrue();
+      for (int level : LEVELS) {
+        int maxStar = mapped.getMaxStarForLevel(level);
+        assertThat(mapped.getExpectedCost(0, maxStar, level, true, true, true, false))
+            .isEqualByComparingTo(
+                builder.getExpectedCost(0, maxStar, level, true, true, true, false));
+      }
+    }
+
+    @Test
+    @DisplayName("지문이 다른 스냅샷은 매핑하지 않아야 한다")
+    void fingerprint_mismatch_is_ignored(@TempDir Path dir) throws IOException {
+      // Given
+      int[] maxStars = new int[StarforceDenseTable.MAX_LEVEL + 1];
+      Arrays.fill(maxStars, 5);
+      Path snapshot = dir.resolve("table.bin");
+      StarforceDenseTable.build(maxStars, 1L, (level, flags, target, out) -> {})
+          .writeSnapshot(snapshot);
+
+      // When & Then
+      assertThat(StarforceDenseTable.map(snapshot, maxStars, 1L)).isNotNull();
+      assertThat(StarforceDenseTable.map(snapshot, maxStars, 2L)).isNull();
+      assertThat(StarforceDenseTable.map(dir.resolve("missing.bin"), maxStars, 1L)).isNull();
+    }
+  }
+
+  private static StarforceLookupTableImpl readyTable(Path snapshot) {
+    StarforceLookupTableImpl table =
+        new StarforceLookupTableImpl(EXECUTOR, snapshot != null ? snapshot.toString() : null);
+    table.initialize();
+    long deadline = System.nanoTime() + 30_000_000_000L;
+    while (!table.isDenseTableReady() && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(table.isDenseTableReady()).isTrue();
+    return table;
+  }
+
+  private static void awaitFile(Path path) {
+    long deadline = System.nanoTime() + 30_000_000_000L;
+    while (!Files.exists(path) && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(path).exists();
+  }
+}
@@ -0,0 +1,143 @@
+package maple.expectation.service.v4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.core.domain.stat.StatParser;
+import maple.expectation.dto.CubeCalculationInput;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.CostBreakdownDto;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.ItemExpectationV4;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.PresetExpectation;
+import maple.expectation.parser.EquipmentPresetSet;
+import maple.expectation.parser.EquipmentStreamingParser;
+import maple.expectation.support.TestLogicExecutors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PresetCalculationPlanner 유닛 테스트
+ *
+ * <p>여러 프리셋에 걸친 같은 아이템은 한 번만 계산하고, 프리셋별 목록·합계는 기존과 같이 조립되는지 검증합니다. 풀이 거부하거나
+ * 포화되어 작업자가 시작하지 못해도 요청 스레드가 모든 아이템을 계산해야 합니다.
+ */
+@Tag("unit")
+@DisplayName("Unit: PresetCalculationPlanner")
+class PresetCalculationPlannerTest {
+
+  private static final String CHARACTER_CLASS = "에반";
+
+  private EquipmentPresetSet presets;
+  private PresetCalculationHelper helper;
+  private PresetCalculationPlanner planner;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    StatParser statParser = new StatParser();
+    EquipmentStreamingParser parser =
+        new EquipmentStreamingParser(
+            TestLogicExecutors.passThrough(), statParser, OptionDictionary.empty());
+    parser.initMappers();
+    try (InputStream in = getClass().getResourceAsStream("/evan_equip.json")) {
+      presets = parser.parseAllPresets(in.readAllBytes());
+    }
+
+    helper = spy(new PresetCalculationHelper(null, null, null, null, null));
+    doReturn(item(BigDecimal.TEN)).when(helper).calculateItem(any(), anyInt(), anyString());
+    planner = new PresetCalculationPlanner(helper, TestLogicExecutors.passThrough(), Runnable::run);
+  }
+
+  @Test
+  @DisplayName("여러 프리셋에 있는 같은 아이템은 한 번만 계산해야 함")
+  void shared_items_are_calculated_once() {
+    Set<CubeCalculationInput> distinct = new HashSet<>();
+    int total = 0;
+    for (int presetNo = 1; presetNo <= EquipmentPresetSet.PRESET_COUNT; presetNo++) {
+      distinct.addAll(presets.preset(presetNo));
+      total += presets.preset(presetNo).size();
+    }
+
+    planner.calculateAll(presets, CHARACTER_CLASS);
+
+    assertThat(distinct.size()).isLessThan(total);
+    verify(helper, times(distinct.size())).calculateItem(any(), anyInt(), anyString());
+  }
+
+  @Test
+  @DisplayName("프리셋별 아이템 목록과 합계는 프리셋 입력 그대로 조립되어야 함")
+  void presets_are_assembled_from_shared_results() {
+    List<PresetExpectation> results = planner.calculateAll(presets, CHARACTER_CLASS);
+
+    assertThat(results).isNotEmpty();
+    for (PresetExpectation result : results) {
+      List<CubeCalculationInput> inputs = presets.preset(result.getPresetNo());
+      long ready = inputs.stream().filter(CubeCalculationInput::isReady).count();
+
+      assertThat(result.getItems()).hasSize(inputs.size());
+      assertThat(result.getTotalExpectedCost())
+          .isEqualByComparingTo(BigDecimal.TEN.multiply(BigDecimal.valueOf(ready)));
+    }
+  }
+
+  @Test
+  @DisplayName("풀이 제출을 거부하면 요청 스레드가 모든 아이템을 계산해야 함")
+  void rejected_pool_falls_back_to_caller() {
+    PresetCalculationPlanner rejecting =
+        new PresetCalculationPlanner(
+            helper,
+            TestLogicExecutors.passThrough(),
+            task -> {
+              throw new RejectedExecutionException("preset pool saturated");
+            });
+
+    List<PresetExpectation> results = rejecting.calculateAll(presets, CHARACTER_CLASS);
+
+    assertThat(results).isNotEmpty();
+    verify(helper, times(distinctCount())).calculateItem(any(), anyInt(), anyString());
+  }
+
+  @Test
+  @DisplayName("대기열에서 시작하지 못한 작업자를 기다리지 않고, 이후 실행되어도 계산하지 않아야 함")
+  void queued_helpers_are_not_awaited() {
+    List<Runnable> queued = new ArrayList<>();
+    PresetCalculationPlanner saturated =
+        new PresetCalculationPlanner(helper, TestLogicExecutors.passThrough(), queued::add);
+
+    List<PresetExpectation> results = saturated.calculateAll(presets, CHARACTER_CLASS);
+    queued.forEach(Runnable::run);
+
+    assertThat(queued).hasSize(PresetCalculationPlanner.POOL_WORKERS);
+    assertThat(results).isNotEmpty();
+    verify(helper, times(distinctCount())).calculateItem(any(), anyInt(), anyString());
+  }
+
+  private int distinctCount() {
+    Set<CubeCalculationInput> distinct = new HashSet<>();
+    for (int presetNo = 1; presetNo <= EquipmentPresetSet.PRESET_COUNT; presetNo++) {
+      distinct.addAll(presets.preset(presetNo));
+    }
+    return distinct.size();
+  }
+
+  private static ItemExpectationV4 item(BigDecimal cost) {
+    return ItemExpectationV4.builder()
+        .expectedCost(cost)
+        .costBreakdown(CostBreakdownDto.empty())
+        .build();
+  }
+}
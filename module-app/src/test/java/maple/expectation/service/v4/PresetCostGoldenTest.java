@@ -0,0 +1,168 @@
+package maple.expectation.service.v4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import maple.expectation.domain.v2.CubeType;
+import maple.expectation.dto.CubeCalculationInput;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.CostBreakdownDto;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.CubeExpectationDto;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.ItemExpectationV4;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.PresetExpectation;
+import maple.expectation.dto.v4.EquipmentExpectationResponseV4.StarforceExpectationDto;
+import maple.expectation.service.v2.calculator.v4.EquipmentExpectationCalculatorFactory;
+import maple.expectation.service.v2.flame.FlameInputResolver;
+import maple.expectation.service.v2.policy.CubeCostPolicy;
+import maple.expectation.service.v2.policy.TableBasedCostStrategy;
+import maple.expectation.service.v2.starforce.StarforceLookupTableImpl;
+import maple.expectation.service.v4.cache.ItemExpectationCache;
+import maple.expectation.support.TestLogicExecutors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * V4 비용 파이프라인 골든 테스트
+ *
+ * <p>고정된 기대 시도 횟수 + 실제 비용 테이블/스타포스 테이블로 아이템·프리셋 결과를 계산하고, 반올림된 출력값을 BigDecimal 기반 계산 시절의
+ * 값으로 고정합니다. 반올림 정책(시도 횟수 HALF_UP, 스타포스 표시 100메소 단위)이 바뀌면 실패합니다.
+ */
+@Tag("unit")
+@DisplayName("Unit: V4 비용 파이프라인 골든 값")
+class PresetCostGoldenTest {
+
+  private static final String CHARACTER_CLASS = "에반";
+
+  /** 레벨별 고정 기대 시도 횟수: 37.5 → 38, 1234.49 → 1234, 0.5 → 1, Infinity → 0 */
+  private static final Map<Integer, Map<CubeType, Double>> TRIALS =
+      Map.of(
+          160, Map.of(CubeType.BLACK, 37.5, CubeType.ADDITIONAL, 1234.49),
+          200, Map.of(CubeType.BLACK, 0.5, CubeType.ADDITIONAL, Double.POSITIVE_INFINITY));
+
+  private PresetCalculationHelper helper;
+
+  @BeforeEach
+  void setUp() {
+    StarforceLookupTableImpl starforceTable =
+        new StarforceLookupTableImpl(TestLogicExecutors.passThrough());
+    EquipmentExpectationCalculatorFactory factory =
+        new EquipmentExpectationCalculatorFactory(
+            (input, type) -> TRIALS.get(input.getLevel()).get(type),
+            new CubeCostPolicy(new TableBasedCostStrategy()),
+            starforceTable);
+
+    ItemExpectationCache itemCache = mock(ItemExpectationCache.class);
+    when(itemCache.getOrCompute(any(), anyInt(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<ItemExpectationV4>>getArgument(3).get());
+
+    helper =
+        new PresetCalculationHelper(
+            factory, starforceTable, null, mock(FlameInputResolver.class), itemCache);
+  }
+
+  @Test
+  @DisplayName("큐브 + 스타포스 아이템: 비용·시도 횟수·스타포스 표시값 고정")
+  void hat_with_cubes_and_starforce() {
+    ItemExpectationV4 item = helper.calculateItem(hat(), 1, CHARACTER_CLASS);
+
+    assertThat(item.getExpectedCost()).isEqualByComparingTo("67845534763");
+    assertThat(item.getExpectedCostText()).isEqualTo("678억 4553만");
+    assertBreakdown(item.getCostBreakdown(), "1615000000", "57951725000", "8278809763");
+
+    assertCube(item.getBlackCubeExpectation(), "1615000000", "16억 1500만", "38");
+    assertCube(item.getAdditionalCubeExpectation(), "57951725000", "579억 5172만", "1234");
+
+    StarforceExpectationDto starforce = item.getStarforceExpectation();
+    assertThat(starforce.getCostWithoutDestroyPrevention()).isEqualByComparingTo("8278809800");
+    assertThat(starforce.getCostWithoutDestroyPreventionText()).isEqualTo("82억 7880만");
+    assertThat(starforce.getExpectedDestroyCountWithout()).isEqualByComparingTo("3.87");
+    assertThat(starforce.getCostWithDestroyPrevention()).isEqualByComparingTo("11010105400");
+    assertThat(starforce.getCostWithDestroyPreventionText()).isEqualTo("110억 1010만");
+    assertThat(starforce.getExpectedDestroyCountWith()).isEqualByComparingTo("2.43");
+  }
+
+  @Test
+  @DisplayName("0.5회는 1회로 올림, 불가능 조합(Infinity)은 0원")
+  void half_trial_rounds_up_and_impossible_is_zero() {
+    ItemExpectationV4 item = helper.calculateItem(glove(), 1, CHARACTER_CLASS);
+
+    assertThat(item.getExpectedCost()).isEqualByComparingTo("18000000");
+    assertThat(item.getExpectedCostText()).isEqualTo("1800만");
+    assertBreakdown(item.getCostBreakdown(), "18000000", "0", "0");
+
+    assertCube(item.getBlackCubeExpectation(), "18000000", "1800만", "1");
+    assertCube(item.getAdditionalCubeExpectation(), "0", "0", "0");
+    assertThat(item.getStarforceExpectation().getCostWithoutDestroyPrevention())
+        .isEqualByComparingTo(BigDecimal.ZERO);
+  }
+
+  @Test
+  @DisplayName("프리셋 합계는 아이템 비용의 정확한 합")
+  void preset_total_is_exact_sum() {
+    CubeCalculationInput hat = hat();
+    CubeCalculationInput glove = glove();
+    Map<CubeCalculationInput, ItemExpectationV4> results =
+        Map.of(
+            hat, helper.calculateItem(hat, 1, CHARACTER_CLASS),
+            glove, helper.calculateItem(glove, 1, CHARACTER_CLASS));
+
+    PresetExpectation preset = helper.assemblePreset(1, List.of(hat, glove), results);
+
+    assertThat(preset.getTotalExpectedCost()).isEqualByComparingTo("67863534763");
+    assertThat(preset.getTotalCostText()).isEqualTo("678억 6353만");
+    assertBreakdown(preset.getCostBreakdown(), "1633000000", "57951725000", "8278809763");
+  }
+
+  private static void assertBreakdown(
+      CostBreakdownDto breakdown, String blackCube, String additionalCube, String starforce) {
+    assertThat(breakdown.getBlackCubeCost()).isEqualByComparingTo(blackCube);
+    assertThat(breakdown.getRedCubeCost()).isEqualByComparingTo(BigDecimal.ZERO);
+    assertThat(breakdown.getAdditionalCubeCost()).isEqualByComparingTo(additionalCube);
+    assertThat(breakdown.getStarforceCost()).isEqualByComparingTo(starforce);
+  }
+
+  private static void assertCube(
+      CubeExpectationDto cube, String cost, String costText, String trials) {
+    assertThat(cube.getExpectedCost()).isEqualByComparingTo(cost);
+    assertThat(cube.getExpectedCostText()).isEqualTo(costText);
+    assertThat(cube.getExpectedTrials()).isEqualByComparingTo(trials);
+  }
+
+  /** 160레벨 레전드리/유니크 모자, 22성 */
+  private static CubeCalculationInput hat() {
+    return CubeCalculationInput.builder()
+        .itemName("앱솔랩스 메이지햇")
+        .part("모자")
+        .itemEquipmentPart("모자")
+        .level(160)
+        .grade("레전드리")
+        .options(List.of("INT +12%", "INT +9%", "INT +9%"))
+        .additionalGrade("유니크")
+        .additionalOptions(List.of("마력 +10", "INT +6%", "INT +4%"))
+        .starforce(22)
+        .build();
+  }
+
+  /** 200레벨 에픽/레어 장갑, 스타포스 없음 */
+  private static CubeCalculationInput glove() {
+    return CubeCalculationInput.builder()
+        .itemName("아케인셰이드 메이지글러브")
+        .part("장갑")
+        .itemEquipmentPart("장갑")
+        .level(200)
+        .grade("에픽")
+        .options(List.of("INT +6%", "INT +3%", "LUK +3%"))
+        .additionalGrade("레어")
+        .additionalOptions(List.of("마력 +5", "INT +2%", "LUK +2%"))
+        .starforce(0)
+        .build();
+  }
+}
@@ -0,0 +1,73 @@
+package maple.expectation.service.v4.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import maple.expectation.core.probability.FlameScoreCalculator.JobWeights;
+import maple.expectation.dto.v4.EquipmentCalculationInput;
+import maple.expectation.service.v2.flame.FlameInputResolver.FlameInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ItemExpectationCache 키 유닛 테스트
+ *
+ * <p>결과에 영향 없는 필드(프리셋 번호)는 키에서 빠지고, 계산에 쓰이는 필드는 하나만 달라도 다른 키가 되는지 검증합니다.
+ */
+@Tag("unit")
+@DisplayName("Unit: ItemExpectationCache")
+class ItemExpectationCacheTest {
+
+  private static final JobWeights INT_WEIGHTS = JobWeights.of("INT", "LUK");
+  private static final FlameInput FLAME = new FlameInput(true, false, 120, 0, 0, INT_WEIGHTS);
+
+  @Test
+  @DisplayName("같은 구성이면 프리셋 번호가 달라도 같은 키")
+  void same_item_in_other_preset_shares_key() {
+    String preset1 = ItemExpectationCache.contentHash(hat(1, List.of("INT +12%")), 0, FLAME);
+    String preset3 = ItemExpectationCache.contentHash(hat(3, List.of("INT +12%")), 0, FLAME);
+
+    assertThat(preset1).isEqualTo(preset3);
+  }
+
+  @Test
+  @DisplayName("옵션·불꽃 입력이 다르면 다른 키")
+  void calculation_fields_change_key() {
+    String base = ItemExpectationCache.contentHash(hat(1, List.of("INT +12%")), 0, FLAME);
+    String otherOption = ItemExpectationCache.contentHash(hat(1, List.of("INT +9%")), 0, FLAME);
+    String otherFlame =
+        ItemExpectationCache.contentHash(
+            hat(1, List.of("INT +12%")), 0, new FlameInput(true, false, 130, 0, 0, INT_WEIGHTS));
+    String noFlame = ItemExpectationCache.contentHash(hat(1, List.of("INT +12%")), 0, null);
+
+    assertThat(otherOption).isNotEqualTo(base);
+    assertThat(otherFlame).isNotEqualTo(base);
+    assertThat(noFlame).isNotEqualTo(base);
+  }
+
+  @Test
+  @DisplayName("null 옵션 목록과 빈 옵션 목록은 다른 키")
+  void null_and_empty_options_differ() {
+    String empty = ItemExpectationCache.contentHash(hat(1, List.of()), 0, FLAME);
+    String absent = ItemExpectationCache.contentHash(hat(1, null), 0, FLAME);
+
+    assertThat(empty).isNotEqualTo(absent);
+  }
+
+  private static EquipmentCalculationInput hat(int presetNo, List<String> options) {
+    return EquipmentCalculationInput.builder()
+        .itemName("앱솔랩스 메이지햇")
+        .itemPart("모자")
+        .itemEquipmentPart("모자")
+        .itemLevel(160)
+        .presetNo(presetNo)
+        .potentialGrade("레전드리")
+        .potentialOptions(options)
+        .additionalPotentialGrade("유니크")
+        .additionalPotentialOptions(List.of("마력 +10"))
+        .currentStar(0)
+        .targetStar(22)
+        .build();
+  }
+}
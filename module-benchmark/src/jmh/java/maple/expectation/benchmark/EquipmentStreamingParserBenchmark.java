@@ -0,0 +1,80 @@
+package maple.expectation.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import maple.expectation.benchmark.support.BenchmarkFixtures;
+import maple.expectation.core.domain.stat.StatParser;
+import maple.expectation.dto.CubeCalculationInput;
+import maple.expectation.parser.EquipmentPresetSet;
+import maple.expectation.parser.EquipmentStreamingParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link EquipmentStreamingParser} 프리셋 파싱 벤치마크
+ *
+ * <p>{@code parseAllPresetsSequentially}는 프리셋 1~3을 각각 파싱하던 기존 V4 Cold 요청 비용, {@code
+ * parseAllPresetsSinglePass}는 {@link EquipmentStreamingParser#parseAllPresets} 단일 패스 비용입니다.
+ * gzip=true는 캐시/DB에서 읽은 압축 바이트를 그대로 넘기는 경로를 재현합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EquipmentStreamingParserBenchmark {
+
+  @Param({"evan", "mechanic"})
+  private String fixture;
+
+  @Param({"false", "true"})
+  private boolean gzip;
+
+  private EquipmentStreamingParser parser;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    parser =
+        new EquipmentStreamingParser(
+            BenchmarkFixtures.passThroughExecutor(),
+            new StatParser(),
+            BenchmarkFixtures.loadCubeProbabilityRepository().getOptionDictionary());
+    parser.initMappers();
+
+    byte[] raw = BenchmarkFixtures.loadEquipmentJson(fixture);
+    payload = gzip ? BenchmarkFixtures.gzip(raw) : raw;
+  }
+
+  /** 프리셋 번호 (0=현재 장착, 3=문서 마지막 배열 → 최장 토큰 스캔) */
+  @State(Scope.Thread)
+  public static class PresetParam {
+    @Param({"0", "1", "3"})
+    int presetNo;
+  }
+
+  /** 단일 프리셋 파싱 */
+  @Benchmark
+  public List<CubeCalculationInput> parsePreset(PresetParam preset) {
+    return parser.parseCubeInputsForPreset(payload, preset.presetNo);
+  }
+
+  /** 프리셋 1~3 순차 파싱 (단일 패스 도입 전 V4 요청당 작업량) */
+  @Benchmark
+  public void parseAllPresetsSequentially(Blackhole bh) {
+    for (int preset = 1; preset <= 3; preset++) {
+      bh.consume(parser.parseCubeInputsForPreset(payload, preset));
+    }
+  }
+
+  /** 현재 장착 + 프리셋 1~3 단일 패스 파싱 (V4 calculateAllPresets 현재 경로) */
+  @Benchmark
+  public EquipmentPresetSet parseAllPresetsSinglePass() {
+    return parser.parseAllPresets(payload);
+  }
+}
@@ -0,0 +1,102 @@
+package maple.expectation.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import maple.expectation.core.domain.flame.FlameEquipCategory;
+import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.core.probability.FlameDpCalculator;
+import maple.expectation.core.probability.FlameScoreCalculator;
+import maple.expectation.core.probability.kernel.RowKernels;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link FlameDpCalculator} 벤치마크
+ *
+ * <p>V4 프리셋 계산은 아이템마다 3종 불꽃(POWERFUL/ETERNAL/ABYSS)을 계산하므로, PMF 생성을 포함한 전체 경로({@code
+ * buildPmfsAndCalculate})와 DP 단독({@code calculateExpectedTrials})을 분리 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FlameDpCalculatorBenchmark {
+
+  @Param({"BOSS_ARMOR", "OTHER_ARMOR", "BOSS_WEAPON"})
+  private FlameEquipCategory category;
+
+  @Param({"POWERFUL", "ETERNAL"})
+  private FlameType flameType;
+
+  @Param({"160", "200", "250"})
+  private int level;
+
+  /** 목표 환산치 (SCALE 10 적용) */
+  @Param({"1000", "1600"})
+  private int target;
+
+  /** 행 커널 (vector는 jdk.incubator.vector 미로드 시 스칼라 폴백) */
+  @Param({"scalar", "vector"})
+  private String kernel;
+
+  private final int baseAtt = 323;
+  private final int baseMag = 0;
+
+  private FlameDpCalculator dpCalculator;
+  private FlameScoreCalculator scoreCalculator;
+  private FlameScoreCalculator.JobWeights weights;
+  private List<Map<Integer, Double>> optionPmfs;
+  private FlameOutcomeModel model;
+
+  @Setup
+  public void setUp() {
+    dpCalculator = new FlameDpCalculator(RowKernels.select("vector".equals(kernel)));
+    scoreCalculator = new FlameScoreCalculator();
+    weights = FlameScoreCalculator.JobWeights.of("STR", "DEX");
+    optionPmfs =
+        scoreCalculator.buildOptionPmfs(category, flameType, level, weights, baseAtt, baseMag);
+    model =
+        dpCalculator.buildModel(
+            scoreCalculator.buildOptionSparsePmfs(
+                category, flameType, level, weights, baseAtt, baseMag),
+            category.isBossDrop());
+  }
+
+  /** DP 단독 (옵션 PMF 사전 생성) */
+  @Benchmark
+  public Double calculateExpectedTrials() {
+    return dpCalculator.calculateExpectedTrials(
+        category, flameType, level, weights, target, baseAtt, baseMag, optionPmfs);
+  }
+
+  /** 메모이즈된 결과 분포 모델 조회 (FlameTrialsService 캐시 히트 경로) */
+  @Benchmark
+  public Double calculateFromModel() {
+    return dpCalculator.calculateExpectedTrials(model, target);
+  }
+
+  /** 결과 분포 모델 생성 (FlameTrialsService 캐시 미스 경로) */
+  @Benchmark
+  public FlameOutcomeModel buildModel() {
+    return dpCalculator.buildModel(
+        scoreCalculator.buildOptionSparsePmfs(
+            category, flameType, level, weights, baseAtt, baseMag),
+        category.isBossDrop());
+  }
+
+  /** PMF 생성 + DP (레거시 Map 경로) */
+  @Benchmark
+  public Double buildPmfsAndCalculate() {
+    List<Map<Integer, Double>> pmfs =
+        scoreCalculator.buildOptionPmfs(category, flameType, level, weights, baseAtt, baseMag);
+    return dpCalculator.calculateExpectedTrials(
+        category, flameType, level, weights, target, baseAtt, baseMag, pmfs);
+  }
+}
@@ -0,0 +1,103 @@
+package maple.expectation.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import maple.expectation.benchmark.support.BenchmarkFixtures;
+import maple.expectation.core.domain.stat.StatParser;
+import maple.expectation.core.domain.stat.StatType;
+import maple.expectation.core.probability.ProbabilityConvolver;
+import maple.expectation.core.probability.kernel.RowKernels;
+import maple.expectation.domain.model.calculator.DensePmf;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.repository.CubeProbabilityRepository;
+import maple.expectation.domain.v2.CubeType;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.service.v2.cube.component.SlotDistributionBuilder;
+import maple.expectation.service.v2.cube.component.StatValueExtractor;
+import maple.expectation.service.v2.cube.config.TableMassConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link ProbabilityConvolver#convolveAll} 벤치마크
+ *
+ * <p>슬롯 PMF는 실제 cube_probability.csv에서 {@link SlotDistributionBuilder}로 생성합니다. 분포 생성 비용은
+ * {@code buildAndConvolve}에서 별도로 측정하여 합성곱 자체와 분리합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProbabilityConvolverBenchmark {
+
+  private static final int SLOT_COUNT = 3;
+
+  @Param({"BLACK", "ADDITIONAL"})
+  private CubeType cubeType;
+
+  @Param({"21", "30", "33"})
+  private int target;
+
+  @Param({"true", "false"})
+  private boolean enableTailClamp;
+
+  /** 행 커널 (vector는 jdk.incubator.vector 미로드 시 스칼라 폴백) */
+  @Param({"scalar", "vector"})
+  private String kernel;
+
+  private final int level = 200;
+  private final String part = "모자";
+  private final String grade = "레전드리";
+  private final StatType targetStat = StatType.STR_PERCENT;
+
+  private ProbabilityConvolver convolver;
+  private SlotDistributionBuilder distributionBuilder;
+  private String tableVersion;
+  private List<SparsePmf> slotPmfs;
+
+  @Setup
+  public void setUp() {
+    CubeProbabilityRepository repository = BenchmarkFixtures.loadCubeProbabilityRepository();
+    LogicExecutor executor = BenchmarkFixtures.passThroughExecutor();
+    StatValueExtractor extractor = new StatValueExtractor(new StatParser(), executor);
+
+    convolver = new ProbabilityConvolver(RowKernels.select("vector".equals(kernel)));
+    distributionBuilder =
+        new SlotDistributionBuilder(repository, extractor, executor, new TableMassConfig());
+    tableVersion = repository.getCurrentTableVersion();
+    slotPmfs = buildSlotPmfs();
+  }
+
+  /** 합성곱 단독 (슬롯 PMF 사전 생성) */
+  @Benchmark
+  public DensePmf convolveAll() {
+    return convolver.convolveAll(slotPmfs, target, enableTailClamp);
+  }
+
+  /** 작업 공간 커널로 꼬리 확률 직접 산출 (DensePmf 미생성) */
+  @Benchmark
+  public double tailProbability() {
+    return convolver.tailProbability(slotPmfs, target, enableTailClamp);
+  }
+
+  /** 슬롯 분포 생성 + 합성곱 (CubeDpCalculator 캐시 미스 경로) */
+  @Benchmark
+  public DensePmf buildAndConvolve() {
+    return convolver.convolveAll(buildSlotPmfs(), target, enableTailClamp);
+  }
+
+  private List<SparsePmf> buildSlotPmfs() {
+    return IntStream.rangeClosed(1, SLOT_COUNT)
+        .mapToObj(
+            slot ->
+                distributionBuilder.buildDistributionByVersion(
+                    cubeType, level, part, grade, slot, targetStat, tableVersion))
+        .toList();
+  }
+}
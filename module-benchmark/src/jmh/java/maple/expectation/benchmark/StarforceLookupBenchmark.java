@@ -0,0 +1,62 @@
+package maple.expectation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import maple.expectation.benchmark.support.BenchmarkFixtures;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.service.v2.starforce.StarforceLookupTableImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link StarforceLookupTableImpl#getExpectedCost} 벤치마크
+ *
+ * <ul>
+ *   <li>{@code warmLookup}: 밀집 테이블 준비 완료 후 조회 경로 (운영 Hot Path)
+ *   <li>{@code coldCompute}: 새 인스턴스에서 마르코프 체인 계산 포함 (테이블 생성 전 경로)
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StarforceLookupBenchmark {
+
+  @Param({"150", "160", "200", "250"})
+  private int itemLevel;
+
+  @Param({"17", "22", "25"})
+  private int targetStar;
+
+  private final int currentStar = 0;
+
+  private LogicExecutor executor;
+  private StarforceLookupTableImpl warmTable;
+
+  @Setup
+  public void setUp() {
+    executor = BenchmarkFixtures.passThroughExecutor();
+    warmTable = new StarforceLookupTableImpl(executor);
+    warmTable.initialize();
+    while (!warmTable.isDenseTableReady()) {
+      Thread.onSpinWait();
+    }
+    warmTable.getExpectedCost(currentStar, targetStar, itemLevel, true, true, true, false);
+  }
+
+  @Benchmark
+  public BigDecimal warmLookup() {
+    return warmTable.getExpectedCost(currentStar, targetStar, itemLevel, true, true, true, false);
+  }
+
+  @Benchmark
+  public BigDecimal coldCompute() {
+    StarforceLookupTableImpl table = new StarforceLookupTableImpl(executor);
+    return table.getExpectedCost(currentStar, targetStar, itemLevel, true, true, true, false);
+  }
+}
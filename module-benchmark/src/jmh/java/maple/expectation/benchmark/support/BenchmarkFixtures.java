@@ -0,0 +1,92 @@
+package maple.expectation.benchmark.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import maple.expectation.infrastructure.executor.DefaultLogicExecutor;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.policy.ExecutionPipeline;
+import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
+import maple.expectation.infrastructure.persistence.repository.CubeProbabilityRepositoryImpl;
+
+/**
+ * JMH 벤치마크 공용 Fixture
+ *
+ * <h3>원칙</h3>
+ *
+ * <ul>
+ *   <li>합성 데이터 대신 실제 운영 Fixture 사용 (static/*_equip.json, data/cube_probability.csv)
+ *   <li>Spring Context 없이 대상 컴포넌트를 직접 조립 (측정 대상 외 오버헤드 제거)
+ *   <li>LogicExecutor는 정책 없는 파이프라인으로 구성 (운영과 동일한 호출 경로, 로깅 비용 제외)
+ * </ul>
+ */
+public final class BenchmarkFixtures {
+
+  private static final String EQUIPMENT_FIXTURE_PATH = "static/%s_equip.json";
+
+  private BenchmarkFixtures() {
+    // Utility class
+  }
+
+  /**
+   * 장비 JSON Fixture 로딩
+   *
+   * @param fixture Fixture 이름 (예: "evan", "mechanic")
+   * @return 원본 JSON 바이트
+   */
+  public static byte[] loadEquipmentJson(String fixture) {
+    String path = String.format(EQUIPMENT_FIXTURE_PATH, fixture);
+    try (InputStream in = classLoader().getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalStateException("Fixture not found on classpath: " + path);
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Fixture load failed: " + path, e);
+    }
+  }
+
+  /**
+   * GZIP 압축 (캐시/DB 저장 포맷 재현용)
+   *
+   * @param raw 원본 바이트
+   * @return GZIP 바이트
+   */
+  public static byte[] gzip(byte[] raw) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(raw);
+    } catch (IOException e) {
+      throw new UncheckedIOException("GZIP compression failed", e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 큐브 확률 테이블 로딩 (data/cube_probability.csv)
+   *
+   * @return 초기화 완료된 CSV 기반 Repository
+   */
+  public static CubeProbabilityRepositoryImpl loadCubeProbabilityRepository() {
+    CubeProbabilityRepositoryImpl repository = new CubeProbabilityRepositoryImpl();
+    repository.init();
+    return repository;
+  }
+
+  /**
+   * 정책 없는 LogicExecutor
+   *
+   * <p>운영 코드의 executor.execute(...) 경로는 유지하되, Logging/Finally 정책 비용은 측정에서 제외합니다.
+   */
+  public static LogicExecutor passThroughExecutor() {
+    return new DefaultLogicExecutor(
+        new ExecutionPipeline(List.of()), ExceptionTranslator.defaultTranslator());
+  }
+
+  private static ClassLoader classLoader() {
+    return BenchmarkFixtures.class.getClassLoader();
+  }
+}
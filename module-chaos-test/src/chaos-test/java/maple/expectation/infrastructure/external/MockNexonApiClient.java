@@ -38,6 +38,12 @@ public class MockNexonApiClient implements NexonApiClient {
         new UnsupportedOperationException("MockNexonApiClient: Not implemented in chaos profile"));
   }
 
+  @Override
+  public CompletableFuture<byte[]> getRawItemDataByOcid(String ocid) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("MockNexonApiClient: Not implemented in chaos profile"));
+  }
+
   @Override
   public CompletableFuture<CubeHistoryResponse> getCubeHistory(String ocid) {
     return CompletableFuture.failedFuture(
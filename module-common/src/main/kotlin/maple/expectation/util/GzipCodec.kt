@@ -0,0 +1,386 @@
+@file:JvmName("GzipCodec")
+
+package maple.expectation.util
+
+import java.io.ByteArrayInputStream
+import java.io.EOFException
+import java.io.IOException
+import java.io.InputStream
+import java.util.Objects
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.zip.CRC32
+import java.util.zip.DataFormatException
+import java.util.zip.Deflater
+import java.util.zip.Inflater
+import java.util.zip.ZipException
+
+/**
+ * 풀링된 Deflater/Inflater 기반 GZIP 코덱 (RFC 1952 단일 멤버)
+ *
+ * GZIPInputStream/GZIPOutputStream은 호출마다 Inflater/Deflater(네이티브 zlib 스트림)와 버퍼를 새로 만들고,
+ * Inflater는 GC 이후에야 off-heap 메모리를 돌려줍니다. 이 코덱은 헤더/트레일러를 직접 처리하고 raw deflate 엔진을
+ * 풀에서 빌려 reset 후 재사용합니다.
+ *
+ * - 압축: 엔진별 출력 버퍼를 재사용하고 결과 길이만큼 한 번만 복사
+ * - 해제: 트레일러 ISIZE로 결과 배열을 정확한 크기로 한 번 할당
+ * - 스트림: 원본 byte[]를 Inflater 입력으로 직접 물려 중간 버퍼 없이 증분 해제 (Jackson 파서 입력용)
+ *
+ * 풀이 가득 차면 반납된 엔진은 즉시 end()로 네이티브 자원을 해제합니다.
+ *
+ * 프레임(헤더)만 다른 [PresetDictionaryCodec]도 같은 엔진 풀과 raw deflate 루프를 internal 함수로 공유합니다.
+ */
+object GzipCodec {
+
+    private const val GZIP_MAGIC = 0x8b1f
+    private const val HEADER_SIZE = 10
+    private const val TRAILER_SIZE = 8
+
+    private const val FHCRC = 2
+    private const val FEXTRA = 4
+    private const val FNAME = 8
+    private const val FCOMMENT = 16
+
+    /** 압축 출력 버퍼 초기 크기 */
+    private const val INITIAL_OUTPUT_SIZE = 16 * 1024
+
+    /** 이보다 커진 출력 버퍼는 풀에 보관하지 않음 (대형 문서 1회로 힙 상주 방지) */
+    private const val MAX_RETAINED_OUTPUT_SIZE = 1024 * 1024
+
+    /** ISIZE를 신뢰하지 않을 상한 (손상/4GB 랩어라운드 방어) */
+    private const val MAX_PREALLOCATE_SIZE = 64 * 1024 * 1024
+
+    /** 헤더: magic, CM=8(deflate), FLG=0, MTIME=0, XFL=0, OS=255(unknown) */
+    private val HEADER = byteArrayOf(
+        0x1f, 0x8b.toByte(), Deflater.DEFLATED.toByte(), 0, 0, 0, 0, 0, 0, 0xff.toByte()
+    )
+
+    private val POOL_CAPACITY = Runtime.getRuntime().availableProcessors() * 2
+
+    private val encoders = ArrayBlockingQueue<Encoder>(POOL_CAPACITY)
+    private val decoders = ArrayBlockingQueue<Decoder>(POOL_CAPACITY)
+
+    private class Encoder {
+        val deflater = Deflater(Deflater.DEFAULT_COMPRESSION, true)
+        val crc = CRC32()
+        var output = ByteArray(INITIAL_OUTPUT_SIZE)
+    }
+
+    private class Decoder {
+        val inflater = Inflater(true)
+        val crc = CRC32()
+    }
+
+    /**
+     * GZIP 매직 넘버(0x1f8b)로 시작하는지 확인합니다.
+     *
+     * @param data 검사할 바이트 배열
+     * @return GZIP 압축 데이터이면 true
+     */
+    @JvmStatic
+    fun isGzipped(data: ByteArray?): Boolean {
+        return data != null && data.size >= 2 &&
+                data[0] == GZIP_MAGIC.toByte() &&
+                data[1] == (GZIP_MAGIC shr 8).toByte()
+    }
+
+    /**
+     * 바이트 배열을 GZIP 압축합니다.
+     *
+     * @param src 원본 바이트
+     * @return GZIP 바이트 (헤더 + raw deflate + CRC32/ISIZE 트레일러)
+     */
+    @JvmStatic
+    fun compress(src: ByteArray): ByteArray = compress(src, 0, src.size)
+
+    /**
+     * 바이트 배열의 일부를 GZIP 압축합니다.
+     *
+     * @param src 원본 바이트
+     * @param offset 시작 위치
+     * @param length 압축할 길이
+     * @return GZIP 바이트
+     */
+    @JvmStatic
+    fun compress(src: ByteArray, offset: Int, length: Int): ByteArray =
+        deflateFramed(HEADER, src, offset, length, null)
+
+    /**
+     * 헤더 + raw deflate + CRC32/ISIZE 트레일러 형태로 압축합니다.
+     *
+     * @param header 출력 앞에 그대로 쓸 프레임 헤더
+     * @param dictionary raw deflate 프리셋 사전 (없으면 null)
+     */
+    internal fun deflateFramed(
+        header: ByteArray,
+        src: ByteArray,
+        offset: Int,
+        length: Int,
+        dictionary: ByteArray?
+    ): ByteArray {
+        Objects.checkFromIndexSize(offset, length, src.size)
+        val encoder = encoders.poll() ?: Encoder()
+        try {
+            val deflater = encoder.deflater
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary)
+            }
+            deflater.setInput(src, offset, length)
+            deflater.finish()
+            encoder.crc.update(src, offset, length)
+
+            var out = encoder.output
+            System.arraycopy(header, 0, out, 0, header.size)
+            var pos = header.size
+            while (!deflater.finished()) {
+                if (pos == out.size) {
+                    out = out.copyOf(out.size * 2)
+                }
+                pos += deflater.deflate(out, pos, out.size - pos)
+            }
+            if (out.size - pos < TRAILER_SIZE) {
+                out = out.copyOf(pos + TRAILER_SIZE)
+            }
+            writeIntLE(out, pos, encoder.crc.value.toInt())
+            writeIntLE(out, pos + 4, length)
+            pos += TRAILER_SIZE
+
+            encoder.output =
+                if (out.size <= MAX_RETAINED_OUTPUT_SIZE) out else ByteArray(INITIAL_OUTPUT_SIZE)
+            return out.copyOf(pos)
+        } finally {
+            release(encoder)
+        }
+    }
+
+    /**
+     * GZIP 바이트를 해제합니다.
+     *
+     * @param data GZIP 바이트 (단일 멤버)
+     * @return 해제된 바이트
+     * @throws IOException 헤더/트레일러 손상, 데이터 절단, CRC 불일치 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun decompress(data: ByteArray): ByteArray = inflateFramed(data, readHeader(data), null)
+
+    /**
+     * [start]부터의 raw deflate 본문을 해제하고 CRC32/ISIZE 트레일러를 검증합니다.
+     *
+     * @param dictionary 압축 시 사용한 프리셋 사전 (없으면 null)
+     */
+    internal fun inflateFramed(data: ByteArray, start: Int, dictionary: ByteArray?): ByteArray {
+        if (data.size - start < TRAILER_SIZE) {
+            throw EOFException("Unexpected end of GZIP input")
+        }
+        val declaredSize = readIntLE(data, data.size - 4).toLong() and 0xffffffffL
+        val decoder = acquireDecoder(dictionary)
+        try {
+            val inflater = decoder.inflater
+            inflater.setInput(data, start, data.size - start)
+
+            val initialSize = if (declaredSize <= MAX_PREALLOCATE_SIZE) declaredSize.toInt() else 0
+            var out = ByteArray(initialSize)
+            var pos = 0
+            while (!inflater.finished()) {
+                if (pos == out.size) {
+                    out = out.copyOf(maxOf(out.size * 2, INITIAL_OUTPUT_SIZE))
+                }
+                val n = inflate(inflater, out, pos, out.size - pos)
+                if (n == 0) {
+                    checkStalled(inflater)
+                }
+                pos += n
+            }
+            decoder.crc.update(out, 0, pos)
+            verifyTrailer(data, data.size - inflater.remaining, decoder.crc.value, pos.toLong())
+            return if (pos == out.size) out else out.copyOf(pos)
+        } finally {
+            release(decoder)
+        }
+    }
+
+    /**
+     * GZIP 바이트를 증분 해제하는 입력 스트림을 엽니다.
+     *
+     * 원본 배열을 Inflater 입력으로 직접 사용하므로 별도 입력 버퍼가 없고, 호출자가 요청한 만큼만 해제합니다.
+     * close() 시 Inflater를 풀에 반납합니다 (중복 호출 안전).
+     *
+     * @param data GZIP 바이트 (단일 멤버)
+     * @return 해제된 바이트를 내보내는 스트림
+     * @throws IOException 헤더 손상 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun inputStream(data: ByteArray): InputStream =
+        PooledGzipInputStream(data, readHeader(data), null)
+
+    /**
+     * GZIP이면 풀링된 해제 스트림, 아니면 원본 그대로 읽는 스트림을 엽니다.
+     *
+     * @param data GZIP 또는 평문 바이트
+     * @return 평문 바이트를 내보내는 스트림
+     * @throws IOException 헤더 손상 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun openStream(data: ByteArray): InputStream =
+        if (isGzipped(data)) inputStream(data) else ByteArrayInputStream(data)
+
+    /** [start]부터의 raw deflate 본문을 증분 해제하는 스트림 (트레일러는 EOF에서 검증) */
+    internal fun inflateStream(data: ByteArray, start: Int, dictionary: ByteArray?): InputStream =
+        PooledGzipInputStream(data, start, dictionary)
+
+    private class PooledGzipInputStream(
+        private val data: ByteArray,
+        start: Int,
+        dictionary: ByteArray?
+    ) : InputStream() {
+
+        private var decoder: Decoder? = acquireDecoder(dictionary).also {
+            it.inflater.setInput(data, start, data.size - start)
+        }
+        private var written = 0L
+        private var eof = false
+        private val single = ByteArray(1)
+
+        override fun read(): Int {
+            return if (read(single, 0, 1) == -1) -1 else single[0].toInt() and 0xff
+        }
+
+        override fun read(b: ByteArray, off: Int, len: Int): Int {
+            Objects.checkFromIndexSize(off, len, b.size)
+            val current = decoder ?: throw IOException("Stream closed")
+            if (eof) return -1
+            if (len == 0) return 0
+
+            val inflater = current.inflater
+            while (true) {
+                val n = inflate(inflater, b, off, len)
+                if (n > 0) {
+                    current.crc.update(b, off, n)
+                    written += n
+                    return n
+                }
+                if (inflater.finished()) {
+                    verifyTrailer(data, data.size - inflater.remaining, current.crc.value, written)
+                    eof = true
+                    return -1
+                }
+                checkStalled(inflater)
+            }
+        }
+
+        override fun available(): Int = if (eof || decoder == null) 0 else 1
+
+        override fun close() {
+            decoder?.let { release(it) }
+            decoder = null
+        }
+    }
+
+    private fun inflate(inflater: Inflater, out: ByteArray, off: Int, len: Int): Int {
+        try {
+            return inflater.inflate(out, off, len)
+        } catch (e: DataFormatException) {
+            throw ZipException(e.message ?: "Invalid ZLIB data format")
+        }
+    }
+
+    private fun checkStalled(inflater: Inflater) {
+        if (inflater.needsDictionary()) {
+            throw ZipException("Unexpected preset dictionary in GZIP data")
+        }
+        if (inflater.needsInput()) {
+            throw EOFException("Unexpected end of ZLIB input stream")
+        }
+    }
+
+    /** @return deflate 본문 시작 위치 */
+    private fun readHeader(data: ByteArray): Int {
+        if (data.size < HEADER_SIZE || !isGzipped(data)) {
+            throw ZipException("Not in GZIP format")
+        }
+        if (data[2].toInt() != Deflater.DEFLATED) {
+            throw ZipException("Unsupported compression method")
+        }
+        val flags = data[3].toInt() and 0xff
+        var pos = HEADER_SIZE
+        if (flags and FEXTRA != 0) {
+            pos += 2 + readShortLE(data, pos)
+        }
+        if (flags and FNAME != 0) {
+            pos = skipZeroTerminated(data, pos)
+        }
+        if (flags and FCOMMENT != 0) {
+            pos = skipZeroTerminated(data, pos)
+        }
+        if (flags and FHCRC != 0) {
+            pos += 2
+        }
+        if (pos > data.size) {
+            throw EOFException("Unexpected end of GZIP header")
+        }
+        return pos
+    }
+
+    private fun verifyTrailer(data: ByteArray, trailerPos: Int, crc: Long, size: Long) {
+        if (data.size - trailerPos < TRAILER_SIZE) {
+            throw EOFException("Unexpected end of GZIP trailer")
+        }
+        val expectedCrc = readIntLE(data, trailerPos).toLong() and 0xffffffffL
+        val expectedSize = readIntLE(data, trailerPos + 4).toLong() and 0xffffffffL
+        if (expectedCrc != crc || expectedSize != (size and 0xffffffffL)) {
+            throw ZipException("Corrupt GZIP trailer")
+        }
+    }
+
+    /** raw 모드 Inflater는 사전 요구(needsDictionary)를 알리지 않으므로 본문 해제 전에 미리 설정 */
+    private fun acquireDecoder(dictionary: ByteArray?): Decoder {
+        val decoder = decoders.poll() ?: Decoder()
+        if (dictionary != null) {
+            decoder.inflater.setDictionary(dictionary)
+        }
+        return decoder
+    }
+
+    private fun release(encoder: Encoder) {
+        encoder.deflater.reset()
+        encoder.crc.reset()
+        if (!encoders.offer(encoder)) {
+            encoder.deflater.end()
+        }
+    }
+
+    private fun release(decoder: Decoder) {
+        decoder.inflater.reset()
+        decoder.crc.reset()
+        if (!decoders.offer(decoder)) {
+            decoder.inflater.end()
+        }
+    }
+
+    private fun skipZeroTerminated(data: ByteArray, from: Int): Int {
+        var pos = from
+        while (pos < data.size && data[pos].toInt() != 0) pos++
+        return pos + 1
+    }
+
+    private fun readShortLE(data: ByteArray, pos: Int): Int {
+        if (pos + 2 > data.size) throw EOFException("Unexpected end of GZIP header")
+        return (data[pos].toInt() and 0xff) or ((data[pos + 1].toInt() and 0xff) shl 8)
+    }
+
+    private fun readIntLE(data: ByteArray, pos: Int): Int {
+        return (data[pos].toInt() and 0xff) or
+                ((data[pos + 1].toInt() and 0xff) shl 8) or
+                ((data[pos + 2].toInt() and 0xff) shl 16) or
+                ((data[pos + 3].toInt() and 0xff) shl 24)
+    }
+
+    private fun writeIntLE(out: ByteArray, pos: Int, value: Int) {
+        out[pos] = value.toByte()
+        out[pos + 1] = (value shr 8).toByte()
+        out[pos + 2] = (value shr 16).toByte()
+        out[pos + 3] = (value shr 24).toByte()
+    }
+}
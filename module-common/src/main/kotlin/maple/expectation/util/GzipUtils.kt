@@ -2,15 +2,13 @@
 
 package maple.expectation.util
 
-import java.io.ByteArrayInputStream
-import java.io.ByteArrayOutputStream
 import java.io.IOException
 import java.nio.charset.StandardCharsets
-import java.util.zip.GZIPInputStream
-import java.util.zip.GZIPOutputStream
 
 /**
  * GZIP compression utilities.
+ *
+ * 실제 압축/해제는 풀링된 엔진을 쓰는 [GzipCodec]에 위임합니다.
  */
 object GzipUtils {
 
@@ -27,12 +25,23 @@ object GzipUtils {
         if (str.isNullOrBlank()) {
             return ByteArray(0)
         }
+        return GzipCodec.compress(str.toByteArray(StandardCharsets.UTF_8))
+    }
 
-        val out = ByteArrayOutputStream()
-        val gzip = GZIPOutputStream(out)
-        gzip.write(str.toByteArray(StandardCharsets.UTF_8))
-        gzip.finish()
-        return out.toByteArray()
+    /**
+     * 바이트 배열(UTF-8 JSON 원문 등)을 문자열 변환 없이 GZIP 압축합니다.
+     *
+     * @param bytes 압축할 원본 바이트
+     * @return 압축된 바이트 배열 (입력이 비어 있으면 빈 배열)
+     * @throws IOException 압축 중 I/O 오류 발생 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun compress(bytes: ByteArray?): ByteArray {
+        if (bytes == null || bytes.isEmpty()) {
+            return ByteArray(0)
+        }
+        return GzipCodec.compress(bytes)
     }
 
     /**
@@ -53,13 +62,15 @@ object GzipUtils {
             return String(compressed, StandardCharsets.UTF_8)
         }
 
-        val gzip = GZIPInputStream(ByteArrayInputStream(compressed))
-        return String(gzip.readAllBytes(), StandardCharsets.UTF_8)
+        return String(GzipCodec.decompress(compressed), StandardCharsets.UTF_8)
     }
 
-    private fun isGzipped(data: ByteArray): Boolean {
-        return data.size >= 2 &&
-                data[0] == GZIPInputStream.GZIP_MAGIC.toByte() &&
-                data[1] == (GZIPInputStream.GZIP_MAGIC shr 8).toByte()
-    }
+    /**
+     * GZIP 매직 넘버(0x1f8b)로 시작하는지 확인합니다.
+     *
+     * @param data 검사할 바이트 배열
+     * @return GZIP 압축 데이터이면 true
+     */
+    @JvmStatic
+    fun isGzipped(data: ByteArray?): Boolean = GzipCodec.isGzipped(data)
 }
@@ -0,0 +1,127 @@
+@file:JvmName("PresetDictionaryCodec")
+
+package maple.expectation.util
+
+import java.io.ByteArrayInputStream
+import java.io.IOException
+import java.io.InputStream
+import java.util.concurrent.ConcurrentHashMap
+import java.util.zip.ZipException
+
+/**
+ * 프리셋 사전 DEFLATE 코덱 (장비/기대값 JSON 전용)
+ *
+ * 장비 JSON은 문서마다 같은 키(item_equipment_part, potential_option_1 ...)와 옵션 문구가 반복되지만, 문서 하나
+ * 안에서는 첫 등장이 매번 리터럴로 인코딩됩니다. 이 코덱은 대표 페이로드로 학습한 사전([PresetDictionaryTrainer])을
+ * `Deflater.setDictionary`로 미리 물려 첫 등장부터 역참조로 압축합니다.
+ *
+ * 프레임: `0xD1 0xC7 | 사전 버전(1B) | raw deflate | CRC32(LE) | ISIZE(LE)`
+ *
+ * - 0xD1 0xC7은 유효한 UTF-8 시작이 아니므로 평문 JSON, GZIP(0x1f8b)과 구분됩니다.
+ * - 사전은 `compression/maple-json-v{버전}.dict` 클래스패스 리소스이며, 새 사전을 추가해도 이전 버전 데이터는
+ *   헤더의 버전으로 계속 해제됩니다 (사전 파일은 삭제하지 않고 누적).
+ * - 해제 시 헤더가 없으면 GZIP → 평문 순으로 폴백하므로 기존 캐시/DB 데이터를 그대로 읽습니다.
+ *
+ * 엔진 풀과 트레일러 검증은 [GzipCodec]과 공유합니다.
+ */
+object PresetDictionaryCodec {
+
+    /** 신규 압축에 사용하는 사전 버전 */
+    const val CURRENT_VERSION = 1
+
+    private const val MAGIC_0 = 0xD1.toByte()
+    private const val MAGIC_1 = 0xC7.toByte()
+    private const val HEADER_SIZE = 3
+
+    private const val DICTIONARY_RESOURCE = "/compression/maple-json-v%d.dict"
+
+    private val CURRENT_HEADER = byteArrayOf(MAGIC_0, MAGIC_1, CURRENT_VERSION.toByte())
+
+    private val dictionaries = ConcurrentHashMap<Int, ByteArray>()
+
+    /**
+     * 사전 프레임 헤더로 시작하는지 확인합니다.
+     *
+     * @param data 검사할 바이트 배열
+     * @return 이 코덱으로 압축된 데이터이면 true
+     */
+    @JvmStatic
+    fun isDictionaryFramed(data: ByteArray?): Boolean {
+        return data != null && data.size >= HEADER_SIZE &&
+                data[0] == MAGIC_0 && data[1] == MAGIC_1
+    }
+
+    /**
+     * 현재 버전 사전으로 압축합니다.
+     *
+     * @param src 원본 바이트 (UTF-8 JSON)
+     * @return 사전 프레임 바이트
+     * @throws IOException 현재 버전 사전 리소스가 없을 때
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun encode(src: ByteArray): ByteArray =
+        GzipCodec.deflateFramed(
+            CURRENT_HEADER, src, 0, src.size, dictionary(CURRENT_VERSION)
+        )
+
+    /**
+     * 사전 프레임, GZIP, 평문 중 무엇이든 원본 바이트로 복원합니다.
+     *
+     * @param data 압축 또는 평문 바이트
+     * @return 해제된 바이트 (평문이면 입력 그대로)
+     * @throws IOException 프레임 손상, 알 수 없는 사전 버전, CRC 불일치 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun decode(data: ByteArray): ByteArray = when {
+        isDictionaryFramed(data) ->
+            GzipCodec.inflateFramed(data, HEADER_SIZE, dictionary(versionOf(data)))
+        GzipCodec.isGzipped(data) -> GzipCodec.decompress(data)
+        else -> data
+    }
+
+    /**
+     * 사전 프레임, GZIP, 평문 중 무엇이든 평문을 증분으로 내보내는 스트림을 엽니다.
+     *
+     * @param data 압축 또는 평문 바이트
+     * @return 평문 바이트를 내보내는 스트림 (close 시 엔진 반납)
+     * @throws IOException 헤더 손상, 알 수 없는 사전 버전 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun openStream(data: ByteArray): InputStream = when {
+        isDictionaryFramed(data) ->
+            GzipCodec.inflateStream(data, HEADER_SIZE, dictionary(versionOf(data)))
+        GzipCodec.isGzipped(data) -> GzipCodec.inputStream(data)
+        else -> ByteArrayInputStream(data)
+    }
+
+    /**
+     * 압축 형식과 무관하게 현재 버전 사전 프레임으로 맞춥니다.
+     *
+     * @param data 사전 프레임, GZIP 또는 평문 바이트
+     * @return 현재 버전 사전 프레임 바이트 (이미 현재 버전이면 입력 그대로)
+     * @throws IOException 입력 해제 실패 시
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun transcode(data: ByteArray): ByteArray {
+        if (isDictionaryFramed(data) && versionOf(data) == CURRENT_VERSION) {
+            return data
+        }
+        return encode(decode(data))
+    }
+
+    private fun versionOf(data: ByteArray): Int = data[2].toInt() and 0xff
+
+    private fun dictionary(version: Int): ByteArray =
+        dictionaries[version] ?: loadDictionary(version).also { dictionaries[version] = it }
+
+    private fun loadDictionary(version: Int): ByteArray {
+        val resource = DICTIONARY_RESOURCE.format(version)
+        val stream = PresetDictionaryCodec::class.java.getResourceAsStream(resource)
+            ?: throw ZipException("Unknown preset dictionary version: $version")
+        return stream.use { it.readAllBytes() }
+    }
+}
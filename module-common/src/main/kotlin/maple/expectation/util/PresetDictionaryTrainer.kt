@@ -0,0 +1,113 @@
+@file:JvmName("PresetDictionaryTrainer")
+
+package maple.expectation.util
+
+import java.io.File
+
+/**
+ * DEFLATE 프리셋 사전 학습기 ([PresetDictionaryCodec] 사전 생성용 오프라인 도구)
+ *
+ * zstd COVER와 같은 방식의 단순화 버전입니다.
+ *
+ * 1. 모든 샘플에서 8바이트 k-mer의 등장 횟수를 셉니다.
+ * 2. 샘플을 고정 길이 세그먼트로 나누고, 아직 사전에 포함되지 않은 k-mer 빈도 합을 점수로 삼습니다.
+ * 3. 최고 점수 세그먼트를 골라 사전에 넣고 그 k-mer들의 빈도를 0으로 만든 뒤 반복합니다.
+ *
+ * DEFLATE는 가까운 거리의 역참조가 더 짧게 인코딩되므로, 점수가 높은 세그먼트일수록 사전 끝(본문 직전)에 배치합니다.
+ *
+ * 사용법: `PresetDictionaryTrainer <출력 .dict> <샘플 파일...>`
+ * 사전을 다시 학습하면 [PresetDictionaryCodec.CURRENT_VERSION]을 올리고 새 버전 파일로 추가해야 합니다.
+ */
+object PresetDictionaryTrainer {
+
+    /** DEFLATE 윈도우 크기 (이보다 긴 사전은 앞부분이 참조되지 않음) */
+    const val MAX_DICTIONARY_SIZE = 32 * 1024
+
+    private const val K = 8
+    private const val SEGMENT_SIZE = 256
+
+    /**
+     * 샘플 페이로드로 사전을 학습합니다.
+     *
+     * @param samples 대표 페이로드 (평문)
+     * @param maxSize 사전 최대 크기 (DEFLATE 윈도우 이하)
+     * @return 학습된 사전 (샘플이 짧으면 maxSize보다 작을 수 있음)
+     */
+    @JvmStatic
+    @JvmOverloads
+    fun train(samples: List<ByteArray>, maxSize: Int = MAX_DICTIONARY_SIZE): ByteArray {
+        require(maxSize in 1..MAX_DICTIONARY_SIZE) { "maxSize must be in 1..$MAX_DICTIONARY_SIZE" }
+        val frequencies = countKmers(samples)
+        val segments = samples.flatMap { sample ->
+            (0 until sample.size - K step SEGMENT_SIZE).map { start ->
+                Segment(sample, start, minOf(SEGMENT_SIZE, sample.size - start))
+            }
+        }
+
+        val selected = ArrayList<Segment>()
+        var size = 0
+        while (size < maxSize) {
+            val best = segments.maxByOrNull { score(it, frequencies) } ?: break
+            if (score(best, frequencies) <= 0L) break
+            forEachKmer(best) { frequencies[it] = 0 }
+            selected.add(best)
+            size += best.length
+        }
+
+        val dictionary = ByteArray(minOf(size, maxSize))
+        var end = dictionary.size
+        for (segment in selected) {
+            val take = minOf(segment.length, end)
+            end -= take
+            System.arraycopy(segment.sample, segment.start, dictionary, end, take)
+            if (end == 0) break
+        }
+        return dictionary
+    }
+
+    @JvmStatic
+    fun main(args: Array<String>) {
+        require(args.size >= 2) { "usage: PresetDictionaryTrainer <output.dict> <sample...>" }
+        val samples = args.drop(1).map { File(it).readBytes() }
+        val dictionary = train(samples)
+        File(args[0]).writeBytes(dictionary)
+        println("dictionary written: ${args[0]} (${dictionary.size} bytes)")
+    }
+
+    private class Segment(val sample: ByteArray, val start: Int, val length: Int)
+
+    private fun countKmers(samples: List<ByteArray>): HashMap<Long, Int> {
+        val frequencies = HashMap<Long, Int>()
+        for (sample in samples) {
+            for (i in 0..sample.size - K) {
+                frequencies.merge(kmerAt(sample, i), 1, Int::plus)
+            }
+        }
+        return frequencies
+    }
+
+    /** 한 번만 등장하는 k-mer는 사전에 넣어도 이득이 없으므로 제외 */
+    private fun score(segment: Segment, frequencies: Map<Long, Int>): Long {
+        var score = 0L
+        forEachKmer(segment) { kmer ->
+            val frequency = frequencies[kmer] ?: 0
+            if (frequency > 1) score += frequency
+        }
+        return score
+    }
+
+    private inline fun forEachKmer(segment: Segment, action: (Long) -> Unit) {
+        val last = minOf(segment.start + segment.length, segment.sample.size) - K
+        for (i in segment.start..last) {
+            action(kmerAt(segment.sample, i))
+        }
+    }
+
+    private fun kmerAt(data: ByteArray, pos: Int): Long {
+        var kmer = 0L
+        for (i in 0 until K) {
+            kmer = (kmer shl 8) or (data[pos + i].toLong() and 0xff)
+        }
+        return kmer
+    }
+}
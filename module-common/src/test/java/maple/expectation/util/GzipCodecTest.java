@@ -0,0 +1,101 @@
+package maple.expectation.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+
+class GzipCodecTest {
+
+  private static byte[] sample(int size, long seed) {
+    Random random = new Random(seed);
+    byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) ('a' + random.nextInt(12));
+    }
+    return data;
+  }
+
+  private static byte[] jdkGzip(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  void compressedOutputIsReadableByJdkGzip() throws IOException {
+    for (int size : new int[] {0, 1, 4096, 300_000}) {
+      byte[] data = sample(size, size);
+      byte[] compressed = GzipCodec.compress(data);
+
+      assertTrue(GzipCodec.isGzipped(compressed));
+      byte[] restored = new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes();
+      assertArrayEquals(data, restored);
+    }
+  }
+
+  @Test
+  void decompressReadsJdkGzip() throws IOException {
+    byte[] data = sample(200_000, 7);
+
+    assertArrayEquals(data, GzipCodec.decompress(jdkGzip(data)));
+  }
+
+  @Test
+  void inputStreamInflatesIncrementally() throws IOException {
+    byte[] data = sample(150_000, 11);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    try (InputStream in = GzipCodec.inputStream(jdkGzip(data))) {
+      byte[] buffer = new byte[777];
+      int n;
+      while ((n = in.read(buffer, 0, buffer.length)) != -1) {
+        out.write(buffer, 0, n);
+      }
+      assertEquals(-1, in.read());
+    }
+    assertArrayEquals(data, out.toByteArray());
+  }
+
+  @Test
+  void openStreamPassesPlainBytesThrough() throws IOException {
+    byte[] json = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+    try (InputStream in = GzipCodec.openStream(json)) {
+      assertArrayEquals(json, in.readAllBytes());
+    }
+  }
+
+  @Test
+  void corruptTrailerIsRejected() {
+    byte[] compressed = GzipCodec.compress(sample(1000, 3));
+    compressed[compressed.length - 6] ^= 1;
+
+    assertThrows(ZipException.class, () -> GzipCodec.decompress(compressed));
+  }
+
+  @Test
+  void truncatedInputIsRejected() {
+    byte[] truncated = Arrays.copyOf(GzipCodec.compress(sample(10_000, 5)), 40);
+
+    assertThrows(IOException.class, () -> GzipCodec.decompress(truncated));
+    assertThrows(
+        IOException.class,
+        () -> {
+          try (InputStream in = GzipCodec.inputStream(truncated)) {
+            in.readAllBytes();
+          }
+        });
+  }
+}
@@ -0,0 +1,83 @@
+package maple.expectation.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+
+class PresetDictionaryCodecTest {
+
+  private static final byte[] ITEM_JSON =
+      ("{\"item_equipment_part\":\"모자\",\"item_equipment_slot\":\"모자\","
+              + "\"item_name\":\"앱솔랩스 메이지햇\",\"potential_option_grade\":\"레전드리\","
+              + "\"potential_option_1\":\"INT : +12%\",\"potential_option_2\":\"INT : +9%\","
+              + "\"potential_option_3\":\"INT : +9%\","
+              + "\"additional_potential_option_grade\":\"유니크\","
+              + "\"item_total_option\":{\"str\":\"0\",\"dex\":\"0\",\"int\":\"150\",\"luk\":\"0\","
+              + "\"max_hp\":\"0\",\"max_mp\":\"0\",\"attack_power\":\"0\",\"magic_power\":\"5\"}}")
+          .getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void encodedFrameRoundTrips() throws IOException {
+    byte[] encoded = PresetDictionaryCodec.encode(ITEM_JSON);
+
+    assertTrue(PresetDictionaryCodec.isDictionaryFramed(encoded));
+    assertFalse(GzipCodec.isGzipped(encoded));
+    assertEquals(PresetDictionaryCodec.CURRENT_VERSION, encoded[2]);
+    assertArrayEquals(ITEM_JSON, PresetDictionaryCodec.decode(encoded));
+    try (InputStream in = PresetDictionaryCodec.openStream(encoded)) {
+      assertArrayEquals(ITEM_JSON, in.readAllBytes());
+    }
+  }
+
+  @Test
+  void dictionaryBeatsPlainGzipOnEquipmentJson() throws IOException {
+    byte[] encoded = PresetDictionaryCodec.encode(ITEM_JSON);
+
+    assertTrue(encoded.length < GzipCodec.compress(ITEM_JSON).length);
+  }
+
+  @Test
+  void headerlessInputFallsBackToGzipOrPlain() throws IOException {
+    byte[] gzip = GzipCodec.compress(ITEM_JSON);
+
+    assertArrayEquals(ITEM_JSON, PresetDictionaryCodec.decode(gzip));
+    assertArrayEquals(ITEM_JSON, PresetDictionaryCodec.decode(ITEM_JSON));
+    try (InputStream in = PresetDictionaryCodec.openStream(gzip)) {
+      assertArrayEquals(ITEM_JSON, in.readAllBytes());
+    }
+  }
+
+  @Test
+  void transcodeRewritesGzipAndKeepsCurrentFrames() throws IOException {
+    byte[] transcoded = PresetDictionaryCodec.transcode(GzipCodec.compress(ITEM_JSON));
+
+    assertTrue(PresetDictionaryCodec.isDictionaryFramed(transcoded));
+    assertArrayEquals(ITEM_JSON, PresetDictionaryCodec.decode(transcoded));
+    assertSame(transcoded, PresetDictionaryCodec.transcode(transcoded));
+  }
+
+  @Test
+  void unknownVersionAndCorruptTrailerAreRejected() throws IOException {
+    byte[] unknown = PresetDictionaryCodec.encode(ITEM_JSON);
+    unknown[2] = (byte) 0x7f;
+    byte[] corrupt = PresetDictionaryCodec.encode(ITEM_JSON);
+    corrupt[corrupt.length - 6] ^= 1;
+
+    assertThrows(ZipException.class, () -> PresetDictionaryCodec.decode(unknown));
+    assertThrows(ZipException.class, () -> PresetDictionaryCodec.decode(corrupt));
+  }
+
+  @Test
+  void trainerKeepsRepeatedContentWithinLimit() {
+    byte[] dictionary = PresetDictionaryTrainer.train(List.of(ITEM_JSON, ITEM_JSON), 64);
+
+    assertTrue(dictionary.length > 0 && dictionary.length <= 64);
+    String text = new String(dictionary, StandardCharsets.ISO_8859_1);
+    assertTrue(new String(ITEM_JSON, StandardCharsets.ISO_8859_1).contains(text));
+  }
+}
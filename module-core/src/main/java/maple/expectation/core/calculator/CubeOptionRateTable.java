@@ -0,0 +1,107 @@
+package maple.expectation.core.calculator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import maple.expectation.core.domain.model.CubeRate;
+import maple.expectation.core.domain.stat.StatType;
+
+/**
+ * 옵션 → 슬롯별 확률 사전 색인 테이블
+ *
+ * <p>(큐브 종류, 레벨, 부위, 등급) 단위로 한 번 생성하여 재사용합니다. 조회는 옵션 이름 해시 1회 + 배열 인덱스이며, 확률 리스트를 매번
+ * 스트림으로 필터링하지 않습니다.
+ *
+ * <p>불변(Immutable) - 생성 후 내부 배열을 외부에 노출하지 않음 (같은 패키지 계산기만 직접 참조)
+ */
+public final class CubeOptionRateTable {
+
+  /** 지원하는 최대 슬롯 수 */
+  public static final int MAX_SLOTS = 3;
+
+  private final Map<String, double[]> ratesByOption;
+  private final int slotCount;
+
+  private CubeOptionRateTable(Map<String, double[]> ratesByOption, int slotCount) {
+    this.ratesByOption = ratesByOption;
+    this.slotCount = slotCount;
+  }
+
+  /**
+   * 확률 데이터로부터 테이블 생성
+   *
+   * <p>같은 (옵션, 슬롯)이 여러 번 나오면 첫 번째 값을 사용합니다 (기존 findFirst 동작과 동일). 잡옵({@link
+   * StatType#UNKNOWN})은 모든 슬롯 확률 1.0으로 색인합니다.
+   *
+   * @param rates 슬롯 1..slotCount의 확률 데이터
+   * @param slotCount 슬롯 수 (1 ~ {@link #MAX_SLOTS})
+   * @return 색인된 테이블
+   */
+  public static CubeOptionRateTable from(List<CubeRate> rates, int slotCount) {
+    if (slotCount < 1 || slotCount > MAX_SLOTS) {
+      throw new IllegalArgumentException(
+          "slotCount must be 1.." + MAX_SLOTS + ", got: " + slotCount);
+    }
+    Map<String, double[]> ratesByOption = new HashMap<>();
+    for (CubeRate rate : rates) {
+      int index = rate.slot() - 1;
+      if (index >= slotCount) {
+        continue;
+      }
+      double[] slotRates =
+          ratesByOption.computeIfAbsent(rate.optionName(), k -> unsetRow(slotCount));
+      if (Double.isNaN(slotRates[index])) {
+        slotRates[index] = rate.rate();
+      }
+    }
+    for (Map.Entry<String, double[]> entry : ratesByOption.entrySet()) {
+      double[] slotRates = entry.getValue();
+      // 잡옵은 어느 슬롯이든 조건 충족 (확률 1.0) - 옵션 판별을 조회 시점이 아닌 생성 시 1회 수행
+      if (StatType.findTypeWithUnit(entry.getKey()) == StatType.UNKNOWN) {
+        Arrays.fill(slotRates, 1.0);
+        continue;
+      }
+      // 해당 슬롯에 없는 옵션 = 0% (불가능)
+      for (int i = 0; i < slotCount; i++) {
+        if (Double.isNaN(slotRates[i])) {
+          slotRates[i] = 0.0;
+        }
+      }
+    }
+    return new CubeOptionRateTable(ratesByOption, slotCount);
+  }
+
+  /**
+   * 특정 슬롯의 옵션 확률
+   *
+   * @param optionName 옵션 이름
+   * @param slot 슬롯 번호 (1부터)
+   * @return 확률 (잡옵이면 1.0, 데이터에 없으면 0.0)
+   */
+  public double rate(String optionName, int slot) {
+    double[] slotRates = ratesByOption.get(optionName);
+    return slotRates != null ? slotRates[slot - 1] : 0.0;
+  }
+
+  /** 슬롯 수 */
+  public int slotCount() {
+    return slotCount;
+  }
+
+  /** 색인된 옵션 종류 수 */
+  public int optionCount() {
+    return ratesByOption.size();
+  }
+
+  /** 슬롯별 확률 배열 (인덱스 = 슬롯-1, 없으면 null) - 읽기 전용으로 취급 */
+  double[] slotRates(String optionName) {
+    return ratesByOption.get(optionName);
+  }
+
+  private static double[] unsetRow(int slotCount) {
+    double[] row = new double[slotCount];
+    Arrays.fill(row, Double.NaN);
+    return row;
+  }
+}
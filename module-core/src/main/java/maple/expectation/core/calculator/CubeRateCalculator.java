@@ -1,6 +1,8 @@
 package maple.expectation.core.calculator;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import maple.expectation.core.domain.model.CubeRate;
 import maple.expectation.core.domain.model.CubeType;
 import maple.expectation.core.domain.stat.StatType;
@@ -12,6 +14,12 @@ import maple.expectation.core.domain.stat.StatType;
  */
 public class CubeRateCalculator {
 
+  /** 잡옵: 모든 슬롯 확률 1.0 */
+  private static final double[] ANY_OPTION_RATES = filled(1.0);
+
+  /** 데이터에 없는 옵션: 모든 슬롯 확률 0.0 */
+  private static final double[] NO_OPTION_RATES = filled(0.0);
+
   /**
    * 특정 큐브 종류와 슬롯에 해당 옵션이 뜰 확률을 반환합니다.
    *
@@ -53,4 +61,100 @@ public class CubeRateCalculator {
         .map(CubeRate::rate)
         .orElse(0.0); // 데이터에 없는 옵션이면 0% (불가능)
   }
+
+  /**
+   * 목표 옵션 조합(순서 무관)이 한 번에 뜰 확률 - 다중집합 슬롯 배치 합산
+   *
+   * <p>P = Σ<sub>서로 다른 배치 σ</sub> Π<sub>slot</sub> rate(σ[slot], slot)
+   *
+   * <h3>순열 열거 대비</h3>
+   *
+   * <ul>
+   *   <li>같은 옵션은 개수(count)로 묶어 슬롯마다 "서로 다른 옵션"만 분기 → 중복 순열 생성/Set 중복 제거 불필요
+   *   <li>옵션별 슬롯 확률은 {@link CubeOptionRateTable}에서 한 번만 조회 (리스트 스트림 필터링 없음)
+   *   <li>확률 0인 분기는 즉시 가지치기
+   * </ul>
+   *
+   * <p>잡옵(null, 빈 문자열, {@link StatType#UNKNOWN})은 모든 슬롯에서 확률 1.0으로 취급합니다 ({@link
+   * #getOptionRate}와 동일).
+   *
+   * @param targetOptions 목표 옵션 (길이 = 슬롯 수)
+   * @param table 옵션 → 슬롯별 확률 테이블
+   * @return 확률 (0.0 ~ 1.0)
+   */
+  public double calculateMultisetProbability(
+      List<String> targetOptions, CubeOptionRateTable table) {
+    int optionCount = targetOptions.size();
+    int slotCount = Math.min(optionCount, table.slotCount());
+
+    // 1. 서로 다른 옵션별 개수 + 슬롯 확률 행 (primitive 배열)
+    String[] distinct = new String[optionCount];
+    int[] remaining = new int[optionCount];
+    double[][] slotRates = new double[optionCount][];
+    int distinctCount = 0;
+
+    for (int i = 0; i < optionCount; i++) {
+      String option = targetOptions.get(i);
+      int k = indexOf(distinct, distinctCount, option);
+      if (k < 0) {
+        k = distinctCount++;
+        distinct[k] = option;
+        slotRates[k] = resolveSlotRates(option, table);
+      }
+      remaining[k]++;
+    }
+
+    // 2. 슬롯 순서대로 서로 다른 옵션만 분기
+    return sumPlacements(0, slotCount, distinctCount, remaining, slotRates);
+  }
+
+  private double[] resolveSlotRates(String optionName, CubeOptionRateTable table) {
+    if (optionName == null || optionName.isBlank()) {
+      return ANY_OPTION_RATES;
+    }
+    double[] rates = table.slotRates(optionName);
+    if (rates != null) {
+      return rates;
+    }
+    // 테이블에 없는 옵션: 잡옵이면 1.0, 아니면 0% (불가능)
+    return StatType.findTypeWithUnit(optionName) == StatType.UNKNOWN
+        ? ANY_OPTION_RATES
+        : NO_OPTION_RATES;
+  }
+
+  private static double sumPlacements(
+      int slot, int slotCount, int distinctCount, int[] remaining, double[][] slotRates) {
+    if (slot == slotCount) {
+      return 1.0;
+    }
+    double total = 0.0;
+    for (int k = 0; k < distinctCount; k++) {
+      if (remaining[k] == 0) {
+        continue;
+      }
+      double rate = slotRates[k][slot];
+      if (rate == 0.0) {
+        continue;
+      }
+      remaining[k]--;
+      total += rate * sumPlacements(slot + 1, slotCount, distinctCount, remaining, slotRates);
+      remaining[k]++;
+    }
+    return total;
+  }
+
+  private static int indexOf(String[] distinct, int distinctCount, String option) {
+    for (int k = 0; k < distinctCount; k++) {
+      if (Objects.equals(distinct[k], option)) {
+        return k;
+      }
+    }
+    return -1;
+  }
+
+  private static double[] filled(double value) {
+    double[] rates = new double[CubeOptionRateTable.MAX_SLOTS];
+    Arrays.fill(rates, value);
+    return rates;
+  }
 }
@@ -0,0 +1,183 @@
+package maple.expectation.core.domain.stat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 잠재능력 옵션 사전
+ *
+ * <p>확률 테이블 로딩 시 서로 다른 옵션 문자열마다 한 번만 파싱하여 정수 ID와 스탯 기여도를 미리 계산합니다. 이후 분포 생성/장비 파싱은
+ * 문자열 매칭·정규식 없이 해시 조회 1회 + 배열 인덱스로 처리합니다.
+ *
+ * <h3>사전 계산 항목 (ID별)</h3>
+ *
+ * <ul>
+ *   <li>{@link StatType#findAllTypesOrEmpty} 결과 + {@link StatParser#parseNum} 수치
+ *   <li>{@link StatType#findTypeWithUnit} 결과
+ *   <li>타깃 스탯별 기여도 벡터 (정책 B: 직접 매칭 → ALLSTAT_PERCENT의 개별 스탯 기여 → 0)
+ *   <li>Primary stat drift 여부 (스탯처럼 보이나 매칭 실패)
+ * </ul>
+ *
+ * <p>불변(Immutable) - 생성 후 읽기 전용이므로 스레드 안전
+ */
+public final class OptionDictionary {
+
+  /** 사전에 없는 옵션 */
+  public static final int UNKNOWN_ID = -1;
+
+  private static final StatType[] STAT_TYPES = StatType.values();
+  private static final OptionDictionary EMPTY = compile(List.of(), new StatParser());
+
+  private final Map<String, Integer> idByOption;
+  private final String[] options;
+  private final List<StatType>[] typesById;
+  private final StatType[] unitTypeById;
+  private final int[] valueById;
+  private final boolean[] primaryDriftById;
+
+  /** contributions[id * STAT_TYPES.length + target.ordinal()] */
+  private final int[] contributions;
+
+  @SuppressWarnings("unchecked")
+  private OptionDictionary(List<String> distinctOptions, StatParser parser) {
+    int size = distinctOptions.size();
+    this.idByOption = new HashMap<>(size * 2);
+    this.options = new String[size];
+    this.typesById = new List[size];
+    this.unitTypeById = new StatType[size];
+    this.valueById = new int[size];
+    this.primaryDriftById = new boolean[size];
+    this.contributions = new int[size * STAT_TYPES.length];
+
+    for (int id = 0; id < size; id++) {
+      String option = distinctOptions.get(id);
+      List<StatType> types = StatType.findAllTypesOrEmpty(option);
+      int value = types.isEmpty() ? 0 : parser.parseNum(option);
+
+      idByOption.put(option, id);
+      options[id] = option;
+      typesById[id] = List.copyOf(types);
+      unitTypeById[id] = StatType.findTypeWithUnit(option);
+      valueById[id] = value;
+      primaryDriftById[id] = types.isEmpty() && StatType.looksLikePrimaryStat(option);
+      fillContributions(id, types, value);
+    }
+  }
+
+  /**
+   * 옵션 문자열 목록으로 사전 생성
+   *
+   * @param optionNames 옵션 문자열 (중복/null/빈 문자열 허용 - 서로 다른 유효 문자열만 등록)
+   * @param parser 수치 파서
+   * @return 컴파일된 사전
+   */
+  public static OptionDictionary compile(Iterable<String> optionNames, StatParser parser) {
+    Set<String> distinct = new LinkedHashSet<>();
+    for (String option : optionNames) {
+      if (option != null && !option.isEmpty()) {
+        distinct.add(option);
+      }
+    }
+    return new OptionDictionary(new ArrayList<>(distinct), parser);
+  }
+
+  /** 빈 사전 (모든 조회가 {@link #UNKNOWN_ID}) */
+  public static OptionDictionary empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 옵션 ID 조회
+   *
+   * @param option 옵션 문자열
+   * @return ID (없으면 {@link #UNKNOWN_ID})
+   */
+  public int idOf(String option) {
+    if (option == null) {
+      return UNKNOWN_ID;
+    }
+    Integer id = idByOption.get(option);
+    return id != null ? id : UNKNOWN_ID;
+  }
+
+  /**
+   * 사전에 등록된 동일 문자열 인스턴스 반환 (장비 JSON 옵션 정규화용)
+   *
+   * <p>정규화된 문자열은 이후 해시 조회에서 참조 비교로 바로 일치하고, 중복 문자열을 메모리에 남기지 않습니다.
+   *
+   * @param option 옵션 문자열
+   * @return 등록된 인스턴스 (없으면 입력 그대로)
+   */
+  public String canonical(String option) {
+    int id = idOf(option);
+    return id != UNKNOWN_ID ? options[id] : option;
+  }
+
+  /**
+   * ID에 해당하는 옵션 문자열
+   *
+   * @param id 옵션 ID (0 이상)
+   * @return 등록된 옵션 문자열 인스턴스
+   */
+  public String option(int id) {
+    return options[id];
+  }
+
+  /**
+   * 타깃 스탯 기여도 (정책 B, 사전 계산)
+   *
+   * @param id 옵션 ID (0 이상)
+   * @param target 목표 스탯 타입
+   * @return 기여값 (기여 없으면 0)
+   */
+  public int contribution(int id, StatType target) {
+    return contributions[id * STAT_TYPES.length + target.ordinal()];
+  }
+
+  /** 매칭된 스탯 타입 ({@link StatType#findAllTypesOrEmpty}와 동일, 불변) */
+  public List<StatType> types(int id) {
+    return typesById[id];
+  }
+
+  /** 단위 포함 스탯 타입 ({@link StatType#findTypeWithUnit}와 동일) */
+  public StatType unitType(int id) {
+    return unitTypeById[id];
+  }
+
+  /** 옵션 수치 (매칭 타입이 없으면 0) */
+  public int value(int id) {
+    return valueById[id];
+  }
+
+  /** Primary stat drift 여부 (스탯처럼 보이나 타입 매칭 실패) */
+  public boolean isPrimaryStatDrift(int id) {
+    return primaryDriftById[id];
+  }
+
+  /** 등록된 옵션 수 */
+  public int size() {
+    return options.length;
+  }
+
+  private void fillContributions(int id, List<StatType> types, int value) {
+    int base = id * STAT_TYPES.length;
+    for (StatType target : STAT_TYPES) {
+      contributions[base + target.ordinal()] = resolveContribution(types, value, target);
+    }
+  }
+
+  /** 정책 B: 직접 매칭 → ALLSTAT_PERCENT의 개별 스탯 기여 → 0 */
+  private static int resolveContribution(List<StatType> types, int value, StatType target) {
+    if (types.contains(target)) {
+      return value;
+    }
+    if (target.isIndividualStat() && types.contains(StatType.ALLSTAT_PERCENT)) {
+      return value;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,135 @@
+package maple.expectation.core.probability;
+
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * 합성곱 커널용 재사용 작업 공간
+ *
+ * <p>두 개의 double[] 버퍼를 번갈아(ping-pong) 사용하여 슬롯마다 새 배열을 할당하지 않는다.
+ *
+ * <h3>사용 규칙</h3>
+ *
+ * <ul>
+ *   <li>스레드 안전하지 않음 - {@link #acquire()}/{@link #release} 한 쌍으로 빌려 쓰거나 호출자 소유
+ *   <li>결과({@link #massAt}, {@link #size})는 같은 작업 공간의 다음 합성곱 호출 전까지만 유효
+ *   <li>버퍼는 필요 시에만 확장되고 축소되지 않음
+ * </ul>
+ *
+ * <h3>대여 방식</h3>
+ *
+ * <ul>
+ *   <li>플랫폼 스레드(계산 풀): 스레드 로컬 작업 공간 재사용
+ *   <li>Virtual Thread(요청 스레드 등): 요청마다 새 스레드라 스레드 로컬로는 재사용되지 않으므로, 공유 풀({@value
+ *       #POOL_CAPACITY_PER_CPU} × 코어 수)에서 빌리고 반납. 풀이 비면 새로 만들고, 가득 차면 반납분을 버림
+ * </ul>
+ */
+public final class ConvolutionWorkspace {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static final int POOL_CAPACITY_PER_CPU = 2;
+
+  private static final ThreadLocal<ConvolutionWorkspace> THREAD_LOCAL =
+      ThreadLocal.withInitial(ConvolutionWorkspace::new);
+
+  /** 최근 반납분부터 빌려 줌 (LIFO: 이미 확장된 버퍼가 캐시에 남아 있을 가능성이 높음) */
+  private static final LinkedBlockingDeque<ConvolutionWorkspace> SHARED_POOL =
+      new LinkedBlockingDeque<>(POOL_CAPACITY_PER_CPU * Runtime.getRuntime().availableProcessors());
+
+  private final boolean pooled;
+  private double[] current = new double[INITIAL_CAPACITY];
+  private double[] next = new double[INITIAL_CAPACITY];
+  private int size;
+
+  /** 호출자 소유 작업 공간 */
+  public ConvolutionWorkspace() {
+    this(false);
+  }
+
+  private ConvolutionWorkspace(boolean pooled) {
+    this.pooled = pooled;
+  }
+
+  /**
+   * 작업 공간 대여 (사용 후 {@link #release}로 반납)
+   *
+   * @return 플랫폼 스레드는 스레드 로컬, Virtual Thread는 공유 풀의 작업 공간
+   */
+  public static ConvolutionWorkspace acquire() {
+    if (!Thread.currentThread().isVirtual()) {
+      return THREAD_LOCAL.get();
+    }
+    ConvolutionWorkspace workspace = SHARED_POOL.pollFirst();
+    return workspace != null ? workspace : new ConvolutionWorkspace(true);
+  }
+
+  /** 공유 풀 작업 공간 반납 (스레드 로컬·호출자 소유 작업 공간은 무시) */
+  public static void release(ConvolutionWorkspace workspace) {
+    if (workspace.pooled) {
+      SHARED_POOL.offerFirst(workspace);
+    }
+  }
+
+  /**
+   * 초기 상태로 리셋 (합=0일 확률 100%)
+   *
+   * @param stateSize 상태 크기 (= maxIndex + 1)
+   */
+  void reset(int stateSize) {
+    ensureCapacity(stateSize);
+    Arrays.fill(current, 0, stateSize, 0.0);
+    current[0] = 1.0;
+    size = stateSize;
+  }
+
+  /** 현재 누적 분포 버퍼 (읽기 전용으로 취급) */
+  double[] current() {
+    return current;
+  }
+
+  /** 다음 슬롯 결과를 기록할 버퍼 (0으로 초기화됨) */
+  double[] clearedNext() {
+    Arrays.fill(next, 0, size, 0.0);
+    return next;
+  }
+
+  /** 버퍼 교체: next가 current가 됨 */
+  void swap() {
+    double[] tmp = current;
+    current = next;
+    next = tmp;
+  }
+
+  /** 현재 결과의 상태 크기 (= 최대값 + 1) */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 특정 값의 질량 조회
+   *
+   * @param value 조회할 값
+   * @return 해당 값의 확률 (범위 밖이면 0.0)
+   */
+  public double massAt(int value) {
+    if (value < 0 || value >= size) {
+      return 0.0;
+    }
+    return current[value];
+  }
+
+  /** 현재 결과의 정확한 크기 복사본 (경계에서 불변 레코드로 넘길 때 사용) */
+  public double[] copyResult() {
+    return Arrays.copyOf(current, size);
+  }
+
+  private void ensureCapacity(int stateSize) {
+    if (current.length >= stateSize) {
+      return;
+    }
+    int capacity = Math.max(stateSize, current.length * 2);
+    current = new double[capacity];
+    next = new double[capacity];
+  }
+}
@@ -1,9 +1,16 @@
 package maple.expectation.core.probability;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import maple.expectation.core.domain.flame.FlameEquipCategory;
 import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.core.probability.kernel.RowKernel;
+import maple.expectation.core.probability.kernel.RowKernels;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.model.calculator.SurvivalCurve;
 
 /**
  * 환생의 불꽃 DP 기반 기대값 계산 컴포넌트
@@ -22,10 +29,49 @@ import maple.expectation.core.domain.flame.FlameType;
  *
  * <p>P = (1/4) * sum(dp[k][T] / C(N,k)) for k=1..4
  *
+ * <h3>프리미티브 DP</h3>
+ *
+ * <ul>
+ *   <li>옵션 PMF는 {@link SparsePmf} (int[]/double[] 병렬 배열) - 내부 루프 박싱 없음
+ *   <li>r 역순으로 dp[r] += shift(dp[r-1]) 제자리 갱신 - 옵션마다 행렬 복사 없음
+ *   <li>DP 행은 스레드 로컬 버퍼를 재사용
+ *   <li>시프트된 행 FMA / 클램프 합산은 {@link RowKernel}에 위임 (스칼라 기본, SIMD 선택)
+ *   <li>{@link FlameOutcomeModel}: 상태공간이 {@link #MAX_SURVIVAL_SIZE} 이하면 생존 함수를 한 번 만들어 모든 target에 O(1) 응답
+ * </ul>
+ *
  * @see FlameScoreCalculator PMF 생성
  */
 public class FlameDpCalculator {
 
+  /** 최대 선택 옵션 수 (불꽃 추가옵션 최대 4줄) */
+  private static final int MAX_LINES = 4;
+
+  /**
+   * 생존 함수를 만들 상태공간 상한 (= 최대 환산치 + 1)
+   *
+   * <p>방어구는 수천 단위로 충분히 작고, 무기 공/마 환산치처럼 큰 경우는 캐시 엔트리 크기를 제한하기 위해 target별 Clamp DP로 폴백
+   */
+  public static final int MAX_SURVIVAL_SIZE = 8192;
+
+  private static final ThreadLocal<double[][]> DP_ROWS =
+      ThreadLocal.withInitial(() -> new double[MAX_LINES + 1][0]);
+
+  private final RowKernel kernel;
+
+  /** 스칼라 커널 사용 */
+  public FlameDpCalculator() {
+    this(RowKernels.scalar());
+  }
+
+  /**
+   * 커널 지정 생성자
+   *
+   * @param kernel 행 연산 커널 ({@link RowKernels#select(boolean)}로 선택)
+   */
+  public FlameDpCalculator(RowKernel kernel) {
+    this.kernel = kernel;
+  }
+
   /**
    * 환생의 불꽃 기대 시도 횟수 계산
    *
@@ -49,95 +95,169 @@ public class FlameDpCalculator {
       int baseMag,
       List<Map<Integer, Double>> optionPmfs) {
 
-    int n = optionPmfs.size();
-    if (n == 0) {
-      return null;
+    List<SparsePmf> sparsePmfs = new ArrayList<>(optionPmfs.size());
+    for (Map<Integer, Double> pmf : optionPmfs) {
+      sparsePmfs.add(SparsePmf.fromMap(pmf));
     }
+    return toExpectedTrials(successProbability(sparsePmfs, category.isBossDrop(), target));
+  }
 
+  /**
+   * 캐싱된 결과 분포 모델로 기대 시도 횟수 계산
+   *
+   * <p>생존 함수가 있으면 O(1) 조회, 없으면 메모이즈된 PMF로 target별 Clamp DP를 수행한다.
+   *
+   * @param model {@link #buildModel}로 생성한 모델
+   * @param target 목표 환산치 (스케일 10 적용된 정수)
+   * @return 기대 시도 횟수 (1/p), 불가능하면 null
+   */
+  public Double calculateExpectedTrials(FlameOutcomeModel model, int target) {
     double successProb =
-        category.isBossDrop()
-            ? calculateProbForFixedK(optionPmfs, 4, target)
-            : calculateProbForUniformK(optionPmfs, target, n);
+        model.hasSurvival() && target > 0
+            ? model.survival().tailAtLeast(target)
+            : successProbability(model.optionPmfs(), model.bossDrop(), target);
+    return toExpectedTrials(successProb);
+  }
 
+  /**
+   * target 독립 결과 분포 모델 생성
+   *
+   * @param optionPmfs 옵션별 SparsePmf (FlameScoreCalculator.buildOptionSparsePmfs로 생성)
+   * @param bossDrop 보스 장비 여부 (4줄 고정)
+   * @return 결과 분포 모델 (상태공간이 상한 초과면 survival=null)
+   */
+  public FlameOutcomeModel buildModel(List<SparsePmf> optionPmfs, boolean bossDrop) {
+    int n = optionPmfs.size();
+    int maxK = bossDrop ? MAX_LINES : Math.min(MAX_LINES, n);
+    int maxScore = maxReachableScore(optionPmfs, maxK);
+
+    if (n == 0 || maxScore + 1 > MAX_SURVIVAL_SIZE) {
+      return new FlameOutcomeModel(optionPmfs, bossDrop, null);
+    }
+
+    // Clamp 상한 = 최대 도달 점수 → 실제 클램프가 발생하지 않으므로 전체 분포
+    double[][] dp = runDp(optionPmfs, maxK, maxScore);
+    double[] mass = new double[maxScore + 1];
+    for (int t = 0; t <= maxScore; t++) {
+      mass[t] = combineLines(dp, n, bossDrop, t);
+    }
+    return new FlameOutcomeModel(optionPmfs, bossDrop, SurvivalCurve.fromMass(mass, maxScore + 1));
+  }
+
+  private Double toExpectedTrials(double successProb) {
     return successProb <= 0 ? null : 1.0 / successProb;
   }
 
-  /** 보스 장비: k 고정일 때 P(score >= T) */
-  private double calculateProbForFixedK(List<Map<Integer, Double>> optionPmfs, int k, int target) {
+  /** P(score >= T) - target에서 Clamp한 DP */
+  private double successProbability(List<SparsePmf> optionPmfs, boolean bossDrop, int target) {
     int n = optionPmfs.size();
-    if (k > n) {
+    if (n == 0 || (bossDrop && MAX_LINES > n)) {
       return 0.0;
     }
 
-    double[][] dp = runDp(optionPmfs, k, target);
-    long comb = combination(n, k);
-
-    return comb == 0 ? 0.0 : dp[k][target] / comb;
+    int cap = Math.max(target, 0);
+    int maxK = bossDrop ? MAX_LINES : Math.min(MAX_LINES, n);
+    double[][] dp = runDp(optionPmfs, maxK, cap);
+    return combineLines(dp, n, bossDrop, cap);
   }
 
-  /** 그외 장비: k=1~4 균등일 때 P(score >= T) */
-  private double calculateProbForUniformK(
-      List<Map<Integer, Double>> optionPmfs, int target, int n) {
-    int maxK = Math.min(4, n);
-    double[][] dp = runDp(optionPmfs, maxK, target);
+  /**
+   * 줄 수 분포 결합
+   *
+   * <ul>
+   *   <li>보스 장비: dp[4][t] / C(N,4)
+   *   <li>그외 장비: (1/4) * sum(dp[k][t] / C(N,k)) for k=1..min(4,N)
+   * </ul>
+   */
+  private double combineLines(double[][] dp, int n, boolean bossDrop, int t) {
+    if (bossDrop) {
+      long comb = combination(n, MAX_LINES);
+      return comb == 0 ? 0.0 : dp[MAX_LINES][t] / comb;
+    }
 
+    int maxK = Math.min(MAX_LINES, n);
     double totalProb = 0.0;
     for (int k = 1; k <= maxK; k++) {
       long comb = combination(n, k);
       if (comb > 0) {
-        totalProb += dp[k][target] / comb;
+        totalProb += dp[k][t] / comb;
       }
     }
-    return totalProb / 4.0;
+    return totalProb / MAX_LINES;
+  }
+
+  /** 값이 큰 상위 maxK개 옵션의 최대 환산치 합 */
+  private int maxReachableScore(List<SparsePmf> optionPmfs, int maxK) {
+    int[] maxValues = new int[optionPmfs.size()];
+    for (int i = 0; i < maxValues.length; i++) {
+      maxValues[i] = optionPmfs.get(i).maxValue();
+    }
+    Arrays.sort(maxValues);
+
+    long sum = 0;
+    for (int i = maxValues.length - 1; i >= Math.max(0, maxValues.length - maxK); i--) {
+      sum += maxValues[i];
+    }
+    return (int) Math.min(sum, Integer.MAX_VALUE - 1);
   }
 
   /**
-   * 핵심 DP 실행
+   * 핵심 DP 실행 (제자리 갱신)
    *
    * <p>dp[r][t] = r개 옵션 선택했을 때 캡 점수 t의 확률질량 합
    *
    * <p>캡핑: t = min(T, t + val)
+   *
+   * <p>옵션 i 처리 시 r을 역순으로 갱신하면 dp[r-1]은 아직 "옵션 i 미선택" 상태이므로 복사본 없이 dp[r] += shift(dp[r-1])
+   * 가능하다. 반환된 행렬은 스레드 로컬 버퍼이므로 같은 스레드의 다음 호출 전까지만 유효하다.
    */
-  private double[][] runDp(List<Map<Integer, Double>> optionPmfs, int maxK, int target) {
+  private double[][] runDp(List<SparsePmf> optionPmfs, int maxK, int cap) {
     int n = optionPmfs.size();
-
-    // dp[r][t]: r options selected, capped score = t
-    double[][] dp = new double[maxK + 1][target + 1];
+    double[][] dp = acquireRows(maxK, cap + 1);
     dp[0][0] = 1.0;
 
     for (int i = 0; i < n; i++) {
-      Map<Integer, Double> pmf = optionPmfs.get(i);
+      SparsePmf pmf = optionPmfs.get(i);
 
-      // Copy for "don't pick option i" case
-      double[][] next = new double[maxK + 1][target + 1];
-      for (int r = 0; r <= maxK; r++) {
-        System.arraycopy(dp[r], 0, next[r], 0, target + 1);
-      }
-
-      // "Pick option i" case: r-1 -> r
+      // "Pick option i" case: r-1 -> r (역순이므로 dp[r-1]은 갱신 전 값)
       int rMax = Math.min(i + 1, maxK);
       for (int r = rMax; r >= 1; r--) {
-        for (int t = 0; t <= target; t++) {
-          double base = dp[r - 1][t];
-          if (base == 0.0) {
-            continue;
-          }
+        double[] src = dp[r - 1];
+        double[] dst = dp[r];
 
-          for (var entry : pmf.entrySet()) {
-            int val = entry.getKey();
-            double prob = entry.getValue();
-            int nt = Math.min(target, t + val);
-            next[r][nt] += base * prob;
+        for (int k = 0; k < pmf.size(); k++) {
+          int val = pmf.valueAt(k);
+          if (val < 0) {
+            throw new IllegalArgumentException("음수 환산치 감지: value=" + val + " (option=" + i + ")");
           }
+          accumulateShifted(src, dst, val, pmf.probAt(k), cap);
         }
       }
-
-      dp = next;
     }
 
     return dp;
   }
 
+  /** dst[min(t + val, cap)] += src[t] * prob */
+  private void accumulateShifted(double[] src, double[] dst, int val, double prob, int cap) {
+    int unclampedEnd = Math.max(0, cap - val);
+    kernel.axpy(prob, src, 0, dst, val, unclampedEnd);
+    dst[cap] += kernel.sum(src, unclampedEnd, cap + 1) * prob;
+  }
+
+  /** 스레드 로컬 DP 행 확보 (필요 시 확장, 사용 구간 0 초기화) */
+  private double[][] acquireRows(int maxK, int size) {
+    double[][] rows = DP_ROWS.get();
+    for (int r = 0; r <= maxK; r++) {
+      if (rows[r].length < size) {
+        rows[r] = new double[Math.max(size, rows[r].length * 2)];
+      } else {
+        Arrays.fill(rows[r], 0, size, 0.0);
+      }
+    }
+    return rows;
+  }
+
   /** 조합 C(n, k) 계산 */
   private long combination(int n, int k) {
     if (k > n || k < 0) {
@@ -9,6 +9,7 @@ import maple.expectation.core.domain.flame.FlameOptionType;
 import maple.expectation.core.domain.flame.FlameStageProbability;
 import maple.expectation.core.domain.flame.FlameStatTable;
 import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.domain.model.calculator.SparsePmf;
 
 /**
  * 환생의 불꽃 환산치 계산 컴포넌트
@@ -162,6 +163,29 @@ public class FlameScoreCalculator {
     return pmfs;
   }
 
+  /**
+   * 옵션 종류별 1줄 환산치 PMF 생성 (병렬 배열 표현)
+   *
+   * <p>DP 내부 루프에서 Map 박싱을 피하기 위해 값 오름차순 {@link SparsePmf}로 변환한다.
+   *
+   * @return List of SparsePmf, one per valid option
+   */
+  public List<SparsePmf> buildOptionSparsePmfs(
+      FlameEquipCategory category,
+      FlameType flameType,
+      int level,
+      JobWeights weights,
+      int baseAtt,
+      int baseMag) {
+    List<Map<Integer, Double>> pmfs =
+        buildOptionPmfs(category, flameType, level, weights, baseAtt, baseMag);
+    List<SparsePmf> result = new ArrayList<>(pmfs.size());
+    for (Map<Integer, Double> pmf : pmfs) {
+      result.add(SparsePmf.fromMap(pmf));
+    }
+    return result;
+  }
+
   private Integer calculateArmorScore(
       FlameOptionType option, int level, int stage, JobWeights weights) {
     Integer value = FlameStatTable.getArmorValue(option, level, stage);
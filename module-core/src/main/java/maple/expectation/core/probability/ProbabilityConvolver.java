@@ -1,8 +1,11 @@
 package maple.expectation.core.probability;
 
 import java.util.List;
+import maple.expectation.core.probability.kernel.RowKernel;
+import maple.expectation.core.probability.kernel.RowKernels;
 import maple.expectation.domain.model.calculator.DensePmf;
 import maple.expectation.domain.model.calculator.SparsePmf;
+import maple.expectation.domain.model.calculator.SurvivalCurve;
 
 /**
  * DP 합성곱 기반 확률 계산 컴포넌트
@@ -29,12 +32,37 @@ import maple.expectation.domain.model.calculator.SparsePmf;
  *   <li>합이 target 초과 시 모두 target 버킷에 누적
  *   <li>결과적으로 O(slots × target × K) 보장
  * </ul>
+ *
+ * <h3>할당 없는 커널</h3>
+ *
+ * <ul>
+ *   <li>{@link ConvolutionWorkspace}의 두 버퍼를 ping-pong으로 재사용 (슬롯당 배열 할당 없음)
+ *   <li>불변식 검증은 단일 패스로 수행
+ *   <li>불변 레코드(DensePmf)는 공개 API 경계에서만 생성
+ *   <li>시프트된 행 FMA / 클램프 합산은 {@link RowKernel}에 위임 (스칼라 기본, SIMD 선택)
+ * </ul>
  */
 public class ProbabilityConvolver {
 
   private static final double MASS_TOLERANCE = 1e-12;
   private static final double NEGATIVE_TOLERANCE = -1e-15;
 
+  private final RowKernel kernel;
+
+  /** 스칼라 커널 사용 */
+  public ProbabilityConvolver() {
+    this(RowKernels.scalar());
+  }
+
+  /**
+   * 커널 지정 생성자
+   *
+   * @param kernel 행 연산 커널 ({@link RowKernels#select(boolean)}로 선택)
+   */
+  public ProbabilityConvolver(RowKernel kernel) {
+    this.kernel = kernel;
+  }
+
   /**
    * 슬롯 SparsePmf들을 합성하여 총합 DensePmf 생성
    *
@@ -46,6 +74,8 @@ public class ProbabilityConvolver {
    *   <li>enableTailClamp=true면 상태 크기 = target+1
    * </ul>
    *
+   * <p>내부적으로 대여한 작업 공간에서 합성한 뒤, 경계에서만 불변 DensePmf로 복사합니다.
+   *
    * @param slotPmfs 슬롯별 SparsePmf 리스트
    * @param target 목표 합계
    * @param enableTailClamp Tail Clamp 활성화 여부
@@ -53,42 +83,95 @@ public class ProbabilityConvolver {
    * @throws IllegalArgumentException 불변식 위반 시
    */
   public DensePmf convolveAll(List<SparsePmf> slotPmfs, int target, boolean enableTailClamp) {
-    return doConvolveWithClamp(slotPmfs, target, enableTailClamp);
+    ConvolutionWorkspace workspace = ConvolutionWorkspace.acquire();
+    try {
+      convolveInto(slotPmfs, target, enableTailClamp, workspace);
+      return DensePmf.fromArray(workspace.copyResult());
+    } finally {
+      ConvolutionWorkspace.release(workspace);
+    }
   }
 
-  private DensePmf doConvolveWithClamp(
-      List<SparsePmf> slotPmfs, int target, boolean enableTailClamp) {
+  /**
+   * 할당 없는 합성곱 커널 (내부 API)
+   *
+   * <p>작업 공간의 두 버퍼를 ping-pong으로 재사용하며, 결과는 {@link ConvolutionWorkspace#massAt}으로 조회합니다.
+   * 결과는 같은 작업 공간의 다음 호출 전까지만 유효합니다.
+   *
+   * @param slotPmfs 슬롯별 SparsePmf 리스트
+   * @param target 목표 합계
+   * @param enableTailClamp Tail Clamp 활성화 여부
+   * @param workspace 작업 공간 (호출자 소유 또는 {@link ConvolutionWorkspace#acquire()})
+   * @return 결과가 담긴 작업 공간
+   * @throws IllegalArgumentException 불변식 위반 시
+   */
+  public ConvolutionWorkspace convolveInto(
+      List<SparsePmf> slotPmfs,
+      int target,
+      boolean enableTailClamp,
+      ConvolutionWorkspace workspace) {
     int maxIndex = enableTailClamp ? target : calculateMaxSum(slotPmfs);
-    double[] acc = initializeAccumulator(maxIndex);
+    workspace.reset(maxIndex + 1);
 
     for (SparsePmf slot : slotPmfs) {
-      acc = convolveSlot(acc, slot, maxIndex);
+      convolveSlot(workspace, slot, maxIndex);
     }
 
-    DensePmf result = DensePmf.fromArray(acc);
-    validateInvariants(result);
-    return result;
+    validateInvariants(workspace.current(), workspace.size());
+    return workspace;
   }
 
-  private double[] initializeAccumulator(int maxIndex) {
-    double[] acc = new double[maxIndex + 1];
-    acc[0] = 1.0; // 초기 상태: 합=0일 확률 100%
-    return acc;
+  /**
+   * P(X >= target)를 DensePmf 생성 없이 계산
+   *
+   * <p>Tail Clamp 적용 시 mass[target], 미적용 시 Kahan summation으로 합산합니다.
+   *
+   * @param slotPmfs 슬롯별 SparsePmf 리스트
+   * @param target 목표 합계
+   * @param enableTailClamp Tail Clamp 활성화 여부
+   * @return P(X >= target)
+   * @throws IllegalArgumentException 불변식 위반 시
+   */
+  public double tailProbability(List<SparsePmf> slotPmfs, int target, boolean enableTailClamp) {
+    ConvolutionWorkspace workspace = ConvolutionWorkspace.acquire();
+    try {
+      convolveInto(slotPmfs, target, enableTailClamp, workspace);
+      if (enableTailClamp) {
+        return workspace.massAt(target);
+      }
+      return kahanSumFrom(workspace.current(), workspace.size(), target);
+    } finally {
+      ConvolutionWorkspace.release(workspace);
+    }
   }
 
-  private double[] convolveSlot(double[] acc, SparsePmf slot, int maxIndex) {
-    double[] next = new double[maxIndex + 1];
-
-    for (int i = 0; i <= maxIndex; i++) {
-      if (acc[i] == 0) continue;
-      accumulateSlotContributions(acc, slot, next, i, maxIndex);
+  /**
+   * target 독립 생존 함수 생성 (Clamp 미적용 전체 상태공간)
+   *
+   * @param slotPmfs 슬롯별 SparsePmf 리스트
+   * @return 생존 함수
+   * @throws IllegalArgumentException 불변식 위반 시
+   */
+  public SurvivalCurve survivalCurve(List<SparsePmf> slotPmfs) {
+    ConvolutionWorkspace workspace = ConvolutionWorkspace.acquire();
+    try {
+      convolveInto(slotPmfs, 0, false, workspace);
+      return SurvivalCurve.fromMass(workspace.current(), workspace.size());
+    } finally {
+      ConvolutionWorkspace.release(workspace);
     }
-
-    return next;
   }
 
-  private void accumulateSlotContributions(
-      double[] acc, SparsePmf slot, double[] next, int currentIndex, int maxIndex) {
+  /**
+   * 슬롯 하나를 합성하여 작업 공간의 다음 버퍼에 기록 후 교체
+   *
+   * <p>슬롯 엔트리를 바깥 루프로 두어 value/prob를 엔트리당 한 번만 읽고 검증합니다. (SparsePmf의 인덱스 접근자는 배열을
+   * 복사하지 않음)
+   */
+  private void convolveSlot(ConvolutionWorkspace workspace, SparsePmf slot, int maxIndex) {
+    double[] acc = workspace.current();
+    double[] next = workspace.clearedNext();
+
     for (int k = 0; k < slot.size(); k++) {
       int value = slot.valueAt(k);
       double prob = slot.probAt(k);
@@ -100,35 +183,82 @@ public class ProbabilityConvolver {
             "음수 contribution 감지: value=" + value + " (slot index=" + k + ")");
       }
 
-      int targetIndex = Math.min(currentIndex + value, maxIndex); // Tail Clamp
-      next[targetIndex] += acc[currentIndex] * prob;
+      accumulateShifted(acc, next, value, prob, maxIndex);
     }
+
+    workspace.swap();
+  }
+
+  /** next[min(i + value, maxIndex)] += acc[i] * prob (Tail Clamp) */
+  private void accumulateShifted(
+      double[] acc, double[] next, int value, double prob, int maxIndex) {
+    // 클램프 경계 전: 단순 시프트 구간
+    int unclampedEnd = Math.max(0, maxIndex - value);
+    kernel.axpy(prob, acc, 0, next, value, unclampedEnd);
+    // 클램프 구간: 모두 maxIndex 버킷에 누적
+    next[maxIndex] += kernel.sum(acc, unclampedEnd, maxIndex + 1) * prob;
   }
 
   private int calculateMaxSum(List<SparsePmf> slotPmfs) {
-    return slotPmfs.stream().mapToInt(SparsePmf::maxValue).sum();
+    int sum = 0;
+    for (SparsePmf slot : slotPmfs) {
+      sum += slot.maxValue();
+    }
+    return sum;
+  }
+
+  private double kahanSumFrom(double[] mass, int size, int target) {
+    double sum = 0.0;
+    double c = 0.0; // 오차 보정
+
+    for (int i = Math.max(target, 0); i < size; i++) {
+      double y = mass[i] - c;
+      double t = sum + y;
+      c = (t - sum) - y;
+      sum = t;
+    }
+    return sum;
   }
 
   /**
-   * DensePmf 불변식 검증
+   * 합성 결과 불변식 검증 (단일 패스)
    *
-   * <p>DoD 1e-12 기준 충족을 위해 Kahan summation 사용
+   * <p>DoD 1e-12 기준 충족을 위해 Kahan summation 사용. 질량/음수/NaN·Inf/1 초과 검사를 한 번의 순회로 수행하고, 예외 우선순위는
+   * 기존 다중 패스 검증과 동일하게 유지합니다.
    *
-   * @param pmf 검증 대상
+   * @param mass 질량 배열 (인덱스 = 값)
+   * @param size 유효 상태 크기
    * @throws IllegalArgumentException 불변식 위반 시
    */
-  private void validateInvariants(DensePmf pmf) {
-    double sum = pmf.totalMassKahan();
+  private void validateInvariants(double[] mass, int size) {
+    double sum = 0.0;
+    double c = 0.0;
+    boolean hasNegative = false;
+    boolean hasNaNOrInf = false;
+    boolean exceedsOne = false;
+
+    for (int i = 0; i < size; i++) {
+      double m = mass[i];
+      double y = m - c;
+      double t = sum + y;
+      c = (t - sum) - y;
+      sum = t;
+
+      hasNegative |= m < NEGATIVE_TOLERANCE;
+      hasNaNOrInf |= !Double.isFinite(m);
+      exceedsOne |= m > 1.0 + MASS_TOLERANCE;
+    }
+
     if (Math.abs(sum - 1.0) > MASS_TOLERANCE) {
       throw new IllegalArgumentException("질량 보존 위반: Σp=" + sum);
     }
-    if (pmf.hasNegative(NEGATIVE_TOLERANCE)) {
+    if (hasNegative) {
       throw new IllegalArgumentException("음수 확률 감지");
     }
-    if (pmf.hasNaNOrInf()) {
+    if (hasNaNOrInf) {
       throw new IllegalArgumentException("NaN/Inf 감지");
     }
-    if (pmf.hasValueExceedingOne()) {
+    if (exceedsOne) {
       throw new IllegalArgumentException("확률 > 1 감지");
     }
   }
@@ -0,0 +1,44 @@
+package maple.expectation.core.probability.kernel;
+
+/**
+ * 확률 DP 행 연산 커널
+ *
+ * <p>합성곱({@code ProbabilityConvolver})과 불꽃 DP({@code FlameDpCalculator})의 내부 루프는 희소 값마다 "시프트된 행
+ * FMA" 한 번과 클램프 구간 합산 한 번으로 구성된다. 이 두 연산만 커널로 분리하여 구현을 교체할 수 있게 한다.
+ *
+ * <h3>구현체</h3>
+ *
+ * <ul>
+ *   <li>{@link ScalarRowKernel}: 기본값, 모든 JVM에서 동작
+ *   <li>{@code VectorRowKernel}: JDK Vector API ({@code vector} 소스셋, --add-modules 필요)
+ * </ul>
+ *
+ * @see RowKernels 선택/폴백
+ */
+public interface RowKernel {
+
+  /**
+   * 시프트된 행 FMA: dst[dstFrom + i] += a * src[srcFrom + i] (i ∈ [0, length))
+   *
+   * @param a 계수 (희소 값의 확률)
+   * @param src 원본 행
+   * @param srcFrom 원본 시작 인덱스
+   * @param dst 누적 대상 행 (src와 다른 배열)
+   * @param dstFrom 대상 시작 인덱스 (= srcFrom + 시프트)
+   * @param length 원소 수 (0 이하면 무시)
+   */
+  void axpy(double a, double[] src, int srcFrom, double[] dst, int dstFrom, int length);
+
+  /**
+   * 구간 합: Σ src[i] (i ∈ [from, to))
+   *
+   * @param src 원본 행
+   * @param from 시작 인덱스 (포함)
+   * @param to 끝 인덱스 (미포함)
+   * @return 구간 합 (빈 구간이면 0.0)
+   */
+  double sum(double[] src, int from, int to);
+
+  /** 로그/메트릭용 커널 이름 */
+  String name();
+}
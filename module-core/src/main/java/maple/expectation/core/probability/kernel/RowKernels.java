@@ -0,0 +1,53 @@
+package maple.expectation.core.probability.kernel;
+
+/**
+ * 행 커널 선택기
+ *
+ * <h3>선택 규칙</h3>
+ *
+ * <ul>
+ *   <li>SIMD 미요청 → {@link ScalarRowKernel}
+ *   <li>SIMD 요청 + jdk.incubator.vector 모듈 로드됨 → {@code VectorRowKernel}
+ *   <li>SIMD 요청 + 모듈/클래스 미존재, 초기화 실패 → {@link ScalarRowKernel} (폴백)
+ * </ul>
+ *
+ * <p>{@code VectorRowKernel}은 incubator 모듈 플래그가 필요한 유일한 클래스이므로 module-core의 {@code vector} 소스셋에서 따로
+ * 컴파일되고 main은 플래그 없이 빌드된다. 여기서는 이름으로만 로드하여 main이 Vector API에 컴파일 의존하지 않게 한다.
+ */
+public final class RowKernels {
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  private static final String VECTOR_KERNEL_CLASS =
+      "maple.expectation.core.probability.kernel.VectorRowKernel";
+
+  private RowKernels() {}
+
+  /** 스칼라 커널 (기본값) */
+  public static RowKernel scalar() {
+    return ScalarRowKernel.INSTANCE;
+  }
+
+  /**
+   * 설정값에 따른 커널 선택
+   *
+   * @param simdRequested SIMD 커널 요청 여부
+   * @return 사용 가능한 커널 (SIMD 불가 시 스칼라)
+   */
+  public static RowKernel select(boolean simdRequested) {
+    if (!simdRequested || !isVectorApiAvailable()) {
+      return scalar();
+    }
+    try {
+      return (RowKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // vector 소스셋 미포함 또는 플랫폼 초기화 실패 - 스칼라로 폴백
+      return scalar();
+    }
+  }
+
+  /** 부트 레이어에 Vector API 모듈이 로드되었는지 여부 */
+  public static boolean isVectorApiAvailable() {
+    return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+  }
+}
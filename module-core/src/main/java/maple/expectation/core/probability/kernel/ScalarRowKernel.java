@@ -0,0 +1,30 @@
+package maple.expectation.core.probability.kernel;
+
+/** 스칼라 행 커널 (기본값, 폴백) */
+public final class ScalarRowKernel implements RowKernel {
+
+  static final ScalarRowKernel INSTANCE = new ScalarRowKernel();
+
+  private ScalarRowKernel() {}
+
+  @Override
+  public void axpy(double a, double[] src, int srcFrom, double[] dst, int dstFrom, int length) {
+    for (int i = 0; i < length; i++) {
+      dst[dstFrom + i] += src[srcFrom + i] * a;
+    }
+  }
+
+  @Override
+  public double sum(double[] src, int from, int to) {
+    double sum = 0.0;
+    for (int i = from; i < to; i++) {
+      sum += src[i];
+    }
+    return sum;
+  }
+
+  @Override
+  public String name() {
+    return "scalar";
+  }
+}
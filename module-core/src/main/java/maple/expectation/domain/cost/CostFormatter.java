@@ -33,6 +33,10 @@ public final class CostFormatter {
   private static final BigDecimal EOK = new BigDecimal("100000000"); // 억 (10^8)
   private static final BigDecimal MAN = new BigDecimal("10000"); // 만 (10^4)
 
+  private static final long JO_LONG = JO.longValueExact();
+  private static final long EOK_LONG = EOK.longValueExact();
+  private static final long MAN_LONG = MAN.longValueExact();
+
   private CostFormatter() {
     // Utility class - no instantiation
   }
@@ -78,11 +82,35 @@ public final class CostFormatter {
   /**
    * long 금액을 한국식 표기로 포맷
    *
+   * <p>BigDecimal 변환 없이 정수 나눗셈으로 처리합니다 (V4 아이템별 비용 텍스트 경로).
+   *
    * @param cost 금액 (메소)
    * @return 포맷된 문자열
    */
   public static String format(long cost) {
-    return format(BigDecimal.valueOf(cost));
+    if (cost <= 0) {
+      return "0";
+    }
+
+    StringBuilder sb = new StringBuilder();
+    long remaining = cost;
+
+    if (remaining >= JO_LONG) {
+      sb.append(remaining / JO_LONG).append("조 ");
+      remaining %= JO_LONG;
+    }
+
+    if (remaining >= EOK_LONG) {
+      sb.append(remaining / EOK_LONG).append("억 ");
+      remaining %= EOK_LONG;
+    }
+
+    if (remaining >= MAN_LONG) {
+      sb.append(remaining / MAN_LONG).append("만");
+    }
+
+    String result = sb.toString().trim();
+    return result.isEmpty() ? "0" : result;
   }
 
   /**
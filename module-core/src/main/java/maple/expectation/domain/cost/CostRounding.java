@@ -0,0 +1,84 @@
+package maple.expectation.domain.cost;
+
+/**
+ * 기대 비용 반올림 정책 (V4 비용 파이프라인 공통)
+ *
+ * <h3>정책</h3>
+ *
+ * <ul>
+ *   <li>기대 시도 횟수(double)는 정수로 HALF_UP 반올림 후 비용에 곱함
+ *   <li>비용은 메소 단위 정수(long)로만 누적
+ *   <li>표시용 스타포스 비용은 100메소 단위 HALF_UP 반올림
+ *   <li>BigDecimal 변환은 응답 DTO 생성 시점에만 수행
+ * </ul>
+ *
+ * <p>{@code BigDecimal.valueOf(d).setScale(0, HALF_UP)}와 같은 결과를 내면서 중간 객체를 만들지 않습니다. 유한하지 않은 값(NaN,
+ * Infinity)은 계산 불가 조합이므로 0으로 취급합니다 (#262).
+ */
+public final class CostRounding {
+
+  private static final long HUNDRED = 100L;
+
+  private CostRounding() {
+    // Utility class - no instantiation
+  }
+
+  /**
+   * 기대값을 정수로 반올림 (HALF_UP)
+   *
+   * @param value 기대값 (시도 횟수 또는 메소)
+   * @return 반올림 값 (NaN/Infinity는 0, long 범위 초과 시 포화)
+   */
+  public static long roundHalfUp(double value) {
+    if (!Double.isFinite(value)) {
+      return 0L;
+    }
+    // Math.round는 음수 .5를 올림(-2.5 → -2)하므로 부호를 분리해 HALF_UP과 맞춤
+    return value < 0 ? -Math.round(-value) : Math.round(value);
+  }
+
+  /**
+   * 큐브 비용 = 반올림 시도 횟수 × 1회 비용
+   *
+   * @param expectedTrials 기대 시도 횟수 (반올림 전)
+   * @param costPerTrial 1회 비용 (메소)
+   * @return 큐브 기대 비용 (메소, long 범위 초과 시 Long.MAX_VALUE)
+   */
+  public static long cubeCost(double expectedTrials, long costPerTrial) {
+    return saturatedMultiply(roundHalfUp(expectedTrials), costPerTrial);
+  }
+
+  /**
+   * 100메소 단위 반올림 (HALF_UP)
+   *
+   * @param cost 비용 (메소, 0 이상)
+   * @return 100메소 단위 비용
+   */
+  public static long roundToNearest100(long cost) {
+    if (cost > Long.MAX_VALUE - HUNDRED / 2) {
+      return cost - cost % HUNDRED;
+    }
+    return Math.floorDiv(cost + HUNDRED / 2, HUNDRED) * HUNDRED;
+  }
+
+  /**
+   * 포화 덧셈 (오버플로 시 Long.MAX_VALUE)
+   *
+   * @param a 비용 (0 이상)
+   * @param b 비용 (0 이상)
+   * @return 합계
+   */
+  public static long saturatedAdd(long a, long b) {
+    long sum = a + b;
+    return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+  }
+
+  private static long saturatedMultiply(long a, long b) {
+    long high = Math.multiplyHigh(a, b);
+    long low = a * b;
+    if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+      return low;
+    }
+    return Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,34 @@
+package maple.expectation.domain.model.calculator;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 환생의 불꽃 결과 분포 모델 (target 독립)
+ *
+ * <p>용도: (장비 분류, 불꽃 종류, 레벨, 직업 가중치, 기본 공/마) 단위로 한 번 생성하여 캐싱하고, 목표 환산치만 바꿔 재사용
+ *
+ * <h3>구성</h3>
+ *
+ * <ul>
+ *   <li>optionPmfs: 옵션별 1줄 환산치 PMF (int[]/double[] 병렬 배열)
+ *   <li>bossDrop: true면 4줄 고정, false면 1~4줄 균등
+ *   <li>survival: P(score >= t) 생존 함수. 상태공간이 상한을 넘으면 null (target별 Clamp DP로 폴백)
+ * </ul>
+ *
+ * <p>L2(jdk 직렬화) 캐시 저장을 위해 Serializable
+ */
+public record FlameOutcomeModel(
+    List<SparsePmf> optionPmfs, boolean bossDrop, SurvivalCurve survival)
+    implements Serializable {
+
+  /** P0: Canonical constructor 방어적 복사 */
+  public FlameOutcomeModel {
+    optionPmfs = optionPmfs != null ? List.copyOf(optionPmfs) : List.of();
+  }
+
+  /** 생존 함수 보유 여부 (O(1) 조회 가능) */
+  public boolean hasSurvival() {
+    return survival != null;
+  }
+}
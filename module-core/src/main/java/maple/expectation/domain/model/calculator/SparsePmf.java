@@ -1,5 +1,6 @@
 package maple.expectation.domain.model.calculator;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +33,7 @@ import java.util.Map;
  *   <li>Defensive copying in accessors
  * </ul>
  */
-public record SparsePmf(int[] values, double[] probs) {
+public record SparsePmf(int[] values, double[] probs) implements Serializable {
 
   /** P0: Canonical constructor defensive copying */
   public SparsePmf(int[] values, double[] probs) {
@@ -0,0 +1,88 @@
+package maple.expectation.domain.model.calculator;
+
+import java.io.Serializable;
+
+/**
+ * 생존 함수 (Complementary CDF)
+ *
+ * <p>용도: target과 무관하게 한 번 합성한 분포로 임의의 P(X >= t)를 O(1)로 응답
+ *
+ * <p>tailByValue[t] = P(X >= t), 크기 = 최대합 + 1
+ *
+ * <p>불변(Immutable) - 방어적 복사로 보장
+ *
+ * <h3>Tail Clamp와의 관계</h3>
+ *
+ * <ul>
+ *   <li>Clamp 미적용 DensePmf로 생성 → 모든 target에 대해 Clamp 결과와 수학적으로 동일
+ *   <li>L2(jdk 직렬화) 캐시 저장을 위해 Serializable
+ * </ul>
+ */
+public record SurvivalCurve(double[] tailByValue) implements Serializable {
+
+  /** P0: Canonical constructor 방어적 복사 */
+  public SurvivalCurve(double[] tailByValue) {
+    this.tailByValue = tailByValue != null ? tailByValue.clone() : new double[0];
+  }
+
+  /** P0: Accessor 방어적 복사 */
+  @Override
+  public double[] tailByValue() {
+    return tailByValue.clone();
+  }
+
+  /**
+   * 밀집 PMF에서 생존 함수 생성
+   *
+   * <p>DoD 1e-12 기준 충족을 위해 역방향 누적합에 Kahan summation 사용
+   *
+   * @param pmf Clamp 미적용 DensePmf
+   * @return 생존 함수
+   */
+  public static SurvivalCurve fromPmf(DensePmf pmf) {
+    return fromMass(pmf.massByValue(), pmf.size());
+  }
+
+  /**
+   * 질량 배열에서 생존 함수 생성 (합성곱 작업 공간 버퍼를 그대로 읽음)
+   *
+   * @param massByValue Clamp 미적용 질량 배열 (인덱스 = 값, 길이는 size 이상)
+   * @param size 유효 상태 크기 (= 최대합 + 1)
+   * @return 생존 함수
+   */
+  public static SurvivalCurve fromMass(double[] massByValue, int size) {
+    double[] tail = new double[size];
+    double sum = 0.0;
+    double c = 0.0; // 오차 보정
+
+    for (int i = size - 1; i >= 0; i--) {
+      double y = massByValue[i] - c;
+      double t = sum + y;
+      c = (t - sum) - y;
+      sum = t;
+      tail[i] = sum;
+    }
+    return new SurvivalCurve(tail);
+  }
+
+  /**
+   * P(X >= target) 조회
+   *
+   * @param target 목표 합계
+   * @return 꼬리 확률 (target <= 0이면 1.0, 최대합 초과면 0.0)
+   */
+  public double tailAtLeast(int target) {
+    if (target <= 0) {
+      return 1.0;
+    }
+    if (target >= tailByValue.length) {
+      return 0.0;
+    }
+    return tailByValue[target];
+  }
+
+  /** 도달 가능한 최대 합계 */
+  public int maxValue() {
+    return tailByValue.length - 1;
+  }
+}
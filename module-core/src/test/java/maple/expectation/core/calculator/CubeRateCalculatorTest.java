@@ -0,0 +1,86 @@
+package maple.expectation.core.calculator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.List;
+import maple.expectation.core.domain.model.CubeRate;
+import maple.expectation.core.domain.model.CubeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CubeRateCalculator 다중집합 확률 순수 유닛 테스트
+ *
+ * <p>기대값은 서로 다른 슬롯 배치를 손으로 전개한 합과 비교합니다.
+ */
+@DisplayName("CubeRateCalculator 다중집합 확률 순수 유닛 테스트")
+class CubeRateCalculatorTest {
+
+  private static final double TOLERANCE = 1e-15;
+
+  private static final String STR_12 = "STR +12%";
+  private static final String STR_9 = "STR +9%";
+
+  private final CubeRateCalculator calculator = new CubeRateCalculator();
+
+  // 슬롯별 확률: STR 12% = (0.1, 0.02, 0.01), STR 9% = (0.2, 0.15, 0.12)
+  private final CubeOptionRateTable table =
+      CubeOptionRateTable.from(
+          List.of(
+              rate(STR_12, 0.1, 1),
+              rate(STR_12, 0.02, 2),
+              rate(STR_12, 0.01, 3),
+              rate(STR_9, 0.2, 1),
+              rate(STR_9, 0.15, 2),
+              rate(STR_9, 0.12, 3)),
+          3);
+
+  @Test
+  @DisplayName("중복 옵션은 서로 다른 배치만 합산해야 함 (A, B, B → 3가지)")
+  void duplicate_options_sum_distinct_placements() {
+    double expected =
+        0.1 * 0.15 * 0.12 // A B B
+            + 0.2 * 0.02 * 0.12 // B A B
+            + 0.2 * 0.15 * 0.01; // B B A
+
+    double actual = calculator.calculateMultisetProbability(List.of(STR_12, STR_9, STR_9), table);
+
+    assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+  }
+
+  @Test
+  @DisplayName("잡옵(null, 빈 문자열)은 모든 슬롯에서 확률 1.0")
+  void blank_options_are_wildcards() {
+    double expected = 0.1 + 0.02 + 0.01;
+
+    double actual =
+        calculator.calculateMultisetProbability(Arrays.asList(null, STR_12, ""), table);
+
+    assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+  }
+
+  @Test
+  @DisplayName("같은 (옵션, 슬롯)이 중복되면 첫 번째 값을 사용")
+  void first_rate_wins_on_duplicate_rows() {
+    CubeOptionRateTable duplicated =
+        CubeOptionRateTable.from(List.of(rate(STR_12, 0.1, 1), rate(STR_12, 0.5, 1)), 3);
+
+    assertThat(duplicated.rate(STR_12, 1)).isEqualTo(0.1);
+    assertThat(duplicated.rate(STR_12, 2)).isZero();
+  }
+
+  @Test
+  @DisplayName("데이터에 없는 옵션이 포함되면 확률 0")
+  void missing_option_is_impossible() {
+    double actual =
+        calculator.calculateMultisetProbability(List.of(STR_12, STR_9, "LUK +12%"), table);
+
+    assertThat(actual).isZero();
+  }
+
+  private static CubeRate rate(String option, double rate, int slot) {
+    return new CubeRate(CubeType.BLACK, option, rate, slot, "LEGENDARY", 200, "모자");
+  }
+}
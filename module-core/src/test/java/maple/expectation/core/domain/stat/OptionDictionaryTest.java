@@ -0,0 +1,84 @@
+package maple.expectation.core.domain.stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OptionDictionary 순수 유닛 테스트
+ *
+ * <p>사전 계산 결과가 문자열 파싱 경로({@link StatType}, {@link StatParser})와 일치하는지 검증합니다.
+ */
+@DisplayName("OptionDictionary 순수 유닛 테스트")
+class OptionDictionaryTest {
+
+  private static final List<String> OPTIONS =
+      List.of(
+          "STR +12%",
+          "올스탯 +9%",
+          "STR/DEX +6%",
+          "보스 몬스터 공격 시 데미지 +40%",
+          "캐릭터 기준 9레벨 당 STR +2",
+          "피격 시 10% 확률로 데미지 무시",
+          "스킬 재사용 대기시간 -2초",
+          "크리티컬 데미지 +8%");
+
+  private final StatParser parser = new StatParser();
+  private final OptionDictionary dictionary = OptionDictionary.compile(OPTIONS, parser);
+
+  @Test
+  @DisplayName("기여도 벡터는 정책 B 파싱 결과와 일치해야 함")
+  void contributions_match_parsing_path() {
+    for (String option : OPTIONS) {
+      int id = dictionary.idOf(option);
+      assertThat(id).isNotEqualTo(OptionDictionary.UNKNOWN_ID);
+      assertThat(dictionary.unitType(id)).isEqualTo(StatType.findTypeWithUnit(option));
+      assertThat(dictionary.types(id)).isEqualTo(StatType.findAllTypesOrEmpty(option));
+
+      for (StatType target : StatType.values()) {
+        assertThat(dictionary.contribution(id, target))
+            .as("%s → %s", option, target)
+            .isEqualTo(parsedContribution(option, target));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("올스탯은 개별 스탯에 기여하고, 복합 옵션은 각 스탯에 기여해야 함")
+  void allstat_and_compound_contributions() {
+    int allStat = dictionary.idOf("올스탯 +9%");
+    int compound = dictionary.idOf("STR/DEX +6%");
+
+    assertThat(dictionary.contribution(allStat, StatType.LUK_PERCENT)).isEqualTo(9);
+    assertThat(dictionary.contribution(allStat, StatType.BOSS_DAMAGE)).isZero();
+    assertThat(dictionary.contribution(compound, StatType.STR_PERCENT)).isEqualTo(6);
+    assertThat(dictionary.contribution(compound, StatType.DEX_PERCENT)).isEqualTo(6);
+    assertThat(dictionary.contribution(compound, StatType.INT_PERCENT)).isZero();
+  }
+
+  @Test
+  @DisplayName("등록된 옵션은 사전 인스턴스로 정규화, 미등록 옵션은 그대로")
+  void canonical_returns_registered_instance() {
+    String copy = new String("STR +12%");
+
+    assertThat(dictionary.canonical(copy)).isSameAs(OPTIONS.get(0));
+    assertThat(dictionary.canonical("LUK +12%")).isEqualTo("LUK +12%");
+    assertThat(dictionary.idOf("LUK +12%")).isEqualTo(OptionDictionary.UNKNOWN_ID);
+    assertThat(dictionary.idOf(null)).isEqualTo(OptionDictionary.UNKNOWN_ID);
+  }
+
+  private int parsedContribution(String option, StatType target) {
+    List<StatType> types = StatType.findAllTypesOrEmpty(option);
+    if (types.isEmpty()) {
+      return 0;
+    }
+    int value = parser.parseNum(option);
+    if (types.contains(target)
+        || (target.isIndividualStat() && types.contains(StatType.ALLSTAT_PERCENT))) {
+      return value;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,158 @@
+package maple.expectation.core.probability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import maple.expectation.core.domain.flame.FlameEquipCategory;
+import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 환생의 불꽃 DP 계산 테스트
+ *
+ * <h3>핵심 검증 항목</h3>
+ *
+ * <ul>
+ *   <li>브루트포스 교차검증 (제자리 DP)
+ *   <li>결과 분포 모델(생존 함수)과 target별 Clamp DP 결과 일치
+ *   <li>상태공간 상한 초과 시 Clamp DP 폴백
+ *   <li>스레드 로컬 버퍼 재사용 시 잔여값 격리
+ * </ul>
+ */
+@DisplayName("FlameDpCalculator 순수 유닛 테스트")
+class FlameDpCalculatorTest {
+
+  private static final double TOLERANCE = 1e-12;
+
+  private FlameDpCalculator dpCalculator;
+  private FlameScoreCalculator scoreCalculator;
+
+  @BeforeEach
+  void setUp() {
+    dpCalculator = new FlameDpCalculator();
+    scoreCalculator = new FlameScoreCalculator();
+  }
+
+  @Nested
+  @DisplayName("브루트포스 교차검증")
+  class BruteForceTest {
+
+    @Test
+    @DisplayName("그외 장비 3옵션: 줄 수 균등 + 옵션 조합 평균과 일치해야 한다")
+    void uniform_lines_match_brute_force() {
+      // Given: 옵션 A, B, C (각 1줄 환산치 PMF)
+      List<Map<Integer, Double>> pmfs =
+          List.of(Map.of(0, 0.5, 10, 0.5), Map.of(5, 0.4, 20, 0.6), Map.of(10, 1.0));
+      int target = 20;
+
+      // When
+      Double trials =
+          dpCalculator.calculateExpectedTrials(
+              FlameEquipCategory.OTHER_ARMOR, FlameType.POWERFUL, 200, null, target, 0, 0, pmfs);
+
+      // Then: P(score >= 20)를 줄 수별로 직접 열거
+      // k=1: A 0, B 0.6, C 0 → 평균 0.6/3
+      // k=2: AB 0.6 (20, 30), AC 0.5 (20), BC 0.6 (30) → 평균 1.7/3
+      // k=3: ABC 0.8 (25, 30, 40)
+      double expected = (0.6 / 3 + 1.7 / 3 + 0.8) / 4;
+
+      assertThat(trials).isNotNull();
+      assertThat(1.0 / trials).isCloseTo(expected, within(TOLERANCE));
+    }
+  }
+
+  @Nested
+  @DisplayName("결과 분포 모델 일치 테스트")
+  class OutcomeModelTest {
+
+    @Test
+    @DisplayName("방어구 모델의 생존 함수 조회는 target별 Clamp DP와 동일해야 한다")
+    void survival_model_matches_clamped_dp() {
+      FlameScoreCalculator.JobWeights weights = FlameScoreCalculator.JobWeights.of("STR", "DEX");
+
+      for (FlameEquipCategory category :
+          List.of(FlameEquipCategory.BOSS_ARMOR, FlameEquipCategory.OTHER_ARMOR)) {
+        // Given
+        List<Map<Integer, Double>> pmfs =
+            scoreCalculator.buildOptionPmfs(category, FlameType.ETERNAL, 200, weights, 0, 0);
+        List<SparsePmf> sparse =
+            scoreCalculator.buildOptionSparsePmfs(category, FlameType.ETERNAL, 200, weights, 0, 0);
+
+        // When
+        FlameOutcomeModel model = dpCalculator.buildModel(sparse, category.isBossDrop());
+
+        // Then
+        assertThat(model.hasSurvival()).isTrue();
+        int maxScore = model.survival().maxValue();
+        for (int target = 1; target <= maxScore + 10; target += 7) {
+          Double legacy =
+              dpCalculator.calculateExpectedTrials(
+                  category, FlameType.ETERNAL, 200, weights, target, 0, 0, pmfs);
+          Double fromModel = dpCalculator.calculateExpectedTrials(model, target);
+
+          if (legacy == null) {
+            assertThat(fromModel).isNull();
+          } else {
+            assertThat(1.0 / fromModel).isCloseTo(1.0 / legacy, within(TOLERANCE));
+          }
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("상태공간이 상한을 넘으면 생존 함수 없이 Clamp DP로 폴백해야 한다")
+    void large_state_space_falls_back_to_clamped_dp() {
+      // Given: 데몬어벤져 무기 (공격력 가중치 1500)
+      FlameScoreCalculator.JobWeights weights = FlameScoreCalculator.JobWeights.demonAvenger();
+      FlameEquipCategory category = FlameEquipCategory.BOSS_WEAPON;
+      List<SparsePmf> sparse =
+          scoreCalculator.buildOptionSparsePmfs(category, FlameType.ABYSS, 200, weights, 300, 0);
+      List<Map<Integer, Double>> pmfs =
+          scoreCalculator.buildOptionPmfs(category, FlameType.ABYSS, 200, weights, 300, 0);
+
+      // When
+      FlameOutcomeModel model = dpCalculator.buildModel(sparse, true);
+
+      // Then
+      assertThat(model.hasSurvival()).isFalse();
+      int target = 150_000;
+      Double legacy =
+          dpCalculator.calculateExpectedTrials(
+              category, FlameType.ABYSS, 200, weights, target, 300, 0, pmfs);
+      assertThat(dpCalculator.calculateExpectedTrials(model, target)).isEqualTo(legacy);
+    }
+  }
+
+  @Nested
+  @DisplayName("버퍼 재사용 테스트")
+  class BufferReuseTest {
+
+    @Test
+    @DisplayName("큰 target 계산 후 작은 target을 계산해도 결과가 동일해야 한다")
+    void reused_rows_do_not_leak_previous_state() {
+      // Given
+      List<Map<Integer, Double>> pmfs =
+          List.of(Map.of(0, 0.5, 10, 0.5), Map.of(5, 0.4, 20, 0.6), Map.of(10, 1.0));
+      Double first =
+          dpCalculator.calculateExpectedTrials(
+              FlameEquipCategory.OTHER_ARMOR, FlameType.POWERFUL, 200, null, 20, 0, 0, pmfs);
+
+      // When: 더 큰 상태공간으로 버퍼 확장 후 재계산
+      dpCalculator.calculateExpectedTrials(
+          FlameEquipCategory.OTHER_ARMOR, FlameType.POWERFUL, 200, null, 5000, 0, 0, pmfs);
+      Double second =
+          dpCalculator.calculateExpectedTrials(
+              FlameEquipCategory.OTHER_ARMOR, FlameType.POWERFUL, 200, null, 20, 0, 0, pmfs);
+
+      // Then
+      assertThat(second).isEqualTo(first);
+    }
+  }
+}
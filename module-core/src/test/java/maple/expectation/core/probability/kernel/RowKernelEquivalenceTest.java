@@ -0,0 +1,221 @@
+package maple.expectation.core.probability.kernel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import maple.expectation.core.domain.flame.FlameEquipCategory;
+import maple.expectation.core.domain.flame.FlameType;
+import maple.expectation.core.probability.FlameDpCalculator;
+import maple.expectation.core.probability.FlameScoreCalculator;
+import maple.expectation.core.probability.ProbabilityConvolver;
+import maple.expectation.domain.model.calculator.DensePmf;
+import maple.expectation.domain.model.calculator.FlameOutcomeModel;
+import maple.expectation.domain.model.calculator.SparsePmf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SIMD(Vector API) 커널 ↔ 스칼라 커널 동등성 테스트
+ *
+ * <h3>핵심 검증 항목</h3>
+ *
+ * <ul>
+ *   <li>행 연산(axpy, sum) 단위 일치 - 벡터 폭 경계/꼬리 원소 포함
+ *   <li>합성곱 결과 전 버킷 1e-12 이내 일치 (Clamp ON/OFF)
+ *   <li>불꽃 DP 생존 함수 및 기대 시도 횟수 1e-12 이내 일치
+ * </ul>
+ *
+ * <p>jdk.incubator.vector 모듈이 로드되지 않은 JVM에서는 건너뛴다. 기본 {@code test} 태스크는 플래그 없이 실행되므로 건너뛰고, {@code
+ * vectorTest} 태스크가 모듈과 vector 소스셋을 추가해 실행한다.
+ */
+class RowKernelEquivalenceTest {
+
+  private static final double TOLERANCE = 1e-12;
+  private static final long SEED = 20240521L;
+
+  private RowKernel scalar;
+  private RowKernel vector;
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue(RowKernels.isVectorApiAvailable(), "jdk.incubator.vector 미로드");
+    scalar = RowKernels.scalar();
+    vector = RowKernels.select(true);
+    assertThat(vector).isNotSameAs(scalar);
+  }
+
+  @Nested
+  @DisplayName("행 연산 단위 일치")
+  class RowOperationTest {
+
+    @Test
+    @DisplayName("모든 길이/오프셋에서 axpy 결과가 일치해야 한다")
+    void axpy_matches_scalar_for_all_lengths_and_offsets() {
+      Random random = new Random(SEED);
+
+      for (int length = 0; length <= 70; length++) {
+        for (int shift = 0; shift <= 9; shift++) {
+          // Given
+          double[] src = randomRow(random, length + 3);
+          double[] base = randomRow(random, length + shift + 3);
+          double[] expected = base.clone();
+          double[] actual = base.clone();
+          double a = random.nextDouble();
+
+          // When
+          scalar.axpy(a, src, 1, expected, shift, length);
+          vector.axpy(a, src, 1, actual, shift, length);
+
+          // Then
+          for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(TOLERANCE));
+          }
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("모든 구간에서 sum 결과가 일치해야 한다")
+    void sum_matches_scalar_for_all_ranges() {
+      Random random = new Random(SEED);
+      double[] src = randomRow(random, 80);
+
+      for (int from = 0; from <= 20; from++) {
+        for (int to = from; to <= 80; to++) {
+          assertThat(vector.sum(src, from, to))
+              .isCloseTo(scalar.sum(src, from, to), within(TOLERANCE));
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("합성곱 동등성")
+  class ConvolutionEquivalenceTest {
+
+    @Test
+    @DisplayName("무작위 슬롯 분포에서 전 버킷 질량이 1e-12 이내로 일치해야 한다")
+    void convolution_matches_scalar_within_tolerance() {
+      ProbabilityConvolver scalarConvolver = new ProbabilityConvolver(scalar);
+      ProbabilityConvolver vectorConvolver = new ProbabilityConvolver(vector);
+      Random random = new Random(SEED);
+
+      for (int trial = 0; trial < 300; trial++) {
+        // Given
+        List<SparsePmf> slots = randomSlots(random, 1 + random.nextInt(4));
+        int target = random.nextInt(150);
+        boolean clamp = random.nextBoolean();
+
+        // When
+        DensePmf expected = scalarConvolver.convolveAll(slots, target, clamp);
+        DensePmf actual = vectorConvolver.convolveAll(slots, target, clamp);
+
+        // Then
+        assertThat(actual.size()).isEqualTo(expected.size());
+        assertThat(actual.totalMassKahan()).isCloseTo(1.0, within(TOLERANCE));
+        for (int v = 0; v < expected.size(); v++) {
+          assertThat(actual.massAt(v)).isCloseTo(expected.massAt(v), within(TOLERANCE));
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("불꽃 DP 동등성")
+  class FlameEquivalenceTest {
+
+    @Test
+    @DisplayName("방어구 결과 분포 모델의 생존 함수가 1e-12 이내로 일치해야 한다")
+    void flame_survival_matches_scalar_within_tolerance() {
+      FlameScoreCalculator scoreCalculator = new FlameScoreCalculator();
+      FlameDpCalculator scalarDp = new FlameDpCalculator(scalar);
+      FlameDpCalculator vectorDp = new FlameDpCalculator(vector);
+      FlameScoreCalculator.JobWeights weights = FlameScoreCalculator.JobWeights.of("LUK", "DEX");
+
+      for (FlameEquipCategory category :
+          List.of(FlameEquipCategory.BOSS_ARMOR, FlameEquipCategory.OTHER_ARMOR)) {
+        for (FlameType flameType : FlameType.values()) {
+          // Given
+          List<SparsePmf> pmfs =
+              scoreCalculator.buildOptionSparsePmfs(category, flameType, 200, weights, 0, 0);
+
+          // When
+          FlameOutcomeModel expected = scalarDp.buildModel(pmfs, category.isBossDrop());
+          FlameOutcomeModel actual = vectorDp.buildModel(pmfs, category.isBossDrop());
+
+          // Then
+          assertThat(actual.hasSurvival()).isEqualTo(expected.hasSurvival());
+          int maxScore = expected.survival().maxValue();
+          assertThat(actual.survival().maxValue()).isEqualTo(maxScore);
+          for (int t = 0; t <= maxScore; t++) {
+            assertThat(actual.survival().tailAtLeast(t))
+                .isCloseTo(expected.survival().tailAtLeast(t), within(TOLERANCE));
+          }
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("Clamp DP 폴백 경로(무기)의 성공 확률이 1e-12 이내로 일치해야 한다")
+    void flame_clamped_dp_matches_scalar_within_tolerance() {
+      FlameScoreCalculator scoreCalculator = new FlameScoreCalculator();
+      FlameDpCalculator scalarDp = new FlameDpCalculator(scalar);
+      FlameDpCalculator vectorDp = new FlameDpCalculator(vector);
+      FlameScoreCalculator.JobWeights weights = FlameScoreCalculator.JobWeights.of("STR", "DEX");
+      FlameEquipCategory category = FlameEquipCategory.OTHER_WEAPON;
+
+      List<Map<Integer, Double>> pmfs =
+          scoreCalculator.buildOptionPmfs(category, FlameType.ABYSS, 200, weights, 323, 0);
+
+      for (int target = 500; target <= 40_000; target += 2_500) {
+        Double expected =
+            scalarDp.calculateExpectedTrials(
+                category, FlameType.ABYSS, 200, weights, target, 323, 0, pmfs);
+        Double actual =
+            vectorDp.calculateExpectedTrials(
+                category, FlameType.ABYSS, 200, weights, target, 323, 0, pmfs);
+
+        if (expected == null) {
+          assertThat(actual).isNull();
+        } else {
+          assertThat(1.0 / actual).isCloseTo(1.0 / expected, within(TOLERANCE));
+        }
+      }
+    }
+  }
+
+  private static double[] randomRow(Random random, int length) {
+    double[] row = new double[length];
+    for (int i = 0; i < length; i++) {
+      row[i] = random.nextDouble();
+    }
+    return row;
+  }
+
+  private static List<SparsePmf> randomSlots(Random random, int slotCount) {
+    List<SparsePmf> slots = new ArrayList<>(slotCount);
+    for (int s = 0; s < slotCount; s++) {
+      int entries = 1 + random.nextInt(6);
+      double[] weights = randomRow(random, entries);
+      double total = 0.0;
+      for (double w : weights) {
+        total += w;
+      }
+
+      Map<Integer, Double> dist = new HashMap<>();
+      for (int k = 0; k < entries; k++) {
+        dist.merge(random.nextInt(40), weights[k] / total, Double::sum);
+      }
+      slots.add(SparsePmf.fromMap(dist));
+    }
+    return slots;
+  }
+}
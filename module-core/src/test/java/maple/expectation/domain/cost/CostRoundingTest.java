@@ -0,0 +1,54 @@
+package maple.expectation.domain.cost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * CostRounding 순수 유닛 테스트
+ *
+ * <p>primitive 반올림이 기존 BigDecimal HALF_UP 결과와 같은지 검증합니다.
+ */
+@DisplayName("CostRounding 순수 유닛 테스트")
+class CostRoundingTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      doubles = {0.0, 0.5, 0.49999999999999994, 1.5, 2.5, 37.5, 1234.49, 1234.5, 8278809762.5})
+  @DisplayName("시도 횟수 반올림은 BigDecimal HALF_UP과 같아야 함")
+  void round_half_up_matches_big_decimal(double value) {
+    long expected = BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+    assertThat(CostRounding.roundHalfUp(value)).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("NaN/Infinity는 0으로 취급해야 함")
+  void non_finite_is_zero() {
+    assertThat(CostRounding.roundHalfUp(Double.NaN)).isZero();
+    assertThat(CostRounding.roundHalfUp(Double.POSITIVE_INFINITY)).isZero();
+    assertThat(CostRounding.cubeCost(Double.POSITIVE_INFINITY, 42_500_000L)).isZero();
+  }
+
+  @Test
+  @DisplayName("큐브 비용은 반올림 시도 횟수 × 1회 비용, 오버플로 시 포화")
+  void cube_cost_rounds_then_multiplies() {
+    assertThat(CostRounding.cubeCost(37.5, 42_500_000L)).isEqualTo(1_615_000_000L);
+    assertThat(CostRounding.cubeCost(1e12, 50_000_000L)).isEqualTo(Long.MAX_VALUE);
+    assertThat(CostRounding.saturatedAdd(Long.MAX_VALUE, 1L)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  @DisplayName("100메소 단위 반올림 (HALF_UP)")
+  void round_to_nearest_100() {
+    assertThat(CostRounding.roundToNearest100(8_278_809_763L)).isEqualTo(8_278_809_800L);
+    assertThat(CostRounding.roundToNearest100(11_010_105_443L)).isEqualTo(11_010_105_400L);
+    assertThat(CostRounding.roundToNearest100(150L)).isEqualTo(200L);
+    assertThat(CostRounding.roundToNearest100(0L)).isZero();
+  }
+}
@@ -0,0 +1,67 @@
+package maple.expectation.core.probability.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API 행 커널
+ *
+ * <p>플랫폼 선호 폭(AVX2: 4 lanes, AVX-512: 8 lanes)으로 FMA/합산을 수행하고, 남은 꼬리 원소는 스칼라로 처리한다.
+ *
+ * <p>주의: 이 클래스를 로드하려면 JVM에 {@code --add-modules jdk.incubator.vector}가 필요하다. 직접 생성하지 말고 {@link
+ * RowKernels#select(boolean)}를 통해 선택할 것 (모듈 미존재 시 스칼라 폴백).
+ *
+ * <p>module-core {@code vector} 소스셋에만 두어 이 클래스만 incubator 모듈 플래그로 컴파일한다. 생성자는 RowKernels가 리플렉션으로
+ * 호출한다.
+ */
+public final class VectorRowKernel implements RowKernel {
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  public VectorRowKernel() {}
+
+  @Override
+  public void axpy(double a, double[] src, int srcFrom, double[] dst, int dstFrom, int length) {
+    if (length <= 0) {
+      return;
+    }
+    DoubleVector av = DoubleVector.broadcast(SPECIES, a);
+    int upper = SPECIES.loopBound(length);
+
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      DoubleVector s = DoubleVector.fromArray(SPECIES, src, srcFrom + i);
+      DoubleVector d = DoubleVector.fromArray(SPECIES, dst, dstFrom + i);
+      s.fma(av, d).intoArray(dst, dstFrom + i);
+    }
+    for (; i < length; i++) {
+      dst[dstFrom + i] += src[srcFrom + i] * a;
+    }
+  }
+
+  @Override
+  public double sum(double[] src, int from, int to) {
+    int length = to - from;
+    if (length <= 0) {
+      return 0.0;
+    }
+    DoubleVector acc = DoubleVector.zero(SPECIES);
+    int upper = SPECIES.loopBound(length);
+
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      acc = acc.add(DoubleVector.fromArray(SPECIES, src, from + i));
+    }
+    double sum = acc.reduceLanes(VectorOperators.ADD);
+    for (; i < length; i++) {
+      sum += src[from + i];
+    }
+    return sum;
+  }
+
+  @Override
+  public String name() {
+    return "vector-" + SPECIES.vectorBitSize();
+  }
+}
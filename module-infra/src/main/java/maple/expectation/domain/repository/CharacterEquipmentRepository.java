@@ -1,5 +1,6 @@
 package maple.expectation.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import maple.expectation.domain.model.character.CharacterId;
 import maple.expectation.domain.model.equipment.CharacterEquipment;
@@ -59,6 +60,39 @@ public interface CharacterEquipmentRepository {
    */
   CharacterEquipment save(CharacterEquipment equipment);
 
+  /**
+   * Finds the GZIP-compressed equipment JSON if it was updated after the threshold.
+   *
+   * <p>Hot-path read: returns the stored bytes without materializing the document as a String.
+   *
+   * @param characterId the character identifier (must not be null)
+   * @param threshold the minimum update time (exclusive)
+   * @return Optional containing the compressed JSON if found and fresh, empty otherwise
+   * @throws IllegalArgumentException if characterId is null
+   */
+  Optional<byte[]> findCompressedContentUpdatedAfter(
+      CharacterId characterId, LocalDateTime threshold);
+
+  /**
+   * Saves already GZIP-compressed equipment JSON as-is (insert or update).
+   *
+   * @param characterId the character identifier (must not be null)
+   * @param compressedContent GZIP-compressed equipment JSON (must not be null)
+   * @throws IllegalArgumentException if characterId or compressedContent is null
+   */
+  void saveCompressed(CharacterId characterId, byte[] compressedContent);
+
+  /**
+   * Stores the parsed-item snapshot next to the stored equipment JSON.
+   *
+   * <p>Does nothing if no equipment row exists yet.
+   *
+   * @param characterId the character identifier (must not be null)
+   * @param snapshot binary parsed-item snapshot (must not be null)
+   * @throws IllegalArgumentException if characterId or snapshot is null
+   */
+  void saveSnapshot(CharacterId characterId, byte[] snapshot);
+
   /**
    * Deletes equipment by character ID.
    *
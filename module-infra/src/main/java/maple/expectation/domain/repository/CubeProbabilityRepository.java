@@ -1,7 +1,10 @@
 package maple.expectation.domain.repository;
 
 import java.util.List;
+import maple.expectation.core.domain.stat.OptionDictionary;
 import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilityCellIndex;
+import maple.expectation.domain.v2.CubeProbabilitySlice;
 import maple.expectation.domain.v2.CubeType;
 
 /**
@@ -51,6 +54,42 @@ public interface CubeProbabilityRepository {
   List<CubeProbability> findProbabilitiesByVersion(
       CubeType type, int level, String part, String grade, int slot, String tableVersion);
 
+  /**
+   * 테이블 버전 포함 열 슬라이스 조회 (TOCTOU 방지)
+   *
+   * <p>{@link #findProbabilitiesByVersion}과 같은 행을 옵션 ID/확률 배열 뷰로 반환합니다. 행 객체를 만들지 않으므로 분포 생성
+   * 같은 반복 경로에서 사용합니다.
+   *
+   * @param type 큐브 종류
+   * @param level 장비 레벨
+   * @param part 장비 부위
+   * @param grade 잠재능력 등급
+   * @param slot 슬롯 번호
+   * @param tableVersion 테이블 버전
+   * @return 열 슬라이스 (데이터 없으면 빈 슬라이스)
+   */
+  CubeProbabilitySlice findSliceByVersion(
+      CubeType type, int level, String part, String grade, int slot, String tableVersion);
+
+  /**
+   * 로딩된 확률 데이터의 셀 인덱스 반환
+   *
+   * <p>열 저장소가 사용하는 것과 같은 (큐브 종류, 레벨, 부위, 등급, 슬롯) → 셀 번호 인덱스입니다. 셀 단위로 결과를 미리 만들어 두는
+   * 소비자(슬롯 분포 카탈로그)가 인덱싱을 다시 구현하지 않도록 공유합니다.
+   *
+   * @return 셀 인덱스 (로딩 전이면 빈 인덱스)
+   */
+  CubeProbabilityCellIndex getCellIndex();
+
+  /**
+   * 로딩된 확률 데이터의 옵션 사전 반환
+   *
+   * <p>서로 다른 옵션 문자열마다 스탯 기여도를 미리 계산해 둔 사전입니다. 분포 생성 시 옵션 문자열을 다시 파싱하지 않습니다.
+   *
+   * @return 옵션 사전 (로딩 전이면 빈 사전)
+   */
+  OptionDictionary getOptionDictionary();
+
   /**
    * 현재 활성 테이블 버전 반환
    *
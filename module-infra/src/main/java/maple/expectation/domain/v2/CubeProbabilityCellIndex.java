@@ -0,0 +1,144 @@
+package maple.expectation.domain.v2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 큐브 확률 테이블의 (큐브 종류, 레벨, 부위, 등급, 슬롯) 셀 인덱스
+ *
+ * <h3>셀 인덱스</h3>
+ *
+ * <pre>
+ * cell = ((((typeOrdinal × L + levelIndex) × P + partId) × G + gradeId) × S + (slot - 1)
+ *
+ * L: 서로 다른 기준 레벨 수 (레벨 구간)   P: 부위 수   G: 등급 수   S: 최대 슬롯
+ * </pre>
+ *
+ * <p>열 저장소와 슬롯 분포 카탈로그가 같은 인덱스를 공유하도록 테이블 로딩 시 한 번 만들어 저장소가 제공합니다. 셀 번호는 0 이상
+ * {@link #cellCount()} 미만이며 데이터가 없는 셀도 번호를 가집니다({@link #isPopulated(int)}로 구분).
+ *
+ * <p>불변(Immutable) - 생성 후 읽기 전용
+ */
+public final class CubeProbabilityCellIndex {
+
+  private static final CubeType[] TYPES = CubeType.values();
+
+  private static final CubeProbabilityCellIndex EMPTY = of(List.of());
+
+  private final int[] levels;
+  private final Map<String, Integer> partIds = new HashMap<>();
+  private final String[] parts;
+  private final Map<String, Integer> gradeIds = new HashMap<>();
+  private final String[] grades;
+  private final int maxSlot;
+  private final boolean[] populated;
+
+  private CubeProbabilityCellIndex(List<CubeProbability> rows) {
+    this.levels = rows.stream().mapToInt(CubeProbability::getLevel).distinct().sorted().toArray();
+    int slots = 0;
+    for (CubeProbability row : rows) {
+      partIds.putIfAbsent(row.getPart(), partIds.size());
+      gradeIds.putIfAbsent(row.getGrade(), gradeIds.size());
+      slots = Math.max(slots, row.getSlot());
+    }
+    this.parts = invert(partIds);
+    this.grades = invert(gradeIds);
+    this.maxSlot = slots;
+
+    this.populated =
+        new boolean[TYPES.length * levels.length * parts.length * grades.length * slots];
+    for (CubeProbability row : rows) {
+      populated[cellOf(row)] = true;
+    }
+  }
+
+  /**
+   * 확률 행으로 인덱스 생성
+   *
+   * @param rows 확률 행 (순서 무관, 부위/등급 ID는 처음 나온 순서로 부여)
+   * @return 셀 인덱스
+   */
+  public static CubeProbabilityCellIndex of(List<CubeProbability> rows) {
+    return new CubeProbabilityCellIndex(rows);
+  }
+
+  /** 빈 인덱스 (테이블 로딩 전) */
+  public static CubeProbabilityCellIndex empty() {
+    return EMPTY;
+  }
+
+  /** 전체 셀 수 (데이터 없는 셀 포함) */
+  public int cellCount() {
+    return populated.length;
+  }
+
+  /**
+   * 조건에 해당하는 셀 번호
+   *
+   * @return 셀 번호 (테이블에 없는 레벨/부위/등급/슬롯이면 -1)
+   */
+  public int cellOf(CubeType type, int level, String part, String grade, int slot) {
+    int levelIndex = Arrays.binarySearch(levels, level);
+    Integer partId = partIds.get(part);
+    Integer gradeId = gradeIds.get(grade);
+    if (levelIndex < 0 || partId == null || gradeId == null || slot < 1 || slot > maxSlot) {
+      return -1;
+    }
+    int cell = typeOf(type);
+    cell = cell * levels.length + levelIndex;
+    cell = cell * parts.length + partId;
+    cell = cell * grades.length + gradeId;
+    return cell * maxSlot + (slot - 1);
+  }
+
+  /** 행이 속한 셀 번호 (인덱스를 만든 행이어야 함) */
+  public int cellOf(CubeProbability row) {
+    return cellOf(row.getCubeType(), row.getLevel(), row.getPart(), row.getGrade(), row.getSlot());
+  }
+
+  /** 셀에 확률 행이 하나 이상 있는지 여부 */
+  public boolean isPopulated(int cell) {
+    return populated[cell];
+  }
+
+  /** 데이터가 있는 셀 번호 (오름차순) */
+  public int[] populatedCells() {
+    return IntStream.range(0, populated.length).filter(cell -> populated[cell]).toArray();
+  }
+
+  // ==================== 셀 번호 → 조건 복원 ====================
+
+  public CubeType typeAt(int cell) {
+    return TYPES[cell / (maxSlot * grades.length * parts.length * levels.length)];
+  }
+
+  public int levelAt(int cell) {
+    return levels[cell / (maxSlot * grades.length * parts.length) % levels.length];
+  }
+
+  public String partAt(int cell) {
+    return parts[cell / (maxSlot * grades.length) % parts.length];
+  }
+
+  public String gradeAt(int cell) {
+    return grades[cell / maxSlot % grades.length];
+  }
+
+  public int slotAt(int cell) {
+    return cell % maxSlot + 1;
+  }
+
+  /** 큐브 종류가 없으면 BLACK으로 취급 (기존 키 생성 규칙과 동일) */
+  private static int typeOf(CubeType type) {
+    return (type != null ? type : CubeType.BLACK).ordinal();
+  }
+
+  private static String[] invert(Map<String, Integer> ids) {
+    String[] values = new String[ids.size()];
+    ids.forEach((value, id) -> values[id] = value);
+    return values;
+  }
+}
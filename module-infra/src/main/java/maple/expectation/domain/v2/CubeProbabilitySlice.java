@@ -0,0 +1,80 @@
+package maple.expectation.domain.v2;
+
+/**
+ * 큐브 확률 테이블의 (큐브 종류, 레벨, 부위, 등급, 슬롯) 단위 열 슬라이스
+ *
+ * <p>컬럼 저장소의 연속 배열을 복사 없이 가리키는 읽기 전용 뷰입니다. 행 객체 리스트 대신 옵션 ID/확률 배열을 순차로 읽으므로 분포 생성
+ * 루프가 캐시 친화적입니다.
+ *
+ * <ul>
+ *   <li>optionId: {@link maple.expectation.core.domain.stat.OptionDictionary} ID (옵션 문자열이 비어 있으면
+ *       -1)
+ *   <li>totalMass: 로딩 시 Kahan summation으로 미리 계산한 Σrate
+ *   <li>행 순서는 CSV 적재 순서와 동일
+ * </ul>
+ */
+public final class CubeProbabilitySlice {
+
+  private static final CubeProbabilitySlice EMPTY =
+      new CubeProbabilitySlice(new int[0], new double[0], 0, 0, 0.0);
+
+  private final int[] optionIds;
+  private final double[] rates;
+  private final int offset;
+  private final int length;
+  private final double totalMass;
+
+  /**
+   * @param optionIds 전체 옵션 ID 열 (공유, 복사하지 않음)
+   * @param rates 전체 확률 열 (공유, 복사하지 않음)
+   * @param offset 슬라이스 시작 위치
+   * @param length 슬라이스 길이
+   * @param totalMass 슬라이스 확률 합
+   */
+  public CubeProbabilitySlice(
+      int[] optionIds, double[] rates, int offset, int length, double totalMass) {
+    this.optionIds = optionIds;
+    this.rates = rates;
+    this.offset = offset;
+    this.length = length;
+    this.totalMass = totalMass;
+  }
+
+  /** 빈 슬라이스 (데이터 없음) */
+  public static CubeProbabilitySlice empty() {
+    return EMPTY;
+  }
+
+  /** 행 수 */
+  public int length() {
+    return length;
+  }
+
+  /** 데이터 없음 여부 */
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /**
+   * i번째 행의 옵션 ID
+   *
+   * @param i 0 ~ length-1
+   */
+  public int optionId(int i) {
+    return optionIds[offset + i];
+  }
+
+  /**
+   * i번째 행의 확률
+   *
+   * @param i 0 ~ length-1
+   */
+  public double rate(int i) {
+    return rates[offset + i];
+  }
+
+  /** 미리 계산된 전체 질량 (Σrate) */
+  public double totalMass() {
+    return totalMass;
+  }
+}
@@ -22,6 +22,19 @@ import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+/**
+ * 넥슨 API 2층 캐시 + 분산 Leader/Follower Aspect ({@link
+ * maple.expectation.infrastructure.aop.annotation.NexonDataCache})
+ *
+ * <p>반환 타입에 따라 두 캐시를 사용합니다.
+ *
+ * <ul>
+ *   <li>EquipmentResponse (또는 그 Future): equipment 캐시 + DTO DB 저장
+ *   <li>byte[] (Raw 모드): equipmentRaw 캐시 + 압축 컬럼 DB 저장 (DTO 바인딩·재압축 없음)
+ * </ul>
+ *
+ * <p>어느 경우든 같은 OCID의 API 호출은 Redis CountDownLatch로 클러스터 전체에서 1회(Leader)로 합쳐집니다.
+ */
 @Slf4j
 @Aspect
 @Component
@@ -189,6 +202,10 @@ public class NexonDataCacheAspect {
   }
 
   private Object saveAndWrap(Object result, String ocid, Class<?> returnType) {
+    if (result instanceof byte[] raw) {
+      saveRawIfAllowed(ocid, raw);
+      return raw;
+    }
     EquipmentResponse response = (EquipmentResponse) result;
     // Issue #158: Expectation 경로에서는 L2 저장 스킵
     if (!SkipEquipmentL2CacheContext.enabled()) {
@@ -199,6 +216,15 @@ public class NexonDataCacheAspect {
     return wrap(response, returnType);
   }
 
+  /** Raw 원문 저장 (Expectation 경로 분기는 DTO 경로와 동일) */
+  private void saveRawIfAllowed(String ocid, byte[] raw) {
+    if (SkipEquipmentL2CacheContext.enabled()) {
+      log.debug("[NexonCache] L2 save skipped (Expectation path): {}", ocid);
+      return;
+    }
+    cacheService.saveRawCache(ocid, raw);
+  }
+
   private Object executeAsFollower(String ocid, Class<?> returnType, RCountDownLatch latch) {
     return executor.execute(
         () -> {
@@ -222,6 +248,10 @@ public class NexonDataCacheAspect {
   }
 
   private Optional<Object> getCachedResult(String ocid, Class<?> returnType) {
+    if (returnType == byte[].class) {
+      // Raw 모드: Negative 마커는 DTO 캐시에만 있으므로 원문 캐시만 확인
+      return cacheService.getValidRawCache(ocid).map(Object.class::cast);
+    }
     return cacheService
         .getValidCache(ocid)
         .map(res -> wrap(res, returnType))
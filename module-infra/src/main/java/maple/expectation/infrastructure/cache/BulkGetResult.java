@@ -0,0 +1,12 @@
+package maple.expectation.infrastructure.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TieredCache 다건 조회 결과 (히트/미스 분할)
+ *
+ * @param hits L1 또는 L2에서 찾은 키 → 값 (요청 순서 유지)
+ * @param misses 두 계층 모두 없는 키 (요청 순서 유지)
+ */
+public record BulkGetResult<K, V>(Map<K, V> hits, Set<K> misses) {}
@@ -0,0 +1,44 @@
+package maple.expectation.infrastructure.cache;
+
+import java.io.IOException;
+import maple.expectation.util.PresetDictionaryCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 프리셋 사전 DEFLATE 압축 L2 직렬화기 ({@code l2-serializer: json-dict})
+ *
+ * <p>위임 직렬화기(JSON)의 출력을 {@link PresetDictionaryCodec}으로 압축해 Redis에 저장합니다. 읽을 때는 사전 프레임이면 해제하고,
+ * 전환 이전에 평문(또는 GZIP)으로 저장된 값은 그대로 위임 직렬화기에 넘기므로 TTL 만료를 기다리지 않고 배포할 수 있습니다.
+ *
+ * @param <T> 위임 직렬화기 값 타입
+ */
+public class PresetDictionaryRedisSerializer<T> implements RedisSerializer<T> {
+
+  private final RedisSerializer<T> delegate;
+
+  public PresetDictionaryRedisSerializer(RedisSerializer<T> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public byte[] serialize(T value) throws SerializationException {
+    byte[] plain = delegate.serialize(value);
+    if (plain == null) return null;
+    try {
+      return PresetDictionaryCodec.encode(plain);
+    } catch (IOException e) {
+      throw new SerializationException("사전 압축 오류: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public T deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null) return null;
+    try {
+      return delegate.deserialize(PresetDictionaryCodec.decode(bytes));
+    } catch (IOException e) {
+      throw new SerializationException("사전 압축 해제 오류: " + e.getMessage(), e);
+    }
+  }
+}
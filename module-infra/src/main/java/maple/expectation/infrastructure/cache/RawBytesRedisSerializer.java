@@ -0,0 +1,46 @@
+package maple.expectation.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * byte[] 원본 저장 L2 직렬화기 ({@code l2-serializer: bytes})
+ *
+ * <p>byte[] 값은 변환 없이 그대로 Redis에 저장하고 그대로 읽습니다. GZIP 응답 본문처럼 이미 압축된 바이너리를 Base64 문자열이나 JDK
+ * 직렬화 헤더 없이 보관하기 위한 용도입니다.
+ *
+ * <h4>마이그레이션</h4>
+ *
+ * <p>byte[]가 아닌 값(전환 이전의 Base64 String, NullValue 등)은 JDK 직렬화로 저장합니다. 읽을 때 JDK 직렬화 스트림 헤더
+ * ({@code 0xACED})로 시작하면 JDK 역직렬화하므로 jdk 포맷 값도 읽을 수 있습니다. GZIP({@code 0x1F8B})과 프리셋 사전 프레임은
+ * 이 헤더와 겹치지 않습니다.
+ *
+ * <p>반대 방향(jdk 직렬화기로 원본 바이트 읽기)은 불가능합니다. 롤링 배포 중 이전 버전과 키를 공유하지 않도록 CacheConfig는 이
+ * 직렬화기를 쓰는 캐시의 키 접두사를 {@code <cacheName>:raw::}로 분리합니다.
+ */
+public class RawBytesRedisSerializer implements RedisSerializer<Object> {
+
+  /** JDK 직렬화 스트림 매직 넘버 (ObjectStreamConstants.STREAM_MAGIC) */
+  private static final byte JDK_MAGIC_0 = (byte) 0xAC;
+
+  private static final byte JDK_MAGIC_1 = (byte) 0xED;
+
+  private final RedisSerializer<Object> legacy = RedisSerializer.java();
+
+  @Override
+  public byte[] serialize(Object value) throws SerializationException {
+    if (value instanceof byte[] raw) {
+      return raw;
+    }
+    return legacy.serialize(value);
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null) return null;
+    if (bytes.length >= 2 && bytes[0] == JDK_MAGIC_0 && bytes[1] == JDK_MAGIC_1) {
+      return legacy.deserialize(bytes);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,228 @@
+package maple.expectation.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * TieredCache L2(Spring RedisCache) 다건 조회/저장 및 원자적 변경 감지 저장 (Redisson)
+ *
+ * <h4>문제</h4>
+ *
+ * <p>Spring {@link RedisCache}는 단건 API만 제공하여 N개 키 조회 시 Redis 왕복이 N회 발생합니다.
+ *
+ * <h4>해결</h4>
+ *
+ * <ul>
+ *   <li>RedisCache와 같은 키 규칙(prefix + 변환 키)과 값 SerializationPair를 그대로 사용
+ *   <li>Redisson RBatch로 GET/SET을 {@value #CHUNK_SIZE}개 단위 파이프라인 실행 (청크당 1회 왕복)
+ *   <li>저장 TTL은 RedisCacheConfiguration의 TtlFunction을 따름
+ *   <li>Versioned Put: Lua 스크립트로 "현재 값과 비교 + SET"을 원자적으로 수행 (값 전송 없이 Redis 안에서 비교)
+ * </ul>
+ *
+ * <p>캐시 키는 StringRedisSerializer(UTF-8)로 직렬화된다고 가정합니다 (CacheConfig의 모든 L2 설정과 동일).
+ */
+final class RedisBulkL2Operations {
+
+  /** 파이프라인 1회에 담는 최대 명령 수 */
+  static final int CHUNK_SIZE = 500;
+
+  /**
+   * 비교 후 저장 (KEYS[1]=값 키, ARGV[1]=직렬화 값, ARGV[2]=TTL ms, 0 이하면 만료 없음)
+   *
+   * @return 1: 내용 변경(또는 신규), 0: 기존 값과 바이트 동일
+   */
+  private static final String PUT_IF_CHANGED_SCRIPT =
+      """
+      local old = redis.call('GET', KEYS[1])
+      if tonumber(ARGV[2]) > 0 then
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+      else
+        redis.call('SET', KEYS[1], ARGV[1])
+      end
+      if old == ARGV[1] then
+        return 0
+      end
+      return 1
+      """;
+
+  private final RedissonClient redissonClient;
+  private final String cacheName;
+  private final RedisCacheConfiguration config;
+
+  private RedisBulkL2Operations(RedissonClient redissonClient, RedisCache redisCache) {
+    this.redissonClient = redissonClient;
+    this.cacheName = redisCache.getName();
+    this.config = redisCache.getCacheConfiguration();
+  }
+
+  /**
+   * L2가 RedisCache일 때만 생성
+   *
+   * @return 다건 연산 객체, 지원하지 않는 L2면 null (호출자가 단건 반복으로 처리)
+   */
+  static RedisBulkL2Operations of(Cache l2, RedissonClient redissonClient) {
+    if (redissonClient != null && l2 instanceof RedisCache redisCache) {
+      return new RedisBulkL2Operations(redissonClient, redisCache);
+    }
+    return null;
+  }
+
+  /**
+   * 다건 조회 (청크별 파이프라인 GET)
+   *
+   * @return 키 → 값 (미스 및 null 저장값 제외)
+   */
+  Map<Object, Object> getAll(List<?> keys) {
+    Map<Object, Object> values = new HashMap<>();
+    for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+      List<?> chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+      RBatch batch = redissonClient.createBatch();
+      chunk.forEach(key -> bucket(batch, key).getAsync());
+      List<?> responses = batch.execute().getResponses();
+
+      for (int i = 0; i < chunk.size(); i++) {
+        Object value = deserialize((byte[]) responses.get(i));
+        if (value != null) {
+          values.put(chunk.get(i), value);
+        }
+      }
+    }
+    return values;
+  }
+
+  /** 다건 저장 (청크별 파이프라인 SET + TTL) */
+  void putAll(Map<?, ?> entries) {
+    List<Map.Entry<?, ?>> list = new ArrayList<>(entries.entrySet());
+    for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+      RBatch batch = redissonClient.createBatch();
+      list.subList(from, Math.min(from + CHUNK_SIZE, list.size()))
+          .forEach(entry -> set(bucket(batch, entry.getKey()), entry.getKey(), entry.getValue()));
+      batch.execute();
+    }
+  }
+
+  /**
+   * 단건 원자적 비교 후 저장 (Versioned Put)
+   *
+   * <p>GET과 SET 사이에 다른 쓰기가 끼어들 수 없으므로, 0을 반환했다면 직전 L2 값이 이 값과 바이트 단위로 같았음이 보장됩니다.
+   *
+   * @return 내용이 바뀌었으면(또는 키가 없었으면) true
+   */
+  boolean putIfChanged(Object key, Object value) {
+    Long result =
+        redissonClient
+            .getScript(ByteArrayCodec.INSTANCE)
+            .eval(
+                RScript.Mode.READ_WRITE,
+                PUT_IF_CHANGED_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(redisKey(key)),
+                serialize(value),
+                ttlArg(key, value));
+    return result == null || result != 0L;
+  }
+
+  /**
+   * 다건 원자적 비교 후 저장 (키마다 스크립트 1회, 청크별 파이프라인)
+   *
+   * @return 내용이 바뀐(또는 신규) 키
+   */
+  Set<Object> putAllIfChanged(Map<?, ?> entries) {
+    List<Map.Entry<?, ?>> list = new ArrayList<>(entries.entrySet());
+    Set<Object> changed = new HashSet<>();
+    for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+      List<Map.Entry<?, ?>> chunk = list.subList(from, Math.min(from + CHUNK_SIZE, list.size()));
+      RBatch batch = redissonClient.createBatch();
+      RScriptAsync script = batch.getScript(ByteArrayCodec.INSTANCE);
+      chunk.forEach(
+          entry ->
+              script.evalAsync(
+                  RScript.Mode.READ_WRITE,
+                  PUT_IF_CHANGED_SCRIPT,
+                  RScript.ReturnType.INTEGER,
+                  List.of(redisKey(entry.getKey())),
+                  serialize(entry.getValue()),
+                  ttlArg(entry.getKey(), entry.getValue())));
+      List<?> responses = batch.execute().getResponses();
+
+      for (int i = 0; i < chunk.size(); i++) {
+        Object result = responses.get(i);
+        if (!(result instanceof Long l) || l != 0L) {
+          changed.add(chunk.get(i).getKey());
+        }
+      }
+    }
+    return changed;
+  }
+
+  private void set(RBucketAsync<byte[]> bucket, Object key, Object value) {
+    byte[] raw = serialize(value);
+    Duration ttl = ttl(key, value);
+    if (ttl != null) {
+      bucket.setAsync(raw, ttl);
+    } else {
+      bucket.setAsync(raw);
+    }
+  }
+
+  private byte[] serialize(Object value) {
+    return ByteUtils.getBytes(config.getValueSerializationPair().write(value));
+  }
+
+  /** @return 양수 TTL, 만료 없음이면 null */
+  private Duration ttl(Object key, Object value) {
+    Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+    return ttl != null && !ttl.isZero() && !ttl.isNegative() ? ttl : null;
+  }
+
+  /** 스크립트 TTL 인자 (ms 문자열 바이트, 만료 없음이면 "0") */
+  private byte[] ttlArg(Object key, Object value) {
+    Duration ttl = ttl(key, value);
+    return String.valueOf(ttl != null ? ttl.toMillis() : 0L).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private RBucketAsync<byte[]> bucket(RBatch batch, Object key) {
+    return batch.getBucket(redisKey(key), ByteArrayCodec.INSTANCE);
+  }
+
+  /** RedisCache#createCacheKey와 같은 규칙 (String은 그대로, 그 외는 ConversionService 또는 toString) */
+  private String redisKey(Object key) {
+    String converted = key instanceof String s ? s : convertKey(key);
+    return config.usePrefix() ? config.getKeyPrefixFor(cacheName) + converted : converted;
+  }
+
+  private String convertKey(Object key) {
+    ConversionService conversionService = config.getConversionService();
+    if (conversionService.canConvert(key.getClass(), String.class)) {
+      return conversionService.convert(key, String.class);
+    }
+    return key.toString();
+  }
+
+  private Object deserialize(byte[] raw) {
+    if (raw == null) {
+      return null;
+    }
+    Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+    return value instanceof NullValue ? null : value;
+  }
+}
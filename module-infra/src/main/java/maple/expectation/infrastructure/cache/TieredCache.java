@@ -2,19 +2,34 @@ package maple.expectation.infrastructure.cache;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import maple.expectation.infrastructure.concurrency.SingleFlightExecutor;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
+import maple.expectation.infrastructure.util.AsyncUtils;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
 
 /**
  * 2층 구조 캐시 (L1: Caffeine, L2: Redis)
@@ -38,11 +53,40 @@ import org.springframework.cache.Cache;
  *   <li>P1-7: Counter pre-registration (hot-path 할당 제거)
  * </ul>
  *
+ * <h4>L1 Fast Path</h4>
+ *
+ * <p>L1 히트는 TaskContext 생성·key 문자열화·ExecutionPipeline 없이 Caffeine 직접 조회 + pre-registered Counter만
+ * 수행합니다. 정책 파이프라인(LogicExecutor)은 L2/valueLoader 경로에서만 사용합니다.
+ *
+ * <h4>Versioned Put</h4>
+ *
+ * <p>versionedPut 모드에서는 L2 쓰기를 Lua 스크립트 1회로 "현재 직렬화 값과 비교 + SET"하여, 직전 L2 값과 바이트 단위로 같은
+ * 데이터를 다시 쓰는 경우 원격 L1 무효화를 전파하지 않습니다. 비교와 쓰기가 Redis 안에서 원자적으로 수행되므로 다른 노드의 쓰기가 그
+ * 사이에 끼어들 수 없습니다. L2가 RedisCache가 아니면 원자적 비교가 불가능하므로 항상 전파합니다. evict()/clear()는 항상
+ * 전파합니다.
+ *
+ * <h4>노드 로컬 Single-flight</h4>
+ *
+ * <p>L1/L2 미스 후 분산 락 앞단에서 같은 키의 로드를 노드 내 1개 스레드(Leader)로 합칩니다. 나머지 스레드(Follower)는 Redis
+ * 락을 시도하지 않고 Leader의 결과를 공유합니다.
+ *
+ * <h4>다건 API (getAll / putAll)</h4>
+ *
+ * <p>L1을 일괄 조회한 뒤 미스만 L2에서 파이프라인 1회(청크당)로 읽고 L1을 Backfill합니다. L2가 RedisCache가 아니면 단건 반복으로
+ * 동작합니다.
+ *
  * @see <a href="https://github.com/issue/148">Issue #148</a>
  */
 @Slf4j
 public class TieredCache implements Cache {
+  /** Follower 대기 타임아웃 표시 (null 값과 구분하기 위한 sentinel) */
+  private static final Object LOCAL_FLIGHT_TIMEOUT = new Object();
+
   private final Cache l1; // Caffeine (Local)
+
+  /** L1 native Caffeine (fast path 전용, Caffeine 외 구현이면 null → l1.get 사용) */
+  private final com.github.benmanes.caffeine.cache.Cache<Object, Object> l1Native;
+
   private final Cache l2; // Redis (Distributed)
   private final LogicExecutor executor;
   private final RedissonClient redissonClient; // 분산 락용
@@ -57,6 +101,19 @@ public class TieredCache implements Cache {
   private final Counter missCounter;
   private final Counter lockFailureCounter;
   private final Counter l2FailureCounter;
+  private final Counter localLeaderCounter;
+  private final Counter localFollowerCounter;
+  private final Counter localTimeoutCounter;
+  private final Counter unchangedPutCounter;
+
+  /** put 시 L2 현재 값과 내용이 같으면 무효화 전파 생략 */
+  private final boolean versionedPut;
+
+  /** 노드 로컬 Single-flight (Leader는 호출 스레드에서 직접 실행) */
+  private final SingleFlightExecutor<Object> localSingleFlight;
+
+  /** L2 다건 파이프라인 (L2가 RedisCache가 아니면 null → 단건 반복) */
+  private final RedisBulkL2Operations bulkL2;
 
   public TieredCache(
       Cache l1,
@@ -67,13 +124,37 @@ public class TieredCache implements Cache {
       int lockWaitSeconds,
       Supplier<String> instanceIdSupplier,
       Supplier<Consumer<CacheInvalidationEvent>> callbackSupplier) {
+    this(
+        l1,
+        l2,
+        executor,
+        redissonClient,
+        meterRegistry,
+        lockWaitSeconds,
+        instanceIdSupplier,
+        callbackSupplier,
+        false);
+  }
+
+  public TieredCache(
+      Cache l1,
+      Cache l2,
+      LogicExecutor executor,
+      RedissonClient redissonClient,
+      MeterRegistry meterRegistry,
+      int lockWaitSeconds,
+      Supplier<String> instanceIdSupplier,
+      Supplier<Consumer<CacheInvalidationEvent>> callbackSupplier,
+      boolean versionedPut) {
     this.l1 = l1;
+    this.l1Native = l1 instanceof CaffeineCache caffeine ? caffeine.getNativeCache() : null;
     this.l2 = l2;
     this.executor = executor;
     this.redissonClient = redissonClient;
     this.lockWaitSeconds = lockWaitSeconds;
     this.instanceIdSupplier = instanceIdSupplier;
     this.callbackSupplier = callbackSupplier;
+    this.versionedPut = versionedPut;
 
     // P1-7 + P1-1: 생성자에서 Counter pre-register (cacheName 태그 포함)
     String cacheName = l2.getName();
@@ -93,6 +174,23 @@ public class TieredCache implements Cache {
         Counter.builder("cache.lock.failure").tag("cache", cacheName).register(meterRegistry);
     this.l2FailureCounter =
         Counter.builder("cache.l2.failure").tag("cache", cacheName).register(meterRegistry);
+    this.localLeaderCounter = registerLocalFlightCounter(meterRegistry, cacheName, "leader");
+    this.localFollowerCounter = registerLocalFlightCounter(meterRegistry, cacheName, "follower");
+    this.localTimeoutCounter = registerLocalFlightCounter(meterRegistry, cacheName, "timeout");
+    this.unchangedPutCounter =
+        Counter.builder("cache.put.unchanged").tag("cache", cacheName).register(meterRegistry);
+
+    // Follower는 기존 분산 락 대기와 같은 시간만 기다린 뒤 직접 실행 (가용성 우선)
+    this.localSingleFlight = new SingleFlightExecutor<>(lockWaitSeconds, Runnable::run, null);
+    this.bulkL2 = RedisBulkL2Operations.of(l2, redissonClient);
+  }
+
+  private static Counter registerLocalFlightCounter(
+      MeterRegistry meterRegistry, String cacheName, String role) {
+    return Counter.builder("cache.singleflight.local")
+        .tag("cache", cacheName)
+        .tag("role", role)
+        .register(meterRegistry);
   }
 
   @Override
@@ -108,30 +206,28 @@ public class TieredCache implements Cache {
   /**
    * 캐시 조회 (L1 → L2 순서, Backfill 포함)
    *
-   * <p>CLAUDE.md 섹션 15 준수: 람다 → 메서드 참조
+   * <p>L1 히트는 LogicExecutor를 거치지 않는 fast path로 처리하고, L2 조회만 정책 파이프라인으로 보호합니다.
    */
   @Override
   public ValueWrapper get(Object key) {
-    TaskContext context = TaskContext.of("Cache", "Get", key.toString());
-    return executor.execute(() -> getFromCacheLayers(key), context);
-  }
+    ValueWrapper l1Result = l1.get(key);
+    if (l1Result != null) {
+      l1HitCounter.increment();
+      return l1Result;
+    }
 
-  /** L1 → L2 순차 조회 (Optional 체이닝 - Modern Java 스타일) */
-  private ValueWrapper getFromCacheLayers(Object key) {
-    return Optional.ofNullable(l1.get(key))
-        .map(w -> tapCacheHit(w, "L1"))
-        .orElseGet(() -> getFromL2WithBackfill(key));
+    TaskContext context = TaskContext.of("Cache", "Get", key.toString());
+    return executor.execute(() -> getFromL2WithBackfill(key), context);
   }
 
-  /** L2 조회 및 L1 Backfill (Optional 체이닝) */
+  /** L2 조회 및 L1 Backfill */
   private ValueWrapper getFromL2WithBackfill(Object key) {
-    return Optional.ofNullable(l2.get(key))
-        .map(
-            w -> {
-              l1.put(key, w.get()); // Backfill
-              return tapCacheHit(w, "L2");
-            })
-        .orElse(null);
+    ValueWrapper l2Result = l2.get(key);
+    if (l2Result != null) {
+      l1.put(key, l2Result.get()); // Backfill
+      l2HitCounter.increment();
+    }
+    return l2Result;
   }
 
   /**
@@ -140,29 +236,48 @@ public class TieredCache implements Cache {
    * <h4>Issue #148: L2 저장 성공 시에만 L1 저장</h4>
    *
    * <h4>P0-1: put() 성공 시 Pub/Sub 이벤트 발행 (원격 인스턴스 L1 무효화)</h4>
+   *
+   * <h4>Versioned Put: 내용이 같은 값은 전파 생략</h4>
+   *
+   * <p>비교와 쓰기는 {@link RedisBulkL2Operations#putIfChanged}가 단일 스크립트로 원자적으로 수행합니다. 별도 GET 후 쓰면 "A 읽기
+   * → B 쓰기·전파 → 타 노드 B 값 로드 → A 쓰기(전파 생략)" 순서에서 타 노드 L1에 B 값이 남으므로, 읽기와 쓰기를 분리하지 않습니다.
+   * 스크립트가 "변경 없음"을 반환했다면 이 쓰기 직전 L2가 같은 바이트를 갖고 있었고, 그 값을 쓴 쪽이 이미 무효화를 전파했습니다.
    */
   @Override
   public void put(Object key, Object value) {
     TaskContext context = TaskContext.of("Cache", "Put", key.toString());
+    Boolean changed = executor.executeOrDefault(() -> putL2(key, value), null, context);
 
-    boolean l2Success =
-        executor.executeOrDefault(
-            () -> {
-              l2.put(key, value);
-              return true;
-            },
-            false,
-            context);
-
-    if (l2Success) {
+    if (changed != null) {
       executor.executeVoid(() -> l1.put(key, value), context);
-      publishEvictEvent(key); // P0-1: 원격 인스턴스 L1 evict
+      publishEvictIfChanged(key, changed); // P0-1: 원격 인스턴스 L1 evict
     } else {
       log.warn("[TieredCache] L2 put failed, skipping L1 for consistency: key={}", key);
       l2FailureCounter.increment();
     }
   }
 
+  /**
+   * L2 단건 저장
+   *
+   * @return 내용이 바뀌었는지 여부 (원자적 비교가 불가능하면 항상 true)
+   */
+  private boolean putL2(Object key, Object value) {
+    if (versionedPut && bulkL2 != null) {
+      return bulkL2.putIfChanged(key, value);
+    }
+    l2.put(key, value);
+    return true;
+  }
+
+  private void publishEvictIfChanged(Object key, boolean changed) {
+    if (changed) {
+      publishEvictEvent(key);
+    } else {
+      unchangedPutCounter.increment();
+    }
+  }
+
   /**
    * 캐시 키 무효화 (L2 → L1 → Pub/Sub 전파)
    *
@@ -245,6 +360,190 @@ public class TieredCache implements Cache {
     publishClearAllEvent();
   }
 
+  // ==================== Bulk Operations ====================
+
+  /**
+   * 다건 조회 (L1 일괄 → L2 파이프라인 → L1 Backfill)
+   *
+   * <p>L2 장애 시 L1 미스 키는 모두 misses로 반환합니다 (Graceful Degradation).
+   *
+   * @param keys 조회할 키 (중복은 1회만 조회)
+   * @param type 값 타입
+   * @return 히트/미스 분할 결과
+   */
+  public <K, V> BulkGetResult<K, V> getAll(Collection<K> keys, Class<V> type) {
+    Map<K, V> hits = new LinkedHashMap<>();
+    List<K> l1Misses = new ArrayList<>();
+    for (K key : new LinkedHashSet<>(keys)) {
+      Object value = probeL1(key);
+      if (value != null) {
+        hits.put(key, type.cast(value));
+      } else {
+        l1Misses.add(key);
+      }
+    }
+    l1HitCounter.increment(hits.size());
+
+    Set<K> misses = new LinkedHashSet<>();
+    if (l1Misses.isEmpty()) {
+      return new BulkGetResult<>(hits, misses);
+    }
+
+    Map<Object, Object> l2Values =
+        executor.executeOrDefault(
+            () -> readL2(l1Misses),
+            Map.of(),
+            TaskContext.of("Cache", "GetAllL2", String.valueOf(l1Misses.size())));
+
+    for (K key : l1Misses) {
+      Object value = l2Values.get(key);
+      if (value != null) {
+        l1.put(key, value); // Backfill
+        hits.put(key, type.cast(value));
+      } else {
+        misses.add(key);
+      }
+    }
+    l2HitCounter.increment(l1Misses.size() - misses.size());
+    return new BulkGetResult<>(hits, misses);
+  }
+
+  /**
+   * 다건 조회 with loader (미스를 한 번에 계산)
+   *
+   * <p>loader는 L1/L2 모두 미스인 키 집합으로 1회 호출되며, 반환된 값은 L2 → L1 순서로 저장합니다. 단건 로더와 같이 로드 결과는
+   * 무효화를 전파하지 않습니다. 분산 Single-flight는 적용하지 않으므로 웜업/배치 용도로 사용합니다.
+   *
+   * @param keys 조회할 키
+   * @param type 값 타입
+   * @param loader 미스 키 → 값 (없는 키는 생략 가능, 예외는 호출자에게 전파)
+   * @return 히트 + 로드 결과 (요청 순서)
+   */
+  public <K, V> Map<K, V> getAll(
+      Collection<K> keys, Class<V> type, Function<Set<K>, Map<K, V>> loader) {
+    BulkGetResult<K, V> result = getAll(keys, type);
+    if (result.misses().isEmpty()) {
+      return result.hits();
+    }
+
+    missCounter.increment(result.misses().size());
+    Map<K, V> loaded = nonNullValues(loader.apply(result.misses()));
+    if (writeAll(loaded)) {
+      loaded.forEach(l1::put);
+    }
+
+    Map<K, V> merged = new LinkedHashMap<>(result.hits());
+    merged.putAll(loaded);
+    return merged;
+  }
+
+  /**
+   * 다건 저장 (L2 파이프라인 → L1 → Pub/Sub, put()과 같은 일관성 규칙)
+   *
+   * <p>versionedPut 모드에서는 키마다 put()과 같은 원자적 비교 스크립트를 파이프라인으로 실행하여 내용이 바뀐 키만 무효화를 전파합니다.
+   * null 값은 저장하지 않습니다.
+   *
+   * @param entries 키 → 값
+   */
+  public void putAll(Map<?, ?> entries) {
+    Map<Object, Object> values = nonNullValues(entries);
+    if (values.isEmpty()) {
+      return;
+    }
+
+    Set<Object> changed = putAllL2(values);
+    if (changed == null) {
+      return;
+    }
+    values.forEach(
+        (key, value) -> {
+          l1.put(key, value);
+          publishEvictIfChanged(key, changed.contains(key));
+        });
+  }
+
+  /**
+   * putAll()의 L2 저장
+   *
+   * @return 내용이 바뀐 키 (원자적 비교가 불가능하면 전체), L2 실패 시 null
+   */
+  private Set<Object> putAllL2(Map<Object, Object> values) {
+    if (!versionedPut || bulkL2 == null) {
+      return writeAll(values) ? values.keySet() : null;
+    }
+    Set<Object> changed =
+        executor.executeOrDefault(
+            () -> bulkL2.putAllIfChanged(values),
+            null,
+            TaskContext.of("Cache", "PutAllL2", String.valueOf(values.size())));
+
+    if (changed == null) {
+      log.warn("[TieredCache] L2 putAll failed, skipping L1: size={}", values.size());
+      l2FailureCounter.increment();
+    }
+    return changed;
+  }
+
+  /** null 값 제외 복사 (순서 유지) */
+  private static <K, V> Map<K, V> nonNullValues(Map<? extends K, ? extends V> entries) {
+    Map<K, V> values = new LinkedHashMap<>();
+    entries.forEach(
+        (key, value) -> {
+          if (value != null) {
+            values.put(key, value);
+          }
+        });
+    return values;
+  }
+
+  /** L2 다건 조회 (파이프라인 미지원 L2는 단건 반복) */
+  private Map<Object, Object> readL2(List<?> keys) {
+    if (bulkL2 != null) {
+      return bulkL2.getAll(keys);
+    }
+    Map<Object, Object> values = new LinkedHashMap<>();
+    for (Object key : keys) {
+      ValueWrapper wrapper = l2.get(key);
+      if (wrapper != null && wrapper.get() != null) {
+        values.put(key, wrapper.get());
+      }
+    }
+    return values;
+  }
+
+  /**
+   * L2 다건 저장 (Graceful Degradation)
+   *
+   * @return L2 저장 성공 여부 (실패 시 L1도 저장하지 않음)
+   */
+  private boolean writeAll(Map<?, ?> values) {
+    if (values.isEmpty()) {
+      return false;
+    }
+    boolean l2Success =
+        executor.executeOrDefault(
+            () -> {
+              writeL2(values);
+              return true;
+            },
+            false,
+            TaskContext.of("Cache", "PutAllL2", String.valueOf(values.size())));
+
+    if (!l2Success) {
+      log.warn("[TieredCache] L2 putAll failed, skipping L1: size={}", values.size());
+      l2FailureCounter.increment();
+    }
+    return l2Success;
+  }
+
+  private void writeL2(Map<?, ?> values) {
+    if (bulkL2 != null) {
+      bulkL2.putAll(values);
+    } else {
+      values.forEach(l2::put);
+    }
+  }
+
   /** EVICT 이벤트 발행 (Section 15: 메서드 추출) */
   private void publishEvictEvent(Object key) {
     callbackSupplier
@@ -279,10 +578,22 @@ public class TieredCache implements Cache {
    * <h4>#262 실험 결과</h4>
    *
    * <p>Local Coalescing 시도 → L2 조회도 블로킹되어 RPS 33% 악화 → 롤백
+   *
+   * <p>현재 노드 로컬 Single-flight는 L1/L2 조회가 모두 미스난 뒤에만 적용되므로 캐시 히트 경로는 블로킹되지 않습니다.
+   *
+   * <h4>L1 Fast Path</h4>
+   *
+   * <p>L1 히트는 Caffeine native 직접 조회로 반환하며 TaskContext·ExceptionTranslator를 생성하지 않습니다.
    */
   @Override
   @SuppressWarnings("unchecked")
   public <T> T get(Object key, Callable<T> valueLoader) {
+    Object l1Value = probeL1(key);
+    if (l1Value != null) {
+      l1HitCounter.increment();
+      return (T) l1Value;
+    }
+
     String keyStr = key.toString();
     TaskContext context = TaskContext.of("Cache", "GetWithLoader", keyStr);
 
@@ -305,32 +616,100 @@ public class TieredCache implements Cache {
    */
   private <T> T doGetWithSingleFlight(Object key, Callable<T> valueLoader, String keyStr)
       throws Exception {
-    // 1. L1 → L2 순차 조회 (Optional - 예외 없음)
-    T cached = getCachedValueFromLayers(key);
+    // 1. L2 조회 (L1은 fast path에서 이미 미스 확인)
+    T cached = getCachedValueFromL2(key);
     if (cached != null) {
       return cached;
     }
 
-    // 2. 캐시 미스 → 분산 락으로 Single-flight (직접 호출 - 예외 자연 전파)
-    return executeWithDistributedLock(key, valueLoader, keyStr);
+    // 2. 캐시 미스 → 노드 로컬 Single-flight → 분산 락 (Leader만 Redis 락 시도)
+    return loadWithLocalSingleFlight(key, valueLoader, keyStr);
+  }
+
+  /**
+   * 노드 로컬 Single-flight (분산 락 앞단)
+   *
+   * <ul>
+   *   <li>Leader: 호출 스레드에서 분산 락 경로 실행, 결과를 Future로 공유
+   *   <li>Follower: Redis 락 시도 없이 Leader 결과 대기 (lockWaitSeconds)
+   *   <li>Follower 타임아웃: 기존 락 획득 실패와 같이 valueLoader 직접 실행
+   * </ul>
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T loadWithLocalSingleFlight(Object key, Callable<T> valueLoader, String keyStr)
+      throws Exception {
+    AtomicBoolean led = new AtomicBoolean();
+    CompletableFuture<Object> flight =
+        localSingleFlight.executeAsync(
+            keyStr,
+            () -> {
+              led.set(true);
+              return loadAsLocalLeader(key, valueLoader, keyStr);
+            });
+    if (led.get()) {
+      localLeaderCounter.increment();
+      return (T) flight.join(); // 호출 스레드에서 이미 완료됨
+    }
+    localFollowerCounter.increment();
+
+    Object result =
+        executor.executeWithFallback(
+            flight::join,
+            TieredCache::timeoutToSentinel,
+            TaskContext.of("Cache", "AwaitLocalFlight", keyStr));
+
+    if (result == LOCAL_FLIGHT_TIMEOUT) {
+      log.warn("[TieredCache] Local single-flight wait timed out, executing directly: {}", keyStr);
+      localTimeoutCounter.increment();
+      return executeAndCache(key, valueLoader);
+    }
+    return (T) result;
+  }
+
+  /** Leader 로드: 분산 락 경로 결과(예외 포함)를 완료된 Future로 변환 */
+  private <T> CompletableFuture<Object> loadAsLocalLeader(
+      Object key, Callable<T> valueLoader, String keyStr) {
+    return executor.executeWithFallback(
+        () ->
+            CompletableFuture.<Object>completedFuture(
+                executeWithDistributedLock(key, valueLoader, keyStr)),
+        CompletableFuture::failedFuture,
+        TaskContext.of("Cache", "LocalLeaderLoad", keyStr));
+  }
+
+  /** Follower 타임아웃만 sentinel로 변환, 그 외(Leader 실패)는 그대로 전파 */
+  private static Object timeoutToSentinel(Throwable e) {
+    if (AsyncUtils.unwrapCompletionException(e) instanceof TimeoutException) {
+      return LOCAL_FLIGHT_TIMEOUT;
+    }
+    throw e instanceof RuntimeException re ? re : new CompletionException(e);
+  }
+
+  /**
+   * L1 fast path 조회 (Spring 래퍼 할당 없음)
+   *
+   * <p>null 저장값(NullValue)은 기존과 같이 미스로 취급하여 로더 경로로 진행합니다.
+   *
+   * @return L1 값 (미스 또는 null 저장값이면 null)
+   */
+  private Object probeL1(Object key) {
+    if (l1Native != null) {
+      Object stored = l1Native.getIfPresent(key);
+      return stored == NullValue.INSTANCE ? null : stored;
+    }
+    ValueWrapper wrapper = l1.get(key);
+    return wrapper != null ? wrapper.get() : null;
   }
 
   /**
-   * L1 → L2 순차 캐시 조회 (Graceful Degradation Pattern)
+   * L2 캐시 조회 (Graceful Degradation Pattern)
    *
    * <p><b>CLAUDE.md 섹션 12 패턴 3:</b> L2 장애 시 executeOrDefault로 null 반환
    *
    * <p><b>가용성 우선:</b> L2(Redis) 장애 시에도 valueLoader로 폴백
    */
   @SuppressWarnings("unchecked")
-  private <T> T getCachedValueFromLayers(Object key) {
-    // L1 조회 (로컬 캐시 - 장애 없음)
-    ValueWrapper l1Result = l1.get(key);
-    if (l1Result != null) {
-      l1HitCounter.increment();
-      return (T) l1Result.get();
-    }
-
+  private <T> T getCachedValueFromL2(Object key) {
     // L2 조회 (Redis - Graceful Degradation: 장애 시 null 반환)
     ValueWrapper l2Result =
         executor.executeOrDefault(
@@ -443,14 +822,4 @@ public class TieredCache implements Cache {
   private String buildLockKey(String keyStr) {
     return "cache:sf:" + l2.getName() + ":" + keyStr;
   }
-
-  /** Tap 패턴: 값 반환하며 캐시 히트 메트릭 기록 */
-  private ValueWrapper tapCacheHit(ValueWrapper wrapper, String layer) {
-    if ("L1".equals(layer)) {
-      l1HitCounter.increment();
-    } else {
-      l2HitCounter.increment();
-    }
-    return wrapper;
-  }
 }
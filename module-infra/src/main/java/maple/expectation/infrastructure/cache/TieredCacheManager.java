@@ -50,6 +50,7 @@ public class TieredCacheManager extends AbstractCacheManager {
   private final RedissonClient redissonClient; // Issue #148: 분산 락용
   @Getter private final MeterRegistry meterRegistry; // Issue #148: 메트릭 수집용
   private final int lockWaitSeconds; // P0-4: 외부 설정
+  private final boolean versionedPut; // 내용이 같은 put은 무효화 전파 생략
 
   /** P2 FIX: TieredCache 인스턴스 풀 (동일 이름 캐시는 한 번만 생성) */
   private final ConcurrentMap<String, Cache> cachePool = new ConcurrentHashMap<>();
@@ -72,12 +73,24 @@ public class TieredCacheManager extends AbstractCacheManager {
       RedissonClient redissonClient,
       MeterRegistry meterRegistry,
       int lockWaitSeconds) {
+    this(l1Manager, l2Manager, executor, redissonClient, meterRegistry, lockWaitSeconds, false);
+  }
+
+  public TieredCacheManager(
+      CacheManager l1Manager,
+      CacheManager l2Manager,
+      LogicExecutor executor,
+      RedissonClient redissonClient,
+      MeterRegistry meterRegistry,
+      int lockWaitSeconds,
+      boolean versionedPut) {
     this.l1Manager = l1Manager;
     this.l2Manager = l2Manager;
     this.executor = executor;
     this.redissonClient = redissonClient;
     this.meterRegistry = meterRegistry;
     this.lockWaitSeconds = lockWaitSeconds;
+    this.versionedPut = versionedPut;
   }
 
   @Override
@@ -122,7 +135,8 @@ public class TieredCacheManager extends AbstractCacheManager {
         meterRegistry,
         lockWaitSeconds,
         instanceIdRef::get,
-        callbackRef::get);
+        callbackRef::get,
+        versionedPut);
   }
 
   /**
@@ -0,0 +1,21 @@
+package maple.expectation.infrastructure.cache.invalidation;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 캐시 무효화 이벤트 묶음 (짧은 윈도우 동안 모은 EVICT/CLEAR_ALL)
+ *
+ * <p>BatchingCacheInvalidationPublisher가 윈도우 동안 같은 키 중복을 제거하고 CLEAR_ALL로 같은 캐시의 EVICT를 흡수한 뒤 한 번의
+ * Pub/Sub 메시지로 발행합니다. 이벤트가 1건이면 기존 {@link CacheInvalidationEvent}로 발행하여 구버전 구독자와 호환됩니다.
+ *
+ * @param sourceInstanceId 발행 인스턴스 ID (Self-skip용)
+ * @param events 무효화 이벤트 목록 (발생 순서)
+ */
+public record CacheInvalidationBatch(String sourceInstanceId, List<CacheInvalidationEvent> events)
+    implements Serializable {
+
+  public CacheInvalidationBatch {
+    events = List.copyOf(events);
+  }
+}
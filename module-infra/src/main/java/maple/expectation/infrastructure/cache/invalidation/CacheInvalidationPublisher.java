@@ -21,4 +21,15 @@ public interface CacheInvalidationPublisher {
    * @param event 발행할 무효화 이벤트
    */
   void publish(CacheInvalidationEvent event);
+
+  /**
+   * 캐시 무효화 이벤트 묶음 발행
+   *
+   * <p>기본 구현은 이벤트를 1건씩 발행합니다. 묶음 메시지를 지원하는 구현체는 한 번의 발행으로 재정의합니다.
+   *
+   * @param batch 발행할 무효화 이벤트 묶음
+   */
+  default void publishBatch(CacheInvalidationBatch batch) {
+    batch.events().forEach(this::publish);
+  }
 }
@@ -0,0 +1,134 @@
+package maple.expectation.infrastructure.cache.invalidation.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationBatch;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationPublisher;
+import maple.expectation.infrastructure.cache.invalidation.InvalidationType;
+
+/**
+ * 짧은 윈도우 단위로 무효화 이벤트를 묶어 발행하는 Publisher (Decorator)
+ *
+ * <h3>문제</h3>
+ *
+ * <p>evict 폭주(강제 재계산, 대량 삭제) 시 이벤트 1건마다 Pub/Sub 메시지 1건이 N개 인스턴스로 fanout됩니다.
+ *
+ * <h3>해결</h3>
+ *
+ * <ul>
+ *   <li>첫 이벤트 도착 시 {@code windowMs} 뒤 flush 예약, 윈도우 동안 모은 이벤트를 1건의 메시지로 발행
+ *   <li>같은 (cache, key) EVICT는 1건으로 합침
+ *   <li>CLEAR_ALL은 같은 캐시의 대기 중 EVICT를 흡수하고, 이후 EVICT도 생략
+ *   <li>모은 이벤트가 1건이면 단건 메시지로 발행 (구버전 구독자 호환)
+ * </ul>
+ *
+ * <p>윈도우 동안 원격 L1이 최대 {@code windowMs}만큼 늦게 무효화되지만, Pub/Sub 자체가 비동기이므로 정합성 모델은 같습니다.
+ *
+ * <p>이전 버전 구독자는 {@link CacheInvalidationBatch}를 무시합니다. 묶음 발행은 모든 인스턴스가 묶음 구독을 지원한 뒤에만 켜야
+ * 합니다 (CacheInvalidationConfig의 2단계 배포 참고).
+ */
+public class BatchingCacheInvalidationPublisher
+    implements CacheInvalidationPublisher, AutoCloseable {
+
+  private final CacheInvalidationPublisher delegate;
+  private final String instanceId;
+  private final long windowMs;
+  private final ScheduledExecutorService scheduler;
+
+  /** 대기 중 이벤트 ("cache\0key" → event, CLEAR_ALL은 "cache\0*") */
+  private Map<String, CacheInvalidationEvent> pending = new LinkedHashMap<>();
+
+  /** 현재 윈도우에서 CLEAR_ALL된 캐시 */
+  private Set<String> clearedCaches = new HashSet<>();
+
+  private final Counter coalescedCounter;
+
+  /**
+   * @param delegate 실제 발행자 (RTopic)
+   * @param instanceId 발행 인스턴스 ID (묶음 Self-skip용)
+   * @param windowMs 묶음 윈도우 (밀리초)
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public BatchingCacheInvalidationPublisher(
+      CacheInvalidationPublisher delegate,
+      String instanceId,
+      long windowMs,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.instanceId = instanceId;
+    this.windowMs = windowMs;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cache-invalidation-batch").daemon(true).factory());
+    this.coalescedCounter =
+        Counter.builder("cache.invalidation.coalesced")
+            .description("Invalidation events merged into a pending batch")
+            .register(meterRegistry);
+  }
+
+  /** 이벤트를 현재 윈도우에 추가 (윈도우의 첫 이벤트면 flush 예약) */
+  @Override
+  public void publish(CacheInvalidationEvent event) {
+    boolean firstInWindow;
+    synchronized (this) {
+      firstInWindow = pending.isEmpty();
+      if (!enqueue(event)) {
+        coalescedCounter.increment();
+      }
+    }
+    if (firstInWindow) {
+      scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** @return 새 이벤트로 추가되었으면 true, 기존 이벤트에 흡수되었으면 false */
+  private boolean enqueue(CacheInvalidationEvent event) {
+    String cacheName = event.cacheName();
+    if (event.type() == InvalidationType.CLEAR_ALL) {
+      pending.keySet().removeIf(k -> k.startsWith(cacheName + '\0'));
+      clearedCaches.add(cacheName);
+      pending.put(cacheName + "\0*", event);
+      return true;
+    }
+    if (clearedCaches.contains(cacheName)) {
+      return false;
+    }
+    return pending.putIfAbsent(cacheName + '\0' + event.key(), event) == null;
+  }
+
+  /** 현재 윈도우의 이벤트 발행 (단건이면 기존 메시지 형식) */
+  void flush() {
+    List<CacheInvalidationEvent> events;
+    synchronized (this) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      events = new ArrayList<>(pending.values());
+      pending = new LinkedHashMap<>();
+      clearedCaches = new HashSet<>();
+    }
+
+    if (events.size() == 1) {
+      delegate.publish(events.get(0));
+      return;
+    }
+    delegate.publishBatch(new CacheInvalidationBatch(instanceId, events));
+  }
+
+  /** 종료 시 남은 이벤트 즉시 발행 */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    flush();
+  }
+}
@@ -2,6 +2,7 @@ package maple.expectation.infrastructure.cache.invalidation.impl;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationBatch;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationPublisher;
 import maple.expectation.infrastructure.executor.LogicExecutor;
@@ -53,6 +54,32 @@ public class RedisCacheInvalidationPublisher implements CacheInvalidationPublish
     recordPublishResult(clientsReceived, event);
   }
 
+  /**
+   * 캐시 무효화 이벤트 묶음 발행 (RTopic 메시지 1건)
+   *
+   * <p>구독자는 {@link CacheInvalidationBatch} 타입 리스너로 수신하여 이벤트별로 처리합니다.
+   */
+  @Override
+  public void publishBatch(CacheInvalidationBatch batch) {
+    TaskContext context =
+        TaskContext.of("CacheInvalidation", "PublishBatch", String.valueOf(batch.events().size()));
+
+    long clientsReceived = executor.executeOrDefault(() -> topic.publish(batch), 0L, context);
+
+    if (clientsReceived > 0) {
+      meterRegistry.counter("cache.invalidation.publish", "status", "success").increment();
+      log.debug(
+          "[CacheInvalidation] Published batch: events={}, clients={}",
+          batch.events().size(),
+          clientsReceived);
+    } else {
+      meterRegistry.counter("cache.invalidation.publish", "status", "failure").increment();
+      log.warn(
+          "[CacheInvalidation] Batch publish failed or no subscribers: events={}",
+          batch.events().size());
+    }
+  }
+
   /** 발행 결과 메트릭 및 로그 기록 */
   private void recordPublishResult(long clientsReceived, CacheInvalidationEvent event) {
     if (clientsReceived > 0) {
@@ -5,6 +5,7 @@ import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.infrastructure.cache.TieredCacheManager;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationBatch;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationSubscriber;
 import maple.expectation.infrastructure.cache.invalidation.InvalidationType;
@@ -35,6 +36,7 @@ import org.springframework.cache.Cache;
  *   <li>CLEAR_ALL: 해당 캐시의 L1 전체 무효화
  *   <li>Self-skip: 자기 자신이 발행한 이벤트는 무시
  *   <li>TTL(5분): Pub/Sub 유실 시 Fallback
+ *   <li>Batch: {@link CacheInvalidationBatch} 메시지는 이벤트별로 같은 처리 적용
  * </ul>
  *
  * <h3>CLAUDE.md Section 12: LogicExecutor 패턴</h3>
@@ -66,6 +68,9 @@ public class RedisCacheInvalidationSubscriber implements CacheInvalidationSubscr
   /** 구독 해제용 리스너 ID */
   private volatile Integer listenerId;
 
+  /** 구독 해제용 묶음 리스너 ID */
+  private volatile Integer batchListenerId;
+
   /** RTopic 인스턴스 (구독 해제용) */
   private volatile RTopic topic;
 
@@ -79,6 +84,8 @@ public class RedisCacheInvalidationSubscriber implements CacheInvalidationSubscr
         () -> {
           topic = redissonClient.getTopic(RedisKey.CACHE_INVALIDATION_TOPIC.getKey());
           listenerId = topic.addListener(CacheInvalidationEvent.class, createMessageListener());
+          batchListenerId =
+              topic.addListener(CacheInvalidationBatch.class, createBatchMessageListener());
 
           log.info(
               "[CacheInvalidation] Subscribed to topic: {}, instanceId={}",
@@ -93,6 +100,24 @@ public class RedisCacheInvalidationSubscriber implements CacheInvalidationSubscr
     return (channel, event) -> onEvent(event);
   }
 
+  /** 묶음 메시지 리스너 생성 */
+  private MessageListener<CacheInvalidationBatch> createBatchMessageListener() {
+    return (channel, batch) -> onBatch(batch);
+  }
+
+  /**
+   * 묶음 이벤트 수신 및 처리
+   *
+   * <p>묶음 단위로 Self-skip 후 이벤트별로 {@link #onEvent}와 같은 처리를 적용합니다.
+   */
+  public void onBatch(CacheInvalidationBatch batch) {
+    if (instanceId.equals(batch.sourceInstanceId())) {
+      log.trace("[CacheInvalidation] Self-skip batch: events={}", batch.events().size());
+      return;
+    }
+    batch.events().forEach(this::onEvent);
+  }
+
   /**
    * 이벤트 수신 및 처리
    *
@@ -163,6 +188,9 @@ public class RedisCacheInvalidationSubscriber implements CacheInvalidationSubscr
         () -> {
           if (topic != null && listenerId != null) {
             topic.removeListener(listenerId);
+            if (batchListenerId != null) {
+              topic.removeListener(batchListenerId);
+            }
             log.info("[CacheInvalidation] Unsubscribed from topic: instanceId={}", instanceId);
           }
         },
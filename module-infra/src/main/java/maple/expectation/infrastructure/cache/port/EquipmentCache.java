@@ -50,4 +50,20 @@ public interface EquipmentCache {
    * @param response equipment response to cache
    */
   void saveCache(String ocid, EquipmentResponse response);
+
+  /**
+   * Retrieve cached raw equipment body (Raw mode, GZIP bytes as received from Nexon)
+   *
+   * @param ocid character OCID
+   * @return cached GZIP body if present
+   */
+  Optional<byte[]> getValidRawCache(String ocid);
+
+  /**
+   * Save raw equipment body to cache with async DB persistence (Raw mode)
+   *
+   * @param ocid character OCID
+   * @param compressed GZIP-compressed response body
+   */
+  void saveRawCache(String ocid, byte[] compressed);
 }
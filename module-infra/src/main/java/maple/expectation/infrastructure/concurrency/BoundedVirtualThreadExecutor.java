@@ -0,0 +1,168 @@
+package maple.expectation.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 동시성 상한 + 대기열 상한이 있는 Virtual Thread Executor (I/O 단계 전용)
+ *
+ * <h4>설계 의도</h4>
+ *
+ * <ul>
+ *   <li><b>commonPool 분리</b>: 블로킹 I/O(Nexon API, Redis, MongoDB)가 코어 수 크기의 공용 풀을 점유하여 계산 작업을
+ *       굶기지 않도록 작업마다 Virtual Thread 사용
+ *   <li><b>Bulkhead</b>: 동시 실행은 {@code maxConcurrency}개로 제한, 나머지는 Virtual Thread에서 permit 대기
+ *   <li><b>빠른 실패</b>: 실행 + 대기 합계가 {@code maxConcurrency + queueCapacity}를 넘으면 제출 시점에
+ *       RejectedExecutionException. {@code CompletableFuture.supplyAsync}는 이 예외를 호출 스레드로 그대로 던지므로,
+ *       Future를 반환하는 호출부는 실패한 Future로 바꿔 반환해야 함
+ * </ul>
+ *
+ * <h4>메트릭 (tag: name)</h4>
+ *
+ * <ul>
+ *   <li>executor.active / executor.queued: 실행 중 / permit 대기 중 작업 수 (Gauge)
+ *   <li>executor.idle: 제출 → 실행 시작 대기 시간 (Timer, 단계별 큐잉 관측)
+ *   <li>executor: 작업 실행 시간 (Timer)
+ *   <li>executor.rejected: 상한 초과로 거부된 작업 수
+ * </ul>
+ *
+ * <p>메트릭 이름은 Micrometer ExecutorServiceMetrics와 같게 맞춰 기존 스레드 풀 대시보드에서 함께 조회됩니다.
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+
+  private static final long SHUTDOWN_AWAIT_SECONDS = 30L;
+
+  private final String name;
+  private final int maxConcurrency;
+  private final int capacity;
+  private final TaskDecorator taskDecorator;
+  private final ExecutorService threads;
+  private final Semaphore permits;
+  private final AtomicInteger pending = new AtomicInteger();
+
+  private final Timer idleTimer;
+  private final Timer executionTimer;
+  private final Counter rejectedCounter;
+
+  /**
+   * @param name 메트릭 tag 및 스레드 이름 접두사 (예: "equipment.fetch")
+   * @param maxConcurrency 동시 실행 상한
+   * @param queueCapacity 실행 대기 상한 (0이면 상한 초과 즉시 거부)
+   * @param taskDecorator MDC/ThreadLocal 전파용 데코레이터 (null 허용)
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public BoundedVirtualThreadExecutor(
+      String name,
+      int maxConcurrency,
+      int queueCapacity,
+      TaskDecorator taskDecorator,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.maxConcurrency = maxConcurrency;
+    this.capacity = maxConcurrency + queueCapacity;
+    this.taskDecorator = taskDecorator;
+    this.threads =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    this.permits = new Semaphore(maxConcurrency);
+
+    Gauge.builder("executor.active", this, BoundedVirtualThreadExecutor::activeCount)
+        .tag("name", name)
+        .description("Number of tasks currently running")
+        .register(meterRegistry);
+    Gauge.builder("executor.queued", this, BoundedVirtualThreadExecutor::queuedCount)
+        .tag("name", name)
+        .description("Number of tasks waiting for a concurrency permit")
+        .register(meterRegistry);
+    this.idleTimer =
+        Timer.builder("executor.idle")
+            .tag("name", name)
+            .description("Time tasks wait between submission and start")
+            .register(meterRegistry);
+    this.executionTimer =
+        Timer.builder("executor")
+            .tag("name", name)
+            .description("Task execution time")
+            .register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("executor.rejected")
+            .tag("name", name)
+            .description("Number of tasks rejected due to queue full")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (pending.incrementAndGet() > capacity) {
+      pending.decrementAndGet();
+      rejectedCounter.increment();
+      throw new RejectedExecutionException(
+          "[" + name + "] executor saturated (capacity=" + capacity + ")");
+    }
+
+    Runnable task = taskDecorator != null ? taskDecorator.decorate(command) : command;
+    long submittedAt = System.nanoTime();
+    try {
+      threads.execute(() -> runWithPermit(task, submittedAt));
+    } catch (RejectedExecutionException e) {
+      // 종료 중 제출: pending 원복 후 그대로 전파
+      pending.decrementAndGet();
+      rejectedCounter.increment();
+      throw e;
+    }
+  }
+
+  private void runWithPermit(Runnable task, long submittedAt) {
+    // 대기는 Virtual Thread park이므로 캐리어 스레드를 점유하지 않음
+    permits.acquireUninterruptibly();
+    long startedAt = System.nanoTime();
+    idleTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+    try {
+      task.run();
+    } finally {
+      executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      permits.release();
+      pending.decrementAndGet();
+    }
+  }
+
+  /** 실행 중 작업 수 */
+  public int activeCount() {
+    return maxConcurrency - permits.availablePermits();
+  }
+
+  /** permit 대기 중 작업 수 */
+  public int queuedCount() {
+    return Math.max(0, pending.get() - activeCount());
+  }
+
+  /**
+   * 종료: 신규 제출 차단 후 진행 중 작업 완료 대기 (최대 30초)
+   *
+   * <p>Spring이 빈 소멸 시 close()를 자동 호출합니다. InterruptedException은 checked 예외이므로 try-catch로 처리합니다.
+   */
+  @Override
+  public void close() {
+    threads.shutdown();
+    try {
+      if (!threads.awaitTermination(SHUTDOWN_AWAIT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("[{}] Shutdown timed out, cancelling {} tasks", name, pending.get());
+        threads.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      threads.shutdownNow();
+    }
+  }
+}
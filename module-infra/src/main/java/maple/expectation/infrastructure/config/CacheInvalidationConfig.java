@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import maple.expectation.infrastructure.cache.TieredCacheManager;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationPublisher;
 import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationSubscriber;
+import maple.expectation.infrastructure.cache.invalidation.impl.BatchingCacheInvalidationPublisher;
 import maple.expectation.infrastructure.cache.invalidation.impl.RedisCacheInvalidationPublisher;
 import maple.expectation.infrastructure.cache.invalidation.impl.RedisCacheInvalidationSubscriber;
 import maple.expectation.infrastructure.executor.LogicExecutor;
@@ -36,8 +37,20 @@ import org.springframework.context.annotation.Configuration;
  * <pre>
  * TieredCacheManager → TieredCache (Supplier callback)
  *    ↑ SmartInitializingSingleton.afterSingletonsInstantiated()
- * CacheInvalidationConfig → RedisCacheInvalidationPublisher
+ * CacheInvalidationConfig → BatchingCacheInvalidationPublisher → RedisCacheInvalidationPublisher
  * </pre>
+ *
+ * <h3>무효화 묶음 발행</h3>
+ *
+ * <p>{@link CacheProperties.Invalidation#getBatchWindowMs()}(0~1000 검증) 동안 모은 이벤트를 1건의 메시지로 발행합니다.
+ * 기본값 0은 즉시 단건 발행입니다.
+ *
+ * <h4>2단계 배포</h4>
+ *
+ * <ol>
+ *   <li>1단계: batch-window-ms=0으로 전 인스턴스 배포 (모두 {@code CacheInvalidationBatch} 구독 가능, 발행은 단건)
+ *   <li>2단계: 롤링 완료 후 batch-window-ms를 켬 (예: 50). 1단계 전에 켜면 이전 버전 인스턴스가 묶음 메시지를 무시해 L1 무효화 누락
+ * </ol>
  */
 @Slf4j
 @Configuration
@@ -56,24 +69,31 @@ public class CacheInvalidationConfig implements SmartInitializingSingleton {
   /**
    * @PostConstruct에서 재사용할 Publisher 인스턴스 (CGLIB 순환참조 방지)
    */
-  private final RedisCacheInvalidationPublisher publisherInstance;
+  private final CacheInvalidationPublisher publisherInstance;
 
   public CacheInvalidationConfig(
       RedissonClient redissonClient,
       CacheManager cacheManager,
       LogicExecutor executor,
       MeterRegistry meterRegistry,
-      @Value("${app.instance-id:${HOSTNAME:unknown}}") String instanceId) {
+      @Value("${app.instance-id:${HOSTNAME:unknown}}") String instanceId,
+      CacheProperties cacheProperties) {
     this.redissonClient = redissonClient;
     this.cacheManager = cacheManager;
     this.executor = executor;
     this.meterRegistry = meterRegistry;
     this.instanceId = instanceId;
-    this.publisherInstance =
+    long batchWindowMs = cacheProperties.getInvalidation().getBatchWindowMs();
+    CacheInvalidationPublisher redisPublisher =
         new RedisCacheInvalidationPublisher(redissonClient, executor, meterRegistry);
+    this.publisherInstance =
+        batchWindowMs > 0
+            ? new BatchingCacheInvalidationPublisher(
+                redisPublisher, instanceId, batchWindowMs, meterRegistry)
+            : redisPublisher;
   }
 
-  /** 캐시 무효화 이벤트 발행자 Bean */
+  /** 캐시 무효화 이벤트 발행자 Bean (묶음 발행자는 종료 시 close()로 남은 이벤트 flush) */
   @Bean
   public CacheInvalidationPublisher cacheInvalidationPublisher() {
     log.info("[CacheInvalidationConfig] Creating CacheInvalidationPublisher bean");
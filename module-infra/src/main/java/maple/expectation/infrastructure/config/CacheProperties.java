@@ -32,13 +32,16 @@ public class CacheProperties {
   /**
    * 캐시별 L1/L2 스펙 설정
    *
-   * <p>key: 캐시 이름 (equipment, cubeTrials, ocidCache, characterBasic, expectationV4)
+   * <p>key: 캐시 이름 (equipment, cubeTrials, cubeSurvival, flameModel, ocidCache, characterBasic, expectationV4)
    */
   @NotNull @Valid private Map<String, CacheSpec> specs = Map.of();
 
   /** Singleflight (분산 락) 설정 */
   @NotNull @Valid private Singleflight singleflight = new Singleflight();
 
+  /** L1 무효화 전파 설정 */
+  @NotNull @Valid private Invalidation invalidation = new Invalidation();
+
   public Map<String, CacheSpec> getSpecs() {
     return specs;
   }
@@ -55,6 +58,14 @@ public class CacheProperties {
     this.singleflight = singleflight;
   }
 
+  public Invalidation getInvalidation() {
+    return invalidation;
+  }
+
+  public void setInvalidation(Invalidation invalidation) {
+    this.invalidation = invalidation;
+  }
+
   /**
    * 캐시별 L1/L2 스펙
    *
@@ -62,7 +73,7 @@ public class CacheProperties {
    *   <li>l1TtlMinutes: L1(Caffeine) TTL (분)
    *   <li>l1MaxSize: L1 최대 엔트리 수
    *   <li>l2TtlMinutes: L2(Redis) TTL (분)
-   *   <li>l2Serializer: L2 직렬화 방식 (json | jdk)
+   *   <li>l2Serializer: L2 직렬화 방식 (json | jdk | json-dict | bytes)
    * </ul>
    */
   public static class CacheSpec {
@@ -137,4 +148,40 @@ public class CacheProperties {
       this.lockWaitSeconds = lockWaitSeconds;
     }
   }
+
+  /**
+   * L1 무효화 전파 설정
+   *
+   * <ul>
+   *   <li>versionedPut: put 시 L2 현재 값과 직렬화 바이트가 같으면 원격 L1 무효화 전파 생략 (Lua 원자적 비교, RedisCache L2만)
+   *   <li>batch-window-ms: 무효화 이벤트 묶음 윈도우 (CacheInvalidationConfig에서 사용, 0이면 즉시 발행)
+   * </ul>
+   *
+   * <p>batch-window-ms 기본값은 0입니다. 이전 버전 구독자는 묶음 메시지를 무시하므로, 모든 인스턴스가 묶음 구독을 지원하는 버전으로
+   * 배포된 뒤 2단계로 켜야 합니다.
+   */
+  public static class Invalidation {
+
+    private boolean versionedPut = true;
+
+    @Min(0)
+    @Max(1000)
+    private long batchWindowMs = 0;
+
+    public boolean isVersionedPut() {
+      return versionedPut;
+    }
+
+    public void setVersionedPut(boolean versionedPut) {
+      this.versionedPut = versionedPut;
+    }
+
+    public long getBatchWindowMs() {
+      return batchWindowMs;
+    }
+
+    public void setBatchWindowMs(long batchWindowMs) {
+      this.batchWindowMs = batchWindowMs;
+    }
+  }
 }
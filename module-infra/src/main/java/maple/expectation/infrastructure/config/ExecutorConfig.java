@@ -8,6 +8,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import maple.expectation.infrastructure.concurrency.BoundedVirtualThreadExecutor;
+import maple.expectation.infrastructure.config.ExecutorProperties.VirtualThreadConfig;
 import maple.expectation.infrastructure.executor.CheckedLogicExecutor;
 import maple.expectation.infrastructure.executor.DefaultCheckedLogicExecutor;
 import maple.expectation.infrastructure.executor.DefaultLogicExecutor;
@@ -36,6 +38,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  *   <li><b>LogicExecutor Beans</b>: logicExecutor, checkedLogicExecutor, executionPipeline
  *   <li><b>ThreadPoolTaskExecutor Beans</b>: alertTaskExecutor, aiTaskExecutor,
  *       expectationComputeExecutor
+ *   <li><b>Virtual Thread I/O Beans</b>: equipmentFetchExecutor, v5QueryExecutor
+ *       ({@link BoundedVirtualThreadExecutor})
  *   <li><b>조정</b>: RejectionPolicyFactory, ExecutorMetricsConfigurator, TaskDecoratorFactory를 활용
  * </ul>
  *
@@ -49,7 +53,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  * </ul>
  */
 @Configuration
-@EnableConfigurationProperties(ExecutorLoggingProperties.class)
+@EnableConfigurationProperties({ExecutorLoggingProperties.class, ExecutorProperties.class})
 public class ExecutorConfig {
 
   private static final Logger log = LoggerFactory.getLogger(ExecutorConfig.class);
@@ -271,6 +275,39 @@ public class ExecutorConfig {
     return executor;
   }
 
+  // ==================== Virtual Thread I/O Beans ====================
+
+  /**
+   * 장비 원본 조회(Nexon API / DB 캐시) + JSON 직렬화 전용 Executor
+   *
+   * <p>EquipmentDataProvider가 기본 commonPool에서 블로킹 조회를 수행하던 것을 분리합니다. 조회 대기는 Virtual
+   * Thread에서 일어나므로 코어 수와 무관하게 동시 요청을 수용하고, 상한 초과 시 제출 시점에 거부합니다.
+   */
+  @Bean(name = "equipmentFetchExecutor")
+  public Executor equipmentFetchExecutor(
+      ExecutorProperties properties, TaskDecorator contextPropagatingDecorator) {
+    return boundedVirtualThreadExecutor(
+        "equipment.fetch", properties.equipmentFetch(), contextPropagatingDecorator);
+  }
+
+  /**
+   * V5 MongoDB 캐시 조회 / 캐시 무효화 전용 Executor
+   *
+   * <p>GameCharacterControllerV5가 commonPool에서 MongoDB·Redis 블로킹 호출을 수행하던 것을 분리합니다.
+   */
+  @Bean(name = "v5QueryExecutor")
+  public Executor v5QueryExecutor(
+      ExecutorProperties properties, TaskDecorator contextPropagatingDecorator) {
+    return boundedVirtualThreadExecutor(
+        "v5.query", properties.v5Query(), contextPropagatingDecorator);
+  }
+
+  private BoundedVirtualThreadExecutor boundedVirtualThreadExecutor(
+      String name, VirtualThreadConfig config, TaskDecorator decorator) {
+    return new BoundedVirtualThreadExecutor(
+        name, config.maxConcurrency(), config.queueCapacity(), decorator, meterRegistry);
+  }
+
   // ==================== Helper Factory Beans ====================
 
   /**
@@ -21,6 +21,12 @@ import org.springframework.validation.annotation.Validated;
  *     core-pool-size: 12
  *     max-pool-size: 24
  *     queue-capacity: 100
+ *   equipment-fetch:
+ *     max-concurrency: 64
+ *     queue-capacity: 512
+ *   v5-query:
+ *     max-concurrency: 64
+ *     queue-capacity: 512
  * </pre>
  *
  * <h3>프로필별 설정</h3>
@@ -33,7 +39,10 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 @ConfigurationProperties(prefix = "executor")
 public record ExecutorProperties(
-    @DefaultValue PoolConfig equipment, @DefaultValue PoolConfig preset) {
+    @DefaultValue PoolConfig equipment,
+    @DefaultValue PoolConfig preset,
+    @DefaultValue VirtualThreadConfig equipmentFetch,
+    @DefaultValue VirtualThreadConfig v5Query) {
   /**
    * 개별 Thread Pool 설정
    *
@@ -45,4 +54,14 @@ public record ExecutorProperties(
       @DefaultValue("8") @Min(1) @Max(64) int corePoolSize,
       @DefaultValue("16") @Min(1) @Max(128) int maxPoolSize,
       @DefaultValue("200") @Min(10) @Max(5000) int queueCapacity) {}
+
+  /**
+   * I/O 단계 Virtual Thread Executor 설정 (BoundedVirtualThreadExecutor)
+   *
+   * @param maxConcurrency 동시 실행 상한 (기본값: 64)
+   * @param queueCapacity permit 대기 상한, 초과 시 즉시 거부 (기본값: 512)
+   */
+  public record VirtualThreadConfig(
+      @DefaultValue("64") @Min(1) @Max(1024) int maxConcurrency,
+      @DefaultValue("512") @Min(0) @Max(10000) int queueCapacity) {}
 }
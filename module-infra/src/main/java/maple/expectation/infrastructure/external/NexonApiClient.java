@@ -33,6 +33,17 @@ public interface NexonApiClient {
   @NexonDataCache
   CompletableFuture<EquipmentResponse> getItemDataByOcid(String ocid);
 
+  /**
+   * OCID로 장비 데이터 원문 조회 (비동기, Raw 모드)
+   *
+   * <p>Nexon API /maplestory/v1/character/item-equipment 응답 본문을 DTO 바인딩 없이 바이트 그대로 반환합니다.
+   * 호출자가 한 번만 GZIP 압축하여 캐시/DB에 저장하고, DTO가 필요한 소비자만 지연 바인딩합니다.
+   *
+   * @param ocid 캐릭터 고유 ID
+   * @return 응답 본문 JSON 바이트(UTF-8) Future
+   */
+  CompletableFuture<byte[]> getRawItemDataByOcid(String ocid);
+
   /**
    * OCID로 큐브 사용 내역 조회 (비동기)
    *
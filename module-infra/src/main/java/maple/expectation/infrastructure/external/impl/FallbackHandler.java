@@ -2,7 +2,9 @@ package maple.expectation.infrastructure.external.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import maple.expectation.domain.model.equipment.CharacterEquipment;
@@ -114,6 +116,35 @@ public class FallbackHandler {
       String ocid,
       maple.expectation.domain.v2.NexonApiOutbox.NexonApiEventType eventType,
       Throwable t) {
+    return degradeOrOutbox(ocid, eventType, t, this::convertToResponse);
+  }
+
+  /**
+   * Raw 모드 장비 조회 fallback: 시나리오는 {@link #handleItemDataFallback}과 동일
+   *
+   * <p>시나리오 A에서 DB JSON을 DTO로 역직렬화하지 않고 UTF-8 바이트로 그대로 반환합니다.
+   *
+   * @param ocid 캐릭터 OCID
+   * @param eventType API 이벤트 타입 (Outbox용)
+   * @param t 원본 예외
+   * @return CompletableFuture<byte[]> - 캐시 JSON 바이트 또는 failedFuture
+   */
+  public CompletableFuture<byte[]> handleRawItemDataFallback(
+      String ocid,
+      maple.expectation.domain.v2.NexonApiOutbox.NexonApiEventType eventType,
+      Throwable t) {
+    return degradeOrOutbox(
+        ocid,
+        eventType,
+        t,
+        entity -> entity.hasData() ? entity.jsonContent().getBytes(StandardCharsets.UTF_8) : null);
+  }
+
+  private <T> CompletableFuture<T> degradeOrOutbox(
+      String ocid,
+      maple.expectation.domain.v2.NexonApiOutbox.NexonApiEventType eventType,
+      Throwable t,
+      Function<CharacterEquipment, T> cachedMapper) {
 
     // ★ P0-3: 일관된 root cause 사용 (CompletionException/ExecutionException unwrap)
     Throwable rootCause = ExceptionUtils.unwrapAsyncException(t);
@@ -123,11 +154,11 @@ public class FallbackHandler {
     Exception alertCause = (rootCause instanceof Exception ex) ? ex : new Exception(rootCause);
 
     // 1. DB에서 만료된 캐시라도 찾기 (Scenario A)
-    // convertToResponse 내부에서 CheckedLogicExecutor로 JSON 역직렬화 관측성 확보
-    EquipmentResponse cachedData =
+    // DTO 모드: convertToResponse 내부에서 CheckedLogicExecutor로 JSON 역직렬화 관측성 확보
+    T cachedData =
         equipmentRepository
             .findById(maple.expectation.domain.model.character.CharacterId.of(ocid))
-            .map(entity -> convertToResponse(entity))
+            .map(cachedMapper)
             .orElse(null);
 
     if (cachedData != null) {
@@ -112,6 +112,29 @@ public class RealNexonApiClient implements NexonApiClient {
         .toFuture();
   }
 
+  /**
+   * OCID로 장비 데이터 원문 조회 (비동기)
+   *
+   * <p>{@code bodyToMono(byte[].class)}로 응답 본문을 그대로 수신하여 EquipmentResponse 바인딩/재직렬화를 생략합니다.
+   */
+  @Override
+  public CompletableFuture<byte[]> getRawItemDataByOcid(String ocid) {
+    log.info("[NexonApi] Raw equipment data request (Cache Miss): ocid={}", ocid);
+    return mapleWebClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path("/maplestory/v1/character/item-equipment")
+                    .queryParam("ocid", ocid)
+                    .build())
+        .header("x-nxopen-api-key", apiKey)
+        .retrieve()
+        .bodyToMono(byte[].class)
+        .timeout(timeoutProperties.getApiCall())
+        .toFuture();
+  }
+
   /**
    * OCID로 큐브 사용 내역 조회 (비동기)
    *
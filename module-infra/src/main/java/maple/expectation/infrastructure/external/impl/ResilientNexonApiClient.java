@@ -28,7 +28,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * <h4>책임 (Refactoring 후)</h4>
  *
  * <ul>
- *   <li><b>API Delegation</b>: 4개 API 메서드 (OCID, Character Basic, Item Data, Cube History)
+ *   <li><b>API Delegation</b>: 5개 API 메서드 (OCID, Character Basic, Item Data/Raw, Cube History)
  *   <li><b>Retry Budget Check</b>: 장기 장애 시 재시도 폭주 방지
  *   <li><b>Fallback Coordination</b>: FallbackHandler에게 처리 위임
  * </ul>
@@ -134,6 +134,27 @@ public class ResilientNexonApiClient implements NexonApiClient {
     return delegate.getItemDataByOcid(ocid);
   }
 
+  /**
+   * OCID로 장비 데이터 원문 조회 (비동기, Raw 모드)
+   *
+   * <p>Resilience4j 적용: {@link #getItemDataByOcid}와 동일한 인스턴스/예산을 공유
+   */
+  @Override
+  @ObservedTransaction("external.api.nexon.itemdata.raw")
+  @Bulkhead(name = NEXON_API)
+  @TimeLimiter(name = NEXON_API)
+  @CircuitBreaker(name = NEXON_API)
+  @Retry(name = NEXON_API, fallbackMethod = "getRawItemDataFallback")
+  public CompletableFuture<byte[]> getRawItemDataByOcid(String ocid) {
+    // Retry Budget 확인 (재시도 전에 예산 체크)
+    if (!retryBudgetManager.tryAcquire(NEXON_API)) {
+      log.warn("[RetryBudget] Raw Item Data 조회 예산 소진으로 즉시 실패. ocid={}", ocid);
+      return CompletableFuture.failedFuture(
+          new ExternalServiceException("Retry budget exceeded for Item Data lookup", null));
+    }
+    return delegate.getRawItemDataByOcid(ocid);
+  }
+
   /**
    * OCID로 큐브 사용 내역 조회 (비동기)
    *
@@ -219,6 +240,16 @@ public class ResilientNexonApiClient implements NexonApiClient {
         ocid, NexonApiOutbox.NexonApiEventType.GET_ITEM_DATA, t);
   }
 
+  /**
+   * Raw 모드 장비 조회 fallback (비동기)
+   *
+   * <p><b>위임:</b> {@link FallbackHandler#handleRawItemDataFallback} - 시나리오 A/B는 DTO 모드와 동일
+   */
+  public CompletableFuture<byte[]> getRawItemDataFallback(String ocid, Throwable t) {
+    return fallbackHandler.handleRawItemDataFallback(
+        ocid, NexonApiOutbox.NexonApiEventType.GET_ITEM_DATA, t);
+  }
+
   /**
    * 큐브 사용 내역 조회 fallback (비동기)
    *
@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import maple.expectation.infrastructure.persistence.entity.CharacterEquipmentJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -24,4 +27,28 @@ public interface CharacterEquipmentJpaRepository
    */
   Optional<CharacterEquipmentJpaEntity> findByOcidAndUpdatedAtAfter(
       String ocid, LocalDateTime threshold);
+
+  /**
+   * Find only the compressed JSON bytes of fresh equipment (projection, no entity load).
+   *
+   * @param ocid the character OCID
+   * @param threshold the minimum update time
+   * @return GZIP-compressed JSON if found and fresh
+   */
+  @Query(
+      "select e.compressedContent from CharacterEquipmentJpaEntity e"
+          + " where e.ocid = :ocid and e.updatedAt > :threshold")
+  Optional<byte[]> findCompressedContentByOcidAndUpdatedAtAfter(
+      @Param("ocid") String ocid, @Param("threshold") LocalDateTime threshold);
+
+  /**
+   * Store the parsed snapshot without loading the entity (no-op if the row does not exist).
+   *
+   * @param ocid the character OCID
+   * @param snapshot binary parsed-item snapshot
+   * @return number of updated rows
+   */
+  @Modifying
+  @Query("update CharacterEquipmentJpaEntity e set e.snapshot = :snapshot where e.ocid = :ocid")
+  int updateSnapshotByOcid(@Param("ocid") String ocid, @Param("snapshot") byte[] snapshot);
 }
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import maple.expectation.util.converter.GzipStringConverter;
+import maple.expectation.util.converter.PresetDictionaryStringConverter;
 
 /**
  * JPA Entity for Character Equipment persistence.
@@ -18,6 +19,25 @@ import maple.expectation.util.converter.GzipStringConverter;
  * maple.expectation.domain.model.equipment.CharacterEquipment}. This entity is purely for database
  * mapping.
  *
+ * <h3>Compressed storage</h3>
+ *
+ * <p>The {@code json_content} column is mapped as the compressed bytes themselves (no attribute
+ * converter), so loading the entity never inflates the document. Hot paths read {@link
+ * #getCompressedContent()} and hand the bytes to the streaming parser; {@link #getJsonContent()}
+ * inflates on demand for cold callers that need the JSON text.
+ *
+ * <p>New rows are written in the preset-dictionary DEFLATE frame ({@link
+ * maple.expectation.util.PresetDictionaryCodec}). Rows written by the former {@link
+ * GzipStringConverter} mapping stay plain GZIP and are still readable; they are rewritten in the
+ * new format on their next refresh.
+ *
+ * <h3>Parsed snapshot</h3>
+ *
+ * <p>{@code parsed_snapshot} holds the binary per-preset item list produced the first time the
+ * document is parsed (see {@code EquipmentSnapshotCodec}), so recalculations can skip JSON parsing.
+ * It is cleared whenever the document changes and is only trusted when its embedded fingerprint
+ * matches the current document.
+ *
  * @see maple.expectation.domain.model.equipment.CharacterEquipment
  */
 @Entity
@@ -28,14 +48,25 @@ import maple.expectation.util.converter.GzipStringConverter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CharacterEquipmentJpaEntity {
 
+  /** String ↔ compressed bytes (writes dictionary frames, reads dictionary frames and GZIP) */
+  private static final PresetDictionaryStringConverter CODEC =
+      new PresetDictionaryStringConverter();
+
   @Id
   @Column(length = 100)
   private String ocid;
 
-  @Convert(converter = GzipStringConverter.class)
+  /** Compressed equipment JSON (lazy when bytecode enhancement is enabled) */
+  @Lob
+  @Basic(fetch = FetchType.LAZY)
+  @Column(name = "json_content", columnDefinition = "LONGBLOB", nullable = false)
+  private byte[] compressedContent;
+
+  /** Binary parsed-item snapshot of {@link #compressedContent} (null until first parse) */
   @Lob
-  @Column(columnDefinition = "LONGBLOB", nullable = false)
-  private String jsonContent;
+  @Basic(fetch = FetchType.LAZY)
+  @Column(name = "parsed_snapshot", columnDefinition = "LONGBLOB")
+  private byte[] snapshot;
 
   private LocalDateTime updatedAt;
 
@@ -43,16 +74,43 @@ public class CharacterEquipmentJpaEntity {
    * Creates a new CharacterEquipmentJpaEntity.
    *
    * @param ocid the character OCID (primary key)
-   * @param jsonContent the equipment JSON content (GZIP compressed)
+   * @param jsonContent the equipment JSON content (stored dictionary compressed)
    * @return new CharacterEquipmentJpaEntity instance
    */
   @Builder
   public CharacterEquipmentJpaEntity(String ocid, String jsonContent) {
     this.ocid = ocid;
-    this.jsonContent = jsonContent;
+    this.compressedContent = CODEC.convertToDatabaseColumn(jsonContent);
     this.updatedAt = LocalDateTime.now();
   }
 
+  /**
+   * Creates an entity from already-compressed bytes (no inflate/deflate round trip).
+   *
+   * @param ocid the character OCID (primary key)
+   * @param compressedContent dictionary-framed or GZIP-compressed equipment JSON
+   * @return new CharacterEquipmentJpaEntity instance
+   */
+  public static CharacterEquipmentJpaEntity ofCompressed(String ocid, byte[] compressedContent) {
+    CharacterEquipmentJpaEntity entity = new CharacterEquipmentJpaEntity();
+    entity.ocid = ocid;
+    entity.compressedContent = compressedContent;
+    entity.updatedAt = LocalDateTime.now();
+    return entity;
+  }
+
+  /**
+   * Returns the equipment JSON, inflating the stored bytes.
+   *
+   * <p>Cold path only: allocates the full document as a String. Prefer {@link
+   * #getCompressedContent()} when the consumer can stream.
+   *
+   * @return the equipment JSON, or null if no content is stored
+   */
+  public String getJsonContent() {
+    return CODEC.convertToEntityAttribute(compressedContent);
+  }
+
   /**
    * Updates the equipment data and timestamp.
    *
@@ -63,7 +121,26 @@ public class CharacterEquipmentJpaEntity {
    * @param newJsonContent the new JSON content
    */
   public void updateData(String newJsonContent) {
-    this.jsonContent = newJsonContent;
+    updateCompressedData(CODEC.convertToDatabaseColumn(newJsonContent));
+  }
+
+  /**
+   * Updates the equipment data with already-compressed bytes and refreshes the timestamp.
+   *
+   * @param newCompressedContent dictionary-framed or GZIP-compressed equipment JSON
+   */
+  public void updateCompressedData(byte[] newCompressedContent) {
+    this.compressedContent = newCompressedContent;
+    this.snapshot = null;
     this.updatedAt = LocalDateTime.now();
   }
+
+  /**
+   * Stores the parsed snapshot of the current content (does not refresh the timestamp).
+   *
+   * @param newSnapshot binary parsed-item snapshot
+   */
+  public void updateSnapshot(byte[] newSnapshot) {
+    this.snapshot = newSnapshot;
+  }
 }
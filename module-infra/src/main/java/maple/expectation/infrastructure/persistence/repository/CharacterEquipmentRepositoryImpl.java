@@ -1,5 +1,6 @@
 package maple.expectation.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import maple.expectation.domain.model.character.CharacterId;
 import maple.expectation.domain.model.equipment.CharacterEquipment;
@@ -58,6 +59,51 @@ public class CharacterEquipmentRepositoryImpl
     }
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<byte[]> findCompressedContentUpdatedAfter(
+      CharacterId characterId, LocalDateTime threshold) {
+    if (characterId == null) {
+      throw new IllegalArgumentException("CharacterId cannot be null");
+    }
+    return jpaRepo.findCompressedContentByOcidAndUpdatedAtAfter(characterId.value(), threshold);
+  }
+
+  @Override
+  public void saveCompressed(CharacterId characterId, byte[] compressedContent) {
+    if (characterId == null) {
+      throw new IllegalArgumentException("CharacterId cannot be null");
+    }
+    if (compressedContent == null) {
+      throw new IllegalArgumentException("Compressed content cannot be null");
+    }
+
+    CharacterEquipmentJpaEntity jpaEntity =
+        jpaRepo
+            .findById(characterId.value())
+            .map(
+                existing -> {
+                  existing.updateCompressedData(compressedContent);
+                  return existing;
+                })
+            .orElseGet(
+                () ->
+                    CharacterEquipmentJpaEntity.ofCompressed(
+                        characterId.value(), compressedContent));
+    jpaRepo.save(jpaEntity);
+  }
+
+  @Override
+  public void saveSnapshot(CharacterId characterId, byte[] snapshot) {
+    if (characterId == null) {
+      throw new IllegalArgumentException("CharacterId cannot be null");
+    }
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Snapshot cannot be null");
+    }
+    jpaRepo.updateSnapshotByOcid(characterId.value(), snapshot);
+  }
+
   @Override
   public void deleteById(CharacterId characterId) {
     if (characterId == null) {
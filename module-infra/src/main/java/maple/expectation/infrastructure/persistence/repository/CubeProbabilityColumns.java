@@ -0,0 +1,179 @@
+package maple.expectation.infrastructure.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilityCellIndex;
+import maple.expectation.domain.v2.CubeProbabilitySlice;
+import maple.expectation.domain.v2.CubeType;
+
+/**
+ * 큐브 확률 열(Columnar) 저장소
+ *
+ * <p>셀 번호는 {@link CubeProbabilityCellIndex}를 따릅니다 (슬롯 분포 카탈로그와 공유).
+ *
+ * <p>셀 c의 행은 optionIds/rates의 [cellStart[c], cellStart[c+1]) 구간에 연속 배치되며, 셀 내 순서는 CSV 적재 순서와
+ * 같습니다. 행마다 객체/문자열 키를 두지 않아 전체 CSV 메모리가 줄고, 조회는 문자열 연결 없이 정수 연산으로 끝납니다.
+ *
+ * <p>행 객체 뷰({@link #rows}, {@link #allRows})는 처음 요청될 때 한 번만 만들어 이 저장소(= 로딩된 테이블 버전)와 수명을 같이
+ * 합니다. 셀의 행은 전체 행 목록에서도 연속이므로 셀 조회는 복사 없는 부분 리스트입니다.
+ *
+ * <p>불변(Immutable) - 생성 후 읽기 전용 (행 뷰만 지연 생성)
+ */
+final class CubeProbabilityColumns {
+
+  private final CubeProbabilityCellIndex index;
+
+  private final int[] cellStart;
+  private final double[] cellMass;
+  private final int[] optionIds;
+  private final double[] rates;
+
+  /** 전체 행 뷰 (셀 순서, 불변) - V1/포트 호환 경로가 처음 요청할 때 생성 */
+  private volatile List<CubeProbability> rowView;
+
+  private CubeProbabilityColumns(List<CubeProbability> rows, OptionDictionary dictionary) {
+    this.index = CubeProbabilityCellIndex.of(rows);
+
+    // 1. 셀별 행 수 → 시작 위치 (prefix sum)
+    int cellCount = index.cellCount();
+    int[] rowCells = new int[rows.size()];
+    this.cellStart = new int[cellCount + 1];
+    for (int i = 0; i < rows.size(); i++) {
+      rowCells[i] = index.cellOf(rows.get(i));
+      cellStart[rowCells[i] + 1]++;
+    }
+    for (int c = 0; c < cellCount; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+
+    // 2. 적재 순서를 유지하며 열 채우기 (stable)
+    this.optionIds = new int[rows.size()];
+    this.rates = new double[rows.size()];
+    int[] cursor = Arrays.copyOf(cellStart, cellCount);
+    for (int i = 0; i < rows.size(); i++) {
+      CubeProbability row = rows.get(i);
+      int position = cursor[rowCells[i]]++;
+      optionIds[position] = dictionary.idOf(row.getOptionName());
+      rates[position] = row.getRate();
+    }
+
+    // 3. 셀별 전체 질량 (Kahan summation, 조회마다 재합산하지 않음)
+    this.cellMass = new double[cellCount];
+    for (int c = 0; c < cellCount; c++) {
+      cellMass[c] = kahanSum(rates, cellStart[c], cellStart[c + 1]);
+    }
+  }
+
+  /**
+   * CSV 행으로 열 저장소 생성
+   *
+   * @param rows 적재 순서대로의 확률 행
+   * @param dictionary 같은 행으로 컴파일된 옵션 사전
+   * @return 열 저장소
+   */
+  static CubeProbabilityColumns build(List<CubeProbability> rows, OptionDictionary dictionary) {
+    return new CubeProbabilityColumns(rows, dictionary);
+  }
+
+  /**
+   * 슬라이스 조회 (복사 없음)
+   *
+   * @return 해당 셀의 슬라이스 (데이터 없으면 빈 슬라이스)
+   */
+  CubeProbabilitySlice slice(CubeType type, int level, String part, String grade, int slot) {
+    int cell = index.cellOf(type, level, part, grade, slot);
+    if (cell < 0 || cellStart[cell] == cellStart[cell + 1]) {
+      return CubeProbabilitySlice.empty();
+    }
+    return new CubeProbabilitySlice(
+        optionIds, rates, cellStart[cell], cellStart[cell + 1] - cellStart[cell], cellMass[cell]);
+  }
+
+  /**
+   * 셀 행 뷰 조회 (V1/포트 호환 경로용)
+   *
+   * @return 해당 셀의 행 (불변, 데이터 없으면 빈 리스트)
+   */
+  List<CubeProbability> rows(
+      CubeType type, int level, String part, String grade, int slot, OptionDictionary dictionary) {
+    int cell = index.cellOf(type, level, part, grade, slot);
+    if (cell < 0 || cellStart[cell] == cellStart[cell + 1]) {
+      return List.of();
+    }
+    return allRows(dictionary).subList(cellStart[cell], cellStart[cell + 1]);
+  }
+
+  /**
+   * 전체 행 뷰 조회
+   *
+   * @return 셀 순서의 전체 행 (불변, 저장소당 한 번만 생성)
+   */
+  List<CubeProbability> allRows(OptionDictionary dictionary) {
+    List<CubeProbability> view = rowView;
+    if (view == null) {
+      synchronized (this) {
+        view = rowView;
+        if (view == null) {
+          view = rowView = buildRows(dictionary);
+        }
+      }
+    }
+    return view;
+  }
+
+  private List<CubeProbability> buildRows(OptionDictionary dictionary) {
+    List<CubeProbability> result = new ArrayList<>(rates.length);
+    for (int cell = 0; cell < cellMass.length; cell++) {
+      appendRows(cell, dictionary, result);
+    }
+    return List.copyOf(result);
+  }
+
+  /** 셀 인덱스 (카탈로그 공유용) */
+  CubeProbabilityCellIndex index() {
+    return index;
+  }
+
+  /** 전체 행 수 */
+  int rowCount() {
+    return rates.length;
+  }
+
+  /** 데이터가 있는 셀 수 */
+  int populatedCellCount() {
+    return index.populatedCells().length;
+  }
+
+  private void appendRows(int cell, OptionDictionary dictionary, List<CubeProbability> out) {
+    if (cellStart[cell] == cellStart[cell + 1]) {
+      return;
+    }
+    CubeType type = index.typeAt(cell);
+    int level = index.levelAt(cell);
+    String part = index.partAt(cell);
+    String grade = index.gradeAt(cell);
+    int slot = index.slotAt(cell);
+
+    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+      // 빈 옵션(잡옵)은 CSV 파싱 결과와 같은 빈 문자열로 복원
+      String optionName =
+          optionIds[i] == OptionDictionary.UNKNOWN_ID ? "" : dictionary.option(optionIds[i]);
+      out.add(new CubeProbability(type, optionName, rates[i], slot, grade, level, part));
+    }
+  }
+
+  private static double kahanSum(double[] values, int from, int to) {
+    double sum = 0.0;
+    double c = 0.0; // Kahan summation 보정
+    for (int i = from; i < to; i++) {
+      double y = values[i] - c;
+      double t = sum + y;
+      c = (t - sum) - y;
+      sum = t;
+    }
+    return sum;
+  }
+}
@@ -8,12 +8,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.core.domain.stat.StatParser;
 import maple.expectation.domain.repository.CubeProbabilityRepository;
 import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilityCellIndex;
+import maple.expectation.domain.v2.CubeProbabilitySlice;
 import maple.expectation.domain.v2.CubeType;
 import maple.expectation.error.exception.CubeDataInitializationException;
 import org.springframework.core.io.ClassPathResource;
@@ -23,8 +25,11 @@ import org.springframework.stereotype.Repository;
 @Repository("cubeProbabilityRepositoryV1")
 public class CubeProbabilityRepositoryImpl implements CubeProbabilityRepository {
 
-  // 🔑 캐시 키에 CubeType이 포함되어야 합니다. (예: BLACK_200_모자_레전드리_1)
-  private final Map<String, List<CubeProbability>> probabilityCache = new HashMap<>();
+  // 큐브 종류 × 레벨 × 부위 × 등급 × 슬롯 단위 열 저장소 (로딩 시 1회 생성, 이후 읽기 전용)
+  private CubeProbabilityColumns columns;
+
+  // 로딩 시 한 번 컴파일하는 옵션 사전 (옵션 문자열 → ID + 스탯 기여도)
+  private OptionDictionary optionDictionary = OptionDictionary.empty();
 
   @PostConstruct
   public void init() {
@@ -42,23 +47,23 @@ public class CubeProbabilityRepositoryImpl implements CubeProbabilityRepository
       MappingIterator<CubeProbability> it =
           mapper.readerFor(CubeProbability.class).with(schema).readValues(inputStream);
 
-      int count = 0;
+      List<CubeProbability> rows = new ArrayList<>();
       while (it.hasNext()) {
-        CubeProbability p = it.next();
-
-        // 💡 핵심: 큐브 종류(Black, Red 등)까지 포함하여 키 생성
-        String key =
-            generateKey(p.getCubeType(), p.getLevel(), p.getPart(), p.getGrade(), p.getSlot());
-
-        probabilityCache.computeIfAbsent(key, k -> new ArrayList<>()).add(p);
-        count++;
+        rows.add(it.next());
       }
 
-      if (count == 0) {
+      if (rows.isEmpty()) {
         throw new CubeDataInitializationException("CSV 파일 데이터가 비어있습니다.");
       }
 
-      log.info("[v1] 로딩 완료! 총 {}건의 데이터를 적재했습니다. (Key 개수: {})", count, probabilityCache.size());
+      // 💡 사전 → 열 저장소 순서: 열에는 옵션 문자열 대신 사전 ID를 저장
+      optionDictionary = compileOptionDictionary(rows);
+      columns = CubeProbabilityColumns.build(rows, optionDictionary);
+      log.info(
+          "[v1] 로딩 완료! 총 {}건의 데이터를 적재했습니다. (Key 개수: {}, 옵션 종류: {})",
+          columns.rowCount(),
+          columns.populatedCellCount(),
+          optionDictionary.size());
 
     } catch (IOException e) {
       log.error("확률 데이터 로딩 중 치명적 오류 발생", e);
@@ -66,22 +71,41 @@ public class CubeProbabilityRepositoryImpl implements CubeProbabilityRepository
     }
   }
 
-  /** ✅ 수정: 큐브 종류(type)를 파라미터로 받아 정확한 확률 리스트를 반환합니다. */
+  /**
+   * ✅ 수정: 큐브 종류(type)를 파라미터로 받아 정확한 확률 리스트를 반환합니다.
+   *
+   * <p>행 뷰는 로딩된 버전당 한 번만 만들어지며 반환 리스트는 불변입니다.
+   */
   public List<CubeProbability> findProbabilities(
       CubeType type, int level, String part, String grade, int slot) {
-    String key = generateKey(type, level, part, grade, slot);
-    return probabilityCache.getOrDefault(key, Collections.emptyList());
+    if (columns == null) {
+      return Collections.emptyList();
+    }
+    return columns.rows(type, level, part, grade, slot, optionDictionary);
   }
 
-  /** ✅ 수정: Key 생성 로직에 type.name() 추가 */
-  private String generateKey(CubeType type, int level, String part, String grade, int slot) {
-    // type이 null일 경우를 대비해 기본값 처리를 하거나 예외를 던질 수 있습니다.
-    String typeName = (type != null) ? type.name() : "BLACK";
-    return typeName + "_" + level + "_" + part + "_" + grade + "_" + slot;
+  private OptionDictionary compileOptionDictionary(List<CubeProbability> rows) {
+    List<String> optionNames = new ArrayList<>(rows.size());
+    for (CubeProbability p : rows) {
+      optionNames.add(p.getOptionName());
+    }
+    return OptionDictionary.compile(optionNames, new StatParser());
+  }
+
+  public OptionDictionary getOptionDictionary() {
+    return optionDictionary;
   }
 
+  public CubeProbabilityCellIndex getCellIndex() {
+    return columns != null ? columns.index() : CubeProbabilityCellIndex.empty();
+  }
+
+  /** 전체 행 (불변, 로딩된 버전당 한 번 생성한 뷰 재사용) */
   public List<CubeProbability> findAll() {
-    return probabilityCache.values().stream().flatMap(List::stream).toList();
+    if (columns == null) {
+      return Collections.emptyList();
+    }
+    return columns.allRows(optionDictionary);
   }
 
   // ========== DP 엔진용 메서드 (TOCTOU 방지) ==========
@@ -106,6 +130,27 @@ public class CubeProbabilityRepositoryImpl implements CubeProbabilityRepository
     return findProbabilities(type, level, part, grade, slot);
   }
 
+  /**
+   * 테이블 버전을 포함한 열 슬라이스 조회 (TOCTOU 방지, 복사 없음)
+   *
+   * <p>{@link #findProbabilitiesByVersion}과 같은 행을 가리키지만 행 객체를 만들지 않습니다.
+   *
+   * @param type 큐브 종류
+   * @param level 장비 레벨
+   * @param part 장비 부위
+   * @param grade 잠재능력 등급
+   * @param slot 슬롯 번호 (1, 2, 3)
+   * @param tableVersion 테이블 버전 (현재 무시됨, 미래 확장용)
+   * @return 열 슬라이스 (데이터 없으면 빈 슬라이스)
+   */
+  public CubeProbabilitySlice findSliceByVersion(
+      CubeType type, int level, String part, String grade, int slot, String tableVersion) {
+    if (columns == null) {
+      return CubeProbabilitySlice.empty();
+    }
+    return columns.slice(type, level, part, grade, slot);
+  }
+
   /**
    * 현재 활성 테이블 버전 반환
    *
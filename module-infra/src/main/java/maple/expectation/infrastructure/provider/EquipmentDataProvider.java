@@ -1,15 +1,18 @@
 package maple.expectation.infrastructure.provider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import maple.expectation.common.function.ThrowingSupplier;
 import maple.expectation.infrastructure.executor.LogicExecutor;
 import maple.expectation.infrastructure.executor.TaskContext;
 import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
 import maple.expectation.infrastructure.external.dto.v2.EquipmentResponse;
-import maple.expectation.util.GzipUtils;
+import maple.expectation.util.GzipCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -20,37 +23,98 @@ public class EquipmentDataProvider {
   private final EquipmentFetchProvider fetchProvider;
   private final ObjectMapper objectMapper;
   private final LogicExecutor executor; // ✅ 지능형 실행 엔진 주입
+
+  /** 조회 + 직렬화 실행용 Virtual Thread Executor (commonPool 블로킹 방지) */
+  private final Executor fetchExecutor;
+
   private final boolean USE_COMPRESSION;
 
+  /** Raw 모드: Nexon 응답 본문을 DTO 없이 한 번만 압축하여 캐싱 (압축 사용 시에만 유효) */
+  private final boolean RAW_PASSTHROUGH;
+
   public EquipmentDataProvider(
       EquipmentFetchProvider fetchProvider,
       ObjectMapper objectMapper,
       LogicExecutor executor,
-      @Value("${app.optimization.use-compression:true}") boolean useCompression) {
+      @Qualifier("equipmentFetchExecutor") Executor fetchExecutor,
+      @Value("${app.optimization.use-compression:true}") boolean useCompression,
+      @Value("${app.optimization.raw-equipment-passthrough:true}") boolean rawPassthrough) {
     this.fetchProvider = fetchProvider;
     this.objectMapper = objectMapper;
     this.executor = executor;
+    this.fetchExecutor = fetchExecutor;
     this.USE_COMPRESSION = useCompression;
+    this.RAW_PASSTHROUGH = useCompression && rawPassthrough;
   }
 
-  /** ✅ [V3] 원본 데이터 획득 (비동기 및 실행기 통합) */
+  /**
+   * ✅ [V3] 원본 데이터 획득 (비동기 및 실행기 통합)
+   *
+   * <p>Raw 모드에서는 Nexon 응답 바이트를 GZIP 1회 압축한 캐시 값을 그대로 반환합니다 (DTO 바인딩 → 재직렬화 → 재압축 생략).
+   *
+   * <p>조회는 equipmentFetchExecutor에서 실행되며, 직렬화(thenApply)도 같은 Virtual Thread에서 이어서 수행됩니다.
+   */
   public CompletableFuture<byte[]> getRawEquipmentData(String ocid) {
     TaskContext context = TaskContext.of("EquipmentProvider", "GetRawData", ocid); //
 
+    if (RAW_PASSTHROUGH) {
+      return submitFetch(() -> fetchProvider.fetchRawWithCache(ocid), context);
+    }
+
     // supplyAsync 내부 로직을 executor로 보호하여 예외 및 지표 추적
-    return CompletableFuture.supplyAsync(
-            () -> executor.execute(() -> fetchProvider.fetchWithCache(ocid), context))
+    return submitFetch(() -> fetchProvider.fetchWithCache(ocid), context)
         .thenApply(response -> serializeResponse(response, context));
   }
 
-  /** ✅ [V2] Response DTO 획득 */
+  /**
+   * equipmentFetchExecutor에 조회 제출
+   *
+   * <p>supplyAsync는 Executor의 RejectedExecutionException(상한 초과)을 호출 스레드로 그대로 던지므로, 실패한 Future로
+   * 바꿔 호출자가 항상 Future로 결과를 받도록 합니다.
+   */
+  private <T> CompletableFuture<T> submitFetch(ThrowingSupplier<T> fetch, TaskContext context) {
+    return executor.executeWithFallback(
+        () ->
+            CompletableFuture.supplyAsync(() -> executor.execute(fetch, context), fetchExecutor),
+        e -> CompletableFuture.failedFuture(e),
+        context);
+  }
+
+  /**
+   * ✅ [V2] Response DTO 획득
+   *
+   * <p>Raw 모드에서는 캐싱된 원문 바이트를 필요한 시점에 {@link #bindResponse}로 지연 바인딩합니다.
+   */
   public CompletableFuture<EquipmentResponse> getEquipmentResponse(String ocid) {
+    if (RAW_PASSTHROUGH) {
+      return getRawEquipmentData(ocid).thenApply(data -> bindResponse(data, ocid));
+    }
     return CompletableFuture.completedFuture(
         executor.execute(
             () -> fetchProvider.fetchWithCache(ocid),
             TaskContext.of("EquipmentProvider", "GetResponse", ocid)));
   }
 
+  /**
+   * 원문 바이트 → EquipmentResponse 지연 바인딩
+   *
+   * <p>GZIP 여부를 매직 넘버로 판별하여 풀링된 Inflater 스트림에서 바로 역직렬화합니다 (중간 String 생성 없음).
+   *
+   * @param data GZIP 압축 또는 평문 JSON 바이트
+   * @param ocid 캐릭터 OCID (관측용)
+   * @return 바인딩된 장비 응답
+   */
+  public EquipmentResponse bindResponse(byte[] data, String ocid) {
+    return executor.executeWithTranslation(
+        () -> {
+          try (InputStream in = GzipCodec.openStream(data)) {
+            return objectMapper.readValue(in, EquipmentResponse.class);
+          }
+        },
+        ExceptionTranslator.forJson(),
+        TaskContext.of("EquipmentProvider", "BindResponse", ocid));
+  }
+
   /**
    * Zero-Copy 스트리밍 (Issue #63)
    *
@@ -90,14 +154,14 @@ public class EquipmentDataProvider {
   private byte[] serializeResponse(EquipmentResponse response, TaskContext context) {
     return executor.executeWithTranslation(
         () -> { //
-          // 1. JSON 직렬화
-          String jsonString = objectMapper.writeValueAsString(response);
+          // 1. JSON 직렬화 (UTF-8 바이트로 직접, 중간 String 없음)
+          byte[] json = objectMapper.writeValueAsBytes(response);
 
-          // 2. 조건부 GZIP 압축
+          // 2. 조건부 GZIP 압축 (풀링된 Deflater)
           if (USE_COMPRESSION) {
-            return GzipUtils.compress(jsonString);
+            return GzipCodec.compress(json);
           }
-          return jsonString.getBytes(StandardCharsets.UTF_8);
+          return json;
         },
         ExceptionTranslator.forJson(),
         context); // JSON 전용 세탁기 적용
@@ -3,8 +3,12 @@ package maple.expectation.infrastructure.provider;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import maple.expectation.infrastructure.aop.annotation.NexonDataCache;
+import maple.expectation.infrastructure.executor.LogicExecutor;
+import maple.expectation.infrastructure.executor.TaskContext;
+import maple.expectation.infrastructure.executor.strategy.ExceptionTranslator;
 import maple.expectation.infrastructure.external.NexonApiClient;
 import maple.expectation.infrastructure.external.dto.v2.EquipmentResponse;
+import maple.expectation.util.GzipUtils;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
@@ -55,6 +59,7 @@ public class EquipmentFetchProvider {
   private static final long API_TIMEOUT_SECONDS = 10L;
 
   private final NexonApiClient nexonApiClient;
+  private final LogicExecutor executor;
 
   /**
    * 캐시 적용 장비 데이터 조회
@@ -74,4 +79,29 @@ public class EquipmentFetchProvider {
         .orTimeout(API_TIMEOUT_SECONDS, TimeUnit.SECONDS)
         .join();
   }
+
+  /**
+   * 캐시 적용 장비 원문 조회 (Raw 모드)
+   *
+   * <p>Nexon 응답 본문을 DTO로 바인딩하지 않고 받아 한 번만 GZIP 압축한 바이트를 캐싱합니다. 캐시 값은 스트리밍 파서와 DB 저장에 그대로
+   * 전달됩니다. .join() 유지 사유는 {@link #fetchWithCache}와 같습니다.
+   *
+   * <p>{@link NexonDataCache}가 equipmentRaw 캐시 조회, 클러스터 전체 Leader/Follower(Redis 래치), 압축 컬럼 DB 저장을
+   * 담당하므로 {@code @Cacheable}은 붙이지 않습니다 (같은 값을 두 번 저장하지 않도록).
+   *
+   * @param ocid 캐릭터 OCID
+   * @return GZIP 압축된 응답 본문
+   */
+  @NexonDataCache
+  public byte[] fetchRawWithCache(String ocid) {
+    byte[] body =
+        nexonApiClient
+            .getRawItemDataByOcid(ocid)
+            .orTimeout(API_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .join();
+    return executor.executeWithTranslation(
+        () -> GzipUtils.compress(body),
+        ExceptionTranslator.forFileIO(),
+        TaskContext.of("EquipmentFetch", "CompressRaw", ocid));
+  }
 }
@@ -0,0 +1,37 @@
+package maple.expectation.util.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import maple.expectation.error.exception.CompressionException;
+import maple.expectation.util.PresetDictionaryCodec;
+
+/**
+ * String ↔ 프리셋 사전 DEFLATE 바이트 변환
+ *
+ * <p>저장은 항상 현재 버전 사전 프레임으로, 읽기는 사전 프레임·GZIP(기존 행) 모두 허용합니다.
+ */
+@Converter
+public class PresetDictionaryStringConverter implements AttributeConverter<String, byte[]> {
+
+  @Override
+  public byte[] convertToDatabaseColumn(String attribute) {
+    if (attribute == null) return null;
+    try {
+      return PresetDictionaryCodec.encode(attribute.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new CompressionException("사전 압축 오류: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public String convertToEntityAttribute(byte[] dbData) {
+    if (dbData == null) return null;
+    try {
+      return new String(PresetDictionaryCodec.decode(dbData), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new CompressionException("사전 압축 해제 오류: " + e.getMessage(), e);
+    }
+  }
+}
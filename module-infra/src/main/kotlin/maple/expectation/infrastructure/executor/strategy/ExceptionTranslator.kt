@@ -107,7 +107,10 @@ fun interface ExceptionTranslator {
             ExceptionTranslator { e, context ->
                 when (e) {
                     is Error -> throw e
-                    else -> Cache.ValueRetrievalException(key, loader, e)
+                    // 노드 로컬 Single-flight 공유 결과의 CompletionException은 원본 예외로 unwrap
+                    else -> Cache.ValueRetrievalException(
+                        key, loader, ExceptionUtils.unwrapAsyncException(e) ?: e
+                    )
                 }
             }
 
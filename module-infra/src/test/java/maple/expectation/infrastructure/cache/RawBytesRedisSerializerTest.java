@@ -0,0 +1,43 @@
+package maple.expectation.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Unit tests for {@link RawBytesRedisSerializer}.
+ *
+ * <p><strong>Test Coverage:</strong>
+ *
+ * <ul>
+ *   <li>byte[]는 변환 없이 저장/조회
+ *   <li>전환 이전 jdk 직렬화 값(Base64 String)도 그대로 읽힘
+ * </ul>
+ */
+@DisplayName("RawBytesRedisSerializer Tests")
+class RawBytesRedisSerializerTest {
+
+  private final RawBytesRedisSerializer serializer = new RawBytesRedisSerializer();
+
+  @Test
+  @DisplayName("GZIP byte[]는 헤더 없이 원본 그대로 저장/조회되어야 함")
+  void should_store_bytes_as_is() {
+    byte[] gzip = {(byte) 0x1F, (byte) 0x8B, 8, 0, 1, 2, 3};
+
+    byte[] stored = serializer.serialize(gzip);
+
+    assertArrayEquals(gzip, stored);
+    assertArrayEquals(gzip, (byte[]) serializer.deserialize(stored));
+  }
+
+  @Test
+  @DisplayName("jdk 직렬화로 저장된 기존 값은 JDK 역직렬화로 읽어야 함")
+  void should_read_legacy_jdk_values() {
+    byte[] legacy = RedisSerializer.java().serialize("H4sIAAAA");
+
+    assertEquals("H4sIAAAA", serializer.deserialize(legacy));
+    assertArrayEquals(legacy, serializer.serialize("H4sIAAAA"));
+  }
+}
@@ -0,0 +1,112 @@
+package maple.expectation.infrastructure.cache.invalidation.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationBatch;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import maple.expectation.infrastructure.cache.invalidation.CacheInvalidationPublisher;
+import maple.expectation.infrastructure.cache.invalidation.InvalidationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BatchingCacheInvalidationPublisher}.
+ *
+ * <p><strong>Test Coverage:</strong>
+ *
+ * <ul>
+ *   <li>윈도우 내 단건은 기존 단건 메시지로 발행
+ *   <li>같은 (cache, key) 중복 제거 + 여러 건은 묶음 1건으로 발행
+ *   <li>CLEAR_ALL이 같은 캐시의 EVICT를 흡수
+ * </ul>
+ *
+ * <p>윈도우 타이머 대신 {@code flush()}를 직접 호출합니다 (윈도우는 충분히 길게 설정).
+ */
+@DisplayName("BatchingCacheInvalidationPublisher Tests")
+class BatchingCacheInvalidationPublisherTest {
+
+  private static final String INSTANCE_ID = "instance-a";
+
+  private RecordingPublisher delegate;
+  private SimpleMeterRegistry meterRegistry;
+  private BatchingCacheInvalidationPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    delegate = new RecordingPublisher();
+    meterRegistry = new SimpleMeterRegistry();
+    publisher =
+        new BatchingCacheInvalidationPublisher(delegate, INSTANCE_ID, 60_000, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    publisher.close();
+  }
+
+  @Test
+  @DisplayName("윈도우에 이벤트가 1건이면 단건 메시지로 발행해야 함")
+  void should_publish_single_event_unbatched() {
+    publisher.publish(CacheInvalidationEvent.evict("character", "k1", INSTANCE_ID));
+
+    publisher.flush();
+
+    assertEquals(1, delegate.events.size());
+    assertTrue(delegate.batches.isEmpty());
+  }
+
+  @Test
+  @DisplayName("중복 키는 합치고 여러 건은 묶음 1건으로 발행해야 함")
+  void should_dedupe_and_batch() {
+    publisher.publish(CacheInvalidationEvent.evict("character", "k1", INSTANCE_ID));
+    publisher.publish(CacheInvalidationEvent.evict("character", "k1", INSTANCE_ID));
+    publisher.publish(CacheInvalidationEvent.evict("character", "k2", INSTANCE_ID));
+
+    publisher.flush();
+
+    assertTrue(delegate.events.isEmpty());
+    assertEquals(1, delegate.batches.size());
+    CacheInvalidationBatch batch = delegate.batches.get(0);
+    assertEquals(INSTANCE_ID, batch.sourceInstanceId());
+    assertEquals(List.of("k1", "k2"), batch.events().stream().map(e -> e.key()).toList());
+    assertEquals(1.0, meterRegistry.get("cache.invalidation.coalesced").counter().count());
+  }
+
+  @Test
+  @DisplayName("CLEAR_ALL은 같은 캐시의 EVICT를 흡수해야 함")
+  void should_absorb_evicts_into_clear_all() {
+    publisher.publish(CacheInvalidationEvent.evict("character", "k1", INSTANCE_ID));
+    publisher.publish(CacheInvalidationEvent.clearAll("character", INSTANCE_ID));
+    publisher.publish(CacheInvalidationEvent.evict("character", "k2", INSTANCE_ID));
+    publisher.publish(CacheInvalidationEvent.evict("equipment", "k3", INSTANCE_ID));
+
+    publisher.flush();
+
+    List<CacheInvalidationEvent> events = delegate.batches.get(0).events();
+    assertEquals(2, events.size());
+    assertEquals(InvalidationType.CLEAR_ALL, events.get(0).type());
+    assertEquals("equipment", events.get(1).cacheName());
+  }
+
+  /** 발행 호출을 기록하는 테스트용 Publisher */
+  private static class RecordingPublisher implements CacheInvalidationPublisher {
+
+    private final List<CacheInvalidationEvent> events = new ArrayList<>();
+    private final List<CacheInvalidationBatch> batches = new ArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void publishBatch(CacheInvalidationBatch batch) {
+      batches.add(batch);
+    }
+  }
+}
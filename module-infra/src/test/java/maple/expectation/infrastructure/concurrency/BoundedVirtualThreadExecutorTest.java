@@ -0,0 +1,108 @@
+package maple.expectation.infrastructure.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedVirtualThreadExecutor}.
+ *
+ * <p><strong>Test Coverage:</strong>
+ *
+ * <ul>
+ *   <li>동시 실행 상한 초과분은 대기열에서 permit 대기 (queued gauge)
+ *   <li>실행 + 대기 상한 초과 시 제출 시점 거부 + rejected 메트릭
+ *   <li>완료 후 active/queued가 0으로 복귀하고 Timer가 기록됨
+ * </ul>
+ */
+@DisplayName("BoundedVirtualThreadExecutor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+  private static final String NAME = "test.io";
+
+  private SimpleMeterRegistry meterRegistry;
+  private BoundedVirtualThreadExecutor executor;
+  private CountDownLatch release;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new BoundedVirtualThreadExecutor(NAME, 2, 1, null, meterRegistry);
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.close();
+  }
+
+  @Test
+  @DisplayName("상한 초과 작업은 대기하고, 대기열까지 차면 즉시 거부해야 함")
+  void should_queue_then_reject_when_saturated() throws Exception {
+    CountDownLatch started = new CountDownLatch(2);
+    for (int i = 0; i < 3; i++) {
+      executor.execute(
+          () -> {
+            started.countDown();
+            awaitRelease();
+          });
+    }
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertEquals(2, executor.activeCount());
+    assertEquals(1, executor.queuedCount());
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    assertEquals(1.0, meterRegistry.get("executor.rejected").tag("name", NAME).counter().count());
+  }
+
+  @Test
+  @DisplayName("supplyAsync 거부 시 Future가 미완료로 남지 않아야 함")
+  void should_fail_fast_for_completable_future() throws Exception {
+    CountDownLatch started = new CountDownLatch(2);
+    for (int i = 0; i < 3; i++) {
+      executor.execute(
+          () -> {
+            started.countDown();
+            awaitRelease();
+          });
+    }
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(
+        RejectedExecutionException.class, () -> CompletableFuture.supplyAsync(() -> 1, executor));
+  }
+
+  @Test
+  @DisplayName("완료 후 active/queued는 0으로 복귀하고 실행·대기 Timer가 기록되어야 함")
+  void should_record_timers_and_drain() throws Exception {
+    release.countDown();
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> {}, executor);
+    }
+    CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+    executor.close(); // Future 완료 직후의 메트릭/카운터 정리까지 대기
+
+    assertEquals(0, executor.activeCount());
+    assertEquals(0, executor.queuedCount());
+    assertEquals(3, meterRegistry.get("executor").tag("name", NAME).timer().count());
+    assertEquals(3, meterRegistry.get("executor.idle").tag("name", NAME).timer().count());
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
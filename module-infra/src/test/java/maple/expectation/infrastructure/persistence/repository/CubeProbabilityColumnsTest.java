@@ -0,0 +1,82 @@
+package maple.expectation.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import maple.expectation.core.domain.stat.OptionDictionary;
+import maple.expectation.core.domain.stat.StatParser;
+import maple.expectation.domain.v2.CubeProbability;
+import maple.expectation.domain.v2.CubeProbabilitySlice;
+import maple.expectation.domain.v2.CubeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CubeProbabilityColumns 순수 유닛 테스트
+ *
+ * <p>열 저장소 조회 결과가 기존 문자열 키 그룹핑(CSV 적재 순서 유지)과 같은지 검증합니다.
+ */
+@DisplayName("CubeProbabilityColumns 순수 유닛 테스트")
+class CubeProbabilityColumnsTest {
+
+  private static final List<CubeProbability> ROWS =
+      List.of(
+          row(CubeType.BLACK, "STR +12%", 0.1, 1, "레전드리", 200, "모자"),
+          row(CubeType.RED, "STR +12%", 0.05, 1, "레전드리", 200, "모자"),
+          row(CubeType.BLACK, "", 0.6, 1, "레전드리", 200, "모자"),
+          row(CubeType.BLACK, "올스탯 +9%", 0.3, 1, "레전드리", 200, "모자"),
+          row(CubeType.BLACK, "STR +9%", 0.2, 2, "레전드리", 200, "모자"),
+          row(CubeType.BLACK, "DEX +9%", 0.4, 1, "유니크", 160, "장갑"));
+
+  private final OptionDictionary dictionary =
+      OptionDictionary.compile(
+          ROWS.stream().map(CubeProbability::getOptionName).toList(), new StatParser());
+  private final CubeProbabilityColumns columns = CubeProbabilityColumns.build(ROWS, dictionary);
+
+  @Test
+  @DisplayName("슬라이스는 같은 셀의 행을 적재 순서대로 가리키고 전체 질량을 보유해야 함")
+  void slice_preserves_load_order_and_mass() {
+    CubeProbabilitySlice slice = columns.slice(CubeType.BLACK, 200, "모자", "레전드리", 1);
+
+    assertThat(slice.length()).isEqualTo(3);
+    assertThat(slice.optionId(0)).isEqualTo(dictionary.idOf("STR +12%"));
+    assertThat(slice.optionId(1)).isEqualTo(OptionDictionary.UNKNOWN_ID);
+    assertThat(slice.optionId(2)).isEqualTo(dictionary.idOf("올스탯 +9%"));
+    assertThat(slice.rate(2)).isEqualTo(0.3);
+    assertThat(slice.totalMass()).isEqualTo(0.1 + 0.6 + 0.3);
+  }
+
+  @Test
+  @DisplayName("행 재구성은 원본 행과 같은 필드 값을 가져야 함")
+  void rows_reconstruct_original_fields() {
+    List<CubeProbability> rows = columns.rows(CubeType.BLACK, 160, "장갑", "유니크", 1, dictionary);
+
+    assertThat(rows).hasSize(1);
+    CubeProbability p = rows.get(0);
+    assertThat(p.getCubeType()).isEqualTo(CubeType.BLACK);
+    assertThat(p.getOptionName()).isEqualTo("DEX +9%");
+    assertThat(p.getRate()).isEqualTo(0.4);
+    assertThat(p.getSlot()).isEqualTo(1);
+    assertThat(p.getGrade()).isEqualTo("유니크");
+    assertThat(p.getLevel()).isEqualTo(160);
+    assertThat(p.getPart()).isEqualTo("장갑");
+
+    assertThat(columns.allRows(dictionary)).hasSize(ROWS.size());
+    assertThat(columns.populatedCellCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("적재되지 않은 조합은 빈 슬라이스, null 큐브 종류는 BLACK으로 조회")
+  void missing_cells_are_empty_and_null_type_is_black() {
+    assertThat(columns.slice(CubeType.BLACK, 250, "모자", "레전드리", 1).isEmpty()).isTrue();
+    assertThat(columns.slice(CubeType.BLACK, 200, "신발", "레전드리", 1).isEmpty()).isTrue();
+    assertThat(columns.slice(CubeType.BLACK, 200, "모자", "레전드리", 3).isEmpty()).isTrue();
+    assertThat(columns.slice(CubeType.RED, 200, "모자", "레전드리", 2).isEmpty()).isTrue();
+    assertThat(columns.slice(null, 200, "모자", "레전드리", 2).length()).isEqualTo(1);
+  }
+
+  private static CubeProbability row(
+      CubeType type, String option, double rate, int slot, String grade, int level, String part) {
+    return new CubeProbability(type, option, rate, slot, grade, level, part);
+  }
+}